@@ -28,6 +28,9 @@ dependencies {
     jmh("org.jetbrains.kotlinx:kotlinx-serialization-json-okio:${catalogVersion("kotlinxSerialization")}")
     jmh("com.squareup.okio:okio:${catalogVersion("okio")}")
     jmh("com.fasterxml.jackson.module:jackson-module-kotlin:${catalogVersion("jackson")}")
+    jmh("org.conscrypt:conscrypt-openjdk-uber:${catalogVersion("conscrypt")}")
+    jmh("org.bouncycastle:bcprov-jdk18on:${catalogVersion("bouncycastle")}")
+    jmh("org.bouncycastle:bctls-jdk18on:${catalogVersion("bouncycastle")}")
 
     jmhRuntimeOnly("org.slf4j:slf4j-jdk-platform-logging:${catalogVersion("slf4j")}")
     jmhRuntimeOnly("ch.qos.logback:logback-classic:${catalogVersion("logback")}")
@@ -43,12 +46,25 @@ jmh {
     jmhVersion = catalogVersion("jmh")
 
     includes.set(listOf("""jayo\.benchmarks\.BufferLatin1Benchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.BufferPrimitiveArrayBenchmark.*"""))
 //    includes.set(listOf("""jayo\.benchmarks\.BufferUtf8Benchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.GzipBenchmark.*"""))
 //    includes.set(listOf("""jayo\.benchmarks\.JsonSerializationBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.Lz4Benchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.MessageDeflateBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.OptionsSelectBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.ParallelGzipBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.PipeBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.ReaderLinesBenchmark.*"""))
 //    includes.set(listOf("""jayo\.benchmarks\.SlowReaderBenchmark.*"""))
 //    includes.set(listOf("""jayo\.benchmarks\.SlowWriterBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.SniRouterBenchmark.*"""))
 //    includes.set(listOf("""jayo\.benchmarks\.SocketReaderBenchmark.*"""))
 //    includes.set(listOf("""jayo\.benchmarks\.TcpAndJsonSerializationBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.TlsBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.TlsMixedWorkloadBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.TlsWriteBenchmark.*"""))
+//    includes.set(listOf("""jayo\.benchmarks\.UnixDomainSocketBenchmark.*"""))
 }
 
 tasks {
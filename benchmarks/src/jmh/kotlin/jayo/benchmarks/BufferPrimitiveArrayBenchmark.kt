@@ -0,0 +1,80 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import org.openjdk.jmh.annotations.*
+import java.nio.ByteOrder
+import java.util.concurrent.TimeUnit
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class BufferPrimitiveArrayBenchmark {
+    @Param("16", "4096", "262144")
+    private var count = 0
+
+    @Param("BIG_ENDIAN", "LITTLE_ENDIAN")
+    private lateinit var order: String
+
+    private lateinit var byteOrder: ByteOrder
+    private lateinit var ints: IntArray
+    private lateinit var longs: LongArray
+    private lateinit var buffer: Buffer
+
+    @Setup
+    fun setup() {
+        byteOrder = if (order == "BIG_ENDIAN") ByteOrder.BIG_ENDIAN else ByteOrder.LITTLE_ENDIAN
+        ints = IntArray(count) { it * 31 }
+        longs = LongArray(count) { it * 0x1234567890L }
+        buffer = Buffer()
+    }
+
+    @Benchmark
+    fun intsBulk(): IntArray {
+        buffer.write(ints, 0, count, byteOrder)
+        buffer.readTo(ints, 0, count, byteOrder)
+        return ints
+    }
+
+    @Benchmark
+    fun intsElementWise(): IntArray {
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            ints.forEach { buffer.writeInt(it) }
+            for (i in 0 until count) {
+                ints[i] = buffer.readInt()
+            }
+        } else {
+            ints.forEach { buffer.writeIntLe(it) }
+            for (i in 0 until count) {
+                ints[i] = buffer.readIntLe()
+            }
+        }
+        return ints
+    }
+
+    @Benchmark
+    fun longsBulk(): LongArray {
+        buffer.write(longs, 0, count, byteOrder)
+        buffer.readTo(longs, 0, count, byteOrder)
+        return longs
+    }
+
+    @Benchmark
+    fun longsElementWise(): LongArray {
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            longs.forEach { buffer.writeLong(it) }
+            for (i in 0 until count) {
+                longs[i] = buffer.readLong()
+            }
+        } else {
+            longs.forEach { buffer.writeLongLe(it) }
+            for (i in 0 until count) {
+                longs[i] = buffer.readLongLe()
+            }
+        }
+        return longs
+    }
+}
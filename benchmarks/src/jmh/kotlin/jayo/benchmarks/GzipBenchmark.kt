@@ -0,0 +1,65 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.Jayo
+import jayo.RawReader
+import jayo.RawWriter
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import java.util.zip.Deflater
+import java.util.zip.Inflater
+
+/**
+ * Compresses then decompresses small payloads, with pooled or freshly allocated [Deflater] and [Inflater] instances.
+ * Run with `-prof gc` to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class GzipBenchmark {
+    @Param("1024", "16384", "65536")
+    private var payloadByteSize = 0
+
+    private lateinit var payload: ByteArray
+    private val compressed = Buffer()
+    private val decompressed = Buffer()
+
+    @Setup
+    fun setup() {
+        payload = ByteArray(payloadByteSize) { (it % 64).toByte() }
+    }
+
+    @Benchmark
+    fun gzipPooled(): Long {
+        Jayo.buffer(Jayo.gzip(compressed as RawWriter)).use { it.write(payload) }
+        return gunzip()
+    }
+
+    @Benchmark
+    fun deflatePooled(): Long {
+        Jayo.buffer(Jayo.deflate(compressed)).use { it.write(payload) }
+        return inflate(Jayo.inflate(compressed))
+    }
+
+    @Benchmark
+    fun deflateUnpooled(): Long {
+        Jayo.buffer(Jayo.deflate(compressed, Deflater())).use { it.write(payload) }
+        return inflate(Jayo.inflate(compressed, Inflater()))
+    }
+
+    private fun gunzip(): Long {
+        val byteCount = Jayo.buffer(Jayo.gzip(compressed as RawReader)).use { it.readAllTo(decompressed) }
+        decompressed.clear()
+        return byteCount
+    }
+
+    private fun inflate(reader: RawReader): Long {
+        val byteCount = Jayo.buffer(reader).use { it.readAllTo(decompressed) }
+        decompressed.clear()
+        return byteCount
+    }
+}
@@ -0,0 +1,73 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.Jayo
+import jayo.RawReader
+import jayo.RawWriter
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import java.util.zip.Deflater
+import kotlin.random.Random
+
+/**
+ * Compresses then decompresses a text-like payload with LZ4, or with gzip at its fastest level.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class Lz4Benchmark {
+    @Param("lz4", "gzip1")
+    private var codec = ""
+
+    @Param("65536", "4194304")
+    private var payloadByteSize = 0
+
+    private lateinit var payload: ByteArray
+    private val compressed = Buffer()
+    private val decompressed = Buffer()
+
+    @Setup
+    fun setup() {
+        val random = Random(0)
+        val words = listOf("jayo ", "is ", "a ", "fast ", "synchronous ", "I/O ", "library ", "for ", "the ", "JVM\n")
+        val text = StringBuilder(payloadByteSize + 16)
+        while (text.length < payloadByteSize) {
+            text.append(words[random.nextInt(words.size)])
+            if (random.nextInt(20) == 0) {
+                text.append(random.nextInt())
+            }
+        }
+        payload = text.substring(0, payloadByteSize).encodeToByteArray()
+    }
+
+    @Benchmark
+    fun compress(): Long {
+        writer().use { it.write(payload) }
+        val byteCount = compressed.bytesAvailable()
+        compressed.clear()
+        return byteCount
+    }
+
+    @Benchmark
+    fun compressThenDecompress(): Long {
+        writer().use { it.write(payload) }
+        val reader = when (codec) {
+            "lz4" -> Jayo.lz4(compressed as RawReader)
+            else -> Jayo.gzip(compressed as RawReader)
+        }
+        val byteCount = Jayo.buffer(reader).use { it.readAllTo(decompressed) }
+        decompressed.clear()
+        return byteCount
+    }
+
+    private fun writer() = Jayo.buffer(
+        when (codec) {
+            "lz4" -> Jayo.lz4(compressed as RawWriter)
+            else -> Jayo.gzip(compressed as RawWriter, Deflater.BEST_SPEED)
+        }
+    )
+}
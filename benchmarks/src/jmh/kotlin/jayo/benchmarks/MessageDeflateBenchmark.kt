@@ -0,0 +1,84 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.MessageDeflater
+import jayo.MessageInflater
+import jayo.bytestring.ByteString
+import jayo.bytestring.encodeToByteString
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import java.util.zip.Deflater
+
+/**
+ * Compresses then decompresses small JSON messages one at a time, like WebSocket permessage-deflate traffic, with or
+ * without context takeover and a preset dictionary. The [Ratio] auxiliary counters report the compressed and the
+ * uncompressed byte counts, their ratio is the compression ratio.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class MessageDeflateBenchmark {
+    @Param("true", "false")
+    private var contextTakeover = false
+
+    @Param("true", "false")
+    private var withDictionary = false
+
+    private lateinit var messages: List<ByteString>
+    private lateinit var deflater: MessageDeflater
+    private lateinit var inflater: MessageInflater
+    private val compressed = Buffer()
+    private val decompressed = Buffer()
+    private var index = 0
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    open class Ratio {
+        var uncompressedBytes = 0L
+        var compressedBytes = 0L
+
+        @Setup(Level.Iteration)
+        fun reset() {
+            uncompressedBytes = 0L
+            compressedBytes = 0L
+        }
+    }
+
+    @Setup
+    fun setup() {
+        messages = List(1024) {
+            """{"id":$it,"user":"user${it % 31}","status":"${if (it % 3 == 0) "active" else "idle"}",""" +
+                    """"score":${it * 7 % 1000},"tags":["alpha","beta"]}"""
+                .encodeToByteString()
+        }
+        val dictionary = if (withDictionary) {
+            """{"id":,"user":"user","status":"active","idle","score":,"tags":["alpha","beta"]}""".encodeToByteString()
+        } else {
+            null
+        }
+        deflater = MessageDeflater.create(Deflater.DEFAULT_COMPRESSION, contextTakeover, dictionary)
+        inflater = MessageInflater.create(contextTakeover, dictionary)
+    }
+
+    @TearDown
+    fun tearDown() {
+        deflater.close()
+        inflater.close()
+    }
+
+    @Benchmark
+    fun deflateThenInflate(ratio: Ratio): Long {
+        val message = messages[index++ and (messages.size - 1)]
+        deflater.deflate(Buffer().write(message), compressed)
+        ratio.uncompressedBytes += message.byteSize()
+        ratio.compressedBytes += compressed.bytesAvailable()
+        inflater.inflate(compressed, decompressed)
+        val byteCount = decompressed.bytesAvailable()
+        decompressed.clear()
+        return byteCount
+    }
+}
@@ -0,0 +1,56 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.Options
+import jayo.bytestring.ByteString
+import jayo.bytestring.encodeToByteString
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Selects header names among [optionCount] options. Up to 31 options, only the trie is used, larger option sets are
+ * also indexed by a perfect hash.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class OptionsSelectBenchmark {
+    @Param("16", "64", "512")
+    private var optionCount = 0
+
+    @Param("false", "true")
+    private var ignoreCase = false
+
+    private lateinit var options: Options
+    private lateinit var headers: ByteString
+    private val buffer = Buffer()
+
+    @Setup
+    fun setup() {
+        val names = (0 until optionCount).map { "X-Header-Name-$it:" }
+        val byteStrings = names.map { it.encodeToByteString() }.toTypedArray()
+        options = if (ignoreCase) Options.ofIgnoreCase(*byteStrings) else Options.of(*byteStrings)
+
+        // Headers use the options with a different case when case is ignored, plus some unknown headers.
+        val headerLines = StringBuilder()
+        for (i in 0 until 64) {
+            val name = if (i % 8 == 7) "X-Unknown-$i:" else names[(i * 7919) % optionCount]
+            headerLines.append(if (ignoreCase) name.lowercase() else name).append(" some value\r\n")
+        }
+        headers = headerLines.toString().encodeToByteString()
+    }
+
+    @Benchmark
+    fun select(blackhole: Blackhole) {
+        buffer.write(headers)
+        while (!buffer.exhausted()) {
+            blackhole.consume(buffer.select(options))
+            buffer.skip(buffer.indexOf('\n'.code.toByte()) + 1)
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.Jayo
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import java.util.zip.Deflater
+import kotlin.random.Random
+
+/**
+ * Gzip-compresses a 16 MiB text-like payload with the parallel gzip writer, compressing up to [parallelism] blocks at
+ * a time. Compare with [GzipBenchmark] for the sequential gzip writer.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 60)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class ParallelGzipBenchmark {
+    @Param("1", "4", "16")
+    private var parallelism = 0
+
+    private lateinit var payload: ByteArray
+    private val compressed = Buffer()
+
+    @Setup
+    fun setup() {
+        val random = Random(0)
+        val words = listOf("jayo ", "is ", "a ", "fast ", "synchronous ", "I/O ", "library ", "for ", "the ", "JVM\n")
+        val text = StringBuilder(PAYLOAD_BYTE_SIZE + 16)
+        while (text.length < PAYLOAD_BYTE_SIZE) {
+            text.append(words[random.nextInt(words.size)])
+        }
+        payload = text.substring(0, PAYLOAD_BYTE_SIZE).encodeToByteArray()
+    }
+
+    @Benchmark
+    fun compress(): Long {
+        Jayo.buffer(Jayo.parallelGzip(compressed, Deflater.DEFAULT_COMPRESSION, parallelism)).use { it.write(payload) }
+        val byteCount = compressed.bytesAvailable()
+        compressed.clear()
+        return byteCount
+    }
+
+    companion object {
+        private const val PAYLOAD_BYTE_SIZE = 16 * 1024 * 1024
+    }
+}
@@ -0,0 +1,73 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.Pipe
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Transfers bytes from a producer thread to the benchmark thread through a pipe, in small or large writes.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class PipeBenchmark {
+    @Param("SHARED", "SINGLE_PRODUCER_SINGLE_CONSUMER")
+    private var mode = ""
+
+    @Param("128", "65536")
+    private var writeByteSize = 0
+
+    private lateinit var executor: ExecutorService
+    private lateinit var data: ByteArray
+    private val readBuffer = Buffer()
+
+    @Setup
+    fun setup() {
+        executor = Executors.newSingleThreadExecutor()
+        data = ByteArray(writeByteSize) { it.toByte() }
+    }
+
+    @TearDown
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    @Benchmark
+    fun transfer(): Long {
+        val pipe = Pipe.create(PIPE_BYTE_SIZE, Pipe.Mode.valueOf(mode))
+        val producer = executor.submit {
+            val source = Buffer()
+            var written = 0L
+            while (written < TRANSFER_BYTE_SIZE) {
+                source.write(data)
+                pipe.writer.writeFrom(source, data.size.toLong())
+                written += data.size
+            }
+            pipe.writer.close()
+        }
+
+        var read = 0L
+        while (true) {
+            val byteCount = pipe.reader.readAtMostTo(readBuffer, Long.MAX_VALUE)
+            if (byteCount == -1L) {
+                break
+            }
+            read += byteCount
+            readBuffer.clear()
+        }
+        producer.get()
+        return read
+    }
+
+    companion object {
+        private const val PIPE_BYTE_SIZE = 256L * 1024L
+        private const val TRANSFER_BYTE_SIZE = 16L * 1024L * 1024L
+    }
+}
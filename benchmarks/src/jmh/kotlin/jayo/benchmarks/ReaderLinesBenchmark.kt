@@ -0,0 +1,55 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.bytestring.ByteString
+import jayo.bytestring.encodeToByteString
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Scans newline-delimited records, looking for the ones that start with a given prefix.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+open class ReaderLinesBenchmark {
+    @Param("20", "200", "2000")
+    private var lineLength = 0
+
+    private lateinit var content: ByteString
+    private val prefix = "ERROR".encodeToByteString()
+    private val buffer = Buffer()
+
+    @Setup
+    fun setup() {
+        val lines = StringBuilder()
+        for (i in 0 until 1024) {
+            val start = if (i % 16 == 0) "ERROR " else "INFO  "
+            lines.append(start).append("x".repeat(lineLength - start.length)).append('\n')
+        }
+        content = lines.toString().encodeToByteString()
+    }
+
+    @Benchmark
+    fun readLine(blackhole: Blackhole) {
+        buffer.write(content)
+        while (true) {
+            val line = buffer.readLine() ?: break
+            blackhole.consume(line.startsWith("ERROR"))
+        }
+    }
+
+    @Benchmark
+    fun lines(blackhole: Blackhole) {
+        buffer.write(content)
+        val lines = buffer.lines()
+        while (lines.next()) {
+            blackhole.consume(lines.rangeEquals(0, prefix))
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package jayo.benchmarks
+
+import jayo.tls.HeldCertificate
+import jayo.tls.ServerHandshakeCertificates
+import jayo.tls.SniRouter
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import javax.net.ssl.SNIHostName
+
+/**
+ * Measures the lookup cost per handshake of a [SniRouter] that hosts [hostCount] tenants: an exact route, a wildcard
+ * route, or handshake certificates that were loaded by the certificates provider and are cached. Lookups are done by 4
+ * concurrent threads, like concurrent handshakes.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Threads(4)
+@Fork(value = 1)
+open class SniRouterBenchmark {
+    @Param("100", "10000")
+    private var hostCount = 0
+
+    @Param("exact", "wildcard", "cached")
+    private lateinit var route: String
+
+    private lateinit var router: SniRouter
+    private lateinit var serverNames: Array<SNIHostName>
+
+    @State(Scope.Thread)
+    open class Cursor {
+        var index = 0
+    }
+
+    @Setup
+    fun setup() {
+        val root = HeldCertificate.builder()
+            .certificateAuthority(0)
+            .build()
+        // Handshake certificates are not used by lookups, all tenants share the same ones.
+        val handshakeCertificates = ServerHandshakeCertificates.builder(
+            HeldCertificate.builder()
+                .addSubjectAlternativeName("localhost")
+                .signedBy(root)
+                .build()
+        ).build()
+
+        val builder = SniRouter.builder()
+        serverNames = Array(hostCount) { index ->
+            when (route) {
+                "exact" -> {
+                    builder.addRoute("tenant-$index.example.com", handshakeCertificates)
+                    SNIHostName("tenant-$index.example.com")
+                }
+
+                "wildcard" -> {
+                    builder.addRoute("*.tenant-$index.example.com", handshakeCertificates)
+                    SNIHostName("api.tenant-$index.example.com")
+                }
+
+                else -> SNIHostName("tenant-$index.example.org")
+            }
+        }
+        builder.certificatesProvider({ handshakeCertificates }, hostCount)
+        router = builder.build()
+        // load all the cached handshake certificates
+        serverNames.forEach { router.apply(it) }
+    }
+
+    @Benchmark
+    fun lookup(cursor: Cursor): ServerHandshakeCertificates? {
+        val serverName = serverNames[cursor.index]
+        cursor.index = (cursor.index + 1) % hostCount
+        return router.apply(serverName)
+    }
+}
@@ -0,0 +1,142 @@
+package jayo.benchmarks
+
+import jayo.Reader
+import jayo.Writer
+import jayo.buffered
+import jayo.network.NetworkServer
+import jayo.network.NetworkSocket
+import jayo.tls.*
+import org.openjdk.jmh.annotations.*
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the latency of a request-response exchange on an established TLS connection, while many virtual threads do
+ * TLS handshakes in the background. The delegated tasks of the SSLEngine, that contain the handshake CPU work, run in
+ * the reading or writing virtual thread ("inline") or in a bounded pool of platform threads sized to the cores
+ * ("pool").
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Timeout(time = 60)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.SampleTime)
+@Fork(value = 1)
+open class TlsMixedWorkloadBenchmark {
+    @Param("inline", "pool")
+    private lateinit var delegatedTasks: String
+
+    @Param("0", "64")
+    private var handshakingThreads = 0
+
+    private lateinit var server: NetworkServer
+    private lateinit var serverHandshakeCertificates: ServerHandshakeCertificates
+    private lateinit var clientHandshakeCertificates: ClientHandshakeCertificates
+    private var delegatedTaskExecutor: ExecutorService? = null
+    private val backgroundThreads = mutableListOf<Thread>()
+
+    @Volatile
+    private var running = true
+
+    private lateinit var tlsClient: ClientTlsSocket
+    private lateinit var clientReader: Reader
+    private lateinit var clientWriter: Writer
+
+    companion object {
+        private const val RESPONSE_BYTE_COUNT = 1024
+    }
+
+    @Setup
+    fun setup() {
+        val root = HeldCertificate.builder()
+            .certificateAuthority(0)
+            .build()
+        val serverCertificate = HeldCertificate.builder()
+            .addSubjectAlternativeName("localhost")
+            .signedBy(root)
+            .build()
+        serverHandshakeCertificates = ServerHandshakeCertificates.builder(serverCertificate).build()
+        clientHandshakeCertificates = ClientHandshakeCertificates.builder()
+            .addPlatformTrustedCertificates(false)
+            .addTrustedCertificate(root.certificate)
+            .build()
+        if (delegatedTasks == "pool") {
+            delegatedTaskExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())
+        }
+
+        server = NetworkServer.bindTcp(InetSocketAddress(InetAddress.getByName("localhost"), 0))
+        val address = InetSocketAddress(InetAddress.getByName("localhost"), server.localAddress.port)
+        backgroundThreads += Thread.ofPlatform().daemon().start {
+            try {
+                while (true) {
+                    val socket = server.accept()
+                    Thread.ofVirtual().start { serve(socket) }
+                }
+            } catch (_: Exception) {
+                // The server was closed.
+            }
+        }
+
+        tlsClient = clientBuilder().build(NetworkSocket.connectTcp(address))
+        clientReader = tlsClient.reader.buffered()
+        clientWriter = tlsClient.writer.buffered()
+
+        repeat(handshakingThreads) {
+            backgroundThreads += Thread.ofVirtual().start {
+                while (running) {
+                    try {
+                        val tlsSocket = clientBuilder().build(NetworkSocket.connectTcp(address))
+                        tlsSocket.cancel()
+                    } catch (_: Exception) {
+                    }
+                }
+            }
+        }
+    }
+
+    private fun clientBuilder() = ClientTlsSocket.builder(clientHandshakeCertificates)
+        .delegatedTaskExecutor(delegatedTaskExecutor)
+
+    /**
+     * Answers [RESPONSE_BYTE_COUNT] bytes to each request byte.
+     */
+    private fun serve(socket: NetworkSocket) {
+        try {
+            val tlsServer = ServerTlsSocket.builder(serverHandshakeCertificates)
+                .delegatedTaskExecutor(delegatedTaskExecutor)
+                .build(socket)
+            val reader = tlsServer.reader.buffered()
+            val writer = tlsServer.writer.buffered()
+            val response = ByteArray(RESPONSE_BYTE_COUNT) { 0x61 }
+            while (!reader.exhausted()) {
+                reader.readByte()
+                writer.write(response)
+                writer.flush()
+            }
+        } catch (_: Exception) {
+        } finally {
+            socket.cancel()
+        }
+    }
+
+    @TearDown
+    fun tearDown() {
+        running = false
+        tlsClient.cancel()
+        server.close()
+        backgroundThreads.forEach { it.join(1_000) }
+        delegatedTaskExecutor?.shutdownNow()
+    }
+
+    @Benchmark
+    fun requestResponse(): Long {
+        clientWriter.writeByte(42)
+        clientWriter.flush()
+        clientReader.skip(RESPONSE_BYTE_COUNT.toLong())
+        return RESPONSE_BYTE_COUNT.toLong()
+    }
+}
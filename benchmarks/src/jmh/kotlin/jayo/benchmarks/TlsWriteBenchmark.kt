@@ -0,0 +1,136 @@
+package jayo.benchmarks
+
+import jayo.Buffer
+import jayo.RawWriter
+import jayo.Reader
+import jayo.buffered
+import jayo.network.NetworkServer
+import jayo.network.NetworkSocket
+import jayo.tls.*
+import org.openjdk.jmh.annotations.*
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.util.concurrent.TimeUnit
+
+/**
+ * Writes through a TLS socket with the raw writer, in chunks of [writeByteSize] bytes that are each encrypted into TLS
+ * records, and measures:
+ * - the bulk throughput of 1 MiB uploads, acknowledged by the server.
+ * - the time to first byte of a 64 KiB response, that starts with small TLS records.
+ */
+@State(Scope.Benchmark)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+open class TlsWriteBenchmark {
+    @Param("64", "1024", "16384")
+    private var writeByteSize = 0
+
+    private lateinit var server: NetworkServer
+    private lateinit var tlsClient: ClientTlsSocket
+    private lateinit var clientReader: Reader
+    private lateinit var clientWriter: RawWriter
+    private lateinit var chunk: ByteArray
+    private val buffer = Buffer()
+
+    companion object {
+        private const val UPLOAD_BYTE_COUNT = 1024 * 1024
+        private const val RESPONSE_BYTE_COUNT = 64 * 1024
+        private const val UPLOAD: Byte = 'u'.code.toByte()
+        private const val RESPONSE: Byte = 'r'.code.toByte()
+    }
+
+    @Setup
+    fun setup() {
+        chunk = ByteArray(writeByteSize) { 0x61 }
+        val root = HeldCertificate.builder()
+            .certificateAuthority(0)
+            .build()
+        val serverCertificate = HeldCertificate.builder()
+            .addSubjectAlternativeName("localhost")
+            .signedBy(root)
+            .build()
+        val serverHandshakeCertificates = ServerHandshakeCertificates.builder(serverCertificate).build()
+        val clientHandshakeCertificates = ClientHandshakeCertificates.builder()
+            .addPlatformTrustedCertificates(false)
+            .addTrustedCertificate(root.certificate)
+            .build()
+
+        server = NetworkServer.bindTcp(InetSocketAddress(InetAddress.getByName("localhost"), 0))
+        Thread.ofPlatform().daemon().start {
+            try {
+                val socket = server.accept()
+                val tlsServer = ServerTlsSocket.builder(serverHandshakeCertificates).build(socket)
+                val reader = tlsServer.reader.buffered()
+                val writer = tlsServer.writer.buffered()
+                val response = ByteArray(RESPONSE_BYTE_COUNT) { 0x62 }
+                while (!reader.exhausted()) {
+                    when (reader.readByte()) {
+                        UPLOAD -> {
+                            reader.skip(UPLOAD_BYTE_COUNT.toLong())
+                            writer.writeByte(0)
+                        }
+
+                        RESPONSE -> writer.write(response)
+                    }
+                    writer.flush()
+                }
+            } catch (_: Exception) {
+                // The client was closed.
+            }
+        }
+
+        val address = InetSocketAddress(InetAddress.getByName("localhost"), server.localAddress.port)
+        tlsClient = ClientTlsSocket.builder(clientHandshakeCertificates)
+            .build(NetworkSocket.connectTcp(address))
+        clientReader = tlsClient.reader.buffered()
+        clientWriter = tlsClient.writer
+    }
+
+    @TearDown
+    fun tearDown() {
+        tlsClient.cancel()
+        server.close()
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    fun bulkUpload(): Byte {
+        buffer.writeByte(UPLOAD)
+        clientWriter.writeFrom(buffer, 1L)
+        var remaining = UPLOAD_BYTE_COUNT
+        while (remaining > 0) {
+            val toWrite = minOf(remaining, writeByteSize)
+            buffer.write(chunk, 0, toWrite)
+            clientWriter.writeFrom(buffer, toWrite.toLong())
+            remaining -= toWrite
+        }
+        clientWriter.flush()
+        return clientReader.readByte()
+    }
+
+    private var pendingResponseByteCount = 0L
+
+    /**
+     * Reads the rest of the previous response out of the measurement.
+     */
+    @Setup(Level.Invocation)
+    fun skipPendingResponse() {
+        clientReader.skip(pendingResponseByteCount)
+        pendingResponseByteCount = 0L
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    fun timeToFirstByte(): Byte {
+        buffer.writeByte(RESPONSE)
+        clientWriter.writeFrom(buffer, 1L)
+        clientWriter.flush()
+        val firstByte = clientReader.readByte()
+        pendingResponseByteCount = RESPONSE_BYTE_COUNT - 1L
+        return firstByte
+    }
+}
@@ -0,0 +1,95 @@
+package jayo.benchmarks
+
+import jayo.Reader
+import jayo.Writer
+import jayo.buffered
+import jayo.network.NetworkServer
+import jayo.network.NetworkSocket
+import org.openjdk.jmh.annotations.*
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.StandardSocketOptions
+import java.net.UnixDomainSocketAddress
+import java.nio.file.Files
+import java.util.concurrent.TimeUnit
+
+/**
+ * Compares the latency of a local request/response exchange of [messageSize] bytes over a loopback TCP connection and
+ * over a Unix domain socket. The server echoes each message back to the client.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Timeout(time = 20)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1)
+open class UnixDomainSocketBenchmark {
+    @Param("tcp", "unix")
+    private lateinit var transport: String
+
+    @Param("64", "16384")
+    private var messageSize = 0
+
+    private lateinit var server: NetworkServer
+    private lateinit var client: NetworkSocket
+    private lateinit var clientReader: Reader
+    private lateinit var clientWriter: Writer
+    private lateinit var message: ByteArray
+
+    @Setup
+    fun setup() {
+        message = ByteArray(messageSize) { 0x61 }
+        when (transport) {
+            "tcp" -> {
+                server = NetworkServer.builder()
+                    .option(StandardSocketOptions.TCP_NODELAY, true)
+                    .bindTcp(InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                client = NetworkSocket.builder()
+                    .option(StandardSocketOptions.TCP_NODELAY, true)
+                    .openTcp()
+                    .connect(server.localAddress)
+            }
+
+            "unix" -> {
+                val address = UnixDomainSocketAddress.of(
+                    Files.createTempDirectory("jayo-uds").resolve("benchmark.sock")
+                )
+                server = NetworkServer.bindUnix(address)
+                client = NetworkSocket.connectUnix(address)
+            }
+
+            else -> throw IllegalStateException("Unknown transport: $transport")
+        }
+
+        // start echo server
+        val accepted = server.accept()
+        Thread.ofPlatform().start {
+            val reader = accepted.reader.buffered()
+            val writer = accepted.writer.buffered()
+            try {
+                while (reader.request(messageSize.toLong())) {
+                    writer.writeFrom(reader, messageSize.toLong())
+                    writer.flush()
+                }
+            } catch (_: Exception) {
+                // the client was closed
+            }
+        }
+        clientReader = client.reader.buffered()
+        clientWriter = client.writer.buffered()
+    }
+
+    @TearDown
+    fun tearDown() {
+        client.cancel()
+        server.close()
+    }
+
+    @Benchmark
+    fun roundTrip(): ByteArray {
+        clientWriter.write(message)
+        clientWriter.flush()
+        return clientReader.readByteArray(messageSize.toLong())
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo;
+
+/**
+ * Receives the checksum of each block of a stream that flows through a checksumming reader or writer.
+ *
+ * @see Jayo#checksum(RawReader, java.util.zip.Checksum, long, BlockChecksumListener)
+ * @see Jayo#checksum(RawWriter, java.util.zip.Checksum, long, BlockChecksumListener)
+ */
+@FunctionalInterface
+public interface BlockChecksumListener {
+    /**
+     * Called when all the bytes of a block have been read or written. The last block of a stream may be shorter than
+     * the others, it is reported when the reader is exhausted or when the writer is closed.
+     * <p>
+     * This is called on the thread that reads or writes, between the last byte of this block and the first byte of the
+     * next one. So a writer may write its block checksums inline, and a reader may read them back to verify them. An
+     * exception thrown by this method is propagated to the caller of the read or write operation. Note that a reader
+     * reads up to a full block before calling this method, so inline checksums can only be read back this way if all
+     * the blocks are full, or if the stream length is known in advance.
+     *
+     * @param blockIndex the index of this block, starting at 0.
+     * @param byteCount  the number of bytes of this block.
+     * @param checksum   the checksum value of this block.
+     */
+    void onBlock(final long blockIndex, final long byteCount, final long checksum);
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo;
+
+import jayo.internal.RealBroadcastPipe;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * A {@linkplain RawWriter writer} attached to several independent {@linkplain RawReader readers}. Every byte written to
+ * the writer is read by each reader, like a tee. Typically, a producer thread writes data to the writer, and each reader
+ * is consumed by its own thread, for example a parser, an archiver and a hasher of the same byte stream.
+ * <p>
+ * Written bytes are not copied for each reader: every reader receives a shared, read-only view of the written segments.
+ * <p>
+ * Each reader has its own buffer of a user-specified maximum size. When the producer outruns one of its consumers, the
+ * buffer of that consumer fills up and eventually writes to the writer will block until this consumer has caught up.
+ * The slowest open reader governs the pace of the writer. If a consumer outruns the producer, its reads block until
+ * there is data to be read.
+ * <p>
+ * Limits on the amount of time spent waiting for the other parties can be configured by using
+ * {@linkplain Cancellable#call(java.time.Duration, java.util.function.Function) call with timeout} or
+ * {@linkplain Cancellable#run(java.time.Duration, java.util.function.Consumer) run with timeout}.
+ * <p>
+ * When the writer is closed, each reader's reads will continue to complete normally until its buffer has been
+ * exhausted. At that point reads will return -1, indicating the end of the stream. A closed reader releases its buffer
+ * and stops holding the writer back, writes to the writer will only fail with a {@link JayoException} when all the
+ * readers are closed.
+ * <p>
+ * A broadcast pipe may be canceled to immediately fail writes to the writer and reads from all the readers.
+ */
+public sealed interface BroadcastPipe permits RealBroadcastPipe {
+    /**
+     * @return a new {@link BroadcastPipe} with {@code readerCount} readers. Each reader's buffer that decouples it from
+     * the writer has a maximum size of {@code maxBufferSize}.
+     */
+    static @NonNull BroadcastPipe create(final long maxBufferSize, final int readerCount) {
+        return new RealBroadcastPipe(maxBufferSize, readerCount);
+    }
+
+    @NonNull
+    RawWriter getWriter();
+
+    /**
+     * @return the readers of this broadcast pipe, each of them reads all the bytes written to the
+     * {@linkplain #getWriter() writer}.
+     */
+    @NonNull
+    List<@NonNull RawReader> getReaders();
+
+    /**
+     * Fail any in-flight and future operations. After canceling:
+     * <ul>
+     * <li>Any attempt to write or flush {@linkplain #getWriter() writer} will fail immediately with a
+     * {@link JayoException}.
+     * <li>Any attempt to read one of the {@linkplain #getReaders() readers} will fail immediately with a
+     * {@link JayoException}.
+     * </ul>
+     * Closing the readers and the writer will complete normally even after a broadcast pipe has been canceled.
+     * <p>
+     * This operation may be called by any thread at any time. It is safe to call concurrently while operating on the
+     * readers or the writer.
+     */
+    void cancel();
+
+    /**
+     * @return {@code true} if this broadcast pipe is open, ensuring that its {@linkplain #getWriter() writer} and at
+     * least one of its {@linkplain #getReaders() readers} are not closed, and this broadcast pipe is not
+     * {@linkplain #cancel() canceled}.
+     */
+    boolean isOpen();
+}
@@ -34,6 +34,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteOrder;
 import java.nio.channels.ByteChannel;
 import java.nio.charset.Charset;
 
@@ -58,10 +59,9 @@ import java.nio.charset.Charset;
  * structure. In the Jayo world this means that a single thread can write data using all the {@link Writer} methods, and
  * another single thread can read data using all the {@link Reader} methods concurrently.
  * </ul>
- * Read and write methods on numbers use the big-endian order. If you need little-endian order, use
- * <i>reverseBytes()</i>, for example {@code Short.reverseBytes(buffer.readShort())} and
- * {@code buffer.writeShort(Short.reverseBytes(myShortValue))}. Jayo provides Kotlin extension functions that support
- * little-endian and unsigned numbers.
+ * Read and write methods on numbers use the big-endian order, unless their name ends with <b>Le</b> like
+ * {@link #readIntLe()} and {@link #writeIntLe(int)} that use the little-endian order. Jayo provides Kotlin extension
+ * functions that support unsigned numbers.
  * <p>
  * Please read {@link UnsafeCursor} javadoc for a detailed description of how a {@code Buffer} works.
  *
@@ -268,6 +268,34 @@ public sealed interface Buffer extends Reader, Writer, Cloneable permits RealBuf
                  final int offset,
                  final int byteCount);
 
+    @Override
+    @NonNull
+    Buffer write(final int @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
+    @Override
+    @NonNull
+    Buffer write(final long @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
+    @Override
+    @NonNull
+    Buffer write(final float @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
+    @Override
+    @NonNull
+    Buffer write(final double @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
     @Override
     @NonNull
     Buffer write(final @NonNull ByteString byteString);
@@ -316,6 +344,50 @@ public sealed interface Buffer extends Reader, Writer, Cloneable permits RealBuf
     @NonNull
     Buffer writeLong(final long l);
 
+    @Override
+    @NonNull
+    Buffer writeShortLe(final short s);
+
+    @Override
+    @NonNull
+    Buffer writeIntLe(final int i);
+
+    @Override
+    @NonNull
+    Buffer writeLongLe(final long l);
+
+    @Override
+    @NonNull
+    Buffer writeFloat(final float f);
+
+    @Override
+    @NonNull
+    Buffer writeFloatLe(final float f);
+
+    @Override
+    @NonNull
+    Buffer writeDouble(final double d);
+
+    @Override
+    @NonNull
+    Buffer writeDoubleLe(final double d);
+
+    @Override
+    @NonNull
+    Buffer writeVarInt(final int i);
+
+    @Override
+    @NonNull
+    Buffer writeVarLong(final long l);
+
+    @Override
+    @NonNull
+    Buffer writeZigZagVarInt(final int i);
+
+    @Override
+    @NonNull
+    Buffer writeZigZagVarLong(final long l);
+
     @Override
     @NonNull
     Buffer writeDecimalLong(final long l);
@@ -24,6 +24,8 @@ package jayo;
 import jayo.internal.RealCancelToken;
 import org.jspecify.annotations.NonNull;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Condition;
 import java.util.function.Function;
 
@@ -44,6 +46,29 @@ public sealed interface CancelScope permits RealCancelToken {
      */
     void shield();
 
+    /**
+     * Forks {@code task} in a new thread, a virtual one on Java 21+, and returns its {@link Future}. The forked task runs
+     * in its own cancellable block that inherits the remaining deadline, the timeout and the cancelled status of the
+     * current thread, so parallel I/O operations respect the latency budget of this cancel scope.
+     * <p>
+     * Forked tasks are structured: cancelling this cancel scope, or one of its parent scopes, cancels all of them and
+     * interrupts their threads, and the failure of one forked task cancels all its siblings. This cancellable block only
+     * exits once all its forked tasks are terminated, they are cancelled first if the block failed.
+     * <pre>
+     * {@code
+     * List<Future<Response>> responses = Cancellable.call(Duration.ofMillis(200), scope ->
+     *     urls.stream()
+     *         .map(url -> scope.fork(() -> fetch(url)))
+     *         .toList()
+     * );
+     * // all the forked tasks are terminated here, each one succeeded, failed or was cancelled
+     * }
+     * </pre>
+     *
+     * @throws IllegalStateException if this cancellable block has already exited.
+     */
+    <T> @NonNull Future<T> fork(final @NonNull Callable<T> task);
+
     /**
      * Waits on {@code condition} until it is signaled. Throws a {@link JayoInterruptedIOException} if either the thread
      * is interrupted or if this cancel scope elapses before {@code condition} is signaled. The caller must hold the
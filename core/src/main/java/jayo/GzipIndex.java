@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo;
+
+import jayo.internal.RealGzipIndex;
+import org.jspecify.annotations.NonNull;
+
+import java.nio.file.Path;
+
+/**
+ * An index of access points into a <a href="http://www.ietf.org/rfc/rfc1952.txt">GZIP</a> stream, that allows reading
+ * its uncompressed bytes from any offset without decompressing all the bytes that precede this offset.
+ * <p>
+ * The index is built by a first pass that decompresses the whole gzip stream. It records an access point, also known as
+ * a checkpoint, every {@linkplain #getSpanByteSize() span} of uncompressed bytes at the next deflate block boundary.
+ * Each checkpoint retains the compressed position of its deflate block, at the bit level, and the 32 KiB of uncompressed
+ * bytes that precede it, stored compressed. A {@linkplain #reader(Path, long) reader from an offset} then restores the
+ * nearest checkpoint before this offset and decompresses at most one span of bytes before reaching it.
+ * <p>
+ * An index can be {@linkplain #write(RawWriter) written} and {@linkplain #read(RawReader) read back} later, so the
+ * first pass is only needed once for a given gzip file.
+ * <p>
+ * Concatenated gzip members are supported, uncompressed offsets then cover all the members.
+ */
+public sealed interface GzipIndex permits RealGzipIndex {
+    /**
+     * Decompresses the whole gzip stream read from {@code gzipped}, verifying the CRC32 and the size of each of its
+     * members, and builds its index with an access point every {@code spanByteSize} uncompressed bytes. The
+     * {@code gzipped} reader is exhausted but not closed.
+     * <p>
+     * A smaller span makes reads from an offset faster, at the cost of a bigger index: each access point retains up to
+     * 32 KiB of uncompressed bytes, stored compressed.
+     *
+     * @throws IllegalArgumentException if {@code spanByteSize} is less than 1.
+     * @throws JayoException            if {@code gzipped} is not a valid gzip stream.
+     */
+    static @NonNull GzipIndex build(final @NonNull RawReader gzipped, final long spanByteSize) {
+        return RealGzipIndex.build(gzipped, spanByteSize);
+    }
+
+    /**
+     * Reads an index that was previously {@linkplain #write(RawWriter) written}. The {@code reader} is not closed.
+     *
+     * @throws JayoException if {@code reader} does not start with a valid gzip index.
+     */
+    static @NonNull GzipIndex read(final @NonNull RawReader reader) {
+        return RealGzipIndex.read(reader);
+    }
+
+    /**
+     * Writes this index to {@code writer}, so it can be {@linkplain #read(RawReader) read back} later. The
+     * {@code writer} is not closed.
+     */
+    void write(final @NonNull RawWriter writer);
+
+    /**
+     * @return a raw reader of the uncompressed bytes of the gzip file at {@code path}, starting from
+     * {@code uncompressedOffset}. The gzip file must be the one this index was built from.
+     * <p>
+     * The CRC32 of the gzip members are not verified by the returned reader, because it does not read their bytes from
+     * the beginning.
+     * @throws IllegalArgumentException if {@code uncompressedOffset} is negative or greater than
+     *                                  {@linkplain #getUncompressedByteSize() the uncompressed byte size}.
+     */
+    @NonNull
+    RawReader reader(final @NonNull Path path, final long uncompressedOffset);
+
+    /**
+     * @return the count of uncompressed bytes between two consecutive access points.
+     */
+    long getSpanByteSize();
+
+    /**
+     * @return the count of access points in this index.
+     */
+    int getCheckpointCount();
+
+    /**
+     * @return the count of uncompressed bytes of the indexed gzip stream.
+     */
+    long getUncompressedByteSize();
+
+    /**
+     * @return the count of compressed bytes of the indexed gzip stream.
+     */
+    long getCompressedByteSize();
+}
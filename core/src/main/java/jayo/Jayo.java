@@ -33,9 +33,11 @@ import java.nio.channels.*;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.zip.Checksum;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
@@ -74,14 +76,66 @@ public final class Jayo {
         return new RealReader(rawReader);
     }
 
+    /**
+     * @return a new reader that buffers reads from the raw {@code rawReader}, like {@link #buffer(RawReader)} does, but
+     * with a custom upper bound of the byte count requested from {@code rawReader} in a single read.
+     * <p>
+     * The returned reader requests from {@code rawReader} as many bytes as the caller needs, for example
+     * {@link Reader#require(long)} or {@link Reader#readByteArray(long)}, and grows its requests while
+     * {@code rawReader} fills them completely, always up to {@code maxRefillSize}. {@link #buffer(RawReader)} uses a
+     * default bound of 16 segments.
+     * @throws IllegalArgumentException if {@code maxRefillSize} is smaller than the size of a segment.
+     */
+    public static @NonNull Reader buffer(final @NonNull RawReader rawReader, final long maxRefillSize) {
+        Objects.requireNonNull(rawReader);
+        return new RealReader(rawReader, maxRefillSize);
+    }
+
+    /**
+     * @return a new writer that buffers writes to the {@code rawWriter}, like {@link #buffer(RawWriter)} does, and that
+     * also coalesces the bytes it emits to the {@code rawWriter}. Emitted bytes are held until {@code maxByteSize} bytes
+     * are held, or until {@code maxDelay} elapsed since the first held byte was emitted, then they are all written to
+     * the {@code rawWriter} at once. {@link Writer#flush()} always writes the held bytes immediately.
+     * <p>
+     * This is useful for network sockets, where many small {@link Writer#emit()} calls would otherwise become many tiny
+     * socket writes. Delayed writes are done by an internal Jayo thread, their failure is reported by the next call to
+     * the returned writer.
+     * @throws IllegalArgumentException if {@code maxByteSize} or {@code maxDelay} is not strictly positive.
+     */
+    public static @NonNull Writer buffer(final @NonNull RawWriter rawWriter,
+                                         final long maxByteSize,
+                                         final @NonNull Duration maxDelay) {
+        Objects.requireNonNull(rawWriter);
+        Objects.requireNonNull(maxDelay);
+        return new RealWriter(new CoalescingRawWriter(rawWriter, maxByteSize, maxDelay.toNanos()));
+    }
+
     /**
      * @return a new socket that buffers read and writes from the {@code rawSocket}.
      */
     public static @NonNull Socket buffer(final @NonNull RawSocket rawSocket) {
         Objects.requireNonNull(rawSocket);
+        return buffer(rawSocket, buffer(rawSocket.getWriter()));
+    }
+
+    /**
+     * @return a new socket that buffers read and writes from the {@code rawSocket}. Its writer also coalesces the bytes
+     * it emits, see {@link #buffer(RawWriter, long, Duration)}.
+     * @throws IllegalArgumentException if {@code maxByteSize} or {@code maxDelay} is not strictly positive.
+     */
+    public static @NonNull Socket buffer(final @NonNull RawSocket rawSocket,
+                                         final long maxByteSize,
+                                         final @NonNull Duration maxDelay) {
+        Objects.requireNonNull(rawSocket);
+        return buffer(rawSocket, buffer(rawSocket.getWriter(), maxByteSize, maxDelay));
+    }
+
+    private static @NonNull Socket buffer(final @NonNull RawSocket rawSocket, final @NonNull Writer bufferedWriter) {
+        assert rawSocket != null;
+        assert bufferedWriter != null;
+
         return new Socket() {
             private final @NonNull Reader reader = buffer(rawSocket.getReader());
-            private final @NonNull Writer writer = buffer(rawSocket.getWriter());
 
             @Override
             public @NonNull Reader getReader() {
@@ -90,7 +144,7 @@ public final class Jayo {
 
             @Override
             public @NonNull Writer getWriter() {
-                return writer;
+                return bufferedWriter;
             }
 
             @Override
@@ -287,6 +341,30 @@ public final class Jayo {
         return new RawSocket[]{new PipeRawSocket(ab, ba), new PipeRawSocket(ba, ab)};
     }
 
+    /**
+     * Relays bytes between sockets {@code a} and {@code b} in both directions, until both directions reach the end of
+     * their stream. Each direction runs on its own thread, a virtual thread if available. The segments read from one
+     * socket are written as-is to the other one, so relaying does not copy any byte.
+     * <p>
+     * When one direction reaches the end of its stream, the relay closes the reader it read from and the writer it wrote
+     * to, this propagates the half-close to the other socket. When both directions are finished, both sockets are fully
+     * closed. If one direction fails, both sockets are canceled.
+     * <p>
+     * This method returns immediately, use the returned {@link Relay} to wait for the relay to finish, to cancel it, or
+     * to know how many bytes were relayed in each direction.
+     */
+    public static @NonNull Relay relay(final @NonNull RawSocket a, final @NonNull RawSocket b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        if (a == b) {
+            throw new IllegalArgumentException("a == b, cannot relay a socket to itself");
+        }
+
+        final var relay = new RealRelay(a, b);
+        relay.start();
+        return relay;
+    }
+
     /**
      * Closes this {@code socket}, ignoring any {@link JayoException}.
      */
@@ -323,11 +401,73 @@ public final class Jayo {
         return HashingUtils.hmac(reader, hMac, key);
     }
 
+    /**
+     * @return a {@link RawReader} that updates {@code checksum} with all the bytes read from this {@code reader}, for
+     * example a {@link java.util.zip.CRC32C}.
+     */
+    public static @NonNull RawReader checksum(final @NonNull RawReader reader, final @NonNull Checksum checksum) {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(checksum);
+        return new ChecksumRawReader(reader, checksum, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * @return a {@link RawReader} that computes the checksum of each block of {@code blockByteSize} bytes read from
+     * this {@code reader}, and reports it to {@code listener}. A read never spans two blocks, so the listener can read
+     * the expected checksum of a block from the underlying reader to verify it.
+     * @throws IllegalArgumentException if {@code blockByteSize} is less than 1.
+     */
+    public static @NonNull RawReader checksum(final @NonNull RawReader reader,
+                                              final @NonNull Checksum checksum,
+                                              final long blockByteSize,
+                                              final @NonNull BlockChecksumListener listener) {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(checksum);
+        Objects.requireNonNull(listener);
+        return new ChecksumRawReader(reader, checksum, blockByteSize, listener);
+    }
+
+    /**
+     * @return a {@link RawWriter} that updates {@code checksum} with all the bytes written to this {@code writer}, for
+     * example a {@link java.util.zip.CRC32C}.
+     */
+    public static @NonNull RawWriter checksum(final @NonNull RawWriter writer, final @NonNull Checksum checksum) {
+        Objects.requireNonNull(writer);
+        Objects.requireNonNull(checksum);
+        return new ChecksumRawWriter(writer, checksum, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * @return a {@link RawWriter} that computes the checksum of each block of {@code blockByteSize} bytes written to
+     * this {@code writer}, and reports it to {@code listener}. The bytes of a block are written to the underlying writer
+     * before the listener is called, so the listener can write the checksum of a block right after it.
+     * @throws IllegalArgumentException if {@code blockByteSize} is less than 1.
+     */
+    public static @NonNull RawWriter checksum(final @NonNull RawWriter writer,
+                                              final @NonNull Checksum checksum,
+                                              final long blockByteSize,
+                                              final @NonNull BlockChecksumListener listener) {
+        Objects.requireNonNull(writer);
+        Objects.requireNonNull(checksum);
+        Objects.requireNonNull(listener);
+        return new ChecksumRawWriter(writer, checksum, blockByteSize, listener);
+    }
+
     /**
      * @return a {@link RawWriter} that DEFLATE-compresses data to this {@code writer} while writing.
      */
     public static @NonNull RawWriter deflate(final @NonNull RawWriter writer) {
-        return deflate(writer, new Deflater());
+        return deflate(writer, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @return a {@link RawWriter} that DEFLATE-compresses data to this {@code writer} while writing, with the provided
+     * compression {@code level}.
+     * @throws IllegalArgumentException if {@code level} is not a valid {@link Deflater} compression level.
+     */
+    public static @NonNull RawWriter deflate(final @NonNull RawWriter writer, final int level) {
+        Objects.requireNonNull(writer);
+        return new DeflaterRawWriter(writer, ZlibPool.deflater(level, false));
     }
 
     /**
@@ -344,7 +484,8 @@ public final class Jayo {
      * @return an {@link InflaterRawReader} that DEFLATE-decompresses data of this {@code reader} while reading.
      */
     public static @NonNull InflaterRawReader inflate(final @NonNull RawReader reader) {
-        return inflate(reader, new Inflater());
+        Objects.requireNonNull(reader);
+        return new RealInflaterRawReader(reader, ZlibPool.inflater(false));
     }
 
     /**
@@ -366,6 +507,40 @@ public final class Jayo {
         return new GzipRawWriter(writer);
     }
 
+    /**
+     * @return a {@link RawWriter} that gzip-compresses data to this {@code writer} while writing, with the provided
+     * compression {@code level}.
+     * @throws IllegalArgumentException if {@code level} is not a valid {@link Deflater} compression level.
+     */
+    public static @NonNull RawWriter gzip(final @NonNull RawWriter writer, final int level) {
+        Objects.requireNonNull(writer);
+        return new GzipRawWriter(writer, level);
+    }
+
+    /**
+     * @return a {@link RawWriter} that gzip-compresses data to this {@code writer} while writing, compressing blocks of
+     * the written data concurrently on as many threads as there are available processors.
+     * @see #parallelGzip(RawWriter, int, int)
+     */
+    public static @NonNull RawWriter parallelGzip(final @NonNull RawWriter writer) {
+        return parallelGzip(writer, Deflater.DEFAULT_COMPRESSION, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @return a {@link RawWriter} that gzip-compresses data to this {@code writer} while writing, with the provided
+     * compression {@code level}. Written data is cut into blocks of 128 KiB that are compressed concurrently, at most
+     * {@code parallelism} blocks at a time, then written in order as one single gzip member that any gzip reader can
+     * decompress. The output is slightly larger than the one of {@link #gzip(RawWriter, int)}.
+     * @throws IllegalArgumentException if {@code level} is not a valid {@link Deflater} compression level, or if
+     *                                  {@code parallelism} is less than 1.
+     */
+    public static @NonNull RawWriter parallelGzip(final @NonNull RawWriter writer,
+                                                  final int level,
+                                                  final int parallelism) {
+        Objects.requireNonNull(writer);
+        return new ParallelGzipRawWriter(writer, level, parallelism);
+    }
+
     /**
      * @return a {@link RawReader} that gzip-decompresses data of this {@code reader} while reading.
      */
@@ -374,6 +549,25 @@ public final class Jayo {
         return new GzipRawReader(reader);
     }
 
+    /**
+     * @return a {@link RawWriter} that compresses data to this {@code writer} while writing, in the
+     * <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 frame format</a>. LZ4 compresses
+     * much faster than gzip, at the cost of a lower compression ratio.
+     */
+    public static @NonNull RawWriter lz4(final @NonNull RawWriter writer) {
+        Objects.requireNonNull(writer);
+        return new Lz4RawWriter(writer);
+    }
+
+    /**
+     * @return a {@link RawReader} that decompresses data of this {@code reader} while reading, in the
+     * <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 frame format</a>.
+     */
+    public static @NonNull RawReader lz4(final @NonNull RawReader reader) {
+        Objects.requireNonNull(reader);
+        return new Lz4RawReader(reader);
+    }
+
     /**
      * @return a writer that discards all data written to it.
      */
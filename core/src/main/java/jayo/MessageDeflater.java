@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo;
+
+import jayo.bytestring.ByteString;
+import jayo.internal.RealMessageDeflater;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.zip.Deflater;
+
+/**
+ * Compresses a sequence of messages with raw DEFLATE, in the way of the WebSocket
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a> extension. Each message is ended by a
+ * sync flush, whose trailing {@code 0x00 0x00 0xFF 0xFF} marker is trimmed, so its compressed bytes can be sent on
+ * their own and decompressed by a {@link MessageInflater} as soon as they are received.
+ * <p>
+ * Small messages compress badly one at a time. With <b>context takeover</b>, the compression context is kept from one
+ * message to the next, so a message can refer to the bytes of the previous ones. A <b>preset dictionary</b> of bytes
+ * that are likely to appear in the messages, like the keys of a JSON schema, gives the same benefit to the first
+ * message, or to every message when context takeover is disabled. The {@link MessageInflater} that decompresses the
+ * messages must be created with the same context takeover and dictionary.
+ * <p>
+ * Please read {@link Deflater} for more details about compression levels and dictionaries.
+ */
+public sealed interface MessageDeflater extends AutoCloseable permits RealMessageDeflater {
+    /**
+     * @return a new message deflater with the {@linkplain Deflater#DEFAULT_COMPRESSION default compression level},
+     * context takeover and no preset dictionary.
+     */
+    static @NonNull MessageDeflater create() {
+        return create(Deflater.DEFAULT_COMPRESSION, true, null);
+    }
+
+    /**
+     * @param level           the compression level (0-9), or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @param contextTakeover true to keep the compression context from one message to the next.
+     * @param dictionary      the preset dictionary, or null for no dictionary.
+     * @return a new message deflater.
+     * @throws IllegalArgumentException if {@code level} is not a valid compression level.
+     */
+    static @NonNull MessageDeflater create(final int level,
+                                           final boolean contextTakeover,
+                                           final @Nullable ByteString dictionary) {
+        return new RealMessageDeflater(level, contextTakeover, dictionary);
+    }
+
+    /**
+     * Removes all bytes from {@code message}, compresses them as one message and writes the compressed bytes to
+     * {@code destination}.
+     *
+     * @throws IllegalStateException if this message deflater is closed.
+     */
+    void deflate(final @NonNull Buffer message, final @NonNull Buffer destination);
+
+    /**
+     * Releases the resources held by this message deflater. It cannot be used anymore after that.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo;
+
+import jayo.bytestring.ByteString;
+import jayo.internal.RealMessageInflater;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decompresses a sequence of messages that were compressed by a {@link MessageDeflater}, in the way of the WebSocket
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a> extension. The trimmed
+ * {@code 0x00 0x00 0xFF 0xFF} marker is restored at the end of each message before it is decompressed.
+ * <p>
+ * A message inflater must be created with the same context takeover and preset dictionary as the message deflater that
+ * compressed the messages, and the messages must be decompressed in the order they were compressed.
+ */
+public sealed interface MessageInflater extends AutoCloseable permits RealMessageInflater {
+    /**
+     * @return a new message inflater with context takeover and no preset dictionary.
+     */
+    static @NonNull MessageInflater create() {
+        return create(true, null);
+    }
+
+    /**
+     * @param contextTakeover true to keep the decompression context from one message to the next.
+     * @param dictionary      the preset dictionary, or null for no dictionary.
+     * @return a new message inflater.
+     */
+    static @NonNull MessageInflater create(final boolean contextTakeover, final @Nullable ByteString dictionary) {
+        return new RealMessageInflater(contextTakeover, dictionary);
+    }
+
+    /**
+     * Removes all bytes from {@code message}, decompresses them as one message and writes the decompressed bytes to
+     * {@code destination}.
+     *
+     * @throws JayoException         if {@code message} is not a valid compressed message.
+     * @throws IllegalStateException if this message inflater is closed.
+     */
+    void inflate(final @NonNull Buffer message, final @NonNull Buffer destination);
+
+    /**
+     * Releases the resources held by this message inflater. It cannot be used anymore after that.
+     */
+    @Override
+    void close();
+}
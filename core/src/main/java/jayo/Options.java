@@ -30,6 +30,9 @@ import java.util.RandomAccess;
 
 /**
  * An indexed set of values that may be read with {@link Reader#select(Options)}.
+ * <p>
+ * Options are compiled once: small sets are matched with a trie that compares bytes one by one, large sets are also
+ * indexed by a perfect hash of their values that needs a single pass over the selected bytes.
  */
 public sealed interface Options extends List<ByteString>, RandomAccess permits RealOptions {
     /**
@@ -39,4 +42,18 @@ public sealed interface Options extends List<ByteString>, RandomAccess permits R
     static @NonNull Options of(final @NonNull ByteString @NonNull ... byteStrings) {
         return RealOptions.of(byteStrings);
     }
+
+    /**
+     * Same as {@link #of(ByteString...)}, but ASCII letters are matched regardless of their case. For example
+     * {@code "Content-Length"} will be selected by the option {@code "content-length"}, and vice versa.
+     * <p>
+     * Only ASCII letters are folded, all other bytes must match exactly.
+     *
+     * @param byteStrings the strings we try to find, ignoring the case of ASCII letters
+     * @return a new indexed set of values that may be read with {@link Reader#select(Options)}.
+     * @throws IllegalArgumentException if two options only differ by the case of their ASCII letters.
+     */
+    static @NonNull Options ofIgnoreCase(final @NonNull ByteString @NonNull ... byteStrings) {
+        return RealOptions.ofIgnoreCase(byteStrings);
+    }
 }
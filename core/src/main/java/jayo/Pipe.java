@@ -22,8 +22,11 @@
 package jayo;
 
 import jayo.internal.RealPipe;
+import jayo.internal.SpscPipe;
 import org.jspecify.annotations.NonNull;
 
+import java.util.Objects;
+
 /**
  * A {@linkplain RawReader reader} and a {@linkplain RawWriter writer} that are attached. The writer's output is the
  * reader's input. Typically, each is accessed by its own thread: a producer thread writes data to the writer, and a
@@ -43,16 +46,32 @@ import org.jspecify.annotations.NonNull;
  * writer will immediately fail with a {@link JayoException}.
  * <p>
  * A pipe may be canceled to immediately fail writes to the writer and reads from the reader.
+ * <p>
+ * By default, a pipe can be written and read by any number of threads. When there is exactly one producer thread and
+ * one consumer thread, like between two stages of a processing pipeline, use
+ * {@link Mode#SINGLE_PRODUCER_SINGLE_CONSUMER} to avoid a lock handoff between them on every transfer.
  */
-public sealed interface Pipe permits RealPipe {
+public sealed interface Pipe permits RealPipe, SpscPipe {
     /**
-     * @return a new {@link Pipe}. This pipe's buffer that decouples reader and writer has a maximum size of
-     * {@code maxBufferSize}.
+     * @return a new {@link Pipe} in {@link Mode#SHARED} mode. This pipe's buffer that decouples reader and writer has a
+     * maximum size of {@code maxBufferSize}.
      */
     static @NonNull Pipe create(final long maxBufferSize) {
         return new RealPipe(maxBufferSize);
     }
 
+    /**
+     * @return a new {@link Pipe} in the provided {@code mode}. This pipe's buffer that decouples reader and writer has a
+     * maximum size of {@code maxBufferSize}.
+     */
+    static @NonNull Pipe create(final long maxBufferSize, final @NonNull Mode mode) {
+        Objects.requireNonNull(mode);
+        return switch (mode) {
+            case SHARED -> new RealPipe(maxBufferSize);
+            case SINGLE_PRODUCER_SINGLE_CONSUMER -> new SpscPipe(maxBufferSize);
+        };
+    }
+
     @NonNull
     RawReader getReader();
 
@@ -89,4 +108,23 @@ public sealed interface Pipe permits RealPipe {
      * {@linkplain #getWriter() writer} are closed and this pipe is not {@linkplain #cancel() canceled}.
      */
     boolean isOpen();
+
+    /**
+     * The concurrency mode of a pipe.
+     */
+    enum Mode {
+        /**
+         * The reader and the writer of the pipe may each be used by any number of threads. Every read and write
+         * acquires a lock shared by both sides.
+         */
+        SHARED,
+        /**
+         * The writer of the pipe is used by at most one producer thread at a time, and the reader by at most one
+         * consumer thread at a time. Whole segments are handed over from the producer to the consumer without locking,
+         * and each side only parks when the pipe is full, respectively empty.
+         * <p>
+         * Using the writer, or the reader, from several threads concurrently corrupts the pipe.
+         */
+        SINGLE_PRODUCER_SINGLE_CONSUMER
+    }
 }
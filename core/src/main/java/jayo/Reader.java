@@ -32,6 +32,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 
@@ -72,9 +73,9 @@ import java.nio.charset.Charset;
  * <p>
  * Kotlin notice: it is recommended to follow the same naming convention for Reader extensions.
  * <p>
- * Note: Read methods on numbers use the big-endian order. If you need little-endian order, use <i>reverseBytes()</i>,
- * for example {@code Short.reverseBytes(reader.readShort())}. Jayo provides Kotlin extension functions that support
- * little-endian and unsigned numeric types.
+ * Note: Read methods on numbers use the big-endian order, unless their name ends with <b>Le</b> like
+ * {@link #readIntLe()} that use the little-endian order. Jayo provides Kotlin extension functions that support unsigned
+ * numeric types.
  */
 public sealed interface Reader extends RawReader permits Buffer, RealReader {
     /**
@@ -242,6 +243,173 @@ public sealed interface Reader extends RawReader permits Buffer, RealReader {
      */
     long readLong();
 
+    /**
+     * Removes two bytes from this reader and returns a short composed of them according to the little-endian order.
+     * <pre>
+     * {@code
+     * Buffer buffer = Buffer.create()
+     * .writeByte(0xff)
+     * .writeByte(0x7f)
+     * .writeByte(0x0f)
+     * .writeByte(0x00);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(4);
+     *
+     * assertThat(buffer.readShortLe()).isEqualTo(32767);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(2);
+     *
+     * assertThat(buffer.readShortLe()).isEqualTo(15);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(0);
+     * }
+     * </pre>
+     *
+     * @return the read short value.
+     * @throws JayoEOFException      if there are not enough data to read a short value.
+     * @throws IllegalStateException if this reader is closed.
+     */
+    short readShortLe();
+
+    /**
+     * Removes four bytes from this reader and returns an int composed of them according to the little-endian order.
+     * <pre>
+     * {@code
+     * Buffer buffer = Buffer.create()
+     * .writeByte(0xff)
+     * .writeByte(0xff)
+     * .writeByte(0xff)
+     * .writeByte(0x7f)
+     * .writeByte(0x0f)
+     * .writeByte(0x00)
+     * .writeByte(0x00)
+     * .writeByte(0x00);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(8);
+     *
+     * assertThat(buffer.readIntLe()).isEqualTo(2147483647);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(4);
+     *
+     * assertThat(buffer.readIntLe()).isEqualTo(15);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(0);
+     * }
+     * </pre>
+     *
+     * @return the read int value.
+     * @throws JayoEOFException      if there are not enough data to read an int value.
+     * @throws IllegalStateException if this reader is closed.
+     */
+    int readIntLe();
+
+    /**
+     * Removes eight bytes from this reader and returns a long composed of them according to the little-endian order.
+     *
+     * @return the read long value.
+     * @throws JayoEOFException      if there are not enough data to read a long value.
+     * @throws IllegalStateException if this reader is closed.
+     * @see #readLong()
+     */
+    long readLongLe();
+
+    /**
+     * Removes four bytes from this reader and returns a float composed of them according to the big-endian order, as
+     * defined by {@link Float#intBitsToFloat(int)}.
+     *
+     * @return the read float value.
+     * @throws JayoEOFException      if there are not enough data to read a float value.
+     * @throws IllegalStateException if this reader is closed.
+     */
+    float readFloat();
+
+    /**
+     * Removes four bytes from this reader and returns a float composed of them according to the little-endian order,
+     * as defined by {@link Float#intBitsToFloat(int)}.
+     *
+     * @return the read float value.
+     * @throws JayoEOFException      if there are not enough data to read a float value.
+     * @throws IllegalStateException if this reader is closed.
+     */
+    float readFloatLe();
+
+    /**
+     * Removes eight bytes from this reader and returns a double composed of them according to the big-endian order, as
+     * defined by {@link Double#longBitsToDouble(long)}.
+     *
+     * @return the read double value.
+     * @throws JayoEOFException      if there are not enough data to read a double value.
+     * @throws IllegalStateException if this reader is closed.
+     */
+    double readDouble();
+
+    /**
+     * Removes eight bytes from this reader and returns a double composed of them according to the little-endian order,
+     * as defined by {@link Double#longBitsToDouble(long)}.
+     *
+     * @return the read double value.
+     * @throws JayoEOFException      if there are not enough data to read a double value.
+     * @throws IllegalStateException if this reader is closed.
+     */
+    double readDoubleLe();
+
+    /**
+     * Removes between one and five bytes from this reader and returns the int they encode as an unsigned LEB128
+     * variable-length integer, the "varint" format used by Protocol Buffers. Each byte contributes its 7 low-order
+     * bits, least significant group first, and its high-order bit is set when more bytes follow.
+     * <pre>
+     * {@code
+     * Buffer buffer = Buffer.create()
+     * .writeByte(0x96)
+     * .writeByte(0x01);
+     *
+     * assertThat(buffer.readVarInt()).isEqualTo(150);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(0);
+     * }
+     * </pre>
+     * Bits that do not fit in an int are discarded.
+     *
+     * @return the read int value.
+     * @throws NumberFormatException if the varint does not end within five bytes.
+     * @throws JayoEOFException      if this reader is exhausted before the end of the varint.
+     * @throws IllegalStateException if this reader is closed.
+     * @see Writer#writeVarInt(int)
+     */
+    int readVarInt();
+
+    /**
+     * Removes between one and ten bytes from this reader and returns the long they encode as an unsigned LEB128
+     * variable-length integer, the "varint" format used by Protocol Buffers.
+     *
+     * @return the read long value.
+     * @throws NumberFormatException if the varint does not end within ten bytes.
+     * @throws JayoEOFException      if this reader is exhausted before the end of the varint.
+     * @throws IllegalStateException if this reader is closed.
+     * @see #readVarInt()
+     * @see Writer#writeVarLong(long)
+     */
+    long readVarLong();
+
+    /**
+     * Removes between one and five bytes from this reader and returns the signed int they encode as a ZigZag varint.
+     * ZigZag encoding maps signed integers to unsigned ones so that numbers with a small absolute value, including
+     * negative ones, only need a few bytes: 0 is encoded as 0, -1 as 1, 1 as 2, -2 as 3, and so on.
+     *
+     * @return the read int value.
+     * @throws NumberFormatException if the varint does not end within five bytes.
+     * @throws JayoEOFException      if this reader is exhausted before the end of the varint.
+     * @throws IllegalStateException if this reader is closed.
+     * @see #readVarInt()
+     * @see Writer#writeZigZagVarInt(int)
+     */
+    int readZigZagVarInt();
+
+    /**
+     * Removes between one and ten bytes from this reader and returns the signed long they encode as a ZigZag varint.
+     *
+     * @return the read long value.
+     * @throws NumberFormatException if the varint does not end within ten bytes.
+     * @throws JayoEOFException      if this reader is exhausted before the end of the varint.
+     * @throws IllegalStateException if this reader is closed.
+     * @see #readZigZagVarInt()
+     * @see Writer#writeZigZagVarLong(long)
+     */
+    long readZigZagVarLong();
+
     /**
      * Reads a long from this reader in signed decimal form (i.e., as a string in base 10 with optional leading '-').
      * <p>
@@ -523,6 +691,48 @@ public sealed interface Reader extends RawReader permits Buffer, RealReader {
     @NonNull
     String readLineStrict(final long limit, final @NonNull Charset charset);
 
+    /**
+     * Returns a cursor over the lines of this reader. A line break is either {@code "\n"} or {@code "\r\n"}; these
+     * characters are not included in the lines. The last line may not end with a line break.
+     * <p>
+     * Unlike {@link #readLine()}, lines are not decoded to strings: each line stays in this reader's internal buffer
+     * until the cursor moves to the next one, so scanning lines allocates nothing unless the caller asks for the
+     * content of a line.
+     * <pre>
+     * {@code
+     * Buffer buffer = Buffer.create()
+     * .write("I'm a hacker!\n")
+     * .write("That's what I said: you're a nerd.\r\n");
+     *
+     * SplitCursor lines = buffer.lines();
+     * assertThat(lines.next()).isTrue();
+     * assertThat(lines.byteSize()).isEqualTo(13);
+     * assertThat(lines.next()).isTrue();
+     * assertThat(lines.decodeToString()).isEqualTo("That's what I said: you're a nerd.");
+     * assertThat(lines.next()).isFalse();
+     * }
+     * </pre>
+     *
+     * @throws IllegalStateException if this reader is closed.
+     * @see SplitCursor
+     */
+    @NonNull
+    SplitCursor lines();
+
+    /**
+     * Returns a cursor over the records of this reader that are separated by the {@code delimiter} byte. Delimiters are
+     * not included in the records. The last record may not end with a delimiter.
+     * <p>
+     * Each record stays in this reader's internal buffer until the cursor moves to the next one, so scanning records
+     * allocates nothing unless the caller asks for the content of a record.
+     *
+     * @param delimiter the byte that separates the records.
+     * @throws IllegalStateException if this reader is closed.
+     * @see SplitCursor
+     */
+    @NonNull
+    SplitCursor splitOn(final byte delimiter);
+
     /**
      * Removes and returns a single UTF-8 code point, reading between 1 and 4 bytes as necessary.
      * <p>
@@ -695,6 +905,90 @@ public sealed interface Reader extends RawReader permits Buffer, RealReader {
      */
     void readTo(final byte @NonNull [] destination, final int offset, final int byteCount);
 
+    /**
+     * Removes exactly {@code count * 4} bytes from this reader, composes them into {@code count} ints according to the
+     * {@code byteOrder} order, and copies them into {@code destination} at {@code offset}.
+     * <p>
+     * This is equivalent to, but much faster than, reading the ints one by one. Whole runs of ints are converted at
+     * once from each segment of the internal buffer.
+     *
+     * @param destination the int array to which data will be written from this reader.
+     * @param offset      the start offset (inclusive) in the {@code destination} of the first int to copy.
+     * @param count       the number of ints to copy.
+     * @param byteOrder   the byte order of the ints in this reader.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code destination}
+     *                                   indices.
+     * @throws JayoEOFException          if this reader is exhausted before containing {@code count} ints.
+     * @throws IllegalStateException     if this reader is closed.
+     */
+    void readTo(final int @NonNull [] destination,
+                final int offset,
+                final int count,
+                final @NonNull ByteOrder byteOrder);
+
+    /**
+     * Removes exactly {@code count * 8} bytes from this reader, composes them into {@code count} longs according to the
+     * {@code byteOrder} order, and copies them into {@code destination} at {@code offset}.
+     * <p>
+     * This is equivalent to, but much faster than, reading the longs one by one. Whole runs of longs are converted at
+     * once from each segment of the internal buffer.
+     *
+     * @param destination the long array to which data will be written from this reader.
+     * @param offset      the start offset (inclusive) in the {@code destination} of the first long to copy.
+     * @param count       the number of longs to copy.
+     * @param byteOrder   the byte order of the longs in this reader.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code destination}
+     *                                   indices.
+     * @throws JayoEOFException          if this reader is exhausted before containing {@code count} longs.
+     * @throws IllegalStateException     if this reader is closed.
+     */
+    void readTo(final long @NonNull [] destination,
+                final int offset,
+                final int count,
+                final @NonNull ByteOrder byteOrder);
+
+    /**
+     * Removes exactly {@code count * 4} bytes from this reader, composes them into {@code count} floats according to
+     * the {@code byteOrder} order, and copies them into {@code destination} at {@code offset}.
+     * <p>
+     * This is equivalent to, but much faster than, reading the floats one by one. Whole runs of floats are converted at
+     * once from each segment of the internal buffer.
+     *
+     * @param destination the float array to which data will be written from this reader.
+     * @param offset      the start offset (inclusive) in the {@code destination} of the first float to copy.
+     * @param count       the number of floats to copy.
+     * @param byteOrder   the byte order of the floats in this reader.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code destination}
+     *                                   indices.
+     * @throws JayoEOFException          if this reader is exhausted before containing {@code count} floats.
+     * @throws IllegalStateException     if this reader is closed.
+     */
+    void readTo(final float @NonNull [] destination,
+                final int offset,
+                final int count,
+                final @NonNull ByteOrder byteOrder);
+
+    /**
+     * Removes exactly {@code count * 8} bytes from this reader, composes them into {@code count} doubles according to
+     * the {@code byteOrder} order, and copies them into {@code destination} at {@code offset}.
+     * <p>
+     * This is equivalent to, but much faster than, reading the doubles one by one. Whole runs of doubles are converted
+     * at once from each segment of the internal buffer.
+     *
+     * @param destination the double array to which data will be written from this reader.
+     * @param offset      the start offset (inclusive) in the {@code destination} of the first double to copy.
+     * @param count       the number of doubles to copy.
+     * @param byteOrder   the byte order of the doubles in this reader.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code destination}
+     *                                   indices.
+     * @throws JayoEOFException          if this reader is exhausted before containing {@code count} doubles.
+     * @throws IllegalStateException     if this reader is closed.
+     */
+    void readTo(final double @NonNull [] destination,
+                final int offset,
+                final int count,
+                final @NonNull ByteOrder byteOrder);
+
     /**
      * Removes exactly {@code byteCount} bytes from this and appends them to {@code destination}.
      *
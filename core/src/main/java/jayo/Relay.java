@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo;
+
+import jayo.internal.RealRelay;
+
+/**
+ * A bidirectional relay between two sockets, A and B, as returned by {@link Jayo#relay(RawSocket, RawSocket)}. All the
+ * bytes read from A are written to B, and all the bytes read from B are written to A, each direction on its own thread.
+ * <p>
+ * When one direction reaches the end of its stream, the relay closes the reader it read from and the writer it wrote to,
+ * this propagates the half-close to the other socket. The other direction keeps relaying bytes until it also reaches
+ * the end of its stream.
+ * <p>
+ * If one direction fails, both sockets are {@linkplain RawSocket#cancel() canceled}, so the other direction fails too.
+ */
+public sealed interface Relay permits RealRelay {
+    /**
+     * @return the number of bytes that were relayed from socket A to socket B so far.
+     */
+    long getAToBByteCount();
+
+    /**
+     * @return the number of bytes that were relayed from socket B to socket A so far.
+     */
+    long getBToAByteCount();
+
+    /**
+     * Waits until both directions of this relay are finished.
+     *
+     * @throws JayoException              if a direction of this relay failed, other than because of a call to
+     *                                    {@link #cancel()}.
+     * @throws JayoInterruptedIOException if the current thread is interrupted while waiting.
+     */
+    void join();
+
+    /**
+     * @return {@code true} if both directions of this relay are finished.
+     */
+    boolean isFinished();
+
+    /**
+     * Stops relaying by {@linkplain RawSocket#cancel() canceling} both sockets. This operation may be called by any
+     * thread at any time.
+     */
+    void cancel();
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo;
+
+import jayo.bytestring.ByteString;
+import jayo.internal.RealSplitCursor;
+import org.jspecify.annotations.NonNull;
+
+import java.nio.charset.Charset;
+
+/**
+ * A reusable cursor over the records of a {@link Reader} separated by a delimiter byte, obtained with
+ * {@link Reader#lines()} or {@link Reader#splitOn(byte)}.
+ * <p>
+ * The current record is not copied out of the reader: it stays in the reader's internal buffer until the next call to
+ * {@link #next()}, that removes it from the reader, along with its delimiter. Inspecting the current record with
+ * {@link #byteSize()}, {@link #getByte(long)} or {@link #rangeEquals(long, ByteString)} allocates nothing, so scanning a
+ * very large reader record by record only allocates when the caller asks for a record's content with
+ * {@link #byteString()}, {@link #decodeToString()} or {@link #copyTo(Buffer)}.
+ * <pre>
+ * {@code
+ * SplitCursor lines = reader.lines();
+ * while (lines.next()) {
+ *     if (lines.rangeEquals(0, ERROR)) {
+ *         errors.add(lines.decodeToString());
+ *     }
+ * }
+ * }
+ * </pre>
+ * Like a reader, a cursor is not thread-safe. The reader must not be used directly while a cursor is in use, except
+ * after {@link #next()} returned false.
+ */
+public sealed interface SplitCursor permits RealSplitCursor {
+    /**
+     * Removes the current record and its delimiter from the reader, then moves to the next record.
+     * <p>
+     * The last record may not be followed by a delimiter. A delimiter at the very end of the reader is not followed by
+     * an empty record.
+     *
+     * @return true if there is a next record, false if the reader is exhausted.
+     * @throws IllegalStateException if the reader is closed.
+     */
+    boolean next();
+
+    /**
+     * @return the byte size of the current record, excluding its delimiter.
+     * @throws IllegalStateException if there is no current record.
+     */
+    long byteSize();
+
+    /**
+     * @return the byte at {@code index} in the current record.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range of the current record.
+     * @throws IllegalStateException     if there is no current record.
+     */
+    byte getByte(final long index);
+
+    /**
+     * @return true if the bytes at {@code offset} in the current record equal the bytes of {@code byteString}.
+     * @throws IllegalStateException if there is no current record.
+     */
+    boolean rangeEquals(final long offset, final @NonNull ByteString byteString);
+
+    /**
+     * @return the current record as a byte string. Large records share the segments of the reader's internal buffer
+     * instead of copying them.
+     * @throws IllegalStateException if there is no current record.
+     */
+    @NonNull
+    ByteString byteString();
+
+    /**
+     * @return the current record decoded as UTF-8.
+     * @throws IllegalStateException if there is no current record.
+     */
+    @NonNull
+    String decodeToString();
+
+    /**
+     * @return the current record decoded using {@code charset}.
+     * @throws IllegalStateException if there is no current record.
+     */
+    @NonNull
+    String decodeToString(final @NonNull Charset charset);
+
+    /**
+     * Copies the current record to {@code out}, sharing the segments of the reader's internal buffer when possible.
+     *
+     * @throws IllegalStateException if there is no current record.
+     */
+    void copyTo(final @NonNull Buffer out);
+}
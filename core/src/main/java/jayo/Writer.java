@@ -31,6 +31,7 @@ import org.jspecify.annotations.NonNull;
 
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 
@@ -69,9 +70,9 @@ import java.nio.charset.Charset;
  * <p>
  * Kotlin notice: It is recommended to follow the same naming convention for Writer extensions.
  * <p>
- * Note: Write methods on numbers use the big-endian order. If you need little-endian order, use <i>reverseBytes()</i>,
- * for example {@code writer.writeShort(Short.reverseBytes(myShortValue))}. Jayo provides Kotlin extension functions
- * that support little-endian and unsigned numeric types.
+ * Note: Write methods on numbers use the big-endian order, unless their name ends with <b>Le</b> like
+ * {@link #writeIntLe(int)} that use the little-endian order. Jayo provides Kotlin extension functions that support
+ * unsigned numeric types.
  */
 public sealed interface Writer extends RawWriter permits Buffer, RealWriter {
     /**
@@ -105,6 +106,90 @@ public sealed interface Writer extends RawWriter permits Buffer, RealWriter {
                  final int offset,
                  final int byteCount);
 
+    /**
+     * Writes {@code count} ints from {@code source}, starting at {@code offset}, to this writer. Each int is written as
+     * {@code 4} bytes, according to the {@code byteOrder} order.
+     * <p>
+     * This is equivalent to, but much faster than, writing the ints one by one. Whole runs of ints are converted at
+     * once into each segment of the internal buffer.
+     *
+     * @param source    the int array from which data will be written into this writer.
+     * @param offset    the start offset (inclusive) in the {@code source} of the first int to write.
+     * @param count     the number of ints to write.
+     * @param byteOrder the byte order of the ints written to this writer.
+     * @return {@code this}
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code source} indices.
+     * @throws IllegalStateException     if this writer is closed.
+     */
+    @NonNull
+    Writer write(final int @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
+    /**
+     * Writes {@code count} longs from {@code source}, starting at {@code offset}, to this writer. Each long is written
+     * as {@code 8} bytes, according to the {@code byteOrder} order.
+     * <p>
+     * This is equivalent to, but much faster than, writing the longs one by one. Whole runs of longs are converted at
+     * once into each segment of the internal buffer.
+     *
+     * @param source    the long array from which data will be written into this writer.
+     * @param offset    the start offset (inclusive) in the {@code source} of the first long to write.
+     * @param count     the number of longs to write.
+     * @param byteOrder the byte order of the longs written to this writer.
+     * @return {@code this}
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code source} indices.
+     * @throws IllegalStateException     if this writer is closed.
+     */
+    @NonNull
+    Writer write(final long @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
+    /**
+     * Writes {@code count} floats from {@code source}, starting at {@code offset}, to this writer. Each float is written
+     * as {@code 4} bytes, according to the {@code byteOrder} order.
+     * <p>
+     * This is equivalent to, but much faster than, writing the floats one by one. Whole runs of floats are converted at
+     * once into each segment of the internal buffer.
+     *
+     * @param source    the float array from which data will be written into this writer.
+     * @param offset    the start offset (inclusive) in the {@code source} of the first float to write.
+     * @param count     the number of floats to write.
+     * @param byteOrder the byte order of the floats written to this writer.
+     * @return {@code this}
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code source} indices.
+     * @throws IllegalStateException     if this writer is closed.
+     */
+    @NonNull
+    Writer write(final float @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
+    /**
+     * Writes {@code count} doubles from {@code source}, starting at {@code offset}, to this writer. Each double is
+     * written as {@code 8} bytes, according to the {@code byteOrder} order.
+     * <p>
+     * This is equivalent to, but much faster than, writing the doubles one by one. Whole runs of doubles are converted
+     * at once into each segment of the internal buffer.
+     *
+     * @param source    the double array from which data will be written into this writer.
+     * @param offset    the start offset (inclusive) in the {@code source} of the first double to write.
+     * @param count     the number of doubles to write.
+     * @param byteOrder the byte order of the doubles written to this writer.
+     * @return {@code this}
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is out of range of {@code source} indices.
+     * @throws IllegalStateException     if this writer is closed.
+     */
+    @NonNull
+    Writer write(final double @NonNull [] source,
+                 final int offset,
+                 final int count,
+                 final @NonNull ByteOrder byteOrder);
+
     /**
      * Writes all bytes from {@code byteString} to this writer.
      *
@@ -295,6 +380,155 @@ public sealed interface Writer extends RawWriter permits Buffer, RealWriter {
     @NonNull
     Writer writeLong(final long l);
 
+    /**
+     * Writes two bytes containing a short, in the little-endian order, to this writer.
+     * <pre>
+     * {@code
+     * Buffer buffer = Buffer.create();
+     * buffer.writeShortLe(32767);
+     * buffer.writeShortLe(15);
+     *
+     * assertThat(buffer.bytesAvailable()).isEqualTo(4);
+     * assertThat(buffer.readByte()).isEqualTo(0xff);
+     * assertThat(buffer.readByte()).isEqualTo(0x7f);
+     * assertThat(buffer.readByte()).isEqualTo(0x0f);
+     * assertThat(buffer.readByte()).isEqualTo(0x00);
+     * assertThat(buffer.bytesAvailable()).isEqualTo(0);
+     * }
+     * </pre>
+     *
+     * @param s the short to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     */
+    @NonNull
+    Writer writeShortLe(final short s);
+
+    /**
+     * Writes four bytes containing an int, in the little-endian order, to this writer.
+     *
+     * @param i the int to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     * @see #writeInt(int)
+     */
+    @NonNull
+    Writer writeIntLe(final int i);
+
+    /**
+     * Writes eight bytes containing a long, in the little-endian order, to this writer.
+     *
+     * @param l the long to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     * @see #writeLong(long)
+     */
+    @NonNull
+    Writer writeLongLe(final long l);
+
+    /**
+     * Writes four bytes containing a float, in the big-endian order, to this writer. The float is converted to its
+     * binary representation using {@link Float#floatToIntBits(float)}.
+     *
+     * @param f the float to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     */
+    @NonNull
+    Writer writeFloat(final float f);
+
+    /**
+     * Writes four bytes containing a float, in the little-endian order, to this writer. The float is converted to its
+     * binary representation using {@link Float#floatToIntBits(float)}.
+     *
+     * @param f the float to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     */
+    @NonNull
+    Writer writeFloatLe(final float f);
+
+    /**
+     * Writes eight bytes containing a double, in the big-endian order, to this writer. The double is converted to its
+     * binary representation using {@link Double#doubleToLongBits(double)}.
+     *
+     * @param d the double to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     */
+    @NonNull
+    Writer writeDouble(final double d);
+
+    /**
+     * Writes eight bytes containing a double, in the little-endian order, to this writer. The double is converted to
+     * its binary representation using {@link Double#doubleToLongBits(double)}.
+     *
+     * @param d the double to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     */
+    @NonNull
+    Writer writeDoubleLe(final double d);
+
+    /**
+     * Writes an int to this writer as an unsigned LEB128 variable-length integer, the "varint" format used by
+     * Protocol Buffers. Small values use fewer bytes: values lower than 128 use a single byte, and negative values, that
+     * are treated as unsigned, use five bytes. Use {@link #writeZigZagVarInt(int)} for signed values.
+     * <pre>
+     * {@code
+     * Buffer buffer = Buffer.create();
+     * buffer.writeVarInt(150);
+     *
+     * assertThat(buffer.bytesAvailable()).isEqualTo(2);
+     * assertThat(buffer.readByte()).isEqualTo(0x96);
+     * assertThat(buffer.readByte()).isEqualTo(0x01);
+     * }
+     * </pre>
+     *
+     * @param i the int to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     * @see Reader#readVarInt()
+     */
+    @NonNull
+    Writer writeVarInt(final int i);
+
+    /**
+     * Writes a long to this writer as an unsigned LEB128 variable-length integer, using between one and ten bytes.
+     *
+     * @param l the long to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     * @see #writeVarInt(int)
+     * @see Reader#readVarLong()
+     */
+    @NonNull
+    Writer writeVarLong(final long l);
+
+    /**
+     * Writes a signed int to this writer as a ZigZag varint, so that numbers with a small absolute value, including
+     * negative ones, only need a few bytes.
+     *
+     * @param i the int to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     * @see Reader#readZigZagVarInt()
+     */
+    @NonNull
+    Writer writeZigZagVarInt(final int i);
+
+    /**
+     * Writes a signed long to this writer as a ZigZag varint, so that numbers with a small absolute value, including
+     * negative ones, only need a few bytes.
+     *
+     * @param l the long to be written.
+     * @return {@code this}
+     * @throws IllegalStateException if this writer is closed.
+     * @see Reader#readZigZagVarLong()
+     */
+    @NonNull
+    Writer writeZigZagVarLong(final long l);
+
     /**
      * Writes a long to this writer in signed decimal form (i.e., as a string in base 10). Resulting string will not
      * contain leading zeros, except the {@code 0} value itself.
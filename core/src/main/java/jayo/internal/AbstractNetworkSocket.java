@@ -146,27 +146,13 @@ public sealed abstract class AbstractNetworkSocket implements NetworkSocket
                           final long byteCount,
                           final @Nullable RealCancelToken cancelToken) {
             CancelToken.throwIfReached(cancelToken);
-            final var dstTail = dst.writableTail(1);
-            final var toRead = (int) Math.min(byteCount, Segment.SIZE - dstTail.limit);
-            final int bytesRead = timeout.withTimeout(cancelToken, () -> {
+            return timeout.withTimeout(cancelToken, () -> {
                 try {
-                    return AbstractNetworkSocket.this.read(dstTail, toRead);
+                    return AbstractNetworkSocket.this.read(dst, byteCount);
                 } catch (IOException e) {
                     throw JayoException.buildJayoException(e);
                 }
             });
-            if (bytesRead == -1) {
-                if (dstTail.pos == dstTail.limit) {
-                    // We allocated a tail segment, but didn't end up needing it. Recycle!
-                    dst.head = dstTail.pop();
-                    SegmentPool.recycle(dstTail);
-                }
-                return -1L;
-            }
-
-            dstTail.limit += bytesRead;
-            dst.byteSize += bytesRead;
-            return bytesRead;
         }
 
         @Override
@@ -199,6 +185,32 @@ public sealed abstract class AbstractNetworkSocket implements NetworkSocket
         }
     }
 
+    /**
+     * Reads at most {@code byteCount} bytes into {@code dst}. By default, this reads into the writable tail segment of
+     * {@code dst} only.
+     *
+     * @return the number of bytes read, or -1 if the socket has reached end-of-stream.
+     */
+    long read(final @NonNull RealBuffer dst, final long byteCount) throws IOException {
+        assert dst != null;
+
+        final var dstTail = dst.writableTail(1);
+        final var toRead = (int) Math.min(byteCount, Segment.SIZE - dstTail.limit);
+        final var bytesRead = read(dstTail, toRead);
+        if (bytesRead == -1) {
+            if (dstTail.pos == dstTail.limit) {
+                // We allocated a tail segment, but didn't end up needing it. Recycle!
+                dst.head = dstTail.pop();
+                SegmentPool.recycle(dstTail);
+            }
+            return -1L;
+        }
+
+        dstTail.limit += bytesRead;
+        dst.byteSize += bytesRead;
+        return bytesRead;
+    }
+
     abstract int read(final @NonNull Segment dstTail, final int toRead) throws IOException;
 
     abstract void shutdownInput() throws IOException;
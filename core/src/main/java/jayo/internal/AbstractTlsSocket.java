@@ -28,6 +28,12 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -51,6 +57,28 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
     // @formatter:on
     private static final int SSL_V3_HEADER_SIZE = 5;    // SSLv3 record header
 
+    /**
+     * The plaintext byte size of the small records that are written right after the handshake or after an idle period.
+     * A small record, with its TLS overhead, fits in a single TCP segment of a 1500 bytes MTU path with IPv6 and TCP
+     * options, so the peer can decrypt it as soon as this segment is received, without waiting for a full 16 KiB record
+     * that spans several round trips of a small TCP congestion window.
+     */
+    private static final int SMALL_DATA_SIZE = 1369;
+    /**
+     * The plaintext byte size written in small records before ramping up to full {@link #MAX_DATA_SIZE} records, that
+     * is 40 full small records. It is counted in bytes so that tiny records, of a few bytes each, do not use it up.
+     */
+    private static final long SMALL_RECORDS_BYTE_SIZE = 40L * SMALL_DATA_SIZE;
+    /**
+     * After this idle time without writes, the TCP congestion window may have been reset, so the next records are small
+     * again.
+     */
+    private static final long IDLE_RESET_NANOS = 1_000_000_000L; // 1 second
+    /**
+     * The max byte size of encrypted records that are buffered before being written to {@link #encryptedWriter}.
+     */
+    private static final long MAX_PENDING_ENCRYPTED_BYTE_SIZE = 4 * MAX_ENCRYPTED_PACKET_BYTE_SIZE;
+
     /**
      * Handshake wrap() method calls need a buffer to read from, even when they actually do not read anything.
      * <p>
@@ -64,6 +92,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
     private final @NonNull RealWriter encryptedWriter;
     private final @NonNull SSLEngine engine;
     private final boolean waitForCloseConfirmation;
+    private final @Nullable Executor delegatedTaskExecutor;
     private final @NonNull SSLSession tlsSession;
     private final @NonNull RawReader reader;
     private final @NonNull RawWriter writer;
@@ -101,10 +130,21 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
 
     private int remainingBytesToRead;
 
+    /**
+     * The plaintext byte size that remains to be written in small records before using full records. Guarded by
+     * {@link #writeLock}.
+     */
+    private long smallRecordsBytesRemaining = SMALL_RECORDS_BYTE_SIZE;
+    /**
+     * The {@link System#nanoTime()} of the last write. Guarded by {@link #writeLock}.
+     */
+    private long lastWriteNanos = System.nanoTime();
+
     public AbstractTlsSocket(
             final @NonNull Socket encryptedSocket,
             final @NonNull SSLEngine engine,
-            final boolean waitForCloseConfirmation) {
+            final boolean waitForCloseConfirmation,
+            final @Nullable Executor delegatedTaskExecutor) {
         assert encryptedSocket != null;
         assert engine != null;
 
@@ -115,6 +155,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
         this.encryptedWriter = (RealWriter) encryptedSocket.getWriter();
         this.engine = engine;
         this.waitForCloseConfirmation = waitForCloseConfirmation;
+        this.delegatedTaskExecutor = delegatedTaskExecutor;
 
         // THE initial handshake, this is an important step!
         handshake();
@@ -165,7 +206,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
 
                 // the decrypted buffer may already have available data
                 if (!decryptedBuffer.exhausted()) {
-                    decryptedBuffer.readAtMostTo(destination, byteCount);
+                    return decryptedBuffer.readAtMostTo(destination, byteCount);
                 }
 
                 if (shutdownReceived) {
@@ -178,7 +219,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
                         switch (engine.getHandshakeStatus()) {
                             case NEED_UNWRAP, NEED_WRAP -> writeAndHandshake();
                             case NOT_HANDSHAKING, FINISHED -> {
-                                final var bytesRead = readAndUnwrap();
+                                final var bytesRead = readAndUnwrap(byteCount);
                                 if (bytesRead > 0) {
                                     return bytesRead;
                                 }
@@ -215,24 +256,20 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
         }
     }
 
-    private int readAndUnwrap() throws TlsEOFException {
-        var bytesToReturn = 0;
+    /**
+     * Reads and decrypts at least one record. Then the next records that are already complete in the encrypted buffer
+     * are decrypted in the same pass, without blocking, until {@code maxByteCount} decrypted bytes are produced.
+     */
+    private long readAndUnwrap(final long maxByteCount) throws TlsEOFException {
+        var bytesToReturn = 0L;
         while (true) {
             if (remainingBytesToRead == 0) {
                 remainingBytesToRead = readFromReader(); // maybe IO block
             }
 
             final var result = unwrap();
+            bytesToReturn += result.bytesProduced();
 
-            /*
-             * Note that data can be returned even in case of overflow, in that case, just return the data.
-             */
-            if (result.bytesProduced() > 0) {
-                bytesToReturn += result.bytesProduced();
-                if (remainingBytesToRead == 0) {
-                    break;
-                }
-            }
             if (result.getStatus() == Status.CLOSED) {
                 shutdownReceived = true;
                 break;
@@ -247,10 +284,40 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
             if (status == HandshakeStatus.NEED_TASK || status == HandshakeStatus.NEED_WRAP) {
                 break;
             }
+
+            /*
+             * Note that data can be returned even in case of overflow, in that case, just return the data.
+             */
+            if (bytesToReturn > 0 && remainingBytesToRead == 0) {
+                if (bytesToReturn >= maxByteCount) {
+                    break;
+                }
+                final var bufferedPacketByteSize = bufferedPacketByteSize();
+                if (bufferedPacketByteSize == 0) {
+                    break;
+                }
+                remainingBytesToRead = bufferedPacketByteSize;
+            }
         }
         return bytesToReturn;
     }
 
+    /**
+     * @return the byte size of the next TLS record if it is already complete in the encrypted buffer, else 0.
+     */
+    private int bufferedPacketByteSize() {
+        if (isTls != Boolean.TRUE) {
+            return 0;
+        }
+        final var encryptedReaderBuffer = encryptedReader.buffer;
+        if (encryptedReaderBuffer.byteSize < SSL_V3_HEADER_SIZE) {
+            return 0;
+        }
+        final var packetByteSize = SSL_V3_HEADER_SIZE +
+                (((encryptedReaderBuffer.getByte(3L) & 0xFF) << 8) | (encryptedReaderBuffer.getByte(4L) & 0xFF));
+        return (encryptedReaderBuffer.byteSize >= packetByteSize) ? packetByteSize : 0;
+    }
+
     private @NonNull SSLEngineResult unwrap() {
         final var destination = (suppliedDecryptedBuffer != null) ? suppliedDecryptedBuffer : decryptedBuffer;
 
@@ -258,7 +325,15 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
         final var head = encryptedReader.buffer.aggregatedHead(toRead);
         final var sourceByteBuffer = head.asByteBuffer(head.pos, toRead);
 
-        final var result = callEngineUnwrap(sourceByteBuffer, destination);
+        // The plaintext of a TLS record is never bigger than its encrypted content.
+        final var expectedDataSize = (isTls == Boolean.TRUE)
+                ? Math.max(1, Math.min(toRead - SSL_V3_HEADER_SIZE, MAX_DATA_SIZE))
+                : 1;
+        var result = callEngineUnwrap(sourceByteBuffer, expectedDataSize, destination);
+        if (result == null && expectedDataSize < MAX_DATA_SIZE) {
+            result = callEngineUnwrap(sourceByteBuffer, MAX_DATA_SIZE, destination);
+        }
+        Objects.requireNonNull(result, "BUFFER_OVERFLOW should not happen with destination size = " + MAX_DATA_SIZE);
         final var bytesConsumed = result.bytesConsumed();
         head.pos += bytesConsumed;
         encryptedReader.buffer.byteSize -= bytesConsumed;
@@ -272,16 +347,6 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
         return result;
     }
 
-    private @NonNull SSLEngineResult callEngineUnwrap(final @NonNull ByteBuffer source,
-                                                      final @NonNull RealBuffer destination) {
-        var result = callEngineUnwrap(source, 1, destination);
-        if (result == null) {
-            result = callEngineUnwrap(source, MAX_DATA_SIZE, destination);
-        }
-        return Objects.requireNonNull(result,
-                "BUFFER_OVERFLOW should not happen with destination size = " + MAX_DATA_SIZE);
-    }
-
     private @Nullable SSLEngineResult callEngineUnwrap(final @NonNull ByteBuffer source,
                                                        final int minimumCapacity,
                                                        final @NonNull RealBuffer destination) {
@@ -398,6 +463,12 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
                     throw new JayoClosedResourceException();
                 }
 
+                final var now = System.nanoTime();
+                if (now - lastWriteNanos > IDLE_RESET_NANOS) {
+                    smallRecordsBytesRemaining = SMALL_RECORDS_BYTE_SIZE;
+                }
+                lastWriteNanos = now;
+
                 wrapAndWrite(src, byteCount);
             } finally {
                 writeLock.unlock();
@@ -419,6 +490,17 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
         }
     }
 
+    /**
+     * Encrypts {@code byteCount} bytes of {@code source} into records, then writes them to {@link #encryptedWriter}.
+     * Small records are used right after the handshake or after an idle period, then full records. All the bytes are
+     * encrypted and written before returning, the last record may be partial: a buffered writer only calls this on
+     * {@code emit()} or {@code flush()}, or once it has buffered enough bytes, so they must reach the peer.
+     * <p>
+     * The bytes of separate calls are never coalesced into a shared record. Holding the last partial record back until
+     * the next call would make {@code emit()} send nothing, and a peer waiting for this request before replying would
+     * deadlock. To coalesce small writes, wrap this writer in a coalescing one, see
+     * {@link jayo.Jayo#buffer(RawWriter, long, java.time.Duration)}.
+     */
     private void wrapAndWrite(final @NonNull RealBuffer source, final long byteCount) {
         var remaining = byteCount;
         final var closed = new Wrapper.Boolean();
@@ -427,13 +509,18 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
                 throw new JayoClosedResourceException();
             }
 
-            writeToWriter(); // IO block
+            // Coalesce the socket writes of consecutive records, up to a limit.
+            if (encryptedWriter.buffer.byteSize >= MAX_PENDING_ENCRYPTED_BYTE_SIZE) {
+                writeToWriter(); // IO block
+            }
 
-            if (remaining == 0) {
+            if (remaining == 0L) {
+                writeToWriter(); // IO block
                 return;
             }
 
-            final var toRead = (int) Math.min(MAX_DATA_SIZE, remaining);
+            final var recordDataSize = (smallRecordsBytesRemaining > 0L) ? SMALL_DATA_SIZE : MAX_DATA_SIZE;
+            final var toRead = (int) Math.min(recordDataSize, remaining);
             final var read = source.withHeadsAsByteBuffers(toRead, sources -> {
                 final var result = wrap(sources);
                 if (result.getStatus() == Status.CLOSED) {
@@ -445,6 +532,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
                 closed.value = true;
             } else {
                 remaining -= read;
+                smallRecordsBytesRemaining = Math.max(0L, smallRecordsBytesRemaining - read);
             }
         }
     }
@@ -540,7 +628,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
                     writeToWriter(); // IO block
                 }
                 case NEED_UNWRAP -> {
-                    final var bytesRead = readAndUnwrap();
+                    final var bytesRead = readAndUnwrap(0L);
                     if (bytesRead > 0) {
                         return;
                     }
@@ -643,7 +731,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
         if (!shutdownReceived) {
             try {
                 // IO block
-                readAndUnwrap();
+                readAndUnwrap(0L);
             } catch (TlsEOFException e) {
                 throw new JayoClosedResourceException();
             }
@@ -673,13 +761,88 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
 
     private void handleTask() {
         final var task = engine.getDelegatedTask();
+        if (task == null) {
+            return;
+        }
+
+        if (delegatedTaskExecutor == null) {
+            if (LOGGER.isLoggable(TRACE)) {
+                LOGGER.log(TRACE,
+                        "Async task needed, running it in the current thread immediately. Task: {0}", task);
+            }
+            task.run();
+            return;
+        }
+
         if (LOGGER.isLoggable(TRACE)) {
-            LOGGER.log(TRACE,
-                    "Async task needed, running it in the current thread immediately. Task: {0}", task);
+            LOGGER.log(TRACE, "Async task needed, running it in the delegated task executor. Task: {0}", task);
+        }
+        final var futureTask = new FutureTask<Void>(task, null);
+        try {
+            delegatedTaskExecutor.execute(futureTask);
+        } catch (RejectedExecutionException e) {
+            // The executor is saturated, run the task in the current thread as a back pressure.
+            futureTask.run();
+        }
+        try {
+            awaitTask(futureTask);
+        } catch (InterruptedException e) {
+            abortTask(futureTask);
+            Thread.currentThread().interrupt(); // Retain interrupted status.
+            throw new JayoInterruptedIOException("current thread is interrupted");
+        } catch (TimeoutException e) {
+            abortTask(futureTask);
+            throw new JayoTimeoutException("timeout");
+        } catch (JayoInterruptedIOException e) {
+            // the cancel scope was cancelled, or its deadline was reached
+            abortTask(futureTask);
+            throw e;
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
         }
-        task.run();
-        // todo : should we provide a way to execute async task in an Executor or by throwing an Exception like in the
-        //  tls-channel library ? It would be useful for async NIO, but is there any use case for sync IO ?
+    }
+
+    /**
+     * Waits for the delegated task to complete, at most until the timeout or the deadline of the current cancel scope.
+     */
+    private static void awaitTask(final @NonNull FutureTask<Void> futureTask)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final var cancelToken = JavaVersionUtils.getCancelToken();
+        // No CancelToken, or it is finished, shielded, or there is no timeout and no deadline: wait forever.
+        if (cancelToken == null || cancelToken.finished || cancelToken.shielded ||
+                (cancelToken.deadlineNanoTime == 0L && cancelToken.timeoutNanos == 0L)) {
+            futureTask.get();
+            return;
+        }
+
+        cancelToken.throwIfReached();
+        final var remainingNanos = (cancelToken.deadlineNanoTime > 0L)
+                ? cancelToken.deadlineNanoTime - System.nanoTime()
+                : cancelToken.timeoutNanos;
+        try {
+            futureTask.get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancelToken.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * The handshake cannot go on without the result of the delegated task: cancel it, and close the engine and the
+     * encrypted socket instead of leaving the task running on a half-failed engine.
+     */
+    private void abortTask(final @NonNull FutureTask<Void> futureTask) {
+        futureTask.cancel(true);
+        invalid = true;
+        engine.closeOutbound();
+        encryptedSocket.cancel();
     }
 
     /**
@@ -706,6 +869,7 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
     public static sealed abstract class Builder<T extends TlsSocket.Builder<T, U>, U extends TlsSocket.Parameterizer>
             implements TlsSocket.Builder<T, U> permits RealClientTlsSocket.Builder, RealServerTlsSocket.Builder {
         protected boolean waitForCloseConfirmation = false;
+        protected @Nullable Executor delegatedTaskExecutor = null;
 
         protected abstract @NonNull T getThis();
 
@@ -715,6 +879,12 @@ public sealed abstract class AbstractTlsSocket implements TlsSocket permits Real
             return getThis();
         }
 
+        @Override
+        public final @NonNull T delegatedTaskExecutor(final @Nullable Executor delegatedTaskExecutor) {
+            this.delegatedTaskExecutor = delegatedTaskExecutor;
+            return getThis();
+        }
+
         @Override
         public abstract @NonNull T clone();
     }
@@ -8,6 +8,9 @@ package jayo.internal;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -17,72 +20,168 @@ import static jayo.internal.RealCancelToken.SHIELDED;
  * The cancellation context in the scope of a cancellable block.
  * <p>
  * It may be accessed concurrently by multiple asynchronous tasks inside a {@code StructuredTaskScope}, so we use a
- * {@link Lock} to ensure thread safety.
+ * {@link Lock} to ensure thread safety when the cancel token list is modified or walked.
+ * <p>
+ * The effective cancel token is looked up by every IO call, so the last computed one is cached in an immutable
+ * {@link Snapshot}, published through a volatile field. Adding a cancel token, and finishing, cancelling or shielding one
+ * of them increments the {@linkplain #version version} of this context, that invalidates the snapshot. The steady-state
+ * lookup is then lock-free and allocation-free.
  */
 final class CancellationContext {
     private final @NonNull Lock lock = new ReentrantLock();
     private @Nullable RealCancelToken head;
     private final long initialThreadId = JavaVersionUtils.threadId(Thread.currentThread());
 
+    @SuppressWarnings("FieldMayBeFinal")
+    private volatile long version = 0L;
+    private volatile @Nullable Snapshot snapshot = null;
+    /**
+     * True once a subtask was forked from one of the cancel tokens of this context.
+     */
+    volatile boolean forked = false;
+    // VarHandle mechanics
+    private static final @NonNull VarHandle VERSION_HANDLE;
+
+    static {
+        try {
+            VERSION_HANDLE = MethodHandles.lookup()
+                    .findVarHandle(CancellationContext.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The effective cancel token of a thread, that is valid as long as the version of this context did not change. A
+     * merged cancel token does not belong to this context, so its cancelled status and its timeout, that may be changed
+     * by its users, are also recorded: a merged cancel token is a fresh copy each time one of them changed.
+     */
+    private record Snapshot(long threadId,
+                            long version,
+                            @Nullable RealCancelToken cancelToken,
+                            boolean cancelled,
+                            long timeoutNanos) {
+        private boolean isValid(final long threadId, final long version) {
+            return this.threadId == threadId && this.version == version &&
+                    (cancelToken == null ||
+                            (cancelToken.cancelled == cancelled && cancelToken.timeoutNanos == timeoutNanos));
+        }
+    }
+
     public CancellationContext(final @NonNull RealCancelToken initialNode) {
         assert initialNode != null;
         this.head = initialNode;
+        initialNode.context = this;
     }
 
     @Nullable
     RealCancelToken getCancelToken() {
+        final var threadId = JavaVersionUtils.threadId(Thread.currentThread());
+        final var currentSnapshot = snapshot;
+        if (currentSnapshot != null && currentSnapshot.isValid(threadId, version)) {
+            return currentSnapshot.cancelToken;
+        }
+
+        lock.lock();
+        try {
+            // read the version before walking the cancel tokens, a concurrent change makes this new snapshot stale
+            final var currentVersion = version;
+            final var cancelToken = computeCancelToken(threadId);
+            snapshot = (cancelToken != null)
+                    ? new Snapshot(threadId, currentVersion, cancelToken, cancelToken.cancelled, cancelToken.timeoutNanos)
+                    : new Snapshot(threadId, currentVersion, null, false, 0L);
+            return cancelToken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates the cached snapshot, must be called after each change of the cancel tokens of this context.
+     */
+    void invalidate() {
+        VERSION_HANDLE.getAndAdd(this, 1L);
+    }
+
+    /**
+     * Cancels the subtasks forked from {@code cancelToken}, and from all the cancel tokens nested in it by its thread.
+     */
+    void cancelForks(final @NonNull RealCancelToken cancelToken) {
+        assert cancelToken != null;
+
+        if (!forked) {
+            return;
+        }
+
+        final var nestedTokens = new ArrayList<RealCancelToken>();
         lock.lock();
         try {
+            // the cancel tokens are ordered from the most recent one
             var current = head;
-            if (current == null) {
-                return null;
+            while (current != null && current != cancelToken) {
+                if (current.threadId == cancelToken.threadId) {
+                    nestedTokens.add(current);
+                }
+                current = current.next;
             }
+        } finally {
+            lock.unlock();
+        }
+
+        // subtasks are cancelled outside the lock, it recursively cancels their own subtasks
+        cancelToken.cancelForks();
+        for (final var nestedToken : nestedTokens) {
+            nestedToken.cancelForks();
+        }
+    }
 
-            final var threadId = JavaVersionUtils.threadId(Thread.currentThread());
-            RealCancelToken result = null;
-            RealCancelToken previous = null;
-            while (current != null) {
-                final var next = current.next;
-                if (current.threadId != threadId && current.threadId != initialThreadId) {
-                    // the current cancel token was not added by the current thread or the initial thread, skip it
-                } else if (current.finished) {
-                    // a finished cancel token does not apply anymore, we remove it from the queue
-                    if (previous == null) {
-                        head = next;
-                    } else {
-                        previous.next = next;
-                    }
-                    current.next = null;
-
-                } else if (current.shielded) {
-                    // a shielded cancel token prevents from applying itself and oldest ones
-                    if (result == null) {
-                        result = SHIELDED;
-                    }
-                    break;
-
-                } else if (result == null) {
-                    // the first cancel token applies
-                    result = current;
+    private @Nullable RealCancelToken computeCancelToken(final long threadId) {
+        var current = head;
+        if (current == null) {
+            return null;
+        }
 
+        RealCancelToken result = null;
+        RealCancelToken previous = null;
+        while (current != null) {
+            final var next = current.next;
+            if (current.threadId != threadId && current.threadId != initialThreadId) {
+                // the current cancel token was not added by the current thread or the initial thread, skip it
+            } else if (current.finished) {
+                // a finished cancel token does not apply anymore, we remove it from the queue
+                if (previous == null) {
+                    head = next;
                 } else {
-                    // several cancel tokens apply, we merge them
-                    result = intersect(result, current);
+                    previous.next = next;
                 }
+                current.next = null;
 
-                if (result != null && result.cancelled) {
-                    // manual cancellation requested
-                    break;
+            } else if (current.shielded) {
+                // a shielded cancel token prevents from applying itself and oldest ones
+                if (result == null) {
+                    result = SHIELDED;
                 }
+                break;
+
+            } else if (result == null) {
+                // the first cancel token applies
+                result = current;
 
-                previous = current;
-                current = next;
+            } else {
+                // several cancel tokens apply, we merge them
+                result = intersect(result, current);
             }
 
-            return result;
-        } finally {
-            lock.unlock();
+            if (result != null && result.cancelled) {
+                // manual cancellation requested
+                break;
+            }
+
+            previous = current;
+            current = next;
         }
+
+        return result;
     }
 
     void addCancelToken(final @NonNull RealCancelToken cancelToken) {
@@ -92,7 +191,9 @@ final class CancellationContext {
         try {
             // always add first
             cancelToken.next = head;
+            cancelToken.context = this;
             head = cancelToken;
+            invalidate();
         } finally {
             lock.unlock();
         }
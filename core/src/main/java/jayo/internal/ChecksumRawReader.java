@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.BlockChecksumListener;
+import jayo.Buffer;
+import jayo.RawReader;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+/**
+ * A raw reader that updates a {@link Checksum} with all the bytes read from the underlying {@link #reader}, straight
+ * from the segments of the destination buffer.
+ * <p>
+ * If a {@link #listener} is present, the checksum is computed per block of {@link #blockByteSize} bytes: a read never
+ * spans two blocks, when the last byte of a block is read the listener receives the checksum of this block, and the
+ * checksum is reset for the next block.
+ */
+public final class ChecksumRawReader implements RawReader {
+    private final @NonNull RawReader reader;
+    private final @NonNull Checksum checksum;
+    private final long blockByteSize;
+    private final @Nullable BlockChecksumListener listener;
+
+    private long blockIndex = 0L;
+    private long blockRemaining;
+    private boolean exhausted = false;
+
+    public ChecksumRawReader(final @NonNull RawReader reader,
+                             final @NonNull Checksum checksum,
+                             final long blockByteSize,
+                             final @Nullable BlockChecksumListener listener) {
+        assert reader != null;
+        assert checksum != null;
+        if (blockByteSize < 1L) {
+            throw new IllegalArgumentException("blockByteSize < 1: " + blockByteSize);
+        }
+
+        this.reader = reader;
+        this.checksum = checksum;
+        this.blockByteSize = blockByteSize;
+        this.listener = listener;
+        this.blockRemaining = blockByteSize;
+    }
+
+    @Override
+    public long readAtMostTo(final @NonNull Buffer destination, final long byteCount) {
+        Objects.requireNonNull(destination);
+        if (byteCount < 0L) {
+            throw new IllegalArgumentException("byteCount < 0: " + byteCount);
+        }
+
+        if (byteCount == 0L) {
+            return 0L;
+        }
+        if (exhausted) {
+            return -1L;
+        }
+
+        final var dst = (RealBuffer) destination;
+        final var offset = dst.byteSize;
+        final var toRead = (listener != null) ? Math.min(byteCount, blockRemaining) : byteCount;
+        final var read = reader.readAtMostTo(dst, toRead);
+        if (read == -1L) {
+            exhausted = true;
+            if (listener != null && blockRemaining < blockByteSize) {
+                endBlock(blockByteSize - blockRemaining);
+            }
+            return -1L;
+        }
+
+        Utils.updateChecksum(checksum, dst, offset, read);
+        if (listener != null) {
+            blockRemaining -= read;
+            if (blockRemaining == 0L) {
+                endBlock(blockByteSize);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public void close() {
+        reader.close();
+    }
+
+    private void endBlock(final long byteCount) {
+        assert listener != null;
+        final var value = checksum.getValue();
+        checksum.reset();
+        blockRemaining = blockByteSize;
+        listener.onBlock(blockIndex++, byteCount, value);
+    }
+
+    @Override
+    public String toString() {
+        return "ChecksumRawReader(" + reader + ")";
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.BlockChecksumListener;
+import jayo.Buffer;
+import jayo.RawWriter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+import static jayo.tools.JayoUtils.checkOffsetAndCount;
+
+/**
+ * A raw writer that updates a {@link Checksum} with all the bytes written to it, straight from the segments of the
+ * source buffer, before writing them to the underlying {@link #writer}.
+ * <p>
+ * If a {@link #listener} is present, the checksum is computed per block of {@link #blockByteSize} bytes: written bytes
+ * are forwarded up to the end of the current block, then the listener receives the checksum of this block, and the
+ * checksum is reset for the next block.
+ */
+public final class ChecksumRawWriter implements RawWriter {
+    private final @NonNull RawWriter writer;
+    private final @NonNull Checksum checksum;
+    private final long blockByteSize;
+    private final @Nullable BlockChecksumListener listener;
+
+    private long blockIndex = 0L;
+    private long blockRemaining;
+    private boolean closed = false;
+
+    public ChecksumRawWriter(final @NonNull RawWriter writer,
+                             final @NonNull Checksum checksum,
+                             final long blockByteSize,
+                             final @Nullable BlockChecksumListener listener) {
+        assert writer != null;
+        assert checksum != null;
+        if (blockByteSize < 1L) {
+            throw new IllegalArgumentException("blockByteSize < 1: " + blockByteSize);
+        }
+
+        this.writer = writer;
+        this.checksum = checksum;
+        this.blockByteSize = blockByteSize;
+        this.listener = listener;
+        this.blockRemaining = blockByteSize;
+    }
+
+    @Override
+    public void writeFrom(final @NonNull Buffer source, final long byteCount) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.bytesAvailable(), 0, byteCount);
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        final var src = (RealBuffer) source;
+        if (listener == null) {
+            Utils.updateChecksum(checksum, src, 0L, byteCount);
+            writer.writeFrom(src, byteCount);
+            return;
+        }
+
+        var remaining = byteCount;
+        while (remaining > 0L) {
+            final var toWrite = Math.min(remaining, blockRemaining);
+            Utils.updateChecksum(checksum, src, 0L, toWrite);
+            writer.writeFrom(src, toWrite);
+            remaining -= toWrite;
+            blockRemaining -= toWrite;
+            if (blockRemaining == 0L) {
+                endBlock(blockByteSize);
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        // Report the last block. If this fails, we still need to close the writer; otherwise, we risk leaking
+        // resources.
+        Throwable thrown = null;
+        if (listener != null && blockRemaining < blockByteSize) {
+            try {
+                endBlock(blockByteSize - blockRemaining);
+            } catch (Throwable e) {
+                thrown = e;
+            }
+        }
+
+        try {
+            writer.close();
+        } catch (Throwable e) {
+            if (thrown == null) {
+                thrown = e;
+            }
+        }
+
+        if (thrown != null) {
+            if (thrown instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw (Error) thrown;
+        }
+    }
+
+    private void endBlock(final long byteCount) {
+        assert listener != null;
+        final var value = checksum.getValue();
+        checksum.reset();
+        blockRemaining = blockByteSize;
+        listener.onBlock(blockIndex++, byteCount, value);
+    }
+
+    @Override
+    public String toString() {
+        return "ChecksumRawWriter(" + writer + ")";
+    }
+}
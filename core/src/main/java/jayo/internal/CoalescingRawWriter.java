@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.Buffer;
+import jayo.RawWriter;
+import jayo.tools.AsyncTimeout;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A raw writer that coalesces the bytes written to it, also known as "auto-cork". Written bytes are held until
+ * {@link #maxByteSize} bytes are held, or until {@link #maxDelayNanos} elapsed since the first held byte was written,
+ * then all the held bytes are written to the underlying {@link #writer} at once. {@link #flush()} writes the held bytes
+ * immediately.
+ * <p>
+ * Deadlines are scheduled on the {@link RealAsyncTimeout} watchdog thread, that must never block, so the delayed
+ * writes are executed by {@link #FLUSHER} threads. A delayed write obeys the cancellation, the timeout and the deadline
+ * of the cancel scope the first held byte was written in, if any.
+ */
+public final class CoalescingRawWriter implements RawWriter {
+    private static final @NonNull ExecutorService FLUSHER =
+            JavaVersionUtils.executorService("JayoCoalescingWriterFlusher#");
+
+    private final @NonNull RawWriter writer;
+    private final long maxByteSize;
+    private final long maxDelayNanos;
+
+    private final @NonNull RealBuffer held = new RealBuffer();
+    private final @NonNull RealAsyncTimeout asyncTimeout = new RealAsyncTimeout(() -> FLUSHER.execute(this::onDeadline));
+    private final @NonNull Lock lock = new ReentrantLock();
+
+    /**
+     * The scheduled deadline of the held bytes, or null if no bytes are held.
+     */
+    private AsyncTimeout.@Nullable Node deadline = null;
+    /**
+     * The cancel token of the writer of the first held byte, or null if there is none.
+     */
+    private @Nullable RealCancelToken heldCancelToken = null;
+    /**
+     * An exception thrown by a delayed write, it is rethrown to the caller on the next operation.
+     */
+    private @Nullable RuntimeException deferredException = null;
+    private boolean closed = false;
+
+    public CoalescingRawWriter(final @NonNull RawWriter writer, final long maxByteSize, final long maxDelayNanos) {
+        assert writer != null;
+        if (maxByteSize < 1L) {
+            throw new IllegalArgumentException("maxByteSize < 1: " + maxByteSize);
+        }
+        if (maxDelayNanos < 1L) {
+            throw new IllegalArgumentException("maxDelay must be positive: " + maxDelayNanos + " ns");
+        }
+
+        this.writer = writer;
+        this.maxByteSize = maxByteSize;
+        this.maxDelayNanos = maxDelayNanos;
+    }
+
+    @Override
+    public void writeFrom(final @NonNull Buffer source, final long byteCount) {
+        Objects.requireNonNull(source);
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("closed");
+            }
+            throwDeferredException();
+
+            held.writeFrom(source, byteCount);
+            if (held.byteSize >= maxByteSize) {
+                writeHeld();
+            } else if (deadline == null && held.byteSize > 0L) {
+                deadline = asyncTimeout.schedule(maxDelayNanos);
+                heldCancelToken = JavaVersionUtils.getCancelToken();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("closed");
+            }
+            throwDeferredException();
+
+            writeHeld();
+            writer.flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            // Write held bytes to the underlying writer. If this fails, we still need to close the writer; otherwise we
+            // risk leaking resources.
+            Throwable thrown = deferredException;
+            try {
+                writeHeld();
+            } catch (Throwable e) {
+                if (thrown == null) {
+                    thrown = e;
+                }
+            }
+
+            try {
+                writer.close();
+            } catch (Throwable e) {
+                if (thrown == null) {
+                    thrown = e;
+                }
+            }
+
+            if (thrown != null) {
+                if (thrown instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw (Error) thrown;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "coalescing(" + writer + ")";
+    }
+
+    /**
+     * Writes all the held bytes, this must be called while holding the {@link #lock}.
+     */
+    private void writeHeld() {
+        if (deadline != null) {
+            deadline.exit();
+            deadline = null;
+        }
+        heldCancelToken = null;
+        if (held.byteSize > 0L) {
+            writer.writeFrom(held, held.byteSize);
+        }
+    }
+
+    private void throwDeferredException() {
+        final var e = deferredException;
+        if (e != null) {
+            deferredException = null;
+            throw e;
+        }
+    }
+
+    private void onDeadline() {
+        lock.lock();
+        try {
+            // The held bytes may already have been written, by a flush or because the size threshold was reached.
+            if (closed || deferredException != null) {
+                return;
+            }
+            final var cancelToken = heldCancelToken;
+            if (cancelToken == null || cancelToken.shielded) {
+                writeHeld();
+                return;
+            }
+            // the cancel token belongs to the flusher thread
+            final var flusherCancelToken = new RealCancelToken(cancelToken.timeoutNanos, cancelToken.deadlineNanoTime,
+                    cancelToken.cancelled, JavaVersionUtils.threadId(Thread.currentThread()));
+            JavaVersionUtils.runCancellable(flusherCancelToken, ignored -> writeHeld());
+        } catch (RuntimeException e) {
+            deferredException = e;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -59,6 +59,9 @@ public final class DeflaterRawWriter implements RawWriter {
     public void writeFrom(final @NonNull Buffer source, final long byteCount) {
         Objects.requireNonNull(source);
         checkOffsetAndCount(source.bytesAvailable(), 0, byteCount);
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
 
         final var src = (RealBuffer) source;
         var remaining = byteCount;
@@ -122,6 +125,9 @@ public final class DeflaterRawWriter implements RawWriter {
 
     @Override
     public void flush() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
         deflate(true);
         writer.flush();
     }
@@ -147,7 +153,7 @@ public final class DeflaterRawWriter implements RawWriter {
         }
 
         try {
-            deflater.end();
+            ZlibPool.release(deflater);
         } catch (Throwable e) {
             if (thrown == null) {
                 thrown = e;
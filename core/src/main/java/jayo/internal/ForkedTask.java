@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A subtask forked from a cancel scope, see {@link RealCancelToken#fork(Callable)}. It runs in its own thread, inside a
+ * cancellable block whose cancel token inherits the deadline, the timeout and the cancelled status of the forking
+ * thread.
+ */
+final class ForkedTask<T> extends FutureTask<T> {
+    private static final @NonNull ThreadFactory THREAD_FACTORY = JavaVersionUtils.threadFactory("JayoFork#");
+
+    private final @NonNull RealCancelToken parent;
+    final @NonNull Thread thread;
+    final @NonNull RealCancelToken cancelToken;
+    private final @NonNull CountDownLatch terminated = new CountDownLatch(1);
+
+    ForkedTask(final @NonNull RealCancelToken parent,
+               final @NonNull Callable<T> task,
+               final long timeoutNanos,
+               final long deadlineNanoTime,
+               final boolean cancelled) {
+        super(task);
+        assert parent != null;
+
+        this.parent = parent;
+        thread = THREAD_FACTORY.newThread(this);
+        // the cancel token belongs to the forked thread
+        cancelToken = new RealCancelToken(timeoutNanos, deadlineNanoTime, cancelled,
+                JavaVersionUtils.threadId(thread));
+    }
+
+    @Override
+    public void run() {
+        try {
+            JavaVersionUtils.runCancellable(cancelToken, ignored -> super.run());
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * A failed subtask cancels its own subtasks, and all its siblings.
+     */
+    @Override
+    protected void setException(final @NonNull Throwable t) {
+        super.setException(t);
+        cancelToken.cancel();
+        parent.cancelForks();
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        cancelToken.cancel();
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    /**
+     * Waits for this subtask to terminate. Unlike {@link Thread#join()}, it also waits for a thread that is queued but
+     * not started yet.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    void join() throws InterruptedException {
+        terminated.await();
+    }
+}
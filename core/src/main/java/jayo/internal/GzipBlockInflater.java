@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.JayoEOFException;
+import jayo.JayoException;
+import jayo.RawReader;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A pure-Java decoder of the <a href="http://www.ietf.org/rfc/rfc1952.txt">GZIP</a> members of a stream, and of their
+ * <a href="https://www.ietf.org/rfc/rfc1951.txt">DEFLATE</a> bodies.
+ * <p>
+ * Unlike {@link java.util.zip.Inflater}, this decoder knows where each deflate block starts, at the bit level, and it can
+ * resume decoding from any block boundary given the 32 KiB of uncompressed bytes that precede it. This is what
+ * {@link RealGzipIndex} needs to build access points into a gzip stream and to restore them.
+ * <p>
+ * Decoded bytes are written in {@link #history}, that always retains the last {@link #WINDOW_SIZE} decoded bytes for
+ * the back-references of the following blocks.
+ */
+final class GzipBlockInflater {
+    /**
+     * Called at each deflate block boundary, before the block header is read.
+     */
+    interface BlockBoundaryListener {
+        /**
+         * @param uncompressedOffset the count of uncompressed bytes that precede this block.
+         * @param bitOffset          the count of compressed bits that precede this block.
+         * @param history            the decoded bytes, the last 32 KiB of them are the window of this block.
+         * @param historyEnd         the end of the decoded bytes in {@code history}.
+         */
+        void onBlockBoundary(long uncompressedOffset, long bitOffset, byte @NonNull [] history, int historyEnd);
+    }
+
+    static final int WINDOW_SIZE = 32 * 1024;
+    private static final int MAX_MATCH = 258;
+    private static final int HISTORY_SIZE = WINDOW_SIZE + 128 * 1024;
+    private static final int HISTORY_LIMIT = HISTORY_SIZE - MAX_MATCH;
+
+    private final @NonNull RawReader source;
+    private final @NonNull RealBuffer input = new RealBuffer();
+    private final @Nullable BlockBoundaryListener listener;
+    /**
+     * Whether the CRC32 and the size of each member are verified. They are not when decoding resumes from a block
+     * boundary.
+     */
+    private final boolean verify;
+
+    private final byte @NonNull [] history = new byte[HISTORY_SIZE];
+    private int historyEnd = 0;
+
+    private long bitBuffer = 0L;
+    private int bitCount = 0;
+    private long consumedByteCount = 0L;
+
+    private byte state;
+    private boolean finalBlock = false;
+    private int storedRemaining = 0;
+    private @Nullable Huffman literalLengths = null;
+    private @Nullable Huffman distances = null;
+
+    private long uncompressedOffset;
+    private final @NonNull CRC32 crc = new CRC32();
+    private long memberByteCount = 0L;
+    /**
+     * Whether the trailer of a member was read, the stream may then end with zero padding.
+     */
+    private boolean memberRead = false;
+
+    /**
+     * Decodes {@code source} from the beginning of a gzip stream.
+     */
+    GzipBlockInflater(final @NonNull RawReader source, final @Nullable BlockBoundaryListener listener) {
+        assert source != null;
+
+        this.source = source;
+        this.listener = listener;
+        this.verify = true;
+        this.uncompressedOffset = 0L;
+        this.state = STATE_HEADER;
+    }
+
+    /**
+     * Decodes {@code source} from a deflate block boundary. {@code source} must be positioned at the byte that contains
+     * the bit at {@code bitOffset}.
+     */
+    GzipBlockInflater(final @NonNull RawReader source,
+                      final long bitOffset,
+                      final long uncompressedOffset,
+                      final byte @NonNull [] window) {
+        assert source != null;
+        assert window != null;
+        assert window.length <= WINDOW_SIZE;
+
+        this.source = source;
+        this.listener = null;
+        this.verify = false;
+        this.uncompressedOffset = uncompressedOffset;
+        this.state = STATE_BLOCK_HEADER;
+
+        System.arraycopy(window, 0, history, 0, window.length);
+        historyEnd = window.length;
+        consumedByteCount = bitOffset >>> 3;
+        bits((int) (bitOffset & 7));
+    }
+
+    /**
+     * @return the count of uncompressed bytes decoded so far.
+     */
+    long uncompressedOffset() {
+        return uncompressedOffset;
+    }
+
+    /**
+     * @return the count of compressed bits decoded so far.
+     */
+    long bitOffset() {
+        return consumedByteCount * 8 - bitCount;
+    }
+
+    /**
+     * Decodes up to 128 KiB of uncompressed bytes and writes them to {@code destination}, if not null.
+     *
+     * @return the number of decoded bytes, or -1 if the gzip stream is exhausted.
+     */
+    long inflateTo(final @Nullable RealBuffer destination) {
+        if (state == STATE_DONE) {
+            return -1L;
+        }
+
+        if (historyEnd > HISTORY_LIMIT) {
+            // Keep the window for the back-references of the following bytes.
+            System.arraycopy(history, historyEnd - WINDOW_SIZE, history, 0, WINDOW_SIZE);
+            historyEnd = WINDOW_SIZE;
+        }
+        final var start = historyEnd;
+
+        loop:
+        while (historyEnd <= HISTORY_LIMIT) {
+            switch (state) {
+                case STATE_HEADER -> {
+                    if (exhausted() || (memberRead && skipPadding())) {
+                        state = STATE_DONE;
+                        return -1L;
+                    }
+                    readHeader();
+                    state = STATE_BLOCK_HEADER;
+                }
+                case STATE_BLOCK_HEADER -> {
+                    if (listener != null) {
+                        listener.onBlockBoundary(uncompressedOffset + historyEnd - start, bitOffset(), history,
+                                historyEnd);
+                    }
+                    readBlockHeader();
+                }
+                case STATE_STORED -> {
+                    copyStored();
+                    if (storedRemaining == 0) {
+                        state = finalBlock ? STATE_TRAILER : STATE_BLOCK_HEADER;
+                    }
+                }
+                case STATE_HUFFMAN -> {
+                    if (inflateHuffman()) {
+                        state = finalBlock ? STATE_TRAILER : STATE_BLOCK_HEADER;
+                    }
+                }
+                case STATE_TRAILER -> {
+                    if (historyEnd > start) {
+                        // Emit the last bytes of this member first, they are part of its CRC32.
+                        break loop;
+                    }
+                    readTrailer();
+                    state = STATE_HEADER;
+                }
+                default -> throw new IllegalStateException("Unexpected state: " + state);
+            }
+        }
+
+        final var byteCount = historyEnd - start;
+        if (destination != null) {
+            destination.write(history, start, byteCount);
+        }
+        if (verify) {
+            crc.update(history, start, byteCount);
+        }
+        memberByteCount += byteCount;
+        uncompressedOffset += byteCount;
+        return byteCount;
+    }
+
+    void close() {
+        input.clear();
+        source.close();
+    }
+
+    private void readHeader() {
+        // +---+---+---+---+---+---+---+---+---+---+
+        // |ID1|ID2|CM |FLG|     MTIME     |XFL|OS | (more-->)
+        // +---+---+---+---+---+---+---+---+---+---+
+        final var id1id2 = (bits(8) << 8) | bits(8);
+        if (id1id2 != 0x1f8b) {
+            throw new JayoException("ID1ID2: actual 0x" + Utils.toHexString(id1id2) + " != expected 0x1f8b");
+        }
+        final var compressionMethod = bits(8);
+        if (compressionMethod != 8) {
+            throw new JayoException("unsupported gzip compression method: " + compressionMethod);
+        }
+        final var flags = bits(8);
+        skipBytes(6);
+
+        if ((flags & (1 << FEXTRA)) != 0) {
+            skipBytes(bits(16));
+        }
+        if ((flags & (1 << FNAME)) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & (1 << FCOMMENT)) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & (1 << FHCRC)) != 0) {
+            skipBytes(2);
+        }
+    }
+
+    private void readTrailer() {
+        // +---+---+---+---+---+---+---+---+
+        // |     CRC32     |     ISIZE     |
+        // +---+---+---+---+---+---+---+---+
+        bits(bitCount & 7); // Skip to the next byte boundary.
+        final var expectedCrc = bits(16) | (bits(16) << 16);
+        final var expectedSize = bits(16) | (bits(16) << 16);
+        if (verify) {
+            if (expectedCrc != (int) crc.getValue()) {
+                throw new JayoException("CRC: actual 0x" + Utils.toHexString((int) crc.getValue()) +
+                        " != expected 0x" + Utils.toHexString(expectedCrc));
+            }
+            if (expectedSize != (int) memberByteCount) {
+                throw new JayoException("ISIZE: actual 0x" + Utils.toHexString((int) memberByteCount) +
+                        " != expected 0x" + Utils.toHexString(expectedSize));
+            }
+        }
+        crc.reset();
+        memberByteCount = 0L;
+        memberRead = true;
+    }
+
+    /**
+     * Skips the zero bytes that pad the end of the stream after the last member, like {@code gzip -d} does. Tape
+     * archives and some block devices pad files this way.
+     *
+     * @return true if the stream ends with zero bytes, false if the next byte is not zero: a member header follows.
+     */
+    private boolean skipPadding() {
+        var padding = false;
+        while (!exhausted()) {
+            if (bitCount < 8) {
+                fillBits();
+            }
+            if ((bitBuffer & 0xff) != 0) {
+                if (padding) {
+                    throw new JayoException("trailing garbage after the zero padding of the gzip stream");
+                }
+                return false;
+            }
+            bits(8);
+            padding = true;
+        }
+        return true;
+    }
+
+    private void readBlockHeader() {
+        finalBlock = bits(1) == 1;
+        final var type = bits(2);
+        switch (type) {
+            case 0 -> {
+                bits(bitCount & 7); // Skip to the next byte boundary.
+                final var length = bits(16);
+                final var lengthComplement = bits(16);
+                if ((length ^ 0xffff) != lengthComplement) {
+                    throw new JayoException("invalid stored block lengths");
+                }
+                storedRemaining = length;
+                state = STATE_STORED;
+            }
+            case 1 -> {
+                literalLengths = FIXED_LITERAL_LENGTHS;
+                distances = FIXED_DISTANCES;
+                state = STATE_HUFFMAN;
+            }
+            case 2 -> {
+                readDynamicTables();
+                state = STATE_HUFFMAN;
+            }
+            default -> throw new JayoException("invalid block type");
+        }
+    }
+
+    private void readDynamicTables() {
+        final var literalLengthCount = bits(5) + 257;
+        final var distanceCount = bits(5) + 1;
+        final var codeLengthCount = bits(4) + 4;
+        if (literalLengthCount > 286 || distanceCount > 30) {
+            throw new JayoException("too many length or distance symbols");
+        }
+
+        final var codeLengthLengths = new byte[19];
+        for (var i = 0; i < codeLengthCount; i++) {
+            codeLengthLengths[CODE_LENGTH_ORDER[i]] = (byte) bits(3);
+        }
+        final var codeLengths = Huffman.build(codeLengthLengths, 0, codeLengthLengths.length);
+
+        final var lengths = new byte[literalLengthCount + distanceCount];
+        var index = 0;
+        while (index < lengths.length) {
+            final var symbol = decode(codeLengths);
+            if (symbol < 16) {
+                lengths[index++] = (byte) symbol;
+                continue;
+            }
+
+            final byte length;
+            final int repeat;
+            if (symbol == 16) {
+                if (index == 0) {
+                    throw new JayoException("invalid bit length repeat");
+                }
+                length = lengths[index - 1];
+                repeat = 3 + bits(2);
+            } else if (symbol == 17) {
+                length = 0;
+                repeat = 3 + bits(3);
+            } else {
+                length = 0;
+                repeat = 11 + bits(7);
+            }
+            if (index + repeat > lengths.length) {
+                throw new JayoException("invalid bit length repeat");
+            }
+            for (var i = 0; i < repeat; i++) {
+                lengths[index++] = length;
+            }
+        }
+
+        if (lengths[256] == 0) {
+            throw new JayoException("invalid code -- missing end-of-block");
+        }
+        literalLengths = Huffman.build(lengths, 0, literalLengthCount);
+        distances = Huffman.build(lengths, literalLengthCount, distanceCount);
+    }
+
+    /**
+     * Decodes the current Huffman block until its end, or until {@link #history} is full.
+     *
+     * @return true if the end of the block was reached.
+     */
+    private boolean inflateHuffman() {
+        final var literalLengths = this.literalLengths;
+        final var distances = this.distances;
+        assert literalLengths != null;
+        assert distances != null;
+
+        final var history = this.history;
+        var end = historyEnd;
+        try {
+            while (end <= HISTORY_LIMIT) {
+                var symbol = decode(literalLengths);
+                if (symbol < 256) {
+                    history[end++] = (byte) symbol;
+                    continue;
+                }
+                if (symbol == 256) {
+                    return true;
+                }
+
+                symbol -= 257;
+                if (symbol >= LENGTH_BASE.length) {
+                    throw new JayoException("invalid literal/length code");
+                }
+                final var length = LENGTH_BASE[symbol] + bits(LENGTH_EXTRA[symbol]);
+
+                final var distanceSymbol = decode(distances);
+                if (distanceSymbol >= DISTANCE_BASE.length) {
+                    throw new JayoException("invalid distance code");
+                }
+                final var distance = DISTANCE_BASE[distanceSymbol] + bits(DISTANCE_EXTRA[distanceSymbol]);
+                if (distance > end) {
+                    throw new JayoException("invalid distance too far back");
+                }
+
+                if (distance >= length) {
+                    System.arraycopy(history, end - distance, history, end, length);
+                    end += length;
+                } else {
+                    // Overlapping copy, each copied byte may be a byte copied by this same match.
+                    for (var i = 0; i < length; i++, end++) {
+                        history[end] = history[end - distance];
+                    }
+                }
+            }
+            return false;
+        } finally {
+            historyEnd = end;
+        }
+    }
+
+    /**
+     * Copies the bytes of the current stored block until its end, or until {@link #history} is full.
+     */
+    private void copyStored() {
+        while (storedRemaining > 0 && historyEnd <= HISTORY_LIMIT) {
+            // Bytes already in the bit buffer come first, it only contains whole bytes in a stored block.
+            if (bitCount >= 8) {
+                history[historyEnd++] = (byte) bits(8);
+                storedRemaining--;
+                continue;
+            }
+
+            final var head = input.head;
+            if (head == null) {
+                if (!refillInput()) {
+                    throw new JayoEOFException();
+                }
+                continue;
+            }
+            final var toCopy = Math.min(Math.min(storedRemaining, head.limit - head.pos), HISTORY_SIZE - historyEnd);
+            System.arraycopy(head.data, head.pos, history, historyEnd, toCopy);
+            historyEnd += toCopy;
+            storedRemaining -= toCopy;
+            consumed(head, toCopy);
+        }
+    }
+
+    private int decode(final @NonNull Huffman huffman) {
+        if (bitCount < huffman.maxLength) {
+            fillBits();
+        }
+        final var entry = huffman.table[(int) bitBuffer & ((1 << huffman.maxLength) - 1)];
+        final var length = entry & 0xf;
+        if (length == 0) {
+            throw new JayoException("invalid Huffman code");
+        }
+        if (length > bitCount) {
+            throw new JayoEOFException();
+        }
+        bitBuffer >>>= length;
+        bitCount -= length;
+        return entry >>> 4;
+    }
+
+    /**
+     * @return the next {@code n} bits, {@code n} must not be greater than 16.
+     */
+    private int bits(final int n) {
+        if (bitCount < n) {
+            fillBits();
+            if (bitCount < n) {
+                throw new JayoEOFException();
+            }
+        }
+        final var result = (int) bitBuffer & ((1 << n) - 1);
+        bitBuffer >>>= n;
+        bitCount -= n;
+        return result;
+    }
+
+    private void skipZeroTerminated() {
+        var b = bits(8);
+        while (b != 0) {
+            b = bits(8);
+        }
+    }
+
+    private void skipBytes(int byteCount) {
+        while (byteCount-- > 0) {
+            bits(8);
+        }
+    }
+
+    /**
+     * Moves as many input bytes as possible to the bit buffer.
+     */
+    private void fillBits() {
+        while (bitCount <= 56) {
+            var head = input.head;
+            if (head == null) {
+                if (!refillInput()) {
+                    return;
+                }
+                head = input.head;
+                assert head != null;
+            }
+
+            final var data = head.data;
+            final var limit = head.limit;
+            var pos = head.pos;
+            while (bitCount <= 56 && pos < limit) {
+                bitBuffer |= (data[pos++] & 0xffL) << bitCount;
+                bitCount += 8;
+            }
+            consumed(head, pos - head.pos);
+        }
+    }
+
+    private void consumed(final @NonNull Segment head, final int byteCount) {
+        head.pos += byteCount;
+        input.byteSize -= byteCount;
+        consumedByteCount += byteCount;
+        if (head.pos == head.limit) {
+            input.head = head.pop();
+            SegmentPool.recycle(head);
+        }
+    }
+
+    private boolean refillInput() {
+        return source.readAtMostTo(input, RealReader.DEFAULT_MAX_REFILL_SIZE) != -1L;
+    }
+
+    private boolean exhausted() {
+        return bitCount == 0 && input.byteSize == 0L && !refillInput();
+    }
+
+    /**
+     * A Huffman code, decoded by a lookup in a table indexed by the next {@link #maxLength} bits of the input. Each entry
+     * of the table is a symbol shifted by 4 bits, or-ed with the length of its code, or 0 for an invalid code.
+     */
+    private static final class Huffman {
+        private final int @NonNull [] table;
+        private final int maxLength;
+
+        private Huffman(final int @NonNull [] table, final int maxLength) {
+            this.table = table;
+            this.maxLength = maxLength;
+        }
+
+        private static @NonNull Huffman build(final byte @NonNull [] lengths, final int offset, final int count) {
+            final var lengthCounts = new int[16];
+            var maxLength = 0;
+            for (var symbol = 0; symbol < count; symbol++) {
+                final var length = lengths[offset + symbol];
+                lengthCounts[length]++;
+                maxLength = Math.max(maxLength, length);
+            }
+            if (maxLength == 0) {
+                // No code at all, as a distance code of a block that only contains literals.
+                return new Huffman(new int[2], 1);
+            }
+
+            var left = 1;
+            for (var length = 1; length <= 15; length++) {
+                left = (left << 1) - lengthCounts[length];
+                if (left < 0) {
+                    throw new JayoException("invalid Huffman code -- over-subscribed");
+                }
+            }
+
+            // Canonical code of the first symbol of each length.
+            final var nextCodes = new int[16];
+            var code = 0;
+            lengthCounts[0] = 0;
+            for (var length = 1; length <= 15; length++) {
+                code = (code + lengthCounts[length - 1]) << 1;
+                nextCodes[length] = code;
+            }
+
+            final var table = new int[1 << maxLength];
+            for (var symbol = 0; symbol < count; symbol++) {
+                final int length = lengths[offset + symbol];
+                if (length == 0) {
+                    continue;
+                }
+                // Codes are packed starting with their most significant bit, the table is indexed by reversed codes.
+                final var reversed = Integer.reverse(nextCodes[length]++) >>> (32 - length);
+                final var entry = (symbol << 4) | length;
+                for (var i = reversed; i < table.length; i += 1 << length) {
+                    table[i] = entry;
+                }
+            }
+            return new Huffman(table, maxLength);
+        }
+    }
+
+    private static final @NonNull Huffman FIXED_LITERAL_LENGTHS;
+    private static final @NonNull Huffman FIXED_DISTANCES;
+
+    static {
+        final var literalLengths = new byte[288];
+        for (var symbol = 0; symbol < 288; symbol++) {
+            literalLengths[symbol] = (byte) ((symbol < 144) ? 8 : (symbol < 256) ? 9 : (symbol < 280) ? 7 : 8);
+        }
+        FIXED_LITERAL_LENGTHS = Huffman.build(literalLengths, 0, literalLengths.length);
+
+        final var distances = new byte[30];
+        Arrays.fill(distances, (byte) 5);
+        FIXED_DISTANCES = Huffman.build(distances, 0, distances.length);
+    }
+
+    private static final byte @NonNull [] CODE_LENGTH_ORDER =
+            {16, 17, 18, 0, 8, 7, 9, 6, 10, 5, 11, 4, 12, 3, 13, 2, 14, 1, 15};
+    private static final int @NonNull [] LENGTH_BASE = {3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15, 17, 19, 23, 27, 31, 35, 43,
+            51, 59, 67, 83, 99, 115, 131, 163, 195, 227, 258};
+    private static final int @NonNull [] LENGTH_EXTRA = {0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 4,
+            4, 4, 4, 5, 5, 5, 5, 0};
+    private static final int @NonNull [] DISTANCE_BASE = {1, 2, 3, 4, 5, 7, 9, 13, 17, 25, 33, 49, 65, 97, 129, 193,
+            257, 385, 513, 769, 1025, 1537, 2049, 3073, 4097, 6145, 8193, 12289, 16385, 24577};
+    private static final int @NonNull [] DISTANCE_EXTRA = {0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8,
+            9, 9, 10, 10, 11, 11, 12, 12, 13, 13};
+
+    private static final int FHCRC = 1;
+    private static final int FEXTRA = 2;
+    private static final int FNAME = 3;
+    private static final int FCOMMENT = 4;
+
+    private static final byte STATE_HEADER = 0;
+    private static final byte STATE_BLOCK_HEADER = 1;
+    private static final byte STATE_STORED = 2;
+    private static final byte STATE_HUFFMAN = 3;
+    private static final byte STATE_TRAILER = 4;
+    private static final byte STATE_DONE = 5;
+}
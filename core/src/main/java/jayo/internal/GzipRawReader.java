@@ -48,7 +48,7 @@ public final class GzipRawReader implements RawReader {
     /**
      * The inflater used to decompress the deflated body.
      */
-    private final @NonNull Inflater inflater = new Inflater(true);
+    private final @NonNull Inflater inflater = ZlibPool.inflater(true);
 
     /**
      * The inflater reader takes care of moving data between compressed reader and decompressed destination buffers.
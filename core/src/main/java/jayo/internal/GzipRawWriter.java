@@ -52,7 +52,7 @@ public final class GzipRawWriter implements RawWriter {
     /**
      * The deflater used to compress the body.
      */
-    private final @NonNull Deflater deflater = new Deflater(DEFAULT_COMPRESSION, true /* No wrap */);
+    private final @NonNull Deflater deflater;
 
     /**
      * The deflater writer takes care of moving data between decompressed source and compressed writer buffers.
@@ -67,7 +67,12 @@ public final class GzipRawWriter implements RawWriter {
     private final @NonNull CRC32 crc = new CRC32();
 
     public GzipRawWriter(final @NonNull RawWriter rawWriter) {
+        this(rawWriter, DEFAULT_COMPRESSION);
+    }
+
+    public GzipRawWriter(final @NonNull RawWriter rawWriter, final int level) {
         assert rawWriter != null;
+        this.deflater = ZlibPool.deflater(level, true /* No wrap */);
         this.writer = new RealWriter(rawWriter);
 
         // Write the Gzip header directly into the buffer for the sink to avoid handling JayoException.
@@ -88,6 +93,9 @@ public final class GzipRawWriter implements RawWriter {
         if (byteCount < 0) {
             throw new IllegalArgumentException("byteCount < 0: " + byteCount);
         }
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
 
         if (byteCount == 0L) {
             return;
@@ -117,6 +125,9 @@ public final class GzipRawWriter implements RawWriter {
 
     @Override
     public void flush() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
         deflaterWriter.flush();
     }
 
@@ -137,7 +148,7 @@ public final class GzipRawWriter implements RawWriter {
         }
 
         try {
-            deflater.end();
+            ZlibPool.release(deflater);
         } catch (Throwable e) {
             if (thrown == null) {
                 thrown = e;
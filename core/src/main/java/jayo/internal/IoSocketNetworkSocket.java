@@ -38,6 +38,8 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketOption;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.UnsupportedAddressTypeException;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
@@ -253,6 +255,7 @@ public final class IoSocketNetworkSocket extends AbstractNetworkSocket {
 
                 this.socket = socket;
             } catch (IOException e) {
+                closeQuietly(socket);
                 throw JayoException.buildJayoException(e);
             }
         }
@@ -270,6 +273,14 @@ public final class IoSocketNetworkSocket extends AbstractNetworkSocket {
             return connectPrivate(peerAddress, proxy);
         }
 
+        @Override
+        public @NonNull NetworkSocket connect(final @NonNull UnixDomainSocketAddress peerAddress) {
+            Objects.requireNonNull(peerAddress);
+            // an IO Socket only supports TCP, do not leak the socket opened by the constructor
+            closeQuietly(socket);
+            throw new UnsupportedAddressTypeException();
+        }
+
         private @NonNull NetworkSocket connectPrivate(final @NonNull InetSocketAddress peerAddress,
                                                       final Proxy.@Nullable Socks proxy) {
             assert peerAddress != null;
@@ -290,7 +301,11 @@ public final class IoSocketNetworkSocket extends AbstractNetworkSocket {
                 if (LOGGER.isLoggable(DEBUG)) {
                     LOGGER.log(DEBUG, "new client AbstractNetworkSocket failed to connect to " + resolvedPeerAddress, e);
                 }
+                closeQuietly(socket);
                 throw JayoException.buildJayoException(e);
+            } catch (RuntimeException | Error e) {
+                closeQuietly(socket);
+                throw e;
             }
         }
 
@@ -366,6 +381,13 @@ public final class IoSocketNetworkSocket extends AbstractNetworkSocket {
         }
     }
 
+    private static void closeQuietly(final @NonNull Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
     private static int getTimeoutAsMillis(final @NonNull Duration timeout) {
         assert timeout != null;
 
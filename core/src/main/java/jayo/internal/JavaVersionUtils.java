@@ -105,17 +105,17 @@ public final class JavaVersionUtils {
         if (cancellationContext != null) {
             cancellationContext.addCancelToken(cancelToken);
             try {
-                block.accept(cancelToken);
+                cancelToken.runBlock(block);
                 return;
             } finally {
-                cancelToken.finished = true;
+                cancelToken.finish();
             }
         }
 
         cancellationContext = new CancellationContext(cancelToken);
         CANCELLATION_CONTEXT.set(cancellationContext);
         try {
-            block.accept(cancelToken);
+            cancelToken.runBlock(block);
         } finally {
             CANCELLATION_CONTEXT.remove();
         }
@@ -130,16 +130,16 @@ public final class JavaVersionUtils {
         if (cancellationContext != null) {
             cancellationContext.addCancelToken(cancelToken);
             try {
-                return block.apply(cancelToken);
+                return cancelToken.callBlock(block);
             } finally {
-                cancelToken.finished = true;
+                cancelToken.finish();
             }
         }
 
         cancellationContext = new CancellationContext(cancelToken);
         CANCELLATION_CONTEXT.set(cancellationContext);
         try {
-            return block.apply(cancelToken);
+            return cancelToken.callBlock(block);
         } finally {
             CANCELLATION_CONTEXT.remove();
         }
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.JayoException;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Arrays;
+
+import static jayo.internal.Utils.*;
+
+/**
+ * A pure-Java codec of the <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Block_format.md">LZ4 block format</a>,
+ * and the <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 frame format</a> constants shared by
+ * {@link Lz4RawWriter} and {@link Lz4RawReader}.
+ * <p>
+ * The compressor is the fast LZ4 one: it matches 4-byte sequences against a hash table of their last position, with an
+ * accelerating search step in incompressible data. Bytes are loaded and compared 4 or 8 at a time with unaligned
+ * {@linkplain java.lang.invoke.VarHandle VarHandle} accesses.
+ */
+final class Lz4 {
+    // un-instantiable
+    private Lz4() {
+    }
+
+    static final int FRAME_MAGIC = 0x184d2204;
+    static final int SKIPPABLE_FRAME_MAGIC_MASK = 0xfffffff0;
+    static final int SKIPPABLE_FRAME_MAGIC = 0x184d2a50;
+    static final int UNCOMPRESSED_BLOCK_FLAG = 0x80000000;
+    /**
+     * The size of the history that the blocks of a frame may reference when they are not independent.
+     */
+    static final int MAX_DISTANCE = 64 * 1024 - 1;
+
+    static final int HASH_TABLE_SIZE = 1 << 12;
+    private static final int HASH_SHIFT = 32 - 12;
+    private static final int MIN_MATCH = 4;
+    /**
+     * The last 5 bytes of a block are always literals.
+     */
+    private static final int LAST_LITERALS = 5;
+    /**
+     * The last match must start at least 12 bytes before the end of a block.
+     */
+    private static final int MF_LIMIT = 12;
+    /**
+     * The search step increases by one every 2^6 unsuccessful attempts.
+     */
+    private static final int SKIP_TRIGGER = 6;
+
+    /**
+     * @return the maximum size of a compressed block of {@code byteCount} bytes.
+     */
+    static int maxCompressedLength(final int byteCount) {
+        return byteCount + byteCount / 255 + 16;
+    }
+
+    /**
+     * Compresses the {@code byteCount} first bytes of {@code source} to {@code destination} as one independent block.
+     * {@code destination} must be at least {@link #maxCompressedLength(int)} long.
+     *
+     * @return the compressed size.
+     */
+    static int compress(final byte @NonNull [] source,
+                        final int byteCount,
+                        final byte @NonNull [] destination,
+                        final int @NonNull [] hashTable) {
+        assert source != null;
+        assert destination != null;
+        assert hashTable != null;
+
+        var anchor = 0;
+        var op = 0;
+
+        if (byteCount > MF_LIMIT) {
+            Arrays.fill(hashTable, 0);
+            final var mfLimit = byteCount - MF_LIMIT;
+            final var matchLimit = byteCount - LAST_LITERALS;
+
+            var ip = 1;
+            var ref = 0;
+            hashTable[hash((int) INT_LE.get(source, 0))] = 0;
+
+            search:
+            while (true) {
+                // Find a match, the search step grows as we fail to find one.
+                var attempts = 1 << SKIP_TRIGGER;
+                while (true) {
+                    if (ip > mfLimit) {
+                        break search;
+                    }
+                    final var sequence = (int) INT_LE.get(source, ip);
+                    final var hash = hash(sequence);
+                    ref = hashTable[hash];
+                    hashTable[hash] = ip;
+                    if (ip - ref <= MAX_DISTANCE && (int) INT_LE.get(source, ref) == sequence) {
+                        break;
+                    }
+                    ip += attempts++ >>> SKIP_TRIGGER;
+                }
+
+                // Extend the match backward.
+                while (ip > anchor && ref > 0 && source[ip - 1] == source[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+
+                // Literals.
+                var tokenPos = op++;
+                final var literalLength = ip - anchor;
+                if (literalLength >= 15) {
+                    destination[tokenPos] = (byte) 0xf0;
+                    op = writeLength(destination, op, literalLength - 15);
+                } else {
+                    destination[tokenPos] = (byte) (literalLength << 4);
+                }
+                System.arraycopy(source, anchor, destination, op, literalLength);
+                op += literalLength;
+
+                // Matches, a match may be immediately followed by another one without literals.
+                while (true) {
+                    SHORT_LE.set(destination, op, (short) (ip - ref));
+                    op += 2;
+
+                    final var matchLength = count(source, ip + MIN_MATCH, ref + MIN_MATCH, matchLimit);
+                    ip += MIN_MATCH + matchLength;
+                    if (matchLength >= 15) {
+                        destination[tokenPos] |= 0x0f;
+                        op = writeLength(destination, op, matchLength - 15);
+                    } else {
+                        destination[tokenPos] |= (byte) matchLength;
+                    }
+                    anchor = ip;
+
+                    if (ip > mfLimit) {
+                        break search;
+                    }
+                    hashTable[hash((int) INT_LE.get(source, ip - 2))] = ip - 2;
+
+                    final var sequence = (int) INT_LE.get(source, ip);
+                    final var hash = hash(sequence);
+                    ref = hashTable[hash];
+                    hashTable[hash] = ip;
+                    if (ip - ref > MAX_DISTANCE || (int) INT_LE.get(source, ref) != sequence) {
+                        ip++;
+                        break;
+                    }
+                    tokenPos = op++;
+                    destination[tokenPos] = 0;
+                }
+            }
+        }
+
+        // Last literals.
+        final var literalLength = byteCount - anchor;
+        if (literalLength >= 15) {
+            destination[op++] = (byte) 0xf0;
+            op = writeLength(destination, op, literalLength - 15);
+        } else {
+            destination[op++] = (byte) (literalLength << 4);
+        }
+        System.arraycopy(source, anchor, destination, op, literalLength);
+        return op + literalLength;
+    }
+
+    /**
+     * Decompresses the block of {@code byteCount} bytes of {@code source} from {@code sourceOffset}, to
+     * {@code destination} from {@code destinationOffset}. Matches may reference the bytes of {@code destination} that
+     * precede {@code destinationOffset}.
+     *
+     * @return the end of the decompressed bytes in {@code destination}.
+     * @throws JayoException if the block is malformed, or if it decompresses beyond {@code destinationLimit}.
+     */
+    static int decompress(final byte @NonNull [] source,
+                          final int sourceOffset,
+                          final int byteCount,
+                          final byte @NonNull [] destination,
+                          final int destinationOffset,
+                          final int destinationLimit) {
+        assert source != null;
+        assert destination != null;
+
+        final var sourceEnd = sourceOffset + byteCount;
+        var ip = sourceOffset;
+        var op = destinationOffset;
+        while (true) {
+            if (ip >= sourceEnd) {
+                throw malformedBlock();
+            }
+            final var token = source[ip++] & 0xff;
+
+            // Literals.
+            var literalLength = token >>> 4;
+            if (literalLength == 15) {
+                int b;
+                do {
+                    if (ip >= sourceEnd) {
+                        throw malformedBlock();
+                    }
+                    b = source[ip++] & 0xff;
+                    literalLength += b;
+                } while (b == 255);
+            }
+            if (literalLength > sourceEnd - ip || literalLength > destinationLimit - op) {
+                throw malformedBlock();
+            }
+            System.arraycopy(source, ip, destination, op, literalLength);
+            ip += literalLength;
+            op += literalLength;
+
+            // The last sequence only contains literals.
+            if (ip == sourceEnd) {
+                return op;
+            }
+
+            // Match.
+            if (sourceEnd - ip < 2) {
+                throw malformedBlock();
+            }
+            final var offset = ((short) SHORT_LE.get(source, ip)) & 0xffff;
+            ip += 2;
+            if (offset == 0 || offset > op) {
+                throw malformedBlock();
+            }
+            var matchLength = token & 0x0f;
+            if (matchLength == 15) {
+                int b;
+                do {
+                    if (ip >= sourceEnd) {
+                        throw malformedBlock();
+                    }
+                    b = source[ip++] & 0xff;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MIN_MATCH;
+            if (matchLength > destinationLimit - op) {
+                throw malformedBlock();
+            }
+
+            final var ref = op - offset;
+            if (offset >= matchLength) {
+                System.arraycopy(destination, ref, destination, op, matchLength);
+            } else {
+                // Overlapping copy, each copied byte may be a byte copied by this same match.
+                for (var i = 0; i < matchLength; i++) {
+                    destination[op + i] = destination[ref + i];
+                }
+            }
+            op += matchLength;
+        }
+    }
+
+    private static int hash(final int sequence) {
+        return (sequence * -1640531535) >>> HASH_SHIFT; // 2654435761, Knuth's multiplicative hash
+    }
+
+    /**
+     * @return the count of equal bytes from {@code a} and from {@code b}, {@code a} being at most {@code limit}.
+     */
+    private static int count(final byte @NonNull [] source, int a, int b, final int limit) {
+        final var start = a;
+        while (a <= limit - 8) {
+            final var diff = (long) LONG_LE.get(source, a) ^ (long) LONG_LE.get(source, b);
+            if (diff != 0L) {
+                return a - start + (Long.numberOfTrailingZeros(diff) >>> 3);
+            }
+            a += 8;
+            b += 8;
+        }
+        while (a < limit && source[a] == source[b]) {
+            a++;
+            b++;
+        }
+        return a - start;
+    }
+
+    private static int writeLength(final byte @NonNull [] destination, int op, int length) {
+        while (length >= 255) {
+            destination[op++] = (byte) 255;
+            length -= 255;
+        }
+        destination[op++] = (byte) length;
+        return op;
+    }
+
+    private static @NonNull JayoException malformedBlock() {
+        return new JayoException("malformed LZ4 block");
+    }
+
+    /**
+     * The <a href="https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md">xxHash32</a> checksum with a seed of
+     * 0, used by the LZ4 frame format for its header, block and content checksums.
+     */
+    static final class XxHash32 {
+        private static final int PRIME1 = 0x9e3779b1;
+        private static final int PRIME2 = 0x85ebca77;
+        private static final int PRIME3 = 0xc2b2ae3d;
+        private static final int PRIME4 = 0x27d4eb2f;
+        private static final int PRIME5 = 0x165667b1;
+
+        private final byte @NonNull [] stripe = new byte[16];
+        private int stripeSize;
+        private long totalLength;
+        private int v1;
+        private int v2;
+        private int v3;
+        private int v4;
+
+        XxHash32() {
+            reset();
+        }
+
+        static int hash(final byte @NonNull [] bytes, final int offset, final int byteCount) {
+            final var xxHash32 = new XxHash32();
+            xxHash32.update(bytes, offset, byteCount);
+            return xxHash32.getValue();
+        }
+
+        void reset() {
+            v1 = PRIME1 + PRIME2;
+            v2 = PRIME2;
+            v3 = 0;
+            v4 = -PRIME1;
+            stripeSize = 0;
+            totalLength = 0L;
+        }
+
+        void update(final byte @NonNull [] bytes, int offset, int byteCount) {
+            totalLength += byteCount;
+
+            if (stripeSize + byteCount < 16) {
+                System.arraycopy(bytes, offset, stripe, stripeSize, byteCount);
+                stripeSize += byteCount;
+                return;
+            }
+
+            if (stripeSize > 0) {
+                final var toCopy = 16 - stripeSize;
+                System.arraycopy(bytes, offset, stripe, stripeSize, toCopy);
+                processStripe(stripe, 0);
+                offset += toCopy;
+                byteCount -= toCopy;
+                stripeSize = 0;
+            }
+
+            while (byteCount >= 16) {
+                processStripe(bytes, offset);
+                offset += 16;
+                byteCount -= 16;
+            }
+
+            System.arraycopy(bytes, offset, stripe, 0, byteCount);
+            stripeSize = byteCount;
+        }
+
+        int getValue() {
+            int hash;
+            if (totalLength >= 16L) {
+                hash = Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7) +
+                        Integer.rotateLeft(v3, 12) + Integer.rotateLeft(v4, 18);
+            } else {
+                hash = PRIME5;
+            }
+            hash += (int) totalLength;
+
+            var i = 0;
+            for (; i + 4 <= stripeSize; i += 4) {
+                hash += (int) INT_LE.get(stripe, i) * PRIME3;
+                hash = Integer.rotateLeft(hash, 17) * PRIME4;
+            }
+            for (; i < stripeSize; i++) {
+                hash += (stripe[i] & 0xff) * PRIME5;
+                hash = Integer.rotateLeft(hash, 11) * PRIME1;
+            }
+
+            hash ^= hash >>> 15;
+            hash *= PRIME2;
+            hash ^= hash >>> 13;
+            hash *= PRIME3;
+            hash ^= hash >>> 16;
+            return hash;
+        }
+
+        private void processStripe(final byte @NonNull [] bytes, final int offset) {
+            v1 = round(v1, (int) INT_LE.get(bytes, offset));
+            v2 = round(v2, (int) INT_LE.get(bytes, offset + 4));
+            v3 = round(v3, (int) INT_LE.get(bytes, offset + 8));
+            v4 = round(v4, (int) INT_LE.get(bytes, offset + 12));
+        }
+
+        private static int round(final int accumulator, final int input) {
+            return Integer.rotateLeft(accumulator + input * PRIME2, 13) * PRIME1;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.Buffer;
+import jayo.JayoException;
+import jayo.RawReader;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Objects;
+
+/**
+ * A raw reader that uses the <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 frame
+ * format</a> to decompress data read from another reader.
+ * <p>
+ * All the block sizes, independent and linked blocks, block and content checksums are supported, as well as
+ * concatenated and skippable frames. Frames that need an external dictionary are not supported.
+ */
+public final class Lz4RawReader implements RawReader {
+    private final @NonNull RealReader reader;
+    /**
+     * Decompressed bytes of the current block that were not read yet.
+     */
+    private final @NonNull RealBuffer decoded = new RealBuffer();
+    private final Lz4.@NonNull XxHash32 contentChecksum = new Lz4.XxHash32();
+
+    private boolean inFrame = false;
+    private boolean linkedBlocks;
+    private boolean hasBlockChecksum;
+    private boolean hasContentChecksum;
+    private int blockMaxSize = 0;
+    private byte @NonNull [] compressed = new byte[0];
+    /**
+     * Decompressed blocks, preceded by up to 64 KiB of history when the blocks are linked.
+     */
+    private byte @NonNull [] window = new byte[0];
+    private int windowEnd = 0;
+    private boolean closed = false;
+
+    public Lz4RawReader(final @NonNull RawReader rawReader) {
+        assert rawReader != null;
+        this.reader = new RealReader(rawReader);
+    }
+
+    @Override
+    public long readAtMostTo(final @NonNull Buffer destination, final long byteCount) {
+        Objects.requireNonNull(destination);
+        if (byteCount < 0L) {
+            throw new IllegalArgumentException("byteCount < 0: " + byteCount);
+        }
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        if (byteCount == 0L) {
+            return 0L;
+        }
+        if (decoded.byteSize == 0L && !readBlock()) {
+            return -1L;
+        }
+        return decoded.readAtMostTo(destination, byteCount);
+    }
+
+    /**
+     * Reads and decompresses the next non-empty block to {@link #decoded}.
+     *
+     * @return false if the reader is exhausted.
+     */
+    private boolean readBlock() {
+        while (true) {
+            if (!inFrame) {
+                if (reader.exhausted()) {
+                    return false;
+                }
+                readFrameHeader();
+                continue;
+            }
+
+            final var blockHeader = reader.readIntLe();
+            if (blockHeader == 0) { // End mark.
+                if (hasContentChecksum) {
+                    checkEqual("content checksum", reader.readIntLe(), contentChecksum.getValue());
+                }
+                inFrame = false;
+                continue;
+            }
+
+            final var size = blockHeader & ~Lz4.UNCOMPRESSED_BLOCK_FLAG;
+            if (size > blockMaxSize) {
+                throw new JayoException("LZ4 block size " + size + " > block maximum size " + blockMaxSize);
+            }
+            reader.readTo(compressed, 0, size);
+            if (hasBlockChecksum) {
+                checkEqual("block checksum", reader.readIntLe(), Lz4.XxHash32.hash(compressed, 0, size));
+            }
+
+            final int start;
+            if (linkedBlocks) {
+                if (windowEnd + blockMaxSize > window.length) {
+                    // Keep the history that the next block may reference.
+                    final var history = Math.min(windowEnd, Lz4.MAX_DISTANCE + 1);
+                    System.arraycopy(window, windowEnd - history, window, 0, history);
+                    windowEnd = history;
+                }
+                start = windowEnd;
+            } else {
+                start = 0;
+            }
+
+            final int end;
+            if ((blockHeader & Lz4.UNCOMPRESSED_BLOCK_FLAG) != 0) {
+                System.arraycopy(compressed, 0, window, start, size);
+                end = start + size;
+            } else {
+                end = Lz4.decompress(compressed, 0, size, window, start, start + blockMaxSize);
+            }
+            windowEnd = end;
+
+            final var decompressedSize = end - start;
+            if (hasContentChecksum) {
+                contentChecksum.update(window, start, decompressedSize);
+            }
+            if (decompressedSize > 0) {
+                decoded.write(window, start, decompressedSize);
+                return true;
+            }
+        }
+    }
+
+    private void readFrameHeader() {
+        final var magic = reader.readIntLe();
+        if ((magic & Lz4.SKIPPABLE_FRAME_MAGIC_MASK) == Lz4.SKIPPABLE_FRAME_MAGIC) {
+            reader.skip(reader.readIntLe() & 0xffffffffL);
+            return;
+        }
+        checkEqual("LZ4 frame magic", magic, Lz4.FRAME_MAGIC);
+
+        // +---+---+---------------+--------+---+
+        // |FLG|BD | (Content Size)|(DictID)|HC |
+        // +---+---+---------------+--------+---+
+        final var descriptor = new byte[14];
+        var descriptorSize = 0;
+        final var flg = reader.readByte();
+        final var bd = reader.readByte();
+        descriptor[descriptorSize++] = flg;
+        descriptor[descriptorSize++] = bd;
+
+        if (((flg >>> 6) & 0x03) != 0x01) {
+            throw new JayoException("unsupported LZ4 frame version: " + ((flg >>> 6) & 0x03));
+        }
+        if ((flg & 0x02) != 0 || (bd & 0x8f) != 0) {
+            throw new JayoException("reserved bits are set in LZ4 frame descriptor");
+        }
+        if ((flg & 0x01) != 0) {
+            throw new JayoException("LZ4 frames with a dictionary are not supported");
+        }
+        final var blockMaxSizeId = (bd >>> 4) & 0x07;
+        if (blockMaxSizeId < 4) {
+            throw new JayoException("invalid LZ4 block maximum size: " + blockMaxSizeId);
+        }
+        if ((flg & 0x08) != 0) { // The content size is not needed, we only check the header checksum.
+            reader.readTo(descriptor, descriptorSize, 8);
+            descriptorSize += 8;
+        }
+        final var headerChecksum = reader.readByte() & 0xff;
+        checkEqual("LZ4 header checksum", headerChecksum,
+                (Lz4.XxHash32.hash(descriptor, 0, descriptorSize) >>> 8) & 0xff);
+
+        linkedBlocks = (flg & 0x20) == 0;
+        hasBlockChecksum = (flg & 0x10) != 0;
+        hasContentChecksum = (flg & 0x04) != 0;
+
+        final var newBlockMaxSize = 1 << (8 + 2 * blockMaxSizeId); // 64 KiB, 256 KiB, 1 MiB or 4 MiB
+        if (newBlockMaxSize != blockMaxSize) {
+            blockMaxSize = newBlockMaxSize;
+            compressed = new byte[newBlockMaxSize];
+            window = new byte[Lz4.MAX_DISTANCE + 1 + newBlockMaxSize];
+        }
+        windowEnd = 0;
+        contentChecksum.reset();
+        inFrame = true;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        decoded.clear();
+        reader.close();
+    }
+
+    @Override
+    public String toString() {
+        return "Lz4RawReader(" + reader + ")";
+    }
+
+    private static void checkEqual(final @NonNull String name, final int actual, final int expected) {
+        if (actual != expected) {
+            throw new JayoException(name + ": actual 0x" + Utils.toHexString(actual) +
+                    " != expected 0x" + Utils.toHexString(expected));
+        }
+    }
+}
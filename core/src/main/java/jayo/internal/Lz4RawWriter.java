@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.Buffer;
+import jayo.RawWriter;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Objects;
+
+import static jayo.tools.JayoUtils.checkOffsetAndCount;
+
+/**
+ * A raw writer that uses the <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 frame
+ * format</a> to compress written data to another writer.
+ * <p>
+ * Written bytes are gathered from the segments of the source buffer into blocks of 64 KiB, and each full block is
+ * compressed as an independent block. A block that does not compress is written uncompressed. The frame ends with the
+ * xxHash32 checksum of all the written bytes.
+ * <h3>Flush</h3>
+ * Each call to {@link #flush()} immediately compresses all currently buffered data as a smaller block, this may result
+ * in reduced compression. For the best performance, only call {@link #flush()} when application behavior requires it.
+ */
+public final class Lz4RawWriter implements RawWriter {
+    static final int BLOCK_SIZE = 64 * 1024;
+    /**
+     * Version 01, independent blocks, no block checksum, no content size, content checksum, no dictionary ID.
+     */
+    private static final byte FLG = 0x64;
+    /**
+     * 64 KiB maximum block size.
+     */
+    private static final byte BD = 0x40;
+
+    private final @NonNull RealWriter writer;
+    private final byte @NonNull [] block = new byte[BLOCK_SIZE];
+    private int blockSize = 0;
+    private final byte @NonNull [] compressed = new byte[Lz4.maxCompressedLength(BLOCK_SIZE)];
+    private final int @NonNull [] hashTable = new int[Lz4.HASH_TABLE_SIZE];
+    private final Lz4.@NonNull XxHash32 contentChecksum = new Lz4.XxHash32();
+    private boolean closed = false;
+
+    public Lz4RawWriter(final @NonNull RawWriter rawWriter) {
+        assert rawWriter != null;
+        this.writer = new RealWriter(rawWriter);
+
+        // Write the frame header directly into the buffer for the sink to avoid handling JayoException.
+        final var writerBuffer = writer.buffer;
+        writerBuffer.writeIntLe(Lz4.FRAME_MAGIC);
+        writerBuffer.writeByte(FLG);
+        writerBuffer.writeByte(BD);
+        writerBuffer.writeByte((byte) (Lz4.XxHash32.hash(new byte[]{FLG, BD}, 0, 2) >>> 8)); // Header checksum.
+    }
+
+    @Override
+    public void writeFrom(final @NonNull Buffer source, final long byteCount) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.bytesAvailable(), 0, byteCount);
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        final var src = (RealBuffer) source;
+        var remaining = byteCount;
+        while (remaining > 0L) {
+            // Gather bytes from the head segment of 'source' into the current block.
+            final var head = src.head;
+            assert head != null;
+            final var toCopy = (int) Math.min(Math.min(remaining, head.limit - head.pos), BLOCK_SIZE - blockSize);
+            System.arraycopy(head.data, head.pos, block, blockSize, toCopy);
+            blockSize += toCopy;
+
+            // Mark those bytes as read.
+            head.pos += toCopy;
+            src.byteSize -= toCopy;
+            remaining -= toCopy;
+
+            if (head.pos == head.limit) {
+                src.head = head.pop();
+                SegmentPool.recycle(head);
+            }
+
+            if (blockSize == BLOCK_SIZE) {
+                writeBlock();
+            }
+        }
+    }
+
+    private void writeBlock() {
+        contentChecksum.update(block, 0, blockSize);
+        final var compressedSize = Lz4.compress(block, blockSize, compressed, hashTable);
+        final var writerBuffer = writer.buffer;
+        if (compressedSize < blockSize) {
+            writerBuffer.writeIntLe(compressedSize);
+            writerBuffer.write(compressed, 0, compressedSize);
+        } else {
+            writerBuffer.writeIntLe(blockSize | Lz4.UNCOMPRESSED_BLOCK_FLAG);
+            writerBuffer.write(block, 0, blockSize);
+        }
+        blockSize = 0;
+        writer.emitCompleteSegments();
+    }
+
+    @Override
+    public void flush() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+        if (blockSize > 0) {
+            writeBlock();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        // Emit the last block and the end of the frame to the underlying writer. If this fails, we still need to close
+        // the writer; otherwise, we risk leaking resources.
+        Throwable thrown = null;
+        try {
+            if (blockSize > 0) {
+                writeBlock();
+            }
+            writer.writeIntLe(0); // End mark.
+            writer.writeIntLe(contentChecksum.getValue());
+        } catch (Throwable e) {
+            thrown = e;
+        }
+
+        try {
+            writer.close();
+        } catch (Throwable e) {
+            if (thrown == null) {
+                thrown = e;
+            }
+        }
+
+        closed = true;
+
+        if (thrown != null) {
+            if (thrown instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw (Error) thrown;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Lz4RawWriter(" + writer + ")";
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.Buffer;
+import jayo.JayoInterruptedIOException;
+import jayo.RawWriter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import static jayo.tools.JayoUtils.checkOffsetAndCount;
+
+/**
+ * A raw writer that uses <a href="http://www.ietf.org/rfc/rfc1952.txt">GZIP</a> to compress written data to another
+ * writer, compressing several blocks concurrently like <a href="https://zlib.net/pigz/">pigz</a> does.
+ * <p>
+ * Written bytes are cut into blocks of {@link #BLOCK_SIZE} bytes. Each block is compressed by its own raw
+ * {@link Deflater} on a {@link #COMPRESSORS} thread, primed with the last 32 KiB of the previous uncompressed bytes as
+ * its dictionary and ended with a sync flush, except the last block that is finished. The compressed blocks are written
+ * in order and form one single deflate stream, so the output is one valid gzip member whose CRC32 is combined from the
+ * CRC32 of each block.
+ * <p>
+ * At most {@link #parallelism} blocks are compressed at a time, writes block when all of them are in flight.
+ * <h3>Sync flush</h3>
+ * Each call to {@link #flush()} ends the current block early and waits for all the in-flight blocks to be compressed
+ * and written. For the best performance, only call {@link #flush()} when application behavior requires it.
+ */
+public final class ParallelGzipRawWriter implements RawWriter {
+    static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte @NonNull [] EMPTY_BYTE_ARRAY = new byte[0];
+
+    /**
+     * Compressing is CPU-bound, more threads than processors would not compress faster.
+     */
+    private static final @NonNull ExecutorService COMPRESSORS = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            JavaVersionUtils.threadFactory("JayoParallelGzip#"));
+
+    private final @NonNull RawWriter writer;
+    private final int level;
+    private final int parallelism;
+
+    /**
+     * Written bytes that do not fill a block yet.
+     */
+    private final @NonNull RealBuffer pending = new RealBuffer();
+    /**
+     * Compressed bytes waiting to be written to {@link #writer}, it initially contains the gzip header.
+     */
+    private final @NonNull RealBuffer output = new RealBuffer();
+    /**
+     * The blocks being compressed, in write order.
+     */
+    private final @NonNull ArrayDeque<Future<CompressedBlock>> inFlight = new ArrayDeque<>();
+
+    /**
+     * The last 32 KiB of the bytes submitted so far, or null if no bytes were submitted yet.
+     */
+    private byte @Nullable [] dictionary = null;
+    /**
+     * Checksum of the bytes compressed and written so far.
+     */
+    private long crc = 0L;
+    private long byteCount = 0L;
+    private boolean closed = false;
+
+    public ParallelGzipRawWriter(final @NonNull RawWriter writer, final int level, final int parallelism) {
+        assert writer != null;
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("invalid compression level: " + level);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism < 1: " + parallelism);
+        }
+
+        this.writer = writer;
+        this.level = level;
+        this.parallelism = parallelism;
+
+        output.writeShort((short) 0x1f8b); // Two-byte Gzip ID.
+        output.writeByte((byte) 0x08); // 8 == Deflate compression method.
+        output.writeByte((byte) 0x00); // No flags.
+        output.writeInt(0x00); // No modification time.
+        output.writeByte((byte) 0x00); // No extra flags.
+        output.writeByte((byte) 0x00); // No OS.
+    }
+
+    @Override
+    public void writeFrom(final @NonNull Buffer source, final long byteCount) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.bytesAvailable(), 0, byteCount);
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        pending.writeFrom(source, byteCount);
+        while (pending.byteSize >= BLOCK_SIZE) {
+            submit(BLOCK_SIZE, false);
+        }
+        writeCompletedBlocks();
+    }
+
+    @Override
+    public void flush() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        if (pending.byteSize > 0L) {
+            submit(pending.byteSize, false);
+        }
+        while (!inFlight.isEmpty()) {
+            writeBlock(await(inFlight.poll()));
+        }
+        emitOutput();
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        // Emit the last blocks and the trailer to the underlying writer. If this fails, we still need to close the
+        // writer; otherwise, we risk leaking resources.
+        Throwable thrown = null;
+        try {
+            submit(pending.byteSize, true);
+            while (!inFlight.isEmpty()) {
+                writeBlock(await(inFlight.poll()));
+            }
+            output.writeInt(Integer.reverseBytes((int) crc)); // CRC of original data.
+            output.writeInt(Integer.reverseBytes((int) byteCount)); // Length of original data.
+            emitOutput();
+        } catch (Throwable e) {
+            thrown = e;
+            Future<CompressedBlock> block;
+            while ((block = inFlight.poll()) != null) {
+                block.cancel(false);
+            }
+            pending.clear();
+            output.clear();
+        }
+
+        try {
+            writer.close();
+        } catch (Throwable e) {
+            if (thrown == null) {
+                thrown = e;
+            }
+        }
+
+        if (thrown != null) {
+            if (thrown instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw (Error) thrown;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelGzipRawWriter(" + writer + ")";
+    }
+
+    /**
+     * Submits the {@code blockSize} first pending bytes to be compressed, waiting for the oldest in-flight block first if
+     * {@link #parallelism} blocks are already in flight.
+     */
+    private void submit(final long blockSize, final boolean last) {
+        final var block = new RealBuffer();
+        block.writeFrom(pending, blockSize);
+
+        final var blockDictionary = dictionary;
+        if (!last) {
+            dictionary = nextDictionary(blockDictionary, block);
+        }
+
+        if (inFlight.size() >= parallelism) {
+            writeBlock(await(inFlight.poll()));
+            // the compressed stream must not accumulate in memory until flush or close
+            emitOutput();
+        }
+        inFlight.add(COMPRESSORS.submit(() -> compress(block, blockDictionary, level, last)));
+    }
+
+    /**
+     * @return the last 32 KiB of the bytes submitted so far, {@code block} being the most recent ones.
+     */
+    private static byte @NonNull [] nextDictionary(final byte @Nullable [] previous, final @NonNull RealBuffer block) {
+        final var fromBlock = (int) Math.min(block.byteSize, DICTIONARY_SIZE);
+        final var fromPrevious = (previous != null) ? Math.min(previous.length, DICTIONARY_SIZE - fromBlock) : 0;
+
+        final var result = new byte[fromPrevious + fromBlock];
+        if (fromPrevious > 0) {
+            System.arraycopy(previous, previous.length - fromPrevious, result, 0, fromPrevious);
+        }
+        final var tail = new RealBuffer();
+        block.copyTo(tail, block.byteSize - fromBlock, fromBlock);
+        tail.readTo(result, fromPrevious, fromBlock);
+        return result;
+    }
+
+    private void writeCompletedBlocks() {
+        var written = false;
+        while (!inFlight.isEmpty() && inFlight.peek().isDone()) {
+            writeBlock(await(inFlight.poll()));
+            written = true;
+        }
+        if (written) {
+            emitOutput();
+        }
+    }
+
+    private void writeBlock(final @NonNull CompressedBlock block) {
+        crc = crc32Combine(crc, block.crc, block.byteCount);
+        byteCount += block.byteCount;
+        output.writeFrom(block.compressed, block.compressed.byteSize);
+    }
+
+    private void emitOutput() {
+        if (output.byteSize > 0L) {
+            writer.writeFrom(output, output.byteSize);
+        }
+    }
+
+    private static @NonNull CompressedBlock await(final @NonNull Future<CompressedBlock> block) {
+        try {
+            return block.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Retain interrupted status.
+            throw new JayoInterruptedIOException("current thread is interrupted");
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Compresses all the bytes of {@code block} with a raw deflater, then sync flushes it, or finishes it if this is the
+     * {@code last} block.
+     */
+    private static @NonNull CompressedBlock compress(final @NonNull RealBuffer block,
+                                                     final byte @Nullable [] dictionary,
+                                                     final int level,
+                                                     final boolean last) {
+        final var deflater = ZlibPool.deflater(level, true /* No wrap */);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+
+            final var byteCount = block.byteSize;
+            final var crc = new CRC32();
+            final var compressed = new RealBuffer();
+            var segment = block.head;
+            while (segment != null) {
+                final var segmentLength = segment.limit - segment.pos;
+                crc.update(segment.data, segment.pos, segmentLength);
+                deflater.setInput(segment.data, segment.pos, segmentLength);
+                deflate(deflater, compressed, Deflater.NO_FLUSH);
+                segment = (segment.next != block.head) ? segment.next : null;
+            }
+            // Deflater still holds a reference to the most recent segment's byte array. That can cause problems in JNI,
+            // so clear it now.
+            deflater.setInput(EMPTY_BYTE_ARRAY, 0, 0);
+
+            if (last) {
+                deflater.finish();
+                deflate(deflater, compressed, Deflater.NO_FLUSH);
+            } else {
+                deflate(deflater, compressed, Deflater.SYNC_FLUSH);
+            }
+            block.clear();
+            return new CompressedBlock(compressed, crc.getValue(), byteCount);
+        } finally {
+            ZlibPool.release(deflater);
+        }
+    }
+
+    private static void deflate(final @NonNull Deflater deflater, final @NonNull RealBuffer dstBuffer, final int flush) {
+        while (true) {
+            final var dstTail = dstBuffer.writableTail(1);
+            final var deflated = deflater.deflate(dstTail.data, dstTail.limit, Segment.SIZE - dstTail.limit, flush);
+
+            if (deflated > 0) {
+                dstTail.limit += deflated;
+                dstBuffer.byteSize += deflated;
+            } else if (deflater.needsInput()) {
+                if (dstTail.pos == dstTail.limit) {
+                    // We allocated a tail segment, but didn't end up needing it. Recycle!
+                    dstBuffer.head = dstTail.pop();
+                    SegmentPool.recycle(dstTail);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the CRC32 of the concatenation of two byte sequences, from the CRC32 of the first one {@code crc1}, the
+     * CRC32 of the second one {@code crc2} and the length of the second one {@code length2}. This is the
+     * {@code crc32_combine} algorithm from zlib, that applies {@code length2} zero bits to {@code crc1} by repeated
+     * squaring of the CRC32 shift operator in GF(2).
+     */
+    static long crc32Combine(long crc1, final long crc2, long length2) {
+        if (length2 <= 0L) {
+            return crc1;
+        }
+
+        final var even = new long[32]; // even-power-of-two zeros operator
+        final var odd = new long[32]; // odd-power-of-two zeros operator
+
+        // put operator for one zero bit in odd
+        odd[0] = 0xedb88320L; // CRC-32 polynomial
+        var row = 1L;
+        for (var n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        gf2MatrixSquare(even, odd); // put operator for two zero bits in even
+        gf2MatrixSquare(odd, even); // put operator for four zero bits in odd
+
+        // apply length2 zeros to crc1 (first square will put the operator for one zero byte, eight zero bits, in even)
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((length2 & 1L) != 0L) {
+                crc1 = gf2MatrixTimes(even, crc1);
+            }
+            length2 >>= 1;
+            if (length2 == 0L) {
+                break;
+            }
+
+            gf2MatrixSquare(odd, even);
+            if ((length2 & 1L) != 0L) {
+                crc1 = gf2MatrixTimes(odd, crc1);
+            }
+            length2 >>= 1;
+        } while (length2 != 0L);
+
+        return crc1 ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(final long @NonNull [] matrix, long vector) {
+        var sum = 0L;
+        var i = 0;
+        while (vector != 0L) {
+            if ((vector & 1L) != 0L) {
+                sum ^= matrix[i];
+            }
+            vector >>>= 1;
+            i++;
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(final long @NonNull [] square, final long @NonNull [] matrix) {
+        for (var n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(matrix, matrix[n]);
+        }
+    }
+
+    private record CompressedBlock(@NonNull RealBuffer compressed, long crc, long byteCount) {
+    }
+}
@@ -13,6 +13,7 @@ import org.jspecify.annotations.NonNull;
 
 import java.io.IOException;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.util.Objects;
 
 import static java.lang.System.Logger.Level.TRACE;
@@ -54,22 +55,31 @@ public final class ReadableByteChannelRawReader implements RawReader {
 
         final var dst = (RealBuffer) destination;
 
-        final var dstTail = dst.writableTail(1);
-        final var toRead = (int) Math.min(byteCount, Segment.SIZE - dstTail.limit);
-        final int read;
-        try {
-            read = rbc.read(dstTail.asByteBuffer(dstTail.limit, toRead));
-        } catch (IOException e) {
-            throw JayoException.buildJayoException(e);
-        }
-        if (read > 0) {
-            dstTail.limit += read;
-            dst.byteSize += read;
+        final long read;
+        if (rbc instanceof ScatteringByteChannel scatteringChannel) {
+            // A single scattering read may fill several segments.
+            try {
+                read = dst.readFrom(scatteringChannel, byteCount);
+            } catch (IOException e) {
+                throw JayoException.buildJayoException(e);
+            }
         } else {
-            if (dstTail.pos == dstTail.limit) {
-                // We allocated a tail segment, but didn't end up needing it. Recycle!
-                dst.head = dstTail.pop();
-                SegmentPool.recycle(dstTail);
+            final var dstTail = dst.writableTail(1);
+            final var toRead = (int) Math.min(byteCount, Segment.SIZE - dstTail.limit);
+            try {
+                read = rbc.read(dstTail.asByteBuffer(dstTail.limit, toRead));
+            } catch (IOException e) {
+                throw JayoException.buildJayoException(e);
+            }
+            if (read > 0) {
+                dstTail.limit += (int) read;
+                dst.byteSize += read;
+            } else {
+                if (dstTail.pos == dstTail.limit) {
+                    // We allocated a tail segment, but didn't end up needing it. Recycle!
+                    dst.head = dstTail.pop();
+                    SegmentPool.recycle(dstTail);
+                }
             }
         }
 
@@ -98,6 +98,23 @@ public final class RealAsyncTimeout implements AsyncTimeout {
         }
     }
 
+    /**
+     * Schedules {@link #onTimeout} to be invoked by the watchdog thread in {@code delayNanos}, unless the returned
+     * node exits before.
+     */
+    public @NonNull Node schedule(final long delayNanos) {
+        if (delayNanos <= 0L) {
+            throw new IllegalArgumentException("delayNanos <= 0: " + delayNanos);
+        }
+
+        LOCK.lock();
+        try {
+            return insertIntoQueue(System.nanoTime() + delayNanos);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
     private @NonNull Node enter(final @NonNull RealCancelToken cancelToken) {
         assert cancelToken != null;
 
@@ -157,18 +174,22 @@ public final class RealAsyncTimeout implements AsyncTimeout {
     private @NonNull TimeoutNode insertIntoQueue(final @NonNull RealCancelToken cancelToken) {
         assert cancelToken != null;
 
-        // Start the watchdog thread and create the head node when the first timeout is scheduled.
-        if (IDLE_SENTINEL == null) {
-            IDLE_SENTINEL = IDLE_SENTINEL_WATCHDOG_RUNNING;
-            ASYNC_TIMEOUT_WATCHDOG_THREAD_FACTORY.newThread(RealAsyncTimeout::watchdogLoop).start();
-        }
-
         final long timeoutAt;
         if (cancelToken.deadlineNanoTime > 0L) {
             timeoutAt = cancelToken.deadlineNanoTime;
         } else {
             timeoutAt = System.nanoTime() + cancelToken.timeoutNanos;
         }
+        return insertIntoQueue(timeoutAt);
+    }
+
+    private @NonNull TimeoutNode insertIntoQueue(final long timeoutAt) {
+        // Start the watchdog thread and create the head node when the first timeout is scheduled.
+        if (IDLE_SENTINEL == null) {
+            IDLE_SENTINEL = IDLE_SENTINEL_WATCHDOG_RUNNING;
+            ASYNC_TIMEOUT_WATCHDOG_THREAD_FACTORY.newThread(RealAsyncTimeout::watchdogLoop).start();
+        }
+
         final var node = new TimeoutNode(timeoutAt, onTimeout);
 
         // Insert the node into the queue.
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.*;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static jayo.tools.JayoUtils.checkOffsetAndCount;
+
+public final class RealBroadcastPipe implements BroadcastPipe {
+    final long maxBufferSize;
+
+    private final @NonNull BroadcastReader @NonNull [] readers;
+    private final @NonNull List<@NonNull RawReader> readerList;
+    private final @NonNull RawWriter writer = new BroadcastWriter();
+    /**
+     * The bytes taken from the writer's source, before they are broadcast to the readers. This field is only used while
+     * holding the {@link #lock}.
+     */
+    private final @NonNull RealBuffer chunk = new RealBuffer();
+
+    private boolean canceled = false;
+    private boolean writerClosed = false;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition condition = lock.newCondition();
+
+    public RealBroadcastPipe(final long maxBufferSize, final int readerCount) {
+        if (maxBufferSize < 1L) {
+            throw new IllegalArgumentException("maxBufferSize < 1: " + maxBufferSize);
+        }
+        if (readerCount < 1) {
+            throw new IllegalArgumentException("readerCount < 1: " + readerCount);
+        }
+        this.maxBufferSize = maxBufferSize;
+
+        readers = new BroadcastReader[readerCount];
+        for (var i = 0; i < readerCount; i++) {
+            readers[i] = new BroadcastReader();
+        }
+        readerList = List.of(readers);
+    }
+
+    @Override
+    public @NonNull RawWriter getWriter() {
+        return writer;
+    }
+
+    @Override
+    public @NonNull List<@NonNull RawReader> getReaders() {
+        return readerList;
+    }
+
+    private final class BroadcastReader implements RawReader {
+        private final @NonNull RealBuffer buffer = new RealBuffer();
+        private boolean closed = false;
+
+        @Override
+        public long readAtMostTo(final @NonNull Buffer destination, final long byteCount) {
+            Objects.requireNonNull(destination);
+            if (byteCount < 0L) {
+                throw new IllegalArgumentException("byteCount < 0: " + byteCount);
+            }
+
+            if (byteCount == 0L) {
+                return 0L;
+            }
+
+            lock.lock();
+            try {
+                if (closed) {
+                    throw new IllegalStateException("closed");
+                }
+                if (canceled) {
+                    throw new JayoException("canceled");
+                }
+
+                final var cancelToken = JavaVersionUtils.getCancelToken();
+
+                while (buffer.exhausted()) {
+                    if (writerClosed) {
+                        return -1L;
+                    }
+                    awaitCondition(cancelToken); // Wait until the writer fills the buffer.
+                    if (canceled) {
+                        throw new JayoException("canceled");
+                    }
+                }
+
+                final var result = buffer.readAtMostTo(destination, byteCount);
+                condition.signalAll(); // Notify the writer that it can resume writing.
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                // A closed reader must not hold the writer back.
+                buffer.clear();
+                condition.signalAll(); // Notify the writer that no more bytes are desired by this reader.
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final class BroadcastWriter implements RawWriter {
+        @Override
+        public void writeFrom(final @NonNull Buffer source, final long byteCount) {
+            Objects.requireNonNull(source);
+            checkOffsetAndCount(source.bytesAvailable(), 0L, byteCount);
+
+            if (byteCount == 0L) {
+                return;
+            }
+
+            lock.lock();
+            try {
+                if (writerClosed) {
+                    throw new IllegalStateException("closed");
+                }
+                if (canceled) {
+                    throw new JayoException("canceled");
+                }
+
+                final var cancelToken = JavaVersionUtils.getCancelToken();
+
+                var remaining = byteCount;
+                while (remaining > 0L) {
+                    // The slowest open reader governs how many bytes can be written.
+                    var bufferSpaceAvailable = -1L;
+                    for (final var reader : readers) {
+                        if (!reader.closed) {
+                            final var readerSpaceAvailable = maxBufferSize - reader.buffer.byteSize;
+                            bufferSpaceAvailable = (bufferSpaceAvailable == -1L)
+                                    ? readerSpaceAvailable
+                                    : Math.min(bufferSpaceAvailable, readerSpaceAvailable);
+                        }
+                    }
+                    if (bufferSpaceAvailable == -1L) {
+                        throw new JayoException("reader is closed");
+                    }
+                    if (bufferSpaceAvailable == 0L) {
+                        awaitCondition(cancelToken); // Wait until the slowest reader drains its buffer.
+                        if (canceled) {
+                            throw new JayoException("canceled");
+                        }
+                        continue;
+                    }
+
+                    final var bytesToWrite = Math.min(bufferSpaceAvailable, remaining);
+                    chunk.writeFrom(source, bytesToWrite);
+                    broadcastChunk();
+                    remaining -= bytesToWrite;
+
+                    condition.signalAll(); // Notify the readers that they can resume reading.
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void flush() {
+            lock.lock();
+            try {
+                // check if the writer is closed
+                if (writerClosed) {
+                    throw new IllegalStateException("closed");
+                }
+                if (canceled) {
+                    throw new JayoException("canceled");
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (writerClosed) {
+                    return;
+                }
+                writerClosed = true;
+                condition.signalAll(); // Notify the readers that no more bytes are coming.
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Moves all the segments of {@link #chunk} to the open readers. The last open reader receives the segments
+     * themselves, the other ones receive shared copies of them, so the bytes are not copied. Small segments are copied
+     * instead, to avoid long chains of short read-only segments in the readers' buffers.
+     */
+    private void broadcastChunk() {
+        BroadcastReader lastReader = null;
+        for (var i = readers.length - 1; i >= 0; i--) {
+            if (!readers[i].closed) {
+                lastReader = readers[i];
+                break;
+            }
+        }
+        assert lastReader != null;
+
+        while (chunk.head != null) {
+            final var segment = chunk.head;
+            final var segmentByteSize = segment.limit - segment.pos;
+            chunk.head = segment.pop();
+            chunk.byteSize -= segmentByteSize;
+
+            for (final var reader : readers) {
+                if (reader == lastReader) {
+                    break;
+                }
+                if (reader.closed) {
+                    continue;
+                }
+                if (segmentByteSize < Segment.SHARE_MINIMUM) {
+                    reader.buffer.write(segment.data, segment.pos, segmentByteSize);
+                } else {
+                    reader.buffer.pushSegment(segment.sharedCopy());
+                }
+            }
+            lastReader.buffer.pushSegment(segment);
+        }
+    }
+
+    private void awaitCondition(final @Nullable RealCancelToken cancelToken) {
+        if (cancelToken != null) {
+            cancelToken.awaitSignal(condition);
+            return;
+        }
+
+        try {
+            condition.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Retain interrupted status.
+            throw new JayoInterruptedIOException("current thread is interrupted");
+        }
+    }
+
+    @Override
+    public void cancel() {
+        lock.lock();
+        try {
+            canceled = true;
+            for (final var reader : readers) {
+                reader.buffer.clear();
+            }
+            condition.signalAll(); // Notify the readers and writer that they're canceled.
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        lock.lock();
+        try {
+            if (canceled || writerClosed) {
+                return false;
+            }
+            for (final var reader : readers) {
+                if (!reader.closed) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
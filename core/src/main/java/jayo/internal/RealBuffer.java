@@ -36,8 +36,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -82,6 +84,84 @@ public final class RealBuffer implements Buffer {
         return tail.push(SegmentPool.take());
     }
 
+    /**
+     * The maximum number of segments filled by a single {@link #readFrom(ScatteringByteChannel, long)} call.
+     */
+    private static final int MAX_SCATTERED_SEGMENT_COUNT = 16;
+
+    /**
+     * Reads at most {@code byteCount} bytes from {@code channel} into this buffer with a single scattering read, that
+     * fills the writable tail segment then up to {@code MAX_SCATTERED_SEGMENT_COUNT - 1} new segments. This reads as
+     * many bytes as are available at once, without waiting for more.
+     *
+     * @return the number of bytes read, possibly 0, or -1 if the channel has reached end-of-stream.
+     */
+    long readFrom(final @NonNull ScatteringByteChannel channel, final long byteCount) throws IOException {
+        assert channel != null;
+        assert byteCount > 0L;
+
+        final var tail = writableTail(1);
+        final var tailToRead = (int) Math.min(byteCount, Segment.SIZE - tail.limit);
+        final var extraSegmentCount = (int) Math.min(MAX_SCATTERED_SEGMENT_COUNT - 1,
+                (byteCount - tailToRead + Segment.SIZE - 1) / Segment.SIZE);
+
+        final var extraSegments = new Segment[extraSegmentCount];
+        final long read;
+        try {
+            if (extraSegmentCount == 0) {
+                read = channel.read(tail.asByteBuffer(tail.limit, tailToRead));
+            } else {
+                final var byteBuffers = new ByteBuffer[extraSegmentCount + 1];
+                byteBuffers[0] = tail.asByteBuffer(tail.limit, tailToRead);
+                var remaining = byteCount - tailToRead;
+                for (var i = 0; i < extraSegmentCount; i++) {
+                    final var segment = SegmentPool.take();
+                    extraSegments[i] = segment;
+                    final var segmentToRead = (int) Math.min(remaining, Segment.SIZE);
+                    byteBuffers[i + 1] = segment.asByteBuffer(0, segmentToRead);
+                    remaining -= segmentToRead;
+                }
+                read = channel.read(byteBuffers);
+            }
+        } catch (Throwable t) {
+            for (final var segment : extraSegments) {
+                if (segment != null) {
+                    SegmentPool.recycle(segment);
+                }
+            }
+            if (tail.pos == tail.limit) {
+                head = tail.pop();
+                SegmentPool.recycle(tail);
+            }
+            throw t;
+        }
+
+        // Bytes fill the tail segment first, then the extra segments in order.
+        var remaining = Math.max(read, 0L);
+        final var tailRead = (int) Math.min(remaining, tailToRead);
+        tail.limit += tailRead;
+        remaining -= tailRead;
+        for (final var segment : extraSegments) {
+            if (remaining > 0L) {
+                final var segmentRead = (int) Math.min(remaining, Segment.SIZE);
+                segment.limit = segmentRead;
+                remaining -= segmentRead;
+                head.prev.push(segment);
+            } else {
+                SegmentPool.recycle(segment);
+            }
+        }
+
+        if (read > 0L) {
+            byteSize += read;
+        } else if (tail.pos == tail.limit) {
+            // We allocated a tail segment, but didn't end up needing it. Recycle!
+            head = tail.pop();
+            SegmentPool.recycle(tail);
+        }
+        return read;
+    }
+
     @Override
     public boolean isOpen() {
         return true;
@@ -376,13 +456,24 @@ public final class RealBuffer implements Buffer {
             return (short) (((readByte() & 0xff) << 8) | (readByte() & 0xff));
         }
 
-        final var s = (short) (((head.data[head.pos++] & 0xff) << 8) | (head.data[head.pos++] & 0xff));
-        byteSize -= 2L;
+        final var s = (short) SHORT_BE.get(head.data, head.pos);
+        consumeHead(head, 2);
+        return s;
+    }
 
-        if (head.pos == head.limit) {
-            this.head = head.pop();
-            SegmentPool.recycle(head);
+    @Override
+    public short readShortLe() {
+        final var head = this.head;
+        if (head == null) {
+            throw new JayoEOFException();
+        }
+        // If the short is split across multiple segments, delegate to readShort().
+        if (head.limit - head.pos < 2) {
+            return Short.reverseBytes(readShort());
         }
+
+        final var s = (short) SHORT_LE.get(head.data, head.pos);
+        consumeHead(head, 2);
         return s;
     }
 
@@ -403,16 +494,24 @@ public final class RealBuffer implements Buffer {
                     | (readByte() & 0xff));
         }
 
-        final var i = (((head.data[head.pos++] & 0xff) << 24)
-                | ((head.data[head.pos++] & 0xff) << 16)
-                | ((head.data[head.pos++] & 0xff) << 8)
-                | (head.data[head.pos++] & 0xff));
-        byteSize -= 4L;
+        final var i = (int) INT_BE.get(head.data, head.pos);
+        consumeHead(head, 4);
+        return i;
+    }
 
-        if (head.pos == head.limit) {
-            this.head = head.pop();
-            SegmentPool.recycle(head);
+    @Override
+    public int readIntLe() {
+        final var head = this.head;
+        if (head == null) {
+            throw new JayoEOFException();
+        }
+        // If the int is split across multiple segments, delegate to readInt().
+        if (head.limit - head.pos < 4) {
+            return Integer.reverseBytes(readInt());
         }
+
+        final var i = (int) INT_LE.get(head.data, head.pos);
+        consumeHead(head, 4);
         return i;
     }
 
@@ -430,21 +529,142 @@ public final class RealBuffer implements Buffer {
             return (((readInt() & 0xffffffffL) << 32) | (readInt() & 0xffffffffL));
         }
 
-        final var l = (((head.data[head.pos++] & 0xffL) << 56)
-                | ((head.data[head.pos++] & 0xffL) << 48)
-                | ((head.data[head.pos++] & 0xffL) << 40)
-                | ((head.data[head.pos++] & 0xffL) << 32)
-                | ((head.data[head.pos++] & 0xffL) << 24)
-                | ((head.data[head.pos++] & 0xffL) << 16)
-                | ((head.data[head.pos++] & 0xffL) << 8)
-                | (head.data[head.pos++] & 0xffL));
-        byteSize -= 8L;
+        final var l = (long) LONG_BE.get(head.data, head.pos);
+        consumeHead(head, 8);
+        return l;
+    }
+
+    @Override
+    public long readLongLe() {
+        final var head = this.head;
+        if (head == null) {
+            throw new JayoEOFException();
+        }
+        // If the long is split across multiple segments, delegate to readLong().
+        if (head.limit - head.pos < 8) {
+            return Long.reverseBytes(readLong());
+        }
+
+        final var l = (long) LONG_LE.get(head.data, head.pos);
+        consumeHead(head, 8);
+        return l;
+    }
+
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public float readFloatLe() {
+        return Float.intBitsToFloat(readIntLe());
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    @Override
+    public double readDoubleLe() {
+        return Double.longBitsToDouble(readLongLe());
+    }
+
+    @Override
+    public int readVarInt() {
+        return (int) readVarLong(MAX_VARINT_BYTE_SIZE);
+    }
+
+    @Override
+    public long readVarLong() {
+        return readVarLong(MAX_VARLONG_BYTE_SIZE);
+    }
+
+    @Override
+    public int readZigZagVarInt() {
+        final var i = readVarInt();
+        return (i >>> 1) ^ -(i & 1);
+    }
+
+    @Override
+    public long readZigZagVarLong() {
+        final var l = readVarLong();
+        return (l >>> 1) ^ -(l & 1L);
+    }
+
+    private long readVarLong(final int maxByteSize) {
+        final var head = this.head;
+        if (head == null) {
+            throw new JayoEOFException();
+        }
+
+        // Fast path: the varint is entirely in the head segment.
+        final var data = head.data;
+        final var pos = head.pos;
+        final var limit = Math.min(head.limit, pos + maxByteSize);
+        var result = 0L;
+        for (var i = pos; i < limit; i++) {
+            final var b = data[i];
+            result |= (b & 0x7fL) << (7 * (i - pos));
+            if (b >= 0) {
+                consumeHead(head, i - pos + 1);
+                return result;
+            }
+        }
+
+        // else the varint is split across multiple segments.
+        final var byteCount = varIntByteCount(maxByteSize);
+        if (byteCount == -1) {
+            if (byteSize < maxByteSize) {
+                throw new JayoEOFException();
+            }
+            throw new NumberFormatException("Malformed varint, it does not end within " + maxByteSize + " bytes");
+        }
+        result = 0L;
+        for (var i = 0; i < byteCount; i++) {
+            result |= (readByte() & 0x7fL) << (7 * i);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of bytes of the varint at the start of this buffer, or {@code -1} if there is no complete
+     * varint of at most {@code maxByteSize} bytes in this buffer. This method does not consume any byte.
+     */
+    int varIntByteCount(final int maxByteSize) {
+        var segment = head;
+        var byteCount = 0;
+        while (segment != null) {
+            for (var i = segment.pos; i < segment.limit; i++) {
+                byteCount++;
+                if (segment.data[i] >= 0) {
+                    return byteCount;
+                }
+                if (byteCount == maxByteSize) {
+                    return -1;
+                }
+            }
+            segment = segment.next;
+            if (segment == head) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Consumes {@code byteCount} bytes from the {@code head} segment, that must contain at least this number of bytes.
+     */
+    private void consumeHead(final @NonNull Segment head, final int byteCount) {
+        assert head != null;
+
+        head.pos += byteCount;
+        byteSize -= byteCount;
 
         if (head.pos == head.limit) {
             this.head = head.pop();
             SegmentPool.recycle(head);
         }
-        return l;
     }
 
     @Override
@@ -778,6 +998,16 @@ public final class RealBuffer implements Buffer {
                         + data.readByteString().hex() + "'…'");
     }
 
+    @Override
+    public @NonNull SplitCursor lines() {
+        return new RealSplitCursor(this, this, (byte) ((int) '\n'), true);
+    }
+
+    @Override
+    public @NonNull SplitCursor splitOn(final byte delimiter) {
+        return new RealSplitCursor(this, this, delimiter, false);
+    }
+
     @Override
     public int readUtf8CodePoint() {
         if (byteSize == 0L) {
@@ -940,6 +1170,108 @@ public final class RealBuffer implements Buffer {
         return toRead;
     }
 
+    @Override
+    public void readTo(final int @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Integer.BYTES, byteOrder);
+    }
+
+    @Override
+    public void readTo(final long @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Long.BYTES, byteOrder);
+    }
+
+    @Override
+    public void readTo(final float @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Float.BYTES, byteOrder);
+    }
+
+    @Override
+    public void readTo(final double @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Double.BYTES, byteOrder);
+    }
+
+    /**
+     * Removes {@code count} numbers of {@code elementSize} bytes from this buffer and copies them into the
+     * {@code destination} primitive array. All the complete numbers of a segment are converted at once, only numbers
+     * that are split across segments are read one by one.
+     */
+    void readToPrimitives(final @NonNull Object destination,
+                          final int offset,
+                          final int count,
+                          final int elementSize,
+                          final @NonNull ByteOrder byteOrder) {
+        assert destination != null;
+        Objects.requireNonNull(byteOrder);
+
+        final var toRead = (int) Math.min(count, byteSize / elementSize);
+        var _offset = offset;
+        var remaining = toRead;
+        while (remaining > 0) {
+            final var head = this.head;
+            assert head != null;
+            final var inSegment = Math.min(remaining, (head.limit - head.pos) / elementSize);
+            if (inSegment == 0) {
+                // this number is split across multiple segments
+                final var bigEndian = byteOrder == ByteOrder.BIG_ENDIAN;
+                if (destination instanceof int[] ints) {
+                    ints[_offset] = bigEndian ? readInt() : readIntLe();
+                } else if (destination instanceof long[] longs) {
+                    longs[_offset] = bigEndian ? readLong() : readLongLe();
+                } else if (destination instanceof float[] floats) {
+                    floats[_offset] = bigEndian ? readFloat() : readFloatLe();
+                } else if (destination instanceof double[] doubles) {
+                    doubles[_offset] = bigEndian ? readDouble() : readDoubleLe();
+                } else {
+                    throw new IllegalArgumentException("Unexpected destination " + destination);
+                }
+                _offset++;
+                remaining--;
+                continue;
+            }
+
+            final var view = ByteBuffer.wrap(head.data, head.pos, inSegment * elementSize).order(byteOrder);
+            if (destination instanceof int[] ints) {
+                view.asIntBuffer().get(ints, _offset, inSegment);
+            } else if (destination instanceof long[] longs) {
+                view.asLongBuffer().get(longs, _offset, inSegment);
+            } else if (destination instanceof float[] floats) {
+                view.asFloatBuffer().get(floats, _offset, inSegment);
+            } else if (destination instanceof double[] doubles) {
+                view.asDoubleBuffer().get(doubles, _offset, inSegment);
+            } else {
+                throw new IllegalArgumentException("Unexpected destination " + destination);
+            }
+            consumeHead(head, inSegment * elementSize);
+            _offset += inSegment;
+            remaining -= inSegment;
+        }
+
+        if (toRead < count) {
+            throw new JayoEOFException("could not write all the requested numbers to the array, written " +
+                    toRead + "/" + count);
+        }
+    }
+
     @Override
     public int readAtMostTo(final @NonNull ByteBuffer destination) {
         Objects.requireNonNull(destination);
@@ -1133,6 +1465,84 @@ public final class RealBuffer implements Buffer {
         return this;
     }
 
+    @Override
+    public @NonNull Buffer write(final int @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Integer.BYTES, byteOrder);
+    }
+
+    @Override
+    public @NonNull Buffer write(final long @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Long.BYTES, byteOrder);
+    }
+
+    @Override
+    public @NonNull Buffer write(final float @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Float.BYTES, byteOrder);
+    }
+
+    @Override
+    public @NonNull Buffer write(final double @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Double.BYTES, byteOrder);
+    }
+
+    /**
+     * Writes {@code count} numbers of {@code elementSize} bytes from the {@code source} primitive array to this
+     * buffer. Numbers are converted at once, by runs filling each tail segment.
+     */
+    @NonNull
+    Buffer writePrimitives(final @NonNull Object source,
+                           final int offset,
+                           final int count,
+                           final int elementSize,
+                           final @NonNull ByteOrder byteOrder) {
+        assert source != null;
+        Objects.requireNonNull(byteOrder);
+
+        var _offset = offset;
+        var remaining = count;
+        while (remaining > 0) {
+            final var tail = writableTail(elementSize);
+            final var inSegment = Math.min(remaining, (Segment.SIZE - tail.limit) / elementSize);
+            final var view = ByteBuffer.wrap(tail.data, tail.limit, inSegment * elementSize).order(byteOrder);
+            if (source instanceof int[] ints) {
+                view.asIntBuffer().put(ints, _offset, inSegment);
+            } else if (source instanceof long[] longs) {
+                view.asLongBuffer().put(longs, _offset, inSegment);
+            } else if (source instanceof float[] floats) {
+                view.asFloatBuffer().put(floats, _offset, inSegment);
+            } else if (source instanceof double[] doubles) {
+                view.asDoubleBuffer().put(doubles, _offset, inSegment);
+            } else {
+                throw new IllegalArgumentException("Unexpected source " + source);
+            }
+            tail.limit += inSegment * elementSize;
+            byteSize += (long) inSegment * elementSize;
+            _offset += inSegment;
+            remaining -= inSegment;
+        }
+        return this;
+    }
+
     @Override
     public int writeAllFrom(final @NonNull ByteBuffer source) {
         Objects.requireNonNull(source);
@@ -1194,9 +1604,17 @@ public final class RealBuffer implements Buffer {
     @Override
     public @NonNull Buffer writeShort(final short s) {
         final var tail = writableTail(2);
-        final var data = tail.data;
-        data[tail.limit++] = (byte) (s >>> 8 & 0xff);
-        data[tail.limit++] = (byte) (s & 0xff);
+        SHORT_BE.set(tail.data, tail.limit, s);
+        tail.limit += 2;
+        byteSize += 2L;
+        return this;
+    }
+
+    @Override
+    public @NonNull Buffer writeShortLe(final short s) {
+        final var tail = writableTail(2);
+        SHORT_LE.set(tail.data, tail.limit, s);
+        tail.limit += 2;
         byteSize += 2L;
         return this;
     }
@@ -1204,11 +1622,17 @@ public final class RealBuffer implements Buffer {
     @Override
     public @NonNull Buffer writeInt(final int i) {
         final var tail = writableTail(4);
-        final var data = tail.data;
-        data[tail.limit++] = (byte) (i >>> 24 & 0xff);
-        data[tail.limit++] = (byte) (i >>> 16 & 0xff);
-        data[tail.limit++] = (byte) (i >>> 8 & 0xff);
-        data[tail.limit++] = (byte) (i & 0xff);
+        INT_BE.set(tail.data, tail.limit, i);
+        tail.limit += 4;
+        byteSize += 4L;
+        return this;
+    }
+
+    @Override
+    public @NonNull Buffer writeIntLe(final int i) {
+        final var tail = writableTail(4);
+        INT_LE.set(tail.data, tail.limit, i);
+        tail.limit += 4;
         byteSize += 4L;
         return this;
     }
@@ -1216,19 +1640,73 @@ public final class RealBuffer implements Buffer {
     @Override
     public @NonNull Buffer writeLong(final long l) {
         final var tail = writableTail(8);
-        final var data = tail.data;
-        data[tail.limit++] = (byte) (l >>> 56 & 0xffL);
-        data[tail.limit++] = (byte) (l >>> 48 & 0xffL);
-        data[tail.limit++] = (byte) (l >>> 40 & 0xffL);
-        data[tail.limit++] = (byte) (l >>> 32 & 0xffL);
-        data[tail.limit++] = (byte) (l >>> 24 & 0xffL);
-        data[tail.limit++] = (byte) (l >>> 16 & 0xffL);
-        data[tail.limit++] = (byte) (l >>> 8 & 0xffL);
-        data[tail.limit++] = (byte) (l & 0xffL);
+        LONG_BE.set(tail.data, tail.limit, l);
+        tail.limit += 8;
+        byteSize += 8L;
+        return this;
+    }
+
+    @Override
+    public @NonNull Buffer writeLongLe(final long l) {
+        final var tail = writableTail(8);
+        LONG_LE.set(tail.data, tail.limit, l);
+        tail.limit += 8;
         byteSize += 8L;
         return this;
     }
 
+    @Override
+    public @NonNull Buffer writeFloat(final float f) {
+        return writeInt(Float.floatToIntBits(f));
+    }
+
+    @Override
+    public @NonNull Buffer writeFloatLe(final float f) {
+        return writeIntLe(Float.floatToIntBits(f));
+    }
+
+    @Override
+    public @NonNull Buffer writeDouble(final double d) {
+        return writeLong(Double.doubleToLongBits(d));
+    }
+
+    @Override
+    public @NonNull Buffer writeDoubleLe(final double d) {
+        return writeLongLe(Double.doubleToLongBits(d));
+    }
+
+    @Override
+    public @NonNull Buffer writeVarInt(final int i) {
+        return writeVarLong(i & 0xffffffffL);
+    }
+
+    @Override
+    public @NonNull Buffer writeVarLong(final long l) {
+        final var tail = writableTail(MAX_VARLONG_BYTE_SIZE);
+        final var data = tail.data;
+        var limit = tail.limit;
+        var value = l;
+        while ((value & ~0x7fL) != 0L) {
+            data[limit++] = (byte) ((value & 0x7fL) | 0x80L);
+            value >>>= 7;
+        }
+        data[limit++] = (byte) value;
+
+        byteSize += limit - tail.limit;
+        tail.limit = limit;
+        return this;
+    }
+
+    @Override
+    public @NonNull Buffer writeZigZagVarInt(final int i) {
+        return writeVarInt((i << 1) ^ (i >> 31));
+    }
+
+    @Override
+    public @NonNull Buffer writeZigZagVarLong(final long l) {
+        return writeVarLong((l << 1) ^ (l >> 63));
+    }
+
     @Override
     public @NonNull Buffer writeDecimalLong(final long l) {
         if (l == 0L) {
@@ -1445,6 +1923,27 @@ public final class RealBuffer implements Buffer {
         }
     }
 
+    /**
+     * Appends {@code segment} to the tail of this buffer. The segment must not belong to any other buffer.
+     */
+    void pushSegment(final @NonNull Segment segment) {
+        assert segment != null;
+
+        final var byteCount = segment.limit - segment.pos;
+        if (head == null) {
+            head = segment;
+            segment.prev = segment;
+            segment.next = segment;
+        } else {
+            final var tail = head.prev;
+            assert tail != null;
+            if (mustPushNewTail(tail, segment)) {
+                tail.push(segment);
+            }
+        }
+        byteSize += byteCount;
+    }
+
     /**
      * Call this when the tail and its predecessor may both be less than half full. In this case, we will copy data so
      * that a segment can be recycled.
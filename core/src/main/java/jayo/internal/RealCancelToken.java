@@ -28,8 +28,17 @@ import jayo.tools.CancelToken;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public final class RealCancelToken implements CancelScope, CancelToken {
     static final @NonNull RealCancelToken SHIELDED = new RealCancelToken(0L);
@@ -48,6 +57,36 @@ public final class RealCancelToken implements CancelScope, CancelToken {
     final long threadId;
     @Nullable
     RealCancelToken next = null;
+    /**
+     * The cancellation context this cancel token was added to, it must be invalidated when this token changes.
+     */
+    @Nullable
+    CancellationContext context = null;
+    /**
+     * The subtasks forked from this cancel scope, lazily created.
+     */
+    @SuppressWarnings("FieldMayBeFinal")
+    private volatile @Nullable Queue<ForkedTask<?>> forks = null;
+    /**
+     * The number of subtasks forked from this cancel scope that were not joined yet, or {@link #CLOSED} once they were
+     * all joined and no more subtasks can be forked.
+     */
+    @SuppressWarnings("FieldMayBeFinal")
+    private volatile int pendingForkCount = 0;
+    private static final int CLOSED = -1;
+    // VarHandle mechanics
+    private static final @NonNull VarHandle FORKS_HANDLE;
+    private static final @NonNull VarHandle PENDING_FORK_COUNT_HANDLE;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            FORKS_HANDLE = lookup.findVarHandle(RealCancelToken.class, "forks", Queue.class);
+            PENDING_FORK_COUNT_HANDLE = lookup.findVarHandle(RealCancelToken.class, "pendingForkCount", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     public RealCancelToken(final long deadlineNanos) {
         this(0L,
@@ -73,11 +112,163 @@ public final class RealCancelToken implements CancelScope, CancelToken {
     @Override
     public void shield() {
         shielded = true;
+        invalidateContext();
     }
 
     @Override
     public void cancel() {
         cancelled = true;
+        final var currentContext = context;
+        if (currentContext != null) {
+            currentContext.invalidate();
+            // the subtasks forked from this cancel scope and from the nested ones are cancelled too
+            currentContext.cancelForks(this);
+        } else {
+            cancelForks();
+        }
+    }
+
+    @Override
+    public <T> @NonNull Future<T> fork(final @NonNull Callable<T> task) {
+        Objects.requireNonNull(task);
+        if (finished) {
+            throw new IllegalStateException("finished");
+        }
+
+        var cancelToken = JavaVersionUtils.getCancelToken();
+        if (cancelToken == null) {
+            // this cancel scope is used from a thread that is not in a cancellable block
+            cancelToken = this;
+        }
+        final var fork = cancelToken.shielded
+                ? new ForkedTask<>(this, task, 0L, 0L, false)
+                : new ForkedTask<>(this, task, cancelToken.timeoutNanos, cancelToken.deadlineNanoTime,
+                cancelToken.cancelled);
+
+        // count this fork before queuing it, so the owner cannot close this cancel scope without joining it
+        int count;
+        do {
+            count = pendingForkCount;
+            if (count == CLOSED) {
+                throw new IllegalStateException("finished");
+            }
+        } while (!PENDING_FORK_COUNT_HANDLE.compareAndSet(this, count, count + 1));
+
+        var currentForks = forks;
+        if (currentForks == null) {
+            FORKS_HANDLE.compareAndSet(this, null, new ConcurrentLinkedQueue<ForkedTask<?>>());
+            currentForks = forks;
+            assert currentForks != null;
+        }
+        currentForks.add(fork);
+        final var currentContext = context;
+        if (currentContext != null) {
+            currentContext.forked = true;
+        }
+        fork.thread.start();
+        return fork;
+    }
+
+    /**
+     * Cancels all the subtasks forked from this cancel scope, and interrupts their threads.
+     */
+    void cancelForks() {
+        final var currentForks = forks;
+        if (currentForks != null) {
+            for (final var fork : currentForks) {
+                fork.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Executes {@code block} in this cancel scope, then waits for all the subtasks forked from it.
+     */
+    void runBlock(final @NonNull Consumer<CancelScope> block) {
+        assert block != null;
+
+        var completed = false;
+        try {
+            block.accept(this);
+            completed = true;
+        } finally {
+            joinForks(completed);
+            // no more subtasks can be forked
+            finished = true;
+        }
+    }
+
+    /**
+     * Executes {@code block} in this cancel scope and returns its result, after waiting for all the subtasks forked
+     * from it.
+     */
+    <T> T callBlock(final @NonNull Function<CancelScope, T> block) {
+        assert block != null;
+
+        var completed = false;
+        try {
+            final var result = block.apply(this);
+            completed = true;
+            return result;
+        } finally {
+            joinForks(completed);
+            // no more subtasks can be forked
+            finished = true;
+        }
+    }
+
+    /**
+     * Waits for all the subtasks forked from this cancel scope to terminate, including the ones forked in the meantime,
+     * then closes it. If the cancellable block failed, they are cancelled first.
+     */
+    private void joinForks(final boolean completed) {
+        if (!completed) {
+            cancelForks();
+        }
+        var interrupted = false;
+        while (true) {
+            final var currentForks = forks;
+            final var fork = (currentForks != null) ? currentForks.peek() : null;
+            if (fork == null) {
+                // close this cancel scope only if no fork is being queued
+                if (PENDING_FORK_COUNT_HANDLE.compareAndSet(this, 0, CLOSED)) {
+                    break;
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                fork.join();
+                currentForks.remove(fork);
+                PENDING_FORK_COUNT_HANDLE.getAndAdd(this, -1);
+            } catch (InterruptedException e) {
+                // an interrupted owner cancels its subtasks, but still waits for them
+                interrupted = true;
+                cancelForks();
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt(); // Retain interrupted status.
+            if (completed) {
+                throw new JayoInterruptedIOException("current thread is interrupted");
+            }
+        }
+    }
+
+    /**
+     * Marks this cancel token as finished, when the execution exits its cancellable block.
+     */
+    void finish() {
+        finished = true;
+        invalidateContext();
+    }
+
+    private void invalidateContext() {
+        final var currentContext = context;
+        if (currentContext != null) {
+            currentContext.invalidate();
+        }
     }
 
     @Override
@@ -170,6 +361,48 @@ public final class RealCancelToken implements CancelScope, CancelToken {
         }
     }
 
+    /**
+     * Parks the current thread until it is unparked, or until the deadline or the timeout of this cancel token is
+     * reached. Like {@link LockSupport#park(Object)}, this may return spuriously, so callers must check their wake-up
+     * condition again in a loop.
+     */
+    void park(final @NonNull Object blocker) {
+        assert blocker != null;
+
+        // CancelToken is finished, shielded, or there is no timeout and no deadline: park forever.
+        if (finished || shielded || (deadlineNanoTime == 0L && timeoutNanos == 0L)) {
+            LockSupport.park(blocker);
+        } else {
+            // Compute how long we'll park.
+            final long remainingNanos;
+            if (deadlineNanoTime > 0L) {
+                remainingNanos = deadlineNanoTime - System.nanoTime();
+            } else {
+                remainingNanos = timeoutNanos;
+            }
+
+            // timeout may already be reached
+            if (remainingNanos <= 0) {
+                cancel();
+                throw new JayoTimeoutException("timeout");
+            }
+
+            final var parkStart = System.nanoTime();
+            LockSupport.parkNanos(blocker, remainingNanos);
+
+            // check again if timeout was reached immediately after the thread is unparked.
+            if (System.nanoTime() - parkStart >= remainingNanos) {
+                cancel();
+                throw new JayoTimeoutException("timeout");
+            }
+        }
+
+        if (Thread.currentThread().isInterrupted()) {
+            cancel();
+            throw new JayoInterruptedIOException("current thread is interrupted");
+        }
+    }
+
     public void throwIfReached() {
         if (finished || shielded) {
             return;
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.*;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+import static jayo.internal.GzipBlockInflater.WINDOW_SIZE;
+
+public final class RealGzipIndex implements GzipIndex {
+    private static final int MAGIC = 0x4a475a49; // "JGZI"
+    private static final int VERSION = 1;
+
+    private final long spanByteSize;
+    private final long uncompressedByteSize;
+    private final long compressedByteSize;
+    /**
+     * The checkpoints, ordered by uncompressed offset.
+     */
+    private final @NonNull List<Checkpoint> checkpoints;
+
+    private RealGzipIndex(final long spanByteSize,
+                          final long uncompressedByteSize,
+                          final long compressedByteSize,
+                          final @NonNull List<Checkpoint> checkpoints) {
+        assert checkpoints != null;
+
+        this.spanByteSize = spanByteSize;
+        this.uncompressedByteSize = uncompressedByteSize;
+        this.compressedByteSize = compressedByteSize;
+        this.checkpoints = checkpoints;
+    }
+
+    public static @NonNull RealGzipIndex build(final @NonNull RawReader gzipped, final long spanByteSize) {
+        Objects.requireNonNull(gzipped);
+        if (spanByteSize < 1L) {
+            throw new IllegalArgumentException("spanByteSize < 1: " + spanByteSize);
+        }
+
+        final var checkpoints = new ArrayList<Checkpoint>();
+        final var inflater = new GzipBlockInflater(gzipped, (uncompressedOffset, bitOffset, history, historyEnd) -> {
+            final var previousOffset = checkpoints.isEmpty() ? 0L : checkpoints.get(checkpoints.size() - 1).offset;
+            if (uncompressedOffset - previousOffset < spanByteSize) {
+                return;
+            }
+            final var windowByteSize = Math.min(historyEnd, WINDOW_SIZE);
+            checkpoints.add(new Checkpoint(uncompressedOffset, bitOffset, windowByteSize,
+                    deflateWindow(history, historyEnd - windowByteSize, windowByteSize)));
+        });
+        while (inflater.inflateTo(null) != -1L) {
+            // Only the checkpoints matter.
+        }
+
+        checkpoints.trimToSize();
+        return new RealGzipIndex(spanByteSize, inflater.uncompressedOffset(), inflater.bitOffset() / 8, checkpoints);
+    }
+
+    public static @NonNull RealGzipIndex read(final @NonNull RawReader rawReader) {
+        Objects.requireNonNull(rawReader);
+
+        final var reader = new RealReader(rawReader);
+        final var magic = reader.readInt();
+        if (magic != MAGIC) {
+            throw new JayoException("not a gzip index, magic: 0x" + Utils.toHexString(magic));
+        }
+        final var version = reader.readInt();
+        if (version != VERSION) {
+            throw new JayoException("unsupported gzip index version: " + version);
+        }
+
+        final var spanByteSize = reader.readLong();
+        final var uncompressedByteSize = reader.readLong();
+        final var compressedByteSize = reader.readLong();
+        final var checkpointCount = reader.readInt();
+        if (checkpointCount < 0) {
+            throw new JayoException("invalid gzip index checkpoint count: " + checkpointCount);
+        }
+        final var checkpoints = new ArrayList<Checkpoint>(checkpointCount);
+        for (var i = 0; i < checkpointCount; i++) {
+            final var offset = reader.readLong();
+            final var bitOffset = reader.readLong();
+            final var windowByteSize = reader.readInt();
+            if (windowByteSize < 0 || windowByteSize > WINDOW_SIZE) {
+                throw new JayoException("invalid gzip index window byte size: " + windowByteSize);
+            }
+            final var compressedWindowByteSize = reader.readInt();
+            if (compressedWindowByteSize < 0) {
+                throw new JayoException("invalid gzip index compressed window byte size: " + compressedWindowByteSize);
+            }
+            final var compressedWindow = reader.readByteArray(compressedWindowByteSize);
+            checkpoints.add(new Checkpoint(offset, bitOffset, windowByteSize, compressedWindow));
+        }
+        return new RealGzipIndex(spanByteSize, uncompressedByteSize, compressedByteSize, checkpoints);
+    }
+
+    @Override
+    public void write(final @NonNull RawWriter writer) {
+        Objects.requireNonNull(writer);
+
+        final var buffer = new RealBuffer();
+        buffer.writeInt(MAGIC)
+                .writeInt(VERSION)
+                .writeLong(spanByteSize)
+                .writeLong(uncompressedByteSize)
+                .writeLong(compressedByteSize)
+                .writeInt(checkpoints.size());
+        for (final var checkpoint : checkpoints) {
+            buffer.writeLong(checkpoint.offset)
+                    .writeLong(checkpoint.bitOffset)
+                    .writeInt(checkpoint.windowByteSize)
+                    .writeInt(checkpoint.compressedWindow.length)
+                    .write(checkpoint.compressedWindow);
+        }
+        writer.writeFrom(buffer, buffer.byteSize);
+    }
+
+    @Override
+    public @NonNull RawReader reader(final @NonNull Path path, final long uncompressedOffset) {
+        Objects.requireNonNull(path);
+        if (uncompressedOffset < 0L || uncompressedOffset > uncompressedByteSize) {
+            throw new IllegalArgumentException("uncompressedOffset out of range [0, " + uncompressedByteSize + "]: " +
+                    uncompressedOffset);
+        }
+
+        final var checkpoint = checkpointBefore(uncompressedOffset);
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw JayoException.buildJayoException(e);
+        }
+
+        try {
+            final GzipBlockInflater inflater;
+            if (checkpoint == null) {
+                inflater = new GzipBlockInflater(new ReadableByteChannelRawReader(channel), null);
+            } else {
+                channel.position(checkpoint.bitOffset >>> 3);
+                inflater = new GzipBlockInflater(new ReadableByteChannelRawReader(channel), checkpoint.bitOffset,
+                        checkpoint.offset, inflateWindow(checkpoint));
+            }
+
+            final var reader = new SeekingRawReader(inflater);
+            reader.skip(uncompressedOffset - inflater.uncompressedOffset());
+            return reader;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw JayoException.buildJayoException(e);
+        } catch (RuntimeException | Error e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    @Override
+    public long getSpanByteSize() {
+        return spanByteSize;
+    }
+
+    @Override
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+
+    @Override
+    public long getUncompressedByteSize() {
+        return uncompressedByteSize;
+    }
+
+    @Override
+    public long getCompressedByteSize() {
+        return compressedByteSize;
+    }
+
+    @Override
+    public String toString() {
+        return "GzipIndex(uncompressedByteSize=" + uncompressedByteSize +
+                ", compressedByteSize=" + compressedByteSize +
+                ", checkpointCount=" + checkpoints.size() + ")";
+    }
+
+    private static void closeQuietly(final @NonNull FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * @return the last checkpoint at or before {@code uncompressedOffset}, or null if there is none.
+     */
+    private @Nullable Checkpoint checkpointBefore(final long uncompressedOffset) {
+        var low = 0;
+        var high = checkpoints.size() - 1;
+        while (low <= high) {
+            final var mid = (low + high) >>> 1;
+            if (checkpoints.get(mid).offset <= uncompressedOffset) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return (high >= 0) ? checkpoints.get(high) : null;
+    }
+
+    private static byte @NonNull [] deflateWindow(final byte @NonNull [] source, final int offset, final int byteCount) {
+        final var deflater = ZlibPool.deflater(Deflater.DEFAULT_COMPRESSION, true /* No wrap */);
+        try {
+            deflater.setInput(source, offset, byteCount);
+            deflater.finish();
+            var result = new byte[byteCount / 2 + 64];
+            var resultSize = 0;
+            while (!deflater.finished()) {
+                if (resultSize == result.length) {
+                    result = Arrays.copyOf(result, result.length * 2);
+                }
+                resultSize += deflater.deflate(result, resultSize, result.length - resultSize);
+            }
+            return Arrays.copyOf(result, resultSize);
+        } finally {
+            ZlibPool.release(deflater);
+        }
+    }
+
+    private static byte @NonNull [] inflateWindow(final @NonNull Checkpoint checkpoint) {
+        final var inflater = ZlibPool.inflater(true /* No wrap */);
+        try {
+            inflater.setInput(checkpoint.compressedWindow);
+            final var window = new byte[checkpoint.windowByteSize];
+            var windowSize = 0;
+            while (windowSize < window.length) {
+                final var inflated = inflater.inflate(window, windowSize, window.length - windowSize);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new JayoException("corrupt gzip index window at offset " + checkpoint.offset);
+                }
+                windowSize += inflated;
+            }
+            return window;
+        } catch (DataFormatException e) {
+            throw new JayoException(new IOException(e));
+        } finally {
+            ZlibPool.release(inflater);
+        }
+    }
+
+    /**
+     * An access point at a deflate block boundary.
+     *
+     * @param offset           the count of uncompressed bytes that precede this deflate block.
+     * @param bitOffset        the count of compressed bits that precede this deflate block.
+     * @param windowByteSize   the count of uncompressed bytes in the window, at most 32 KiB.
+     * @param compressedWindow the uncompressed bytes that precede this deflate block, raw deflate compressed.
+     */
+    private record Checkpoint(long offset, long bitOffset, int windowByteSize, byte @NonNull [] compressedWindow) {
+    }
+
+    private static final class SeekingRawReader implements RawReader {
+        private final @NonNull GzipBlockInflater inflater;
+        private final @NonNull RealBuffer decoded = new RealBuffer();
+        private boolean closed = false;
+
+        private SeekingRawReader(final @NonNull GzipBlockInflater inflater) {
+            assert inflater != null;
+            this.inflater = inflater;
+        }
+
+        @Override
+        public long readAtMostTo(final @NonNull Buffer destination, final long byteCount) {
+            Objects.requireNonNull(destination);
+            if (byteCount < 0L) {
+                throw new IllegalArgumentException("byteCount < 0: " + byteCount);
+            }
+            if (closed) {
+                throw new IllegalStateException("closed");
+            }
+
+            if (decoded.byteSize == 0L && inflater.inflateTo(decoded) == -1L) {
+                return -1L;
+            }
+            return decoded.readAtMostTo(destination, byteCount);
+        }
+
+        private void skip(long byteCount) {
+            while (byteCount > 0L) {
+                if (inflater.inflateTo(decoded) == -1L) {
+                    throw new JayoEOFException();
+                }
+                final var toSkip = Math.min(byteCount, decoded.byteSize);
+                decoded.skip(toSkip);
+                byteCount -= toSkip;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            decoded.clear();
+            inflater.close();
+        }
+
+        @Override
+        public String toString() {
+            return "GzipIndex.reader(" + inflater.uncompressedOffset() + ")";
+        }
+    }
+}
@@ -126,6 +126,9 @@ public final class RealInflaterRawReader implements InflaterRawReader {
 
     @Override
     public boolean refill() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
         if (!inflater.needsInput()) {
             return false;
         }
@@ -161,7 +164,7 @@ public final class RealInflaterRawReader implements InflaterRawReader {
         if (closed) {
             return;
         }
-        inflater.end();
+        ZlibPool.release(inflater);
         closed = true;
         reader.close();
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.Buffer;
+import jayo.MessageDeflater;
+import jayo.bytestring.ByteString;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+public final class RealMessageDeflater implements MessageDeflater {
+    /**
+     * The empty stored block that ends a sync flush.
+     */
+    static final int SYNC_FLUSH_MARKER = 0x0000ffff;
+
+    private final @NonNull Deflater deflater;
+    private final boolean contextTakeover;
+    private final byte @Nullable [] dictionary;
+    /**
+     * Receives the compressed bytes of the current message, so its trailing marker can be trimmed.
+     */
+    private final @NonNull RealBuffer deflated = new RealBuffer();
+    private final @NonNull DeflaterRawWriter deflaterWriter;
+    private boolean closed = false;
+
+    public RealMessageDeflater(final int level, final boolean contextTakeover, final @Nullable ByteString dictionary) {
+        deflater = ZlibPool.deflater(level, true /* No wrap */);
+        this.contextTakeover = contextTakeover;
+        this.dictionary = (dictionary != null) ? dictionary.toByteArray() : null;
+        setDictionary();
+        deflaterWriter = new DeflaterRawWriter(new RealWriter(deflated), deflater);
+    }
+
+    @Override
+    public void deflate(final @NonNull Buffer message, final @NonNull Buffer destination) {
+        Objects.requireNonNull(message);
+        Objects.requireNonNull(destination);
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        deflaterWriter.writeFrom(message, message.bytesAvailable());
+        // A sync flush ends the message on a byte boundary, followed by an empty stored block.
+        deflaterWriter.flush();
+
+        final var deflatedByteSize = deflated.byteSize;
+        if (deflatedByteSize == 0L) {
+            // With context takeover, zlib emits nothing for the sync flush of an empty message that follows another
+            // one. RFC 7692 section 7.2.3.6: a single 0x00 byte is the header of the empty stored block, whose
+            // trimmed marker the inflater restores.
+            destination.writeByte((byte) 0x00);
+        } else {
+            assert deflatedByteSize >= 4L && deflated.getByte(deflatedByteSize - 2) == (byte) 0xff;
+            destination.writeFrom(deflated, deflatedByteSize - 4);
+            deflated.clear();
+        }
+
+        if (!contextTakeover) {
+            deflater.reset();
+            setDictionary();
+        }
+    }
+
+    private void setDictionary() {
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Also releases the deflater.
+        deflaterWriter.close();
+        deflated.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageDeflater(contextTakeover=" + contextTakeover + ", dictionary=" + (dictionary != null) + ")";
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.Buffer;
+import jayo.MessageInflater;
+import jayo.bytestring.ByteString;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.zip.Inflater;
+
+import static jayo.internal.RealMessageDeflater.SYNC_FLUSH_MARKER;
+
+public final class RealMessageInflater implements MessageInflater {
+    private final @NonNull Inflater inflater;
+    private final boolean contextTakeover;
+    private final byte @Nullable [] dictionary;
+    /**
+     * The compressed bytes of the current message are written directly in the buffer of this reader, its own source is
+     * always empty.
+     */
+    private final @NonNull RealReader compressed = new RealReader(new RealBuffer());
+    private final @NonNull RealInflaterRawReader inflaterReader;
+    private boolean closed = false;
+
+    public RealMessageInflater(final boolean contextTakeover, final @Nullable ByteString dictionary) {
+        inflater = ZlibPool.inflater(true /* No wrap */);
+        this.contextTakeover = contextTakeover;
+        this.dictionary = (dictionary != null) ? dictionary.toByteArray() : null;
+        setDictionary();
+        inflaterReader = new RealInflaterRawReader(compressed, inflater);
+    }
+
+    @Override
+    public void inflate(final @NonNull Buffer message, final @NonNull Buffer destination) {
+        Objects.requireNonNull(message);
+        Objects.requireNonNull(destination);
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        compressed.buffer.writeFrom(message, message.bytesAvailable());
+        compressed.buffer.writeInt(SYNC_FLUSH_MARKER);
+
+        while (true) {
+            if (inflaterReader.readOrInflateAtMostTo(destination, Segment.SIZE) > 0L) {
+                continue;
+            }
+            if (inflater.finished()) {
+                // The message ended with a final deflate block: the next one starts a new compression context.
+                compressed.buffer.clear();
+                inflater.reset();
+                setDictionary();
+                break;
+            }
+            // True when all the bytes of this message were inflated.
+            if (inflaterReader.refill()) {
+                break;
+            }
+        }
+
+        if (!contextTakeover) {
+            inflater.reset();
+            setDictionary();
+        }
+    }
+
+    private void setDictionary() {
+        if (dictionary != null) {
+            inflater.setDictionary(dictionary);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Also releases the inflater.
+        inflaterReader.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageInflater(contextTakeover=" + contextTakeover + ", dictionary=" + (dictionary != null) + ")";
+    }
+}
@@ -25,16 +25,44 @@ import jayo.Buffer;
 import jayo.bytestring.ByteString;
 import jayo.Options;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.util.*;
 
 public final class RealOptions extends AbstractList<ByteString> implements Options {
+    /**
+     * Below this number of distinct options, the trie alone is fast enough.
+     */
+    private static final int HASH_MIN_OPTION_COUNT = 32;
+    /**
+     * Each distinct option length costs one hash probe, above this number of distinct lengths we stick to the trie.
+     */
+    private static final int HASH_MAX_DISTINCT_LENGTHS = 32;
+
     final @NonNull ByteString @NonNull [] byteStrings;
     final int @NonNull [] trie;
+    /**
+     * If true, ASCII letters of both the options and the selected bytes are folded to lowercase before comparing them.
+     */
+    final boolean ignoreCase;
+    /**
+     * An optional length-bucketed perfect hash of the options, used as a fast path when the buffer's head segment
+     * contains enough bytes. It is null for small option sets, that are efficiently matched by the trie.
+     */
+    final @Nullable LengthBucketedHash hash;
 
     public RealOptions(final @NonNull ByteString @NonNull [] byteStrings, final int @NonNull [] trie) {
+        this(byteStrings, trie, false, null);
+    }
+
+    private RealOptions(final @NonNull ByteString @NonNull [] byteStrings,
+                        final int @NonNull [] trie,
+                        final boolean ignoreCase,
+                        final @Nullable LengthBucketedHash hash) {
         this.byteStrings = Objects.requireNonNull(byteStrings);
         this.trie = Objects.requireNonNull(trie);
+        this.ignoreCase = ignoreCase;
+        this.hash = hash;
     }
 
     @Override
@@ -48,18 +76,33 @@ public final class RealOptions extends AbstractList<ByteString> implements Optio
     }
 
     public static Options of(final @NonNull ByteString @NonNull ... byteStrings) {
+        return of(byteStrings, false);
+    }
+
+    public static Options ofIgnoreCase(final @NonNull ByteString @NonNull ... byteStrings) {
+        return of(byteStrings, true);
+    }
+
+    private static Options of(final @NonNull ByteString @NonNull [] byteStrings, final boolean ignoreCase) {
         if (Objects.requireNonNull(byteStrings).length == 0) {
             // With no choices we must always return -1. Create a trie that selects from an empty set.
-            return new RealOptions(new ByteString[0], new int[]{0, -1});
+            return new RealOptions(new ByteString[0], new int[]{0, -1}, ignoreCase, null);
+        }
+
+        // Fold the byte strings to lowercase if case must be ignored, the selected bytes will be folded the same way.
+        final var foldedByteStrings = new ArrayList<ByteString>(byteStrings.length);
+        for (final var byteString : byteStrings) {
+            Objects.requireNonNull(byteString);
+            foldedByteStrings.add(ignoreCase ? byteString.toAsciiLowercase() : byteString);
         }
 
         // Sort the byte strings which is required when recursively building the trie. Map the sorted indexes to the
         // caller's indexes.
-        final var list = new ArrayList<>(List.of(byteStrings));
+        final var list = new ArrayList<>(foldedByteStrings);
         Collections.sort(list);
         final var indexes = new ArrayList<>(Collections.nCopies(list.size(), -1));
         for (var callerIndex = 0; callerIndex < byteStrings.length; callerIndex++) {
-            final var byteString = byteStrings[callerIndex];
+            final var byteString = foldedByteStrings.get(callerIndex);
             final var sortedIndex = Collections.binarySearch(list, byteString);
             indexes.set(sortedIndex, callerIndex);
         }
@@ -98,7 +141,10 @@ public final class RealOptions extends AbstractList<ByteString> implements Optio
         final var trie = new int[(int) intCount(trieBytes)];
         Arrays.setAll(trie, _unused -> trieBytes.readInt());
 
-        return new RealOptions(byteStrings.clone() /* Defensive copy. */, trie);
+        // The trie walks and compares the selected bytes one by one, for large option sets a hash is cheaper.
+        final var hash = (list.size() >= HASH_MIN_OPTION_COUNT) ? LengthBucketedHash.build(list, indexes) : null;
+
+        return new RealOptions(byteStrings.clone() /* Defensive copy. */, trie, ignoreCase, hash);
     }
 
     /**
@@ -260,4 +306,204 @@ public final class RealOptions extends AbstractList<ByteString> implements Optio
     private static long intCount(final @NonNull Buffer buffer) {
         return buffer.bytesAvailable() / 4;
     }
+
+    static int foldCase(final int b) {
+        return (b >= 'A' && b <= 'Z') ? b | 0x20 : b;
+    }
+
+    /**
+     * A collision-free hash table of the options, where a single pass over the selected bytes computes the hash of each
+     * prefix, and only prefixes whose length is the length of one option are probed. The longest matching option wins,
+     * exactly like the trie does.
+     * <p>
+     * The table is built with the hash-and-displace method: options are first spread into buckets, then each bucket
+     * gets a displacement that moves all of its options to free slots of the table.
+     */
+    static final class LengthBucketedHash {
+        private static final int MAX_DISPLACEMENT = 1 << 16;
+        private static final int FNV_OFFSET_BASIS = 0x811c9dc5;
+        private static final int FNV_PRIME = 0x01000193;
+
+        /**
+         * The byte size of the longest option, this many bytes must be readable from the head segment.
+         */
+        final int maxByteSize;
+        /**
+         * {@code isOptionLength[n]} is true if at least one option is exactly {@code n} bytes long.
+         */
+        private final boolean @NonNull [] isOptionLength;
+        private final int @NonNull [] displacements;
+        private final byte @Nullable [] @NonNull [] keys;
+        private final int @NonNull [] values;
+
+        private LengthBucketedHash(final int maxByteSize,
+                                   final boolean @NonNull [] isOptionLength,
+                                   final int @NonNull [] displacements,
+                                   final byte @Nullable [] @NonNull [] keys,
+                                   final int @NonNull [] values) {
+            this.maxByteSize = maxByteSize;
+            this.isOptionLength = isOptionLength;
+            this.displacements = displacements;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        /**
+         * @return a perfect hash of the {@code byteStrings} that map to the {@code indexes}, or null if the option
+         * lengths are too disparate or if no collision-free displacement was found.
+         */
+        static @Nullable LengthBucketedHash build(final @NonNull List<ByteString> byteStrings,
+                                                  final @NonNull List<Integer> indexes) {
+            assert byteStrings != null;
+            assert indexes != null;
+
+            var maxByteSize = 0;
+            for (final var byteString : byteStrings) {
+                maxByteSize = Math.max(maxByteSize, byteString.byteSize());
+            }
+            final var isOptionLength = new boolean[maxByteSize + 1];
+            var distinctLengths = 0;
+            final var keys = new byte[byteStrings.size()][];
+            final var hashes = new int[keys.length];
+            for (var i = 0; i < keys.length; i++) {
+                keys[i] = byteStrings.get(i).toByteArray();
+                hashes[i] = hash(keys[i]);
+                if (!isOptionLength[keys[i].length]) {
+                    isOptionLength[keys[i].length] = true;
+                    distinctLengths++;
+                }
+            }
+            if (distinctLengths > HASH_MAX_DISTINCT_LENGTHS) {
+                return null;
+            }
+
+            // Spread the options into buckets, about one per bucket, in a table that is at most half full.
+            final var bucketCount = Integer.highestOneBit(keys.length);
+            final var tableSize = bucketCount << 2;
+            final var buckets = new ArrayList<List<Integer>>(bucketCount);
+            for (var bucket = 0; bucket < bucketCount; bucket++) {
+                buckets.add(new ArrayList<>());
+            }
+            for (var i = 0; i < keys.length; i++) {
+                buckets.get(bucket(hashes[i], bucketCount - 1)).add(i);
+            }
+            final var bucketOrder = new ArrayList<Integer>(bucketCount);
+            for (var bucket = 0; bucket < bucketCount; bucket++) {
+                bucketOrder.add(bucket);
+            }
+            // Place the largest buckets first, while the table is still mostly empty.
+            bucketOrder.sort((b1, b2) -> Integer.compare(buckets.get(b2).size(), buckets.get(b1).size()));
+
+            final var displacements = new int[bucketCount];
+            final var tableKeys = new byte[tableSize][];
+            final var tableValues = new int[tableSize];
+            Arrays.fill(tableValues, -1);
+            final var bucketSlots = new int[keys.length];
+            for (final var bucket : bucketOrder) {
+                final var options = buckets.get(bucket);
+                if (options.isEmpty()) {
+                    break;
+                }
+                var placed = false;
+                for (var displacement = 0; displacement < MAX_DISPLACEMENT && !placed; displacement++) {
+                    placed = true;
+                    for (var i = 0; i < options.size(); i++) {
+                        final var slot = slot(hashes[options.get(i)], displacement, tableSize - 1);
+                        var free = tableKeys[slot] == null;
+                        for (var j = 0; j < i && free; j++) {
+                            free = bucketSlots[j] != slot;
+                        }
+                        if (!free) {
+                            placed = false;
+                            break;
+                        }
+                        bucketSlots[i] = slot;
+                    }
+                    if (placed) {
+                        displacements[bucket] = displacement;
+                        for (var i = 0; i < options.size(); i++) {
+                            tableKeys[bucketSlots[i]] = keys[options.get(i)];
+                            tableValues[bucketSlots[i]] = indexes.get(options.get(i));
+                        }
+                    }
+                }
+                if (!placed) {
+                    return null;
+                }
+            }
+            return new LengthBucketedHash(maxByteSize, isOptionLength, displacements, tableKeys, tableValues);
+        }
+
+        /**
+         * @return the index of the longest option that is a prefix of the {@code maxByteSize} bytes of {@code data}
+         * starting at {@code pos}, or -1 if none matches.
+         */
+        int select(final byte @NonNull [] data, final int pos, final boolean ignoreCase) {
+            assert data != null;
+            assert pos + maxByteSize <= data.length;
+
+            var result = -1;
+            var h = FNV_OFFSET_BASIS;
+            for (var byteSize = 1; byteSize <= maxByteSize; byteSize++) {
+                var b = data[pos + byteSize - 1] & 0xff;
+                if (ignoreCase) {
+                    b = foldCase(b);
+                }
+                h = (h ^ b) * FNV_PRIME;
+                if (!isOptionLength[byteSize]) {
+                    continue;
+                }
+                final var displacement = displacements[bucket(h, displacements.length - 1)];
+                final var slot = slot(h, displacement, keys.length - 1);
+                final var key = keys[slot];
+                if (key != null && key.length == byteSize && matches(key, data, pos, ignoreCase)) {
+                    result = values[slot];
+                }
+            }
+            return result;
+        }
+
+        private static boolean matches(final byte @NonNull [] key,
+                                       final byte @NonNull [] data,
+                                       final int pos,
+                                       final boolean ignoreCase) {
+            if (!ignoreCase) {
+                return Arrays.equals(key, 0, key.length, data, pos, pos + key.length);
+            }
+            for (var i = 0; i < key.length; i++) {
+                if ((key[i] & 0xff) != foldCase(data[pos + i] & 0xff)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int hash(final byte @NonNull [] key) {
+            var h = FNV_OFFSET_BASIS;
+            for (final var b : key) {
+                h = (h ^ (b & 0xff)) * FNV_PRIME;
+            }
+            return h;
+        }
+
+        private static int bucket(final int h, final int mask) {
+            return fmix(h) & mask;
+        }
+
+        private static int slot(final int h, final int displacement, final int mask) {
+            return fmix(h + displacement * 0x9e3779b9) & mask;
+        }
+
+        /**
+         * The MurmurHash3 32-bit finalizer.
+         */
+        private static int fmix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h;
+        }
+    }
 }
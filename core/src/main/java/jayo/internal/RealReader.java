@@ -30,23 +30,71 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
-import static jayo.internal.Utils.selectPrefix;
+import static jayo.internal.Utils.*;
 import static jayo.tools.JayoUtils.checkOffsetAndCount;
 
 public final class RealReader implements Reader {
+    /**
+     * The default upper bound of a single read from the upstream {@link #reader}.
+     */
+    public static final long DEFAULT_MAX_REFILL_SIZE = 16L * Segment.SIZE;
+
     final @NonNull RawReader reader;
     final @NonNull RealBuffer buffer = new RealBuffer();
+    private final long maxRefillSize;
+    /**
+     * The byte count requested from the upstream {@link #reader} when the caller's need is unknown or smaller. It
+     * doubles each time the upstream fills a whole refill, up to {@link #maxRefillSize}, and halves each time the
+     * upstream yields less than half of it.
+     */
+    private long refillSize = Segment.SIZE;
     private boolean closed = false;
 
     public RealReader(final @NonNull RawReader reader) {
+        this(reader, DEFAULT_MAX_REFILL_SIZE);
+    }
+
+    public RealReader(final @NonNull RawReader reader, final long maxRefillSize) {
         assert reader != null;
+        if (maxRefillSize < Segment.SIZE) {
+            throw new IllegalArgumentException("maxRefillSize < " + Segment.SIZE + ": " + maxRefillSize);
+        }
         this.reader = reader;
+        this.maxRefillSize = maxRefillSize;
+    }
+
+    /**
+     * Reads from the upstream {@link #reader} into the {@link #buffer}, requesting enough bytes to satisfy
+     * {@code missingByteCount} at once if possible, and at least the adaptive {@link #refillSize}.
+     *
+     * @param missingByteCount the byte count the caller is still waiting for, or 0 if unknown.
+     * @return the number of bytes read, or -1 if the upstream is exhausted.
+     */
+    private long refill(final long missingByteCount) {
+        final var toRead = Math.max(refillSize, Math.min(missingByteCount, maxRefillSize));
+        final var read = reader.readAtMostTo(buffer, toRead);
+        if (read >= toRead) {
+            refillSize = Math.min(toRead << 1, maxRefillSize);
+        } else if (read < refillSize >> 1) {
+            refillSize = Math.max(refillSize >> 1, Segment.SIZE);
+        }
+        return read;
+    }
+
+    /**
+     * Reads all the remaining bytes of the upstream {@link #reader} into the {@link #buffer}.
+     */
+    private void refillAll() {
+        while (refill(0L) != -1L) {
+            // Keep reading until the upstream is exhausted.
+        }
     }
 
     @Override
@@ -68,7 +116,7 @@ public final class RealReader implements Reader {
             if (byteCount == 0L) {
                 return -1L;
             }
-            if (reader.readAtMostTo(buffer, Segment.SIZE) == -1L) {
+            if (refill(byteCount) == -1L) {
                 return -1L;
             }
         }
@@ -79,7 +127,7 @@ public final class RealReader implements Reader {
 
     @Override
     public @NonNull ByteString readByteString() {
-        buffer.writeAllFrom(reader);
+        refillAll();
         return buffer.readByteString();
     }
 
@@ -108,7 +156,7 @@ public final class RealReader implements Reader {
                 }
                 case -2 -> {
                     // We need to grow the buffer. Do that, then try it all again.
-                    if (reader.readAtMostTo(buffer, Segment.SIZE) == -1L) {
+                    if (refill(0L) == -1L) {
                         return -1;
                     }
                 }
@@ -124,7 +172,7 @@ public final class RealReader implements Reader {
 
     @Override
     public byte @NonNull [] readByteArray() {
-        buffer.writeAllFrom(reader);
+        refillAll();
         return buffer.readByteArray();
     }
 
@@ -152,6 +200,66 @@ public final class RealReader implements Reader {
         buffer.readTo(destination, offset, byteCount);
     }
 
+    @Override
+    public void readTo(final int @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Integer.BYTES, byteOrder);
+    }
+
+    @Override
+    public void readTo(final long @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Long.BYTES, byteOrder);
+    }
+
+    @Override
+    public void readTo(final float @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Float.BYTES, byteOrder);
+    }
+
+    @Override
+    public void readTo(final double @NonNull [] destination,
+                       final int offset,
+                       final int count,
+                       final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(destination);
+        checkOffsetAndCount(destination.length, offset, count);
+        readToPrimitives(destination, offset, count, Double.BYTES, byteOrder);
+    }
+
+    private void readToPrimitives(final @NonNull Object destination,
+                                  final int offset,
+                                  final int count,
+                                  final int elementSize,
+                                  final @NonNull ByteOrder byteOrder) {
+        assert destination != null;
+        Objects.requireNonNull(byteOrder);
+
+        var _offset = offset;
+        var remaining = count;
+        while (remaining > 0) {
+            // if not enough bytes, then require will throw EOF
+            require(elementSize);
+            final var toRead = (int) Math.min(remaining, buffer.byteSize / elementSize);
+            buffer.readToPrimitives(destination, _offset, toRead, elementSize, byteOrder);
+            _offset += toRead;
+            remaining -= toRead;
+        }
+    }
+
     @Override
     public int readAtMostTo(final byte @NonNull [] destination) {
         return readAtMostTo(destination, 0, destination.length);
@@ -168,7 +276,7 @@ public final class RealReader implements Reader {
             if (byteCount == 0) {
                 return 0;
             }
-            final var read = reader.readAtMostTo(buffer, Segment.SIZE);
+            final var read = refill(byteCount);
             if (read == -1L) {
                 return -1;
             }
@@ -186,7 +294,7 @@ public final class RealReader implements Reader {
             if (destination.remaining() == 0) {
                 return 0;
             }
-            final var read = reader.readAtMostTo(buffer, Segment.SIZE);
+            final var read = refill(destination.remaining());
             if (read == -1L) {
                 return -1;
             }
@@ -208,7 +316,7 @@ public final class RealReader implements Reader {
         Objects.requireNonNull(destination);
 
         var totalBytesWritten = 0L;
-        while (reader.readAtMostTo(buffer, Segment.SIZE) != -1L) {
+        while (refill(0L) != -1L) {
             final var emitByteCount = buffer.completeSegmentByteCount();
             if (emitByteCount > 0L) {
                 totalBytesWritten += emitByteCount;
@@ -224,7 +332,7 @@ public final class RealReader implements Reader {
 
     @Override
     public @NonNull String readString() {
-        buffer.writeAllFrom(reader);
+        refillAll();
         return buffer.readString();
     }
 
@@ -241,7 +349,7 @@ public final class RealReader implements Reader {
     public @NonNull String readString(final @NonNull Charset charset) {
         Objects.requireNonNull(charset);
 
-        buffer.writeAllFrom(reader);
+        refillAll();
         return buffer.readString(charset);
     }
 
@@ -322,6 +430,22 @@ public final class RealReader implements Reader {
         );
     }
 
+    @Override
+    public @NonNull SplitCursor lines() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+        return new RealSplitCursor(this, buffer, (byte) ((int) '\n'), true);
+    }
+
+    @Override
+    public @NonNull SplitCursor splitOn(final byte delimiter) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+        return new RealSplitCursor(this, buffer, delimiter, false);
+    }
+
     @Override
     public int readUtf8CodePoint() {
         require(1L);
@@ -351,7 +475,7 @@ public final class RealReader implements Reader {
         if (closed) {
             throw new IllegalStateException("closed");
         }
-        return buffer.exhausted() && reader.readAtMostTo(buffer, Segment.SIZE) == -1L;
+        return buffer.exhausted() && refill(0L) == -1L;
     }
 
     @Override
@@ -363,7 +487,7 @@ public final class RealReader implements Reader {
             throw new IllegalStateException("closed");
         }
         while (buffer.byteSize < byteCount) {
-            if (reader.readAtMostTo(buffer, Segment.SIZE) == -1L) {
+            if (refill(byteCount - buffer.byteSize) == -1L) {
                 return false;
             }
         }
@@ -401,6 +525,86 @@ public final class RealReader implements Reader {
         return buffer.readLong();
     }
 
+    @Override
+    public short readShortLe() {
+        require(2L);
+        return buffer.readShortLe();
+    }
+
+    @Override
+    public int readIntLe() {
+        require(4L);
+        return buffer.readIntLe();
+    }
+
+    @Override
+    public long readLongLe() {
+        require(8L);
+        return buffer.readLongLe();
+    }
+
+    @Override
+    public float readFloat() {
+        require(4L);
+        return buffer.readFloat();
+    }
+
+    @Override
+    public float readFloatLe() {
+        require(4L);
+        return buffer.readFloatLe();
+    }
+
+    @Override
+    public double readDouble() {
+        require(8L);
+        return buffer.readDouble();
+    }
+
+    @Override
+    public double readDoubleLe() {
+        require(8L);
+        return buffer.readDoubleLe();
+    }
+
+    @Override
+    public int readVarInt() {
+        requireVarInt(MAX_VARINT_BYTE_SIZE);
+        return buffer.readVarInt();
+    }
+
+    @Override
+    public long readVarLong() {
+        requireVarInt(MAX_VARLONG_BYTE_SIZE);
+        return buffer.readVarLong();
+    }
+
+    @Override
+    public int readZigZagVarInt() {
+        requireVarInt(MAX_VARINT_BYTE_SIZE);
+        return buffer.readZigZagVarInt();
+    }
+
+    @Override
+    public long readZigZagVarLong() {
+        requireVarInt(MAX_VARLONG_BYTE_SIZE);
+        return buffer.readZigZagVarLong();
+    }
+
+    /**
+     * Requests data from the downstream until the buffer contains a complete varint, or at least
+     * {@code maxByteSize} bytes, so that a malformed varint is detected by the buffer.
+     */
+    private void requireVarInt(final int maxByteSize) {
+        require(1L);
+        while (buffer.byteSize < maxByteSize && buffer.varIntByteCount(maxByteSize) == -1) {
+            if (refill(0L) == -1L) {
+                throw new JayoEOFException("could not read a complete varint from reader, had " + buffer.byteSize +
+                        " bytes");
+            }
+        }
+    }
+
     @Override
     public long readDecimalLong() {
         require(1);
@@ -462,7 +666,7 @@ public final class RealReader implements Reader {
     private long skipPrivate(final long byteCount) {
         var remaining = byteCount;
         while (remaining > 0) {
-            if (buffer.byteSize == 0L && reader.readAtMostTo(buffer, Segment.SIZE) == -1L) {
+            if (buffer.byteSize == 0L && refill(remaining) == -1L) {
                 break;
             }
             final var toSkip = Math.min(remaining, buffer.byteSize);
@@ -501,7 +705,7 @@ public final class RealReader implements Reader {
             // The byte wasn't in the buffer. Give up if we've already reached our target size or if the underlying
             // stream is exhausted.
             final var lastBufferSize = buffer.byteSize;
-            if (lastBufferSize >= endIndex || reader.readAtMostTo(buffer, Segment.SIZE) == -1L) {
+            if (lastBufferSize >= endIndex || refill(0L) == -1L) {
                 return -1L;
             }
 
@@ -569,7 +773,7 @@ public final class RealReader implements Reader {
                     endIndex)) {
                 return -1L;
             }
-            if (reader.readAtMostTo(buffer, Segment.SIZE) == -1L) {
+            if (refill(0L) == -1L) {
                 return -1L;
             }
 
@@ -645,7 +849,7 @@ public final class RealReader implements Reader {
             }
 
             final var lastBufferSize = buffer.byteSize;
-            if (reader.readAtMostTo(buffer, Segment.SIZE) == -1L) {
+            if (refill(0L) == -1L) {
                 return -1L;
             }
 
@@ -800,7 +1004,7 @@ public final class RealReader implements Reader {
                     throw new IOException("Underlying reader is closed.");
                 }
                 try {
-                    buffer.writeAllFrom(reader);
+                    refillAll();
                     final var bufferSize = buffer.byteSize;
                     buffer.readTo(out, bufferSize);
                     return bufferSize;
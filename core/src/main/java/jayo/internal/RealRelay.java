@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.JayoInterruptedIOException;
+import jayo.RawSocket;
+import jayo.Relay;
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class RealRelay implements Relay {
+    private static final @NonNull ThreadFactory THREAD_FACTORY = JavaVersionUtils.threadFactory("JayoRelay#");
+    /**
+     * The maximum byte count of a single read, readers backed by a socket channel read several segments at once.
+     */
+    private static final long MAX_READ_BYTE_COUNT = RealReader.DEFAULT_MAX_REFILL_SIZE;
+
+    private final @NonNull RawSocket a;
+    private final @NonNull RawSocket b;
+
+    private final @NonNull CountDownLatch finished = new CountDownLatch(2);
+    private final @NonNull AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    // each byte count is only updated by the thread of its direction
+    private volatile long aToBByteCount = 0L;
+    private volatile long bToAByteCount = 0L;
+    private volatile boolean canceled = false;
+
+    public RealRelay(final @NonNull RawSocket a, final @NonNull RawSocket b) {
+        assert a != null;
+        assert b != null;
+
+        this.a = a;
+        this.b = b;
+    }
+
+    public void start() {
+        THREAD_FACTORY.newThread(() -> relay(a, b, true)).start();
+        THREAD_FACTORY.newThread(() -> relay(b, a, false)).start();
+    }
+
+    /**
+     * Moves all the bytes read from {@code from} to {@code to}. The segments read from the reader are written as-is to
+     * the writer, so no bytes are copied.
+     */
+    private void relay(final @NonNull RawSocket from, final @NonNull RawSocket to, final boolean isAToB) {
+        final var buffer = new RealBuffer();
+        final var reader = from.getReader();
+        final var writer = to.getWriter();
+        try {
+            long byteCount;
+            while ((byteCount = reader.readAtMostTo(buffer, MAX_READ_BYTE_COUNT)) != -1L) {
+                writer.writeFrom(buffer, byteCount);
+                writer.flush();
+                if (isAToB) {
+                    aToBByteCount += byteCount;
+                } else {
+                    bToAByteCount += byteCount;
+                }
+            }
+
+            // Propagate the half-close: no more bytes will be written to the other socket.
+            writer.close();
+            reader.close();
+        } catch (RuntimeException e) {
+            // The first failure cancels both sockets, that makes the other direction fail too.
+            if (!canceled && failure.compareAndSet(null, e)) {
+                a.cancel();
+                b.cancel();
+            }
+            closeQuietly(writer);
+            closeQuietly(reader);
+        } finally {
+            buffer.clear();
+            finished.countDown();
+        }
+    }
+
+    private static void closeQuietly(final @NonNull AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+        }
+    }
+
+    @Override
+    public long getAToBByteCount() {
+        return aToBByteCount;
+    }
+
+    @Override
+    public long getBToAByteCount() {
+        return bToAByteCount;
+    }
+
+    @Override
+    public void join() {
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Retain interrupted status.
+            throw new JayoInterruptedIOException("current thread is interrupted");
+        }
+
+        final var e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished.getCount() == 0L;
+    }
+
+    @Override
+    public void cancel() {
+        canceled = true;
+        a.cancel();
+        b.cancel();
+    }
+
+    @Override
+    public String toString() {
+        return "Relay(" + a + " <-> " + b + ")";
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.Buffer;
+import jayo.Reader;
+import jayo.SplitCursor;
+import jayo.bytestring.ByteString;
+import org.jspecify.annotations.NonNull;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public final class RealSplitCursor implements SplitCursor {
+    private final @NonNull Reader reader;
+    /**
+     * The buffer that holds the bytes of {@link #reader}, the current record is always at its start.
+     */
+    private final @NonNull RealBuffer buffer;
+    private final byte delimiter;
+    /**
+     * If true, a {@code '\r'} that precedes a {@code '\n'} delimiter is not part of the record.
+     */
+    private final boolean lines;
+
+    /**
+     * The byte size of the current record, or -1 if there is no current record.
+     */
+    private long recordSize = -1L;
+    /**
+     * The byte size of the current record and of its delimiter, to remove from the buffer on the next record.
+     */
+    private long consumeSize = 0L;
+
+    RealSplitCursor(final @NonNull Reader reader,
+                    final @NonNull RealBuffer buffer,
+                    final byte delimiter,
+                    final boolean lines) {
+        assert reader != null;
+        assert buffer != null;
+
+        this.reader = reader;
+        this.buffer = buffer;
+        this.delimiter = delimiter;
+        this.lines = lines;
+    }
+
+    @Override
+    public boolean next() {
+        if (consumeSize > 0L) {
+            buffer.skip(consumeSize);
+            consumeSize = 0L;
+        }
+        recordSize = -1L;
+
+        final var index = reader.indexOf(delimiter);
+        if (index == -1L) {
+            // The reader is exhausted, the remaining bytes are the last record.
+            if (buffer.byteSize == 0L) {
+                return false;
+            }
+            recordSize = buffer.byteSize;
+            consumeSize = recordSize;
+            return true;
+        }
+
+        consumeSize = index + 1L;
+        recordSize = (lines && index > 0L && buffer.getByte(index - 1L) == (byte) ((int) '\r')) ? index - 1L : index;
+        return true;
+    }
+
+    @Override
+    public long byteSize() {
+        checkCurrentRecord();
+        return recordSize;
+    }
+
+    @Override
+    public byte getByte(final long index) {
+        checkCurrentRecord();
+        if (index < 0L || index >= recordSize) {
+            throw new IndexOutOfBoundsException("index (" + index + ") should be between 0 and " + recordSize);
+        }
+        return buffer.getByte(index);
+    }
+
+    @Override
+    public boolean rangeEquals(final long offset, final @NonNull ByteString byteString) {
+        Objects.requireNonNull(byteString);
+        checkCurrentRecord();
+        if (offset < 0L || offset + byteString.byteSize() > recordSize) {
+            return false;
+        }
+        return buffer.rangeEquals(offset, byteString);
+    }
+
+    @Override
+    public @NonNull ByteString byteString() {
+        checkCurrentRecord();
+        if (recordSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("record size > Integer.MAX_VALUE: " + recordSize);
+        }
+        return buffer.snapshot((int) recordSize);
+    }
+
+    @Override
+    public @NonNull String decodeToString() {
+        return decodeToString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public @NonNull String decodeToString(final @NonNull Charset charset) {
+        Objects.requireNonNull(charset);
+        return byteString().decodeToString(charset);
+    }
+
+    @Override
+    public void copyTo(final @NonNull Buffer out) {
+        Objects.requireNonNull(out);
+        checkCurrentRecord();
+        buffer.copyTo(out, 0L, recordSize);
+    }
+
+    private void checkCurrentRecord() {
+        if (recordSize == -1L) {
+            throw new IllegalStateException("no current record");
+        }
+    }
+}
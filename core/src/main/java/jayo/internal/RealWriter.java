@@ -28,11 +28,14 @@ import org.jspecify.annotations.NonNull;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Objects;
 
+import static jayo.tools.JayoUtils.checkOffsetAndCount;
+
 @SuppressWarnings("resource")
 public final class RealWriter implements Writer {
     final @NonNull RawWriter writer;
@@ -150,6 +153,71 @@ public final class RealWriter implements Writer {
         return emitCompleteSegments();
     }
 
+    @Override
+    public @NonNull Writer write(final int @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Integer.BYTES, byteOrder);
+    }
+
+    @Override
+    public @NonNull Writer write(final long @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Long.BYTES, byteOrder);
+    }
+
+    @Override
+    public @NonNull Writer write(final float @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Float.BYTES, byteOrder);
+    }
+
+    @Override
+    public @NonNull Writer write(final double @NonNull [] source,
+                                 final int offset,
+                                 final int count,
+                                 final @NonNull ByteOrder byteOrder) {
+        Objects.requireNonNull(source);
+        checkOffsetAndCount(source.length, offset, count);
+        return writePrimitives(source, offset, count, Double.BYTES, byteOrder);
+    }
+
+    private @NonNull Writer writePrimitives(final @NonNull Object source,
+                                            final int offset,
+                                            final int count,
+                                            final int elementSize,
+                                            final @NonNull ByteOrder byteOrder) {
+        assert source != null;
+        Objects.requireNonNull(byteOrder);
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        // write by chunks of one segment, so that the internal buffer never grows much larger than a segment
+        final var chunkSize = Segment.SIZE / elementSize;
+        var _offset = offset;
+        var remaining = count;
+        while (remaining > 0) {
+            final var toWrite = Math.min(remaining, chunkSize);
+            buffer.writePrimitives(source, _offset, toWrite, elementSize, byteOrder);
+            emitCompleteSegments();
+            _offset += toWrite;
+            remaining -= toWrite;
+        }
+        return this;
+    }
+
     @Override
     public int writeAllFrom(final @NonNull ByteBuffer source) {
         Objects.requireNonNull(source);
@@ -245,6 +313,116 @@ public final class RealWriter implements Writer {
         return emitCompleteSegments();
     }
 
+    @Override
+    public @NonNull Writer writeShortLe(final short s) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeShortLe(s);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeIntLe(final int i) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeIntLe(i);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeLongLe(final long l) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeLongLe(l);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeFloat(final float f) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeFloat(f);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeFloatLe(final float f) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeFloatLe(f);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeDouble(final double d) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeDouble(d);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeDoubleLe(final double d) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeDoubleLe(d);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeVarInt(final int i) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeVarInt(i);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeVarLong(final long l) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeVarLong(l);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeZigZagVarInt(final int i) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeZigZagVarInt(i);
+        return emitCompleteSegments();
+    }
+
+    @Override
+    public @NonNull Writer writeZigZagVarLong(final long l) {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+
+        buffer.writeZigZagVarLong(l);
+        return emitCompleteSegments();
+    }
+
     @Override
     public @NonNull Writer writeDecimalLong(final long l) {
         if (closed) {
@@ -52,7 +52,7 @@ final class Segment {
     /**
      * A segment will be shared if the data size exceeds this threshold to avoid having to copy this many bytes.
      */
-    private static final int SHARE_MINIMUM = 1024; // todo should it be more now that size is 16 KB ?
+    static final int SHARE_MINIMUM = 1024; // todo should it be more now that size is 16 KB ?
 
     /**
      * The binary data.
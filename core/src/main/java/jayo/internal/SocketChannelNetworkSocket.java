@@ -17,7 +17,9 @@ import org.jspecify.annotations.Nullable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.ProtocolFamily;
+import java.net.SocketAddress;
 import java.net.SocketOption;
+import java.net.UnixDomainSocketAddress;
 import java.nio.channels.SocketChannel;
 import java.time.Duration;
 import java.util.Arrays;
@@ -81,8 +83,13 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
 
     @Override
     public @NonNull InetSocketAddress getLocalAddress() {
+        return toInetSocketAddress(getLocalSocketAddress());
+    }
+
+    @Override
+    public @NonNull SocketAddress getLocalSocketAddress() {
         try {
-            return (InetSocketAddress) socketChannel.getLocalAddress();
+            return socketChannel.getLocalAddress();
         } catch (IOException e) {
             throw JayoException.buildJayoException(e);
         }
@@ -90,13 +97,38 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
 
     @Override
     public @NonNull InetSocketAddress getPeerAddress() {
+        return toInetSocketAddress(getPeerSocketAddress());
+    }
+
+    @Override
+    public @NonNull SocketAddress getPeerSocketAddress() {
         try {
-            return (InetSocketAddress) socketChannel.getRemoteAddress();
+            return socketChannel.getRemoteAddress();
         } catch (IOException e) {
             throw JayoException.buildJayoException(e);
         }
     }
 
+    /**
+     * @return the {@code socketAddress} of a TCP socket channel.
+     * @throws UnsupportedOperationException if {@code socketAddress} is the address of a Unix domain socket channel.
+     */
+    private static InetSocketAddress toInetSocketAddress(final @Nullable SocketAddress socketAddress) {
+        if (socketAddress instanceof UnixDomainSocketAddress) {
+            throw new UnsupportedOperationException(
+                    "A Unix domain socket has no internet socket address, use getLocalSocketAddress() or " +
+                            "getPeerSocketAddress() instead");
+        }
+        return (InetSocketAddress) socketAddress;
+    }
+
+    private static void closeQuietly(final @NonNull SocketChannel socketChannel) {
+        try {
+            socketChannel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
     @Override
     public <T> @Nullable T getOption(final @NonNull SocketOption<T> name) {
         Objects.requireNonNull(name);
@@ -118,6 +150,13 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
         return socketChannel;
     }
 
+    @Override
+    long read(final @NonNull RealBuffer dst, final long byteCount) throws IOException {
+        assert dst != null;
+        // A single scattering read may fill several segments.
+        return dst.readFrom(socketChannel, byteCount);
+    }
+
     @Override
     int read(final @NonNull Segment dstTail, final int toRead) throws IOException {
         assert dstTail != null;
@@ -211,16 +250,21 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
             this.readTimeoutNanos = readTimeoutNanos;
             this.writeTimeoutNanos = writeTimeoutNanos;
             this.peerAddressModifier = peerAddressModifier;
+            final SocketChannel socketChannel;
             try {
                 // SocketChannel defaults to blocking-mode, that's precisely what we want
-                final var socketChannel = (family != null) ? SocketChannel.open(family) : SocketChannel.open();
-
+                socketChannel = (family != null) ? SocketChannel.open(family) : SocketChannel.open();
+            } catch (IOException e) {
+                throw JayoException.buildJayoException(e);
+            }
+            try {
                 for (final var socketOption : socketOptions.entrySet()) {
                     socketChannel.setOption(socketOption.getKey(), socketOption.getValue());
                 }
 
                 this.socketChannel = socketChannel;
             } catch (IOException e) {
+                closeQuietly(socketChannel);
                 throw JayoException.buildJayoException(e);
             }
         }
@@ -238,21 +282,34 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
             return connectPrivate(peerAddress, proxy);
         }
 
-        private @NonNull NetworkSocket connectPrivate(final @NonNull InetSocketAddress peerAddress,
+        @Override
+        public @NonNull NetworkSocket connect(final @NonNull UnixDomainSocketAddress peerAddress) {
+            Objects.requireNonNull(peerAddress);
+            return connectPrivate(peerAddress, null);
+        }
+
+        private @NonNull NetworkSocket connectPrivate(final @NonNull SocketAddress peerAddress,
                                                       final Proxy.@Nullable Socks proxy) {
             assert peerAddress != null;
 
-            final var resolvedPeerAddress = (peerAddressModifier != null)
-                    ? peerAddressModifier.apply(peerAddress)
-                    : peerAddress;
+            final var resolvedPeerAddress =
+                    (peerAddressModifier != null && peerAddress instanceof InetSocketAddress inetPeerAddress)
+                            ? peerAddressModifier.apply(inetPeerAddress)
+                            : peerAddress;
             final var asyncTimeout = buildAsyncTimeout(socketChannel);
             final NetworkSocket networkSocket;
-            if (connectTimeout != null) {
-                final var cancelToken = new RealCancelToken(connectTimeout.toNanos());
-                networkSocket = asyncTimeout.withTimeout(cancelToken, () ->
-                        connect(resolvedPeerAddress, asyncTimeout, proxy));
-            } else {
-                networkSocket = connect(resolvedPeerAddress, asyncTimeout, proxy);
+            try {
+                if (connectTimeout != null) {
+                    final var cancelToken = new RealCancelToken(connectTimeout.toNanos());
+                    networkSocket = asyncTimeout.withTimeout(cancelToken, () ->
+                            connect(resolvedPeerAddress, asyncTimeout, proxy));
+                } else {
+                    networkSocket = connect(resolvedPeerAddress, asyncTimeout, proxy);
+                }
+            } catch (RuntimeException | Error e) {
+                // for example an UnsupportedAddressTypeException, do not leak the channel opened by the constructor
+                closeQuietly(socketChannel);
+                throw e;
             }
 
             if (LOGGER.isLoggable(DEBUG)) {
@@ -262,7 +319,7 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
             return networkSocket;
         }
 
-        private @NonNull NetworkSocket connect(final @NonNull InetSocketAddress peerAddress,
+        private @NonNull NetworkSocket connect(final @NonNull SocketAddress peerAddress,
                                                final @NonNull RealAsyncTimeout asyncTimeout,
                                                final Proxy.@Nullable Socks proxy) {
             try {
@@ -274,7 +331,8 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
                     if (!(proxy instanceof RealSocksProxy socksProxy)) {
                         throw new IllegalArgumentException("proxy is not a RealSocksProxy");
                     }
-                    return new SocksNetworkSocket(socksProxy, proxyNetEndpoint, peerAddress);
+                    // a proxy is only used with an internet peer address
+                    return new SocksNetworkSocket(socksProxy, proxyNetEndpoint, (InetSocketAddress) peerAddress);
                 }
                 // connect to peer
                 socketChannel.connect(peerAddress);
@@ -290,8 +348,13 @@ public final class SocketChannelNetworkSocket extends AbstractNetworkSocket {
 
         @Override
         public @NonNull InetSocketAddress getLocalAddress() {
+            return toInetSocketAddress(getLocalSocketAddress());
+        }
+
+        @Override
+        public @NonNull SocketAddress getLocalSocketAddress() {
             try {
-                return (InetSocketAddress) socketChannel.getLocalAddress();
+                return socketChannel.getLocalAddress();
             } catch (IOException e) {
                 throw JayoException.buildJayoException(e);
             }
@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import jayo.*;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static jayo.tools.JayoUtils.checkOffsetAndCount;
+
+/**
+ * A {@link Pipe} for exactly one producer thread and one consumer thread at a time. Whole segments are handed over from
+ * the writer to the reader through a lock-free ring, a {@code null} slot is free and a non-null slot holds a published
+ * segment. Each side only parks when the pipe is full, respectively empty, and is unparked by the other side.
+ * <p>
+ * The reader never takes a lock. The writer takes an uncontended {@link #writerLock} that is only needed to exclude
+ * {@link #fold(RawWriter)}, it is released while the writer is parked.
+ */
+public final class SpscPipe implements Pipe {
+    private static final int MIN_RING_CAPACITY = 16;
+    private static final int MAX_RING_CAPACITY = 4096;
+    private static final int SMALL_SEGMENT_SIZE = 128;
+    /**
+     * Writes smaller than this are copied into the {@link #staging} segment instead of handing over the source segments,
+     * that would be mostly empty.
+     */
+    private static final int MAX_STAGED_BYTE_SIZE = 1024;
+    /**
+     * How many times the reader checks the ring again before parking, the writer is often about to publish. Spinning is
+     * useless on a single CPU.
+     */
+    private static final int SPIN_COUNT = (Runtime.getRuntime().availableProcessors() > 1) ? 128 : 0;
+
+    final long maxBufferSize;
+
+    private final @NonNull AtomicReferenceArray<Segment> ring;
+    private final int mask;
+    /**
+     * The count of bytes that are held by this pipe, in the ring or not yet published by the writer.
+     */
+    private final @NonNull AtomicLong byteSize = new AtomicLong();
+
+    // writer side state, guarded by writerLock
+    private final @NonNull Lock writerLock = new ReentrantLock();
+    /**
+     * The segments that were taken from the writer's source, waiting for a free slot in the ring.
+     */
+    private final @NonNull RealBuffer pending = new RealBuffer();
+    /**
+     * The segment that small writes are copied to. Each small write is published as a shared copy of the bytes it
+     * appended, so the published bytes are never written again.
+     */
+    private @Nullable Segment staging = null;
+    private long writeIndex = 0L;
+    private @Nullable RawWriter foldedWriter = null;
+
+    // reader side state, only accessed by the reader thread or by fold
+    private long readIndex = 0L;
+    /**
+     * The segment that was taken from the ring and was not entirely consumed yet.
+     */
+    private @Nullable Segment current = null;
+
+    private volatile boolean canceled = false;
+    private volatile boolean writerClosed = false;
+    private volatile boolean readerClosed = false;
+    private volatile @Nullable Thread parkedReader = null;
+    private volatile @Nullable Thread parkedWriter = null;
+
+    public SpscPipe(final long maxBufferSize) {
+        if (maxBufferSize < 1L) {
+            throw new IllegalArgumentException("maxBufferSize < 1: " + maxBufferSize);
+        }
+        this.maxBufferSize = maxBufferSize;
+
+        // Small writes are handed over in small segments, so the ring has room for segments of SMALL_SEGMENT_SIZE
+        // bytes, as a power of two.
+        final var segmentCount = Math.min(MAX_RING_CAPACITY, (maxBufferSize + SMALL_SEGMENT_SIZE - 1) / SMALL_SEGMENT_SIZE);
+        final var capacity = Math.max(MIN_RING_CAPACITY, Integer.highestOneBit((int) segmentCount - 1) << 1);
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public @NonNull RawReader getReader() {
+        return new RawReader() {
+            @Override
+            public long readAtMostTo(final @NonNull Buffer destination, final long byteCount) {
+                Objects.requireNonNull(destination);
+                if (byteCount < 0L) {
+                    throw new IllegalArgumentException("byteCount < 0: " + byteCount);
+                }
+
+                if (byteCount == 0L) {
+                    return 0L;
+                }
+
+                if (readerClosed) {
+                    throw new IllegalStateException("closed");
+                }
+                if (canceled) {
+                    throw new JayoException("canceled");
+                }
+
+                if (current == null && !awaitSegment()) {
+                    return -1L;
+                }
+
+                final var dst = (RealBuffer) destination;
+                var remaining = byteCount;
+                while (remaining > 0L && current != null) {
+                    final var segment = current;
+                    final var segmentByteSize = segment.limit - segment.pos;
+                    if (remaining < segmentByteSize) {
+                        dst.pushSegment(segment.splitHead((int) remaining));
+                        remaining = 0L;
+                    } else {
+                        transfer(segment, dst);
+                        remaining -= segmentByteSize;
+                        current = poll();
+                    }
+                }
+
+                final var bytesRead = byteCount - remaining;
+                byteSize.addAndGet(-bytesRead);
+                unpark(parkedWriter); // Notify the writer that it can resume writing.
+                return bytesRead;
+            }
+
+            @Override
+            public void close() {
+                readerClosed = true;
+                unpark(parkedWriter); // Notify the writer that no more bytes are desired.
+            }
+        };
+    }
+
+    /**
+     * Sets {@link #current} to the next published segment, parking until the writer publishes one.
+     *
+     * @return {@code false} if the writer is closed and all its bytes were read.
+     */
+    private boolean awaitSegment() {
+        final var cancelToken = JavaVersionUtils.getCancelToken();
+        while (true) {
+            // read writerClosed before polling, the writer publishes all its segments before being closed.
+            final var closed = writerClosed;
+            current = poll();
+            if (current != null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+
+            if (spinUntilPublished()) {
+                continue;
+            }
+
+            parkedReader = Thread.currentThread();
+            try {
+                // check again after announcing that we park, the writer may have published in between.
+                if (ring.get((int) readIndex & mask) == null && !writerClosed && !canceled) {
+                    park(cancelToken);
+                }
+            } finally {
+                parkedReader = null;
+            }
+
+            if (canceled) {
+                throw new JayoException("canceled");
+            }
+        }
+    }
+
+    /**
+     * Moves the whole {@code segment} to the tail of {@code destination}. Small staged segments are copied instead, to
+     * not chain many tiny read-only segments in the destination.
+     */
+    private static void transfer(final @NonNull Segment segment, final @NonNull RealBuffer destination) {
+        final var byteCount = segment.limit - segment.pos;
+        if (byteCount < MAX_STAGED_BYTE_SIZE && !segment.owner) {
+            destination.write(segment.data, segment.pos, byteCount);
+            SegmentPool.recycle(segment);
+            return;
+        }
+        destination.pushSegment(segment);
+    }
+
+    private boolean spinUntilPublished() {
+        for (var i = 0; i < SPIN_COUNT; i++) {
+            if (ring.get((int) readIndex & mask) != null || writerClosed || canceled) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return false;
+    }
+
+    /**
+     * @return the next published segment, or null if the ring is empty.
+     */
+    private @Nullable Segment poll() {
+        final var slot = (int) readIndex & mask;
+        final var segment = ring.get(slot);
+        if (segment != null) {
+            ring.set(slot, null);
+            readIndex++;
+        }
+        return segment;
+    }
+
+    @Override
+    public @NonNull RawWriter getWriter() {
+        return new RawWriter() {
+            @Override
+            public void writeFrom(final @NonNull Buffer source, final long byteCount) {
+                Objects.requireNonNull(source);
+                checkOffsetAndCount(source.bytesAvailable(), 0L, byteCount);
+
+                if (byteCount == 0L) {
+                    return;
+                }
+
+                var remaining = byteCount;
+                RawWriter delegate = null;
+                writerLock.lock();
+                try {
+                    if (writerClosed) {
+                        throw new IllegalStateException("closed");
+                    }
+
+                    final var cancelToken = JavaVersionUtils.getCancelToken();
+
+                    while (true) {
+                        if (canceled) {
+                            throw new JayoException("canceled");
+                        }
+                        if (foldedWriter != null) {
+                            delegate = foldedWriter;
+                            break;
+                        }
+                        if (readerClosed) {
+                            throw new JayoException("reader is closed");
+                        }
+
+                        publishPending();
+                        if (pending.byteSize > 0L) {
+                            awaitReader(cancelToken); // Wait until the reader frees a slot.
+                            continue;
+                        }
+                        if (remaining == 0L) {
+                            break;
+                        }
+
+                        final var bufferSpaceAvailable = maxBufferSize - byteSize.get();
+                        if (bufferSpaceAvailable <= 0L) {
+                            awaitReader(cancelToken); // Wait until the reader drains the pipe.
+                            continue;
+                        }
+
+                        final var bytesToWrite = Math.min(bufferSpaceAvailable, remaining);
+                        if (bytesToWrite < MAX_STAGED_BYTE_SIZE) {
+                            stage(source, (int) bytesToWrite);
+                        } else {
+                            pending.writeFrom(source, bytesToWrite);
+                        }
+                        byteSize.addAndGet(bytesToWrite);
+                        remaining -= bytesToWrite;
+                    }
+                } finally {
+                    writerLock.unlock();
+                }
+
+                if (delegate != null) {
+                    delegate.writeFrom(source, remaining);
+                }
+            }
+
+            @Override
+            public void flush() {
+                RawWriter delegate = null;
+                writerLock.lock();
+                try {
+                    // check if the writer is closed
+                    if (writerClosed) {
+                        throw new IllegalStateException("closed");
+                    }
+                    if (canceled) {
+                        throw new JayoException("canceled");
+                    }
+
+                    if (foldedWriter != null) {
+                        delegate = foldedWriter;
+                    } else if (readerClosed && byteSize.get() > 0L) {
+                        throw new JayoException("reader is closed");
+                    }
+                } finally {
+                    writerLock.unlock();
+                }
+
+                if (delegate != null) {
+                    delegate.flush();
+                }
+            }
+
+            @Override
+            public void close() {
+                RawWriter delegate = null;
+                writerLock.lock();
+                try {
+                    if (writerClosed) {
+                        return;
+                    }
+
+                    if (foldedWriter != null) {
+                        delegate = foldedWriter;
+                    } else {
+                        if (readerClosed && byteSize.get() > 0L) {
+                            throw new JayoException("reader is closed");
+                        }
+                        writerClosed = true;
+                        unpark(parkedReader); // Notify the reader that no more bytes are coming.
+                    }
+                } finally {
+                    writerLock.unlock();
+                }
+
+                if (delegate != null) {
+                    delegate.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Copies {@code byteCount} bytes from {@code source} to the {@link #staging} segment, and adds a shared copy of them
+     * to the {@link #pending} segments. This must be called while holding the {@link #writerLock}.
+     */
+    private void stage(final @NonNull Buffer source, final int byteCount) {
+        var segment = staging;
+        if (segment == null || segment.limit + byteCount > Segment.SIZE) {
+            segment = SegmentPool.take();
+            staging = segment;
+        }
+
+        final var start = segment.limit;
+        source.readTo(segment.data, start, byteCount);
+        segment.limit += byteCount;
+
+        final var view = segment.sharedCopy();
+        view.pos = start;
+        pending.pushSegment(view);
+    }
+
+    /**
+     * Publishes as many {@link #pending} segments as there are free slots in the ring. This must be called while
+     * holding the {@link #writerLock}.
+     */
+    private void publishPending() {
+        var published = false;
+        while (pending.head != null) {
+            final var slot = (int) writeIndex & mask;
+            if (ring.get(slot) != null) {
+                break; // the ring is full
+            }
+            final var segment = pending.head;
+            pending.head = segment.pop();
+            pending.byteSize -= segment.limit - segment.pos;
+            ring.set(slot, segment);
+            writeIndex++;
+            published = true;
+        }
+
+        if (published) {
+            unpark(parkedReader); // Notify the reader that it can resume reading.
+        }
+    }
+
+    /**
+     * Parks the writer until the reader frees a slot or drains some bytes. The {@link #writerLock} is released while
+     * parked.
+     */
+    private void awaitReader(final @Nullable RealCancelToken cancelToken) {
+        parkedWriter = Thread.currentThread();
+        try {
+            // check again after announcing that we park, the reader may have consumed in between.
+            final var canProceed = (pending.byteSize > 0L)
+                    ? ring.get((int) writeIndex & mask) == null
+                    : byteSize.get() < maxBufferSize;
+            if (canProceed || readerClosed || canceled) {
+                return;
+            }
+
+            writerLock.unlock();
+            try {
+                park(cancelToken);
+            } finally {
+                writerLock.lock();
+            }
+        } finally {
+            parkedWriter = null;
+        }
+    }
+
+    private void park(final @Nullable RealCancelToken cancelToken) {
+        if (cancelToken != null) {
+            cancelToken.park(this);
+            return;
+        }
+
+        LockSupport.park(this);
+        if (Thread.currentThread().isInterrupted()) {
+            throw new JayoInterruptedIOException("current thread is interrupted");
+        }
+    }
+
+    private static void unpark(final @Nullable Thread thread) {
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void fold(final @NonNull RawWriter writer) {
+        Objects.requireNonNull(writer);
+
+        while (true) {
+            // Either the pipe is empty, and we can swap and return. Or the pipe is non-empty, and we must copy it to the
+            // writer without holding any locks, then try it all again.
+            var closed = false;
+            var done = false;
+            final var writerBuffer = new RealBuffer();
+            writerLock.lock();
+            try {
+                if (foldedWriter != null) {
+                    throw new IllegalStateException("writer already folded");
+                }
+
+                if (canceled) {
+                    foldedWriter = writer;
+                    throw new JayoException("canceled");
+                }
+
+                closed = writerClosed;
+                // The reader is not accessed concurrently, and the writer is either parked or outside writeFrom.
+                if (current != null) {
+                    writerBuffer.pushSegment(current);
+                    current = null;
+                }
+                Segment segment;
+                while ((segment = poll()) != null) {
+                    writerBuffer.pushSegment(segment);
+                }
+                writerBuffer.writeFrom(pending, pending.byteSize);
+
+                if (writerBuffer.byteSize == 0L) {
+                    readerClosed = true;
+                    foldedWriter = writer;
+                    done = true;
+                } else {
+                    byteSize.addAndGet(-writerBuffer.byteSize);
+                    unpark(parkedWriter); // Notify the writer that it can resume writing.
+                }
+            } finally {
+                writerLock.unlock();
+            }
+
+            if (done) {
+                if (closed) {
+                    writer.close();
+                }
+                return;
+            }
+
+            var success = false;
+            try {
+                writer.writeFrom(writerBuffer, writerBuffer.byteSize);
+                writer.flush();
+                success = true;
+            } finally {
+                if (!success) {
+                    readerClosed = true;
+                    unpark(parkedWriter); // Notify the writer that it can resume writing.
+                }
+            }
+        }
+    }
+
+    @Override
+    public void cancel() {
+        canceled = true;
+        // Notify the reader and writer that they're canceled.
+        unpark(parkedReader);
+        unpark(parkedWriter);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !canceled && !writerClosed && !readerClosed;
+    }
+}
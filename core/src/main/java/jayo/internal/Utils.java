@@ -32,13 +32,17 @@ import org.jspecify.annotations.NonNull;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import javax.net.ssl.SSLEngineResult;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.Cleaner;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
+import java.util.zip.Checksum;
 
 public final class Utils {
     // un-instantiable
@@ -60,6 +64,59 @@ public final class Utils {
 
     static final int UTF8_REPLACEMENT_CODE_POINT = '\ufffd';
 
+    /**
+     * Views of a byte array as an array of numbers, in the big-endian and the little-endian orders. They allow to read
+     * or write a number in a segment at once, instead of byte per byte.
+     */
+    static final @NonNull VarHandle SHORT_BE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    static final @NonNull VarHandle SHORT_LE =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    static final @NonNull VarHandle INT_BE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    static final @NonNull VarHandle INT_LE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    static final @NonNull VarHandle LONG_BE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    static final @NonNull VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Updates {@code checksum} with {@code byteCount} bytes of {@code buffer} from {@code offset}, straight from the
+     * segment arrays.
+     */
+    static void updateChecksum(final @NonNull Checksum checksum,
+                               final @NonNull RealBuffer buffer,
+                               final long offset,
+                               final long byteCount) {
+        assert checksum != null;
+        assert buffer != null;
+
+        var segment = buffer.head;
+        var remainingOffset = offset;
+        var remaining = byteCount;
+        while (remaining > 0L) {
+            assert segment != null;
+            final var segmentByteSize = segment.limit - segment.pos;
+            if (remainingOffset >= segmentByteSize) {
+                remainingOffset -= segmentByteSize;
+            } else {
+                final var pos = (int) (segment.pos + remainingOffset);
+                final var toUpdate = (int) Math.min(segment.limit - pos, remaining);
+                checksum.update(segment.data, pos, toUpdate);
+                remaining -= toUpdate;
+                remainingOffset = 0L;
+            }
+            segment = segment.next;
+        }
+    }
+
+    /**
+     * The maximum number of bytes of an int, or of a long, encoded as a LEB128 varint.
+     */
+    static final int MAX_VARINT_BYTE_SIZE = 5;
+    static final int MAX_VARLONG_BYTE_SIZE = 10;
+
     static final @NonNull Cleaner JAYO_CLEANER = JavaVersionUtils.cleaner();
 
     static @NonNull MessageDigest messageDigest(final @NonNull Digest digest) {
@@ -143,11 +200,18 @@ public final class Utils {
             return (selectTruncated) ? -2 : -1;
         }
 
+        // Fast path: a perfect hash lookup, when all the bytes that any option may need are in the head segment.
+        final var hash = options.hash;
+        if (hash != null && head.limit - head.pos >= hash.maxByteSize) {
+            return hash.select(head.data, head.pos, options.ignoreCase);
+        }
+
         var segment = head;
         var data = segment.data;
         var pos = segment.pos;
         var limit = segment.limit;
 
+        final var ignoreCase = options.ignoreCase;
         final var trie = options.trie;
         var triePos = 0;
 
@@ -171,7 +235,10 @@ public final class Utils {
                 final var scanByteCount = -1 * scanOrSelect;
                 final var trieLimit = triePos + scanByteCount;
                 while (true) {
-                    final var b = data[pos++] & 0xff;
+                    var b = data[pos++] & 0xff;
+                    if (ignoreCase) {
+                        b = RealOptions.foldCase(b);
+                    }
                     if (b != trie[triePos++]) {
                         return prefixIndex; // Fail 'cause we found a mismatch.
                     }
@@ -199,7 +266,10 @@ public final class Utils {
                 }
             } else {
                 // Select: take one byte from the buffer and find a match in the trie.
-                final var b = data[pos++] & 0xff;
+                var b = data[pos++] & 0xff;
+                if (ignoreCase) {
+                    b = RealOptions.foldCase(b);
+                }
                 final var selectLimit = triePos + scanOrSelect;
                 while (true) {
                     if (triePos == selectLimit) {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A bounded pool of {@link Deflater} and {@link Inflater} instances, keyed by compression level and {@code nowrap}
+ * setting. Each instance holds a few hundred KB of native zlib state, allocating and initializing it dominates the cost
+ * of compressing or decompressing small payloads.
+ * <p>
+ * Released instances are {@linkplain Deflater#reset() reset} before they are pooled again. When the pool of their key is
+ * full, they are {@linkplain Deflater#end() ended} instead. Pools never block, and only rely on
+ * {@link java.util.concurrent.locks.ReentrantLock}, so they are safe to use from virtual threads.
+ */
+public final class ZlibPool {
+    // un-instantiable
+    private ZlibPool() {
+    }
+
+    private static final int MAX_POOLED_PER_KEY = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Compression levels go from {@link Deflater#DEFAULT_COMPRESSION} (-1) to {@link Deflater#BEST_COMPRESSION} (9).
+     */
+    private static final int LEVEL_COUNT = Deflater.BEST_COMPRESSION - Deflater.DEFAULT_COMPRESSION + 1;
+
+    private static final @NonNull DeflaterQueue @NonNull [] DEFLATERS = new DeflaterQueue[LEVEL_COUNT * 2];
+    private static final @NonNull InflaterQueue @NonNull [] INFLATERS = new InflaterQueue[2];
+
+    static {
+        for (var i = 0; i < DEFLATERS.length; i++) {
+            DEFLATERS[i] = new DeflaterQueue();
+        }
+        for (var i = 0; i < INFLATERS.length; i++) {
+            INFLATERS[i] = new InflaterQueue();
+        }
+    }
+
+    /**
+     * The pooled deflaters of a key, this holder allows a typed array of queues.
+     */
+    private static final class DeflaterQueue {
+        private final @NonNull ArrayBlockingQueue<PooledDeflater> queue = new ArrayBlockingQueue<>(MAX_POOLED_PER_KEY);
+    }
+
+    /**
+     * The pooled inflaters of a key, this holder allows a typed array of queues.
+     */
+    private static final class InflaterQueue {
+        private final @NonNull ArrayBlockingQueue<PooledInflater> queue = new ArrayBlockingQueue<>(MAX_POOLED_PER_KEY);
+    }
+
+    /**
+     * @return a pooled deflater, or a new one if there is none, with the provided compression {@code level} and
+     * {@code nowrap} setting. It must be released with {@link #release(Deflater)}.
+     */
+    public static @NonNull Deflater deflater(final int level, final boolean nowrap) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("invalid compression level: " + level);
+        }
+
+        final var key = (level - Deflater.DEFAULT_COMPRESSION) * 2 + (nowrap ? 1 : 0);
+        final var deflater = DEFLATERS[key].queue.poll();
+        return (deflater != null) ? deflater : new PooledDeflater(level, nowrap, key);
+    }
+
+    /**
+     * @return a pooled inflater, or a new one if there is none, with the provided {@code nowrap} setting. It must be
+     * released with {@link #release(Inflater)}.
+     */
+    public static @NonNull Inflater inflater(final boolean nowrap) {
+        final var key = nowrap ? 1 : 0;
+        final var inflater = INFLATERS[key].queue.poll();
+        return (inflater != null) ? inflater : new PooledInflater(nowrap, key);
+    }
+
+    /**
+     * Returns {@code deflater} to its pool if it came from this pool, else ends it. The deflater must not be used after
+     * this call.
+     */
+    static void release(final @NonNull Deflater deflater) {
+        assert deflater != null;
+
+        if (deflater instanceof PooledDeflater pooled) {
+            pooled.reset();
+            if (DEFLATERS[pooled.key].queue.offer(pooled)) {
+                return;
+            }
+        }
+        deflater.end();
+    }
+
+    /**
+     * Returns {@code inflater} to its pool if it came from this pool, else ends it. The inflater must not be used after
+     * this call.
+     */
+    static void release(final @NonNull Inflater inflater) {
+        assert inflater != null;
+
+        if (inflater instanceof PooledInflater pooled) {
+            pooled.reset();
+            if (INFLATERS[pooled.key].queue.offer(pooled)) {
+                return;
+            }
+        }
+        inflater.end();
+    }
+
+    private static final class PooledDeflater extends Deflater {
+        private final int key;
+
+        private PooledDeflater(final int level, final boolean nowrap, final int key) {
+            super(level, nowrap);
+            this.key = key;
+        }
+    }
+
+    private static final class PooledInflater extends Inflater {
+        private final int key;
+
+        private PooledInflater(final boolean nowrap, final int key) {
+            super(nowrap);
+            this.key = key;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.net.InetSocketAddress;
 import java.net.ProtocolFamily;
 import java.net.SocketOption;
 import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -157,6 +158,21 @@ public final class NetworkServerBuilder implements NetworkServer.Builder {
                 maxPendingConnections);
     }
 
+    @Override
+    public @NonNull NetworkServer bindUnix(final @NonNull UnixDomainSocketAddress localAddress) {
+        Objects.requireNonNull(localAddress);
+
+        // only NIO supports Unix domain sockets
+        return new ServerSocketChannelNetworkServer(
+                localAddress,
+                readTimeoutNanos,
+                writeTimeoutNanos,
+                socketOptions,
+                serverSocketOptions,
+                maxPendingConnections,
+                StandardProtocolFamily.UNIX);
+    }
+
     @SuppressWarnings("MethodDoesntCallSuperMethod")
     @Override
     public @NonNull NetworkServerBuilder clone() {
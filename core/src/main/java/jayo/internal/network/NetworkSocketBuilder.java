@@ -152,6 +152,13 @@ public final class NetworkSocketBuilder implements NetworkSocket.Builder {
                 socketOptions, peerAddressModifier);
     }
 
+    @Override
+    public NetworkSocket.@NonNull Unconnected openUnix() {
+        // only NIO supports Unix domain sockets
+        return new SocketChannelNetworkSocket.Unconnected(connectTimeout, readTimeoutNanos, writeTimeoutNanos,
+                socketOptions, StandardProtocolFamily.UNIX, null);
+    }
+
     @SuppressWarnings("MethodDoesntCallSuperMethod")
     @Override
     public @NonNull NetworkSocketBuilder clone() {
@@ -15,8 +15,12 @@ import org.jspecify.annotations.Nullable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.ProtocolFamily;
+import java.net.SocketAddress;
 import java.net.SocketOption;
+import java.net.UnixDomainSocketAddress;
 import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 
@@ -33,9 +37,13 @@ public final class ServerSocketChannelNetworkServer implements NetworkServer {
     private final long readTimeoutNanos;
     private final long writeTimeoutNanos;
     private final @NonNull Map<@NonNull SocketOption, @Nullable Object> socketOptions;
+    /**
+     * The socket file of a Unix domain server, it is deleted on close.
+     */
+    private final @Nullable Path unixDomainSocketPath;
 
     ServerSocketChannelNetworkServer(
-            final @NonNull InetSocketAddress localAddress,
+            final @NonNull SocketAddress localAddress,
             final long readTimeoutNanos,
             final long writeTimeoutNanos,
             final @NonNull Map<@NonNull SocketOption, @Nullable Object> socketOptions,
@@ -73,6 +81,9 @@ public final class ServerSocketChannelNetworkServer implements NetworkServer {
         this.readTimeoutNanos = readTimeoutNanos;
         this.writeTimeoutNanos = writeTimeoutNanos;
         this.socketOptions = socketOptions;
+        this.unixDomainSocketPath = (localAddress instanceof UnixDomainSocketAddress unixDomainSocketAddress)
+                ? unixDomainSocketAddress.getPath()
+                : null;
     }
 
     @Override
@@ -99,7 +110,12 @@ public final class ServerSocketChannelNetworkServer implements NetworkServer {
     @Override
     public void close() {
         try {
+            final var wasOpen = serverSocketChannel.isOpen();
             serverSocketChannel.close();
+            // closing a Unix domain server socket does not delete its socket file
+            if (wasOpen && unixDomainSocketPath != null) {
+                Files.deleteIfExists(unixDomainSocketPath);
+            }
         } catch (IOException e) {
             throw JayoException.buildJayoException(e);
         }
@@ -107,8 +123,17 @@ public final class ServerSocketChannelNetworkServer implements NetworkServer {
 
     @Override
     public @NonNull InetSocketAddress getLocalAddress() {
+        if (unixDomainSocketPath != null) {
+            throw new UnsupportedOperationException(
+                    "A Unix domain server has no internet socket address, use getLocalSocketAddress() instead");
+        }
+        return (InetSocketAddress) getLocalSocketAddress();
+    }
+
+    @Override
+    public @NonNull SocketAddress getLocalSocketAddress() {
         try {
-            return (InetSocketAddress) serverSocketChannel.getLocalAddress();
+            return serverSocketChannel.getLocalAddress();
         } catch (IOException e) {
             throw JayoException.buildJayoException(e);
         }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls;
+
+import jayo.tools.JayoUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.net.Socket;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+/**
+ * This extends {@link X509ExtendedTrustManager} to skip the validation of the peer chains that were already validated
+ * by the delegate, thanks to a {@link RealTrustCache}.
+ */
+final class CachingExtendedTrustManager extends X509ExtendedTrustManager {
+    private final @NonNull X509TrustManager delegate;
+    private final @NonNull RealTrustCache trustCache;
+
+    CachingExtendedTrustManager(final @NonNull X509TrustManager delegate, final @NonNull RealTrustCache trustCache) {
+        assert delegate != null;
+        assert trustCache != null;
+
+        this.delegate = delegate;
+        this.trustCache = trustCache;
+    }
+
+    @FunctionalInterface
+    private interface Validation {
+        void validate() throws CertificateException;
+    }
+
+    private void check(final boolean serverPeer,
+                       final X509Certificate[] chain,
+                       final String authType,
+                       final @Nullable String peerHost,
+                       final @Nullable SSLParameters parameters,
+                       final @Nullable SSLSession handshakeSession,
+                       final @NonNull Validation validation) throws CertificateException {
+        if (chain == null || chain.length == 0 || authType == null) {
+            // let the delegate reject it
+            validation.validate();
+            return;
+        }
+
+        final var key = RealTrustCache.key(serverPeer, chain, authType, peerHost, parameters, handshakeSession);
+        final var algorithmConstraints = (parameters != null) ? parameters.getAlgorithmConstraints() : null;
+        final var generation = trustCache.generation();
+        if (trustCache.isTrusted(key, algorithmConstraints)) {
+            return;
+        }
+        validation.validate();
+        trustCache.put(key, chain, algorithmConstraints, generation);
+    }
+
+    private void check(final boolean serverPeer,
+                       final X509Certificate[] chain,
+                       final String authType,
+                       final @Nullable Socket socket,
+                       final @NonNull Validation validation) throws CertificateException {
+        if (socket instanceof SSLSocket sslSocket) {
+            check(serverPeer, chain, authType, JayoUtils.socketPeerName(socket), sslSocket.getSSLParameters(),
+                    sslSocket.getHandshakeSession(), validation);
+        } else {
+            check(serverPeer, chain, authType, (socket != null) ? JayoUtils.socketPeerName(socket) : null, null,
+                    null, validation);
+        }
+    }
+
+    private void check(final boolean serverPeer,
+                       final X509Certificate[] chain,
+                       final String authType,
+                       final @Nullable SSLEngine engine,
+                       final @NonNull Validation validation) throws CertificateException {
+        if (engine != null) {
+            check(serverPeer, chain, authType, engine.getPeerHost(), engine.getSSLParameters(),
+                    engine.getHandshakeSession(), validation);
+        } else {
+            check(serverPeer, chain, authType, (String) null, null, null, validation);
+        }
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        check(false, chain, authType, (String) null, null, null, () -> delegate.checkClientTrusted(chain, authType));
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        if (!(delegate instanceof X509ExtendedTrustManager extendedDelegate)) {
+            checkClientTrusted(chain, authType);
+            return;
+        }
+        check(false, chain, authType, socket, () -> extendedDelegate.checkClientTrusted(chain, authType, socket));
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+        if (!(delegate instanceof X509ExtendedTrustManager extendedDelegate)) {
+            checkClientTrusted(chain, authType);
+            return;
+        }
+        check(false, chain, authType, engine, () -> extendedDelegate.checkClientTrusted(chain, authType, engine));
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        check(true, chain, authType, (String) null, null, null, () -> delegate.checkServerTrusted(chain, authType));
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        if (!(delegate instanceof X509ExtendedTrustManager extendedDelegate)) {
+            checkServerTrusted(chain, authType);
+            return;
+        }
+        check(true, chain, authType, socket, () -> extendedDelegate.checkServerTrusted(chain, authType, socket));
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+        if (!(delegate instanceof X509ExtendedTrustManager extendedDelegate)) {
+            checkServerTrusted(chain, authType);
+            return;
+        }
+        check(true, chain, authType, engine, () -> extendedDelegate.checkServerTrusted(chain, authType, engine));
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+        return delegate.getAcceptedIssuers();
+    }
+}
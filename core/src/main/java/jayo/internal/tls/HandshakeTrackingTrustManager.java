@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls;
+
+import org.jspecify.annotations.NonNull;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.net.Socket;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+/**
+ * This extends {@link X509ExtendedTrustManager} to tell the {@link RealTlsSessionCache} that a client handshake checked
+ * the server certificates, so it is a full handshake: a resumed handshake does not check them again.
+ */
+final class HandshakeTrackingTrustManager extends X509ExtendedTrustManager {
+    private final @NonNull X509ExtendedTrustManager delegate;
+
+    HandshakeTrackingTrustManager(final @NonNull X509ExtendedTrustManager delegate) {
+        assert delegate != null;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        delegate.checkClientTrusted(chain, authType, socket);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+        delegate.checkClientTrusted(chain, authType, engine);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        delegate.checkServerTrusted(chain, authType);
+        RealTlsSessionCache.onServerCertificatesChecked(null);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        delegate.checkServerTrusted(chain, authType, socket);
+        RealTlsSessionCache.onServerCertificatesChecked(null);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+        delegate.checkServerTrusted(chain, authType, engine);
+        RealTlsSessionCache.onServerCertificatesChecked(engine);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+        return delegate.getAcceptedIssuers();
+    }
+}
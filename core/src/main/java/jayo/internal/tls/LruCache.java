@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+
+/**
+ * A cache of at most {@code maxSize} entries, that evicts its least recently used entry when it is full. It is an
+ * access-ordered {@link LinkedHashMap} guarded by a lock, so reads, writes and evictions are all O(1).
+ * <p>
+ * Values are usually loaded outside the lock: read the {@linkplain #generation() generation} before loading a value,
+ * then {@linkplain #putIfAbsent(Object, Object, long) add it} only if no entry was invalidated in the meantime.
+ */
+final class LruCache<K, V> {
+    private final int maxSize;
+    private final @NonNull Lock lock = new ReentrantLock();
+    private final @NonNull LinkedHashMap<K, V> map;
+    private long evictionCount = 0L;
+    private volatile long generation = 0L;
+
+    LruCache(final int maxSize) {
+        assert maxSize > 0;
+
+        this.maxSize = maxSize;
+        map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the number of invalidations so far.
+     */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * @return the value of {@code key}, that becomes the most recently used entry, or null if there is none.
+     */
+    @Nullable
+    V get(final @NonNull K key) {
+        assert key != null;
+
+        lock.lock();
+        try {
+            return map.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds {@code value} for {@code key} if there is none and if no entry was invalidated since {@code generation}.
+     *
+     * @return the value of {@code key} that was already cached, or null.
+     */
+    @Nullable
+    V putIfAbsent(final @NonNull K key, final @NonNull V value, final long generation) {
+        assert key != null;
+        assert value != null;
+
+        lock.lock();
+        try {
+            final var previous = map.get(key);
+            if (previous == null && generation == this.generation) {
+                map.put(key, value);
+            }
+            return previous;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the value of {@code key} if no entry was invalidated since {@code generation}.
+     */
+    void put(final @NonNull K key, final @NonNull V value, final long generation) {
+        assert key != null;
+        assert value != null;
+
+        lock.lock();
+        try {
+            if (generation == this.generation) {
+                map.put(key, value);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry of {@code key} if its value is {@code value}, this is not an invalidation.
+     */
+    void remove(final @NonNull K key, final @NonNull V value) {
+        assert key != null;
+        assert value != null;
+
+        lock.lock();
+        try {
+            map.remove(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates the entry of {@code key}, if any.
+     */
+    void invalidate(final @NonNull K key) {
+        assert key != null;
+
+        lock.lock();
+        try {
+            generation++;
+            map.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates the entries that match {@code predicate}.
+     */
+    void invalidateIf(final @NonNull BiPredicate<? super K, ? super V> predicate) {
+        assert predicate != null;
+
+        lock.lock();
+        try {
+            generation++;
+            map.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            map.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return map.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries that were evicted because this cache was full.
+     */
+    long evictionCount() {
+        lock.lock();
+        try {
+            return evictionCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -18,11 +18,13 @@ import jayo.tls.ClientHandshakeCertificates;
 import jayo.tls.ClientTlsSocket;
 import jayo.tls.TlsSocket;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import javax.net.ssl.SNIServerName;
 import javax.net.ssl.SSLEngine;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * A client-side {@link TlsSocket}.
@@ -34,8 +36,9 @@ public final class RealClientTlsSocket extends AbstractTlsSocket implements Clie
             final @NonNull Socket encryptedSocket,
             final @NonNull ClientHandshakeCertificates handshakeCertificates,
             final boolean waitForCloseConfirmation,
+            final @Nullable Executor delegatedTaskExecutor,
             final @NonNull SSLEngine engine) {
-        super(encryptedSocket, engine, waitForCloseConfirmation);
+        super(encryptedSocket, engine, waitForCloseConfirmation, delegatedTaskExecutor);
         assert handshakeCertificates != null;
 
         this.handshakeCertificates = handshakeCertificates;
@@ -62,11 +65,13 @@ public final class RealClientTlsSocket extends AbstractTlsSocket implements Clie
          * The private constructor used by {@link #clone()}.
          */
         private Builder(final @NonNull ClientHandshakeCertificates handshakeCertificates,
-                        final boolean waitForCloseConfirmation) {
+                        final boolean waitForCloseConfirmation,
+                        final @Nullable Executor delegatedTaskExecutor) {
             assert handshakeCertificates != null;
 
             this.handshakeCertificates = handshakeCertificates;
             this.waitForCloseConfirmation = waitForCloseConfirmation;
+            this.delegatedTaskExecutor = delegatedTaskExecutor;
         }
 
         @Override
@@ -81,17 +86,14 @@ public final class RealClientTlsSocket extends AbstractTlsSocket implements Clie
 
         @Override
         public @NonNull ClientTlsSocket build(final @NonNull RawSocket encryptedSocket) {
-            Objects.requireNonNull(encryptedSocket);
-
-            final var socket = Jayo.buffer(encryptedSocket);
+            return createParameterizer(encryptedSocket).build();
+        }
 
-            final var engine = ((RealHandshakeCertificates) handshakeCertificates).getSslContext().createSSLEngine();
-            engine.setUseClientMode(true);
-            return new RealClientTlsSocket(
-                    socket,
-                    handshakeCertificates,
-                    waitForCloseConfirmation,
-                    engine);
+        @Override
+        public @NonNull ClientTlsSocket build(final @NonNull RawSocket encryptedSocket,
+                                              final @NonNull String peerHost,
+                                              final int peerPort) {
+            return createParameterizer(encryptedSocket, peerHost, peerPort).build();
         }
 
         @Override
@@ -110,7 +112,9 @@ public final class RealClientTlsSocket extends AbstractTlsSocket implements Clie
                                                           final int peerPort) {
             Objects.requireNonNull(encryptedSocket);
             Objects.requireNonNull(peerHost);
-            assert peerPort > 0;
+            if (peerPort < 1 || peerPort > 65_535) {
+                throw new IllegalArgumentException("peerPort out of range: " + peerPort);
+            }
 
             final var engine = ((RealHandshakeCertificates) handshakeCertificates).getSslContext()
                     .createSSLEngine(peerHost, peerPort);
@@ -120,7 +124,7 @@ public final class RealClientTlsSocket extends AbstractTlsSocket implements Clie
 
         @Override
         public @NonNull Builder clone() {
-            return new Builder(handshakeCertificates, waitForCloseConfirmation);
+            return new Builder(handshakeCertificates, waitForCloseConfirmation, delegatedTaskExecutor);
         }
 
         public final class Parameterizer extends AbstractTlsSocket.Parameterizer
@@ -150,11 +154,22 @@ public final class RealClientTlsSocket extends AbstractTlsSocket implements Clie
 
             @Override
             public @NonNull ClientTlsSocket build() {
-                return new RealClientTlsSocket(
-                        Jayo.buffer(encryptedSocket),
-                        handshakeCertificates,
-                        waitForCloseConfirmation,
-                        engine);
+                // the initial handshake is done by the constructor
+                final var handshake = ((RealHandshakeCertificates) handshakeCertificates).getSessionCache()
+                        .startHandshake(engine);
+                var succeeded = false;
+                try {
+                    final var tlsSocket = new RealClientTlsSocket(
+                            Jayo.buffer(encryptedSocket),
+                            handshakeCertificates,
+                            waitForCloseConfirmation,
+                            delegatedTaskExecutor,
+                            engine);
+                    succeeded = true;
+                    return tlsSocket;
+                } finally {
+                    handshake.end(succeeded);
+                }
             }
         }
     }
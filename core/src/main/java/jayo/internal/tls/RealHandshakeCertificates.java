@@ -32,6 +32,7 @@ import javax.net.ssl.*;
 import java.security.KeyManagementException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.*;
 
 public final class RealHandshakeCertificates
@@ -39,6 +40,8 @@ public final class RealHandshakeCertificates
     private final @Nullable X509KeyManager keyManager;
     private final @Nullable X509TrustManager trustManager;
     private final @NonNull SSLContext sslContext;
+    private final @NonNull RealTlsSessionCache sessionCache;
+    private final @Nullable RealTrustCache trustCache;
 
     /**
      * A client-side no-arg constructor with system default. Should be used by most users.
@@ -49,12 +52,20 @@ public final class RealHandshakeCertificates
 
     public RealHandshakeCertificates(final @Nullable X509KeyManager keyManager,
                                       final @Nullable X509TrustManager trustManager) {
+        this(keyManager, trustManager, null);
+    }
+
+    private RealHandshakeCertificates(final @Nullable X509KeyManager keyManager,
+                                      final @Nullable X509TrustManager trustManager,
+                                      final @Nullable RealTrustCache trustCache) {
         this.keyManager = keyManager;
         this.trustManager = trustManager;
+        this.trustCache = trustCache;
 
         sslContext = newSslContext(
                 (keyManager != null) ? new KeyManager[]{keyManager} : null,
                 (trustManager != null) ? new TrustManager[]{trustManager} : null);
+        sessionCache = new RealTlsSessionCache(sslContext.getClientSessionContext());
     }
 
     public RealHandshakeCertificates(final @Nullable TrustManagerFactory tmf,
@@ -80,14 +91,29 @@ public final class RealHandshakeCertificates
         }
 
         sslContext = newSslContext(keyManagers, trustManagers);
+        sessionCache = new RealTlsSessionCache(sslContext.getClientSessionContext());
+        trustCache = null;
     }
 
     private static @NonNull SSLContext newSslContext(final @NonNull KeyManager @Nullable [] keyManagers,
                                                      final @NonNull TrustManager @Nullable [] trustManagers) {
         final var sslContext = JssePlatform.get().newSSLContext();
 
+        // a client handshake that checks the server certificates is a full one, see RealTlsSessionCache
+        final TrustManager[] trackingTrustManagers;
+        if (trustManagers != null) {
+            trackingTrustManagers = new TrustManager[trustManagers.length];
+            for (var i = 0; i < trustManagers.length; i++) {
+                trackingTrustManagers[i] = (trustManagers[i] instanceof X509ExtendedTrustManager extendedTrustManager)
+                        ? new HandshakeTrackingTrustManager(extendedTrustManager)
+                        : trustManagers[i];
+            }
+        } else {
+            trackingTrustManagers = null;
+        }
+
         try {
-            sslContext.init(keyManagers, trustManagers, new SecureRandom());
+            sslContext.init(keyManagers, trackingTrustManagers, new SecureRandom());
             return sslContext;
         } catch (KeyManagementException e) {
             throw new IllegalStateException("A key management exception occurred during init of the SSLContext", e);
@@ -106,6 +132,16 @@ public final class RealHandshakeCertificates
         return trustManager;
     }
 
+    @Override
+    public @NonNull RealTlsSessionCache getSessionCache() {
+        return sessionCache;
+    }
+
+    @Override
+    public @Nullable RealTrustCache getTrustCache() {
+        return trustCache;
+    }
+
     public @NonNull SSLContext getSslContext() {
         return sslContext;
     }
@@ -117,6 +153,22 @@ public final class RealHandshakeCertificates
         X509Certificate @Nullable [] intermediates = null;
         final @NonNull Collection<X509Certificate> trustedCertificates = new LinkedHashSet<>();
         final @NonNull Collection<String> insecureHosts = new LinkedHashSet<>();
+        int trustCacheMaxSize = -1;
+        @Nullable
+        Duration trustCacheTimeToLive = null;
+
+        final void trustCacheInternal(final int maxSize, final @NonNull Duration timeToLive) {
+            Objects.requireNonNull(timeToLive);
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("maxSize < 1: " + maxSize);
+            }
+            if (timeToLive.toSeconds() < 1L) {
+                throw new IllegalArgumentException("timeToLive < 1 second: " + timeToLive);
+            }
+
+            this.trustCacheMaxSize = maxSize;
+            this.trustCacheTimeToLive = timeToLive;
+        }
 
         final @NonNull RealHandshakeCertificates buildInternal() {
             if (heldCertificate != null && heldCertificate.getKeyPair().getPrivate().getFormat() == null) {
@@ -129,12 +181,22 @@ public final class RealHandshakeCertificates
                     (intermediates != null) ? intermediates : new X509Certificate[0]);
             final var trustManager =
                     TlsUtils.newTrustManager(null, trustedCertificates, insecureHosts);
-            return new RealHandshakeCertificates(keyManager, trustManager);
+            if (trustCacheTimeToLive == null) {
+                return new RealHandshakeCertificates(keyManager, trustManager);
+            }
+
+            final var trustCache = new RealTrustCache(trustCacheMaxSize, trustCacheTimeToLive);
+            return new RealHandshakeCertificates(
+                    keyManager,
+                    new CachingExtendedTrustManager(trustManager, trustCache),
+                    trustCache);
         }
     }
 
     public static final class ClientBuilder extends Builder implements ClientHandshakeCertificates.Builder {
         private boolean addPlatformTrustedCertificates = true;
+        private int sessionCacheMaxSize = -1;
+        private @Nullable Duration sessionCacheTimeToLive = null;
 
         @Override
         public @NonNull ClientBuilder heldCertificate(final @NonNull HeldCertificate heldCertificate,
@@ -167,6 +229,27 @@ public final class RealHandshakeCertificates
             return this;
         }
 
+        @Override
+        public @NonNull ClientBuilder sessionCache(final int maxSize, final @NonNull Duration timeToLive) {
+            Objects.requireNonNull(timeToLive);
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("maxSize < 1: " + maxSize);
+            }
+            if (timeToLive.toSeconds() < 1L) {
+                throw new IllegalArgumentException("timeToLive < 1 second: " + timeToLive);
+            }
+
+            this.sessionCacheMaxSize = maxSize;
+            this.sessionCacheTimeToLive = timeToLive;
+            return this;
+        }
+
+        @Override
+        public @NonNull ClientBuilder trustCache(final int maxSize, final @NonNull Duration timeToLive) {
+            trustCacheInternal(maxSize, timeToLive);
+            return this;
+        }
+
         @Override
         public @NonNull ClientHandshakeCertificates build() {
             if (addPlatformTrustedCertificates) {
@@ -174,7 +257,11 @@ public final class RealHandshakeCertificates
                 Collections.addAll(trustedCertificates, platformTrustManager.getAcceptedIssuers());
             }
 
-            return buildInternal();
+            final var handshakeCertificates = buildInternal();
+            if (sessionCacheTimeToLive != null) {
+                handshakeCertificates.sessionCache.configure(sessionCacheMaxSize, sessionCacheTimeToLive);
+            }
+            return handshakeCertificates;
         }
     }
 
@@ -195,6 +282,12 @@ public final class RealHandshakeCertificates
             return this;
         }
 
+        @Override
+        public @NonNull ServerBuilder trustCache(final int maxSize, final @NonNull Duration timeToLive) {
+            trustCacheInternal(maxSize, timeToLive);
+            return this;
+        }
+
         @Override
         public @NonNull ServerHandshakeCertificates build() {
             return buildInternal();
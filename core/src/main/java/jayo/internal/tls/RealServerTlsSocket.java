@@ -24,6 +24,7 @@ import javax.net.ssl.SNIServerName;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.StandardConstants;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import static java.lang.System.Logger.Level.DEBUG;
@@ -41,8 +42,9 @@ public final class RealServerTlsSocket extends AbstractTlsSocket implements Serv
             final @NonNull Socket encryptedSocket,
             final @NonNull ServerHandshakeCertificates handshakeCertificates,
             final boolean waitForCloseConfirmation,
+            final @Nullable Executor delegatedTaskExecutor,
             final @NonNull SSLEngine engine) {
-        super(encryptedSocket, engine, waitForCloseConfirmation);
+        super(encryptedSocket, engine, waitForCloseConfirmation, delegatedTaskExecutor);
         assert handshakeCertificates != null;
 
         this.handshakeCertificates = handshakeCertificates;
@@ -129,11 +131,13 @@ public final class RealServerTlsSocket extends AbstractTlsSocket implements Serv
          * The private constructor used by {@link #clone()}.
          */
         private Builder(final @NonNull HandshakeCertificatesStrategy internalHandshakeCertificatesFactory,
-                        final boolean waitForCloseConfirmation) {
+                        final boolean waitForCloseConfirmation,
+                        final @Nullable Executor delegatedTaskExecutor) {
             assert internalHandshakeCertificatesFactory != null;
 
             this.handshakeCertificatesStrategy = internalHandshakeCertificatesFactory;
             this.waitForCloseConfirmation = waitForCloseConfirmation;
+            this.delegatedTaskExecutor = delegatedTaskExecutor;
         }
 
         @Override
@@ -156,6 +160,7 @@ public final class RealServerTlsSocket extends AbstractTlsSocket implements Serv
                     socket,
                     handshakeCertificates,
                     waitForCloseConfirmation,
+                    delegatedTaskExecutor,
                     engine);
         }
 
@@ -204,7 +209,7 @@ public final class RealServerTlsSocket extends AbstractTlsSocket implements Serv
 
         @Override
         public @NonNull Builder clone() {
-            return new Builder(handshakeCertificatesStrategy, waitForCloseConfirmation);
+            return new Builder(handshakeCertificatesStrategy, waitForCloseConfirmation, delegatedTaskExecutor);
         }
 
         public final class Parameterizer extends AbstractTlsSocket.Parameterizer
@@ -230,6 +235,7 @@ public final class RealServerTlsSocket extends AbstractTlsSocket implements Serv
                         encryptedSocket,
                         handshakeCertificates,
                         waitForCloseConfirmation,
+                        delegatedTaskExecutor,
                         engine);
             }
         }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls;
+
+import jayo.tls.ServerHandshakeCertificates;
+import jayo.tls.SniRouter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SNIServerName;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public final class RealSniRouter implements SniRouter {
+    private final @NonNull ConcurrentHashMap<String, ServerHandshakeCertificates> routes;
+    private final @Nullable LruCache<String, ServerHandshakeCertificates> cache;
+    private final @Nullable Function<@NonNull String, @Nullable ServerHandshakeCertificates> certificatesProvider;
+    private final int maxCacheSize;
+    private final @Nullable ServerHandshakeCertificates defaultCertificates;
+
+    private final @NonNull LongAdder hitCount = new LongAdder();
+    private final @NonNull LongAdder missCount = new LongAdder();
+    private final @NonNull LongAdder lookupCount = new LongAdder();
+    private final @NonNull LongAdder lookupNanos = new LongAdder();
+
+    private RealSniRouter(final @NonNull Map<String, ServerHandshakeCertificates> routes,
+                          final @Nullable Function<@NonNull String, @Nullable ServerHandshakeCertificates>
+                                  certificatesProvider,
+                          final int maxCacheSize,
+                          final @Nullable ServerHandshakeCertificates defaultCertificates) {
+        assert routes != null;
+
+        this.routes = new ConcurrentHashMap<>(routes);
+        this.certificatesProvider = certificatesProvider;
+        this.maxCacheSize = maxCacheSize;
+        cache = (certificatesProvider != null) ? new LruCache<>(maxCacheSize) : null;
+        this.defaultCertificates = defaultCertificates;
+    }
+
+    @Override
+    public @Nullable ServerHandshakeCertificates apply(final @Nullable SNIServerName serverName) {
+        final var start = System.nanoTime();
+        try {
+            if (!(serverName instanceof SNIHostName sniHostName)) {
+                return defaultCertificates;
+            }
+            final var handshakeCertificates = route(normalize(sniHostName.getAsciiName()));
+            return (handshakeCertificates != null) ? handshakeCertificates : defaultCertificates;
+        } finally {
+            lookupCount.increment();
+            lookupNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private @Nullable ServerHandshakeCertificates route(final @NonNull String hostName) {
+        assert hostName != null;
+
+        // read before the routes, a route change during this lookup then prevents caching a stale load
+        final var generation = (cache != null) ? cache.generation() : 0L;
+
+        var handshakeCertificates = routes.get(hostName);
+        if (handshakeCertificates != null) {
+            hitCount.increment();
+            return handshakeCertificates;
+        }
+
+        if (cache != null) {
+            handshakeCertificates = cache.get(hostName);
+            if (handshakeCertificates != null) {
+                hitCount.increment();
+                return handshakeCertificates;
+            }
+        }
+
+        final var firstDot = hostName.indexOf('.');
+        if (firstDot > 0) {
+            handshakeCertificates = routes.get("*" + hostName.substring(firstDot));
+            if (handshakeCertificates != null) {
+                hitCount.increment();
+                return handshakeCertificates;
+            }
+        }
+
+        if (cache == null) {
+            return null;
+        }
+        assert certificatesProvider != null;
+        missCount.increment();
+        // call client code, outside any lock
+        handshakeCertificates = certificatesProvider.apply(hostName);
+        if (handshakeCertificates == null) {
+            return null;
+        }
+        final var previous = cache.putIfAbsent(hostName, handshakeCertificates, generation);
+        // a concurrent handshake may have loaded this host name first
+        return (previous != null) ? previous : handshakeCertificates;
+    }
+
+    @Override
+    public void putRoute(final @NonNull String hostName,
+                         final @NonNull ServerHandshakeCertificates handshakeCertificates) {
+        Objects.requireNonNull(hostName);
+        Objects.requireNonNull(handshakeCertificates);
+
+        final var normalizedHostName = normalizeRoute(hostName);
+        routes.put(normalizedHostName, handshakeCertificates);
+        invalidate(normalizedHostName);
+    }
+
+    @Override
+    public void remove(final @NonNull String hostName) {
+        Objects.requireNonNull(hostName);
+
+        final var normalizedHostName = normalize(hostName);
+        routes.remove(normalizedHostName);
+        invalidate(normalizedHostName);
+    }
+
+    /**
+     * Invalidates the cached handshake certificates that {@code routeName} matches, this exact host name or the host
+     * names of a wildcard.
+     */
+    private void invalidate(final @NonNull String routeName) {
+        assert routeName != null;
+
+        if (cache == null) {
+            return;
+        }
+        if (!routeName.startsWith("*.")) {
+            cache.invalidate(routeName);
+            return;
+        }
+        final var parentDomain = routeName.substring(1);
+        cache.invalidateIf((hostName, ignored) -> hostName.endsWith(parentDomain) &&
+                hostName.indexOf('.') == hostName.length() - parentDomain.length());
+    }
+
+    @Override
+    public void evictAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public int getCacheSize() {
+        return (cache != null) ? cache.size() : 0;
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return (cache != null) ? cache.evictionCount() : 0L;
+    }
+
+    @Override
+    public long getLookupCount() {
+        return lookupCount.sum();
+    }
+
+    @Override
+    public @NonNull Duration getLookupTime() {
+        return Duration.ofNanos(lookupNanos.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "SniRouter(routeCount=" + routes.size() + ", cacheSize=" + getCacheSize() +
+                ", hitCount=" + getHitCount() + ", missCount=" + getMissCount() + ")";
+    }
+
+    /**
+     * @return the lower-case {@code hostName}, without its trailing dot if any.
+     */
+    private static @NonNull String normalize(final @NonNull String hostName) {
+        final var lowerCase = hostName.toLowerCase(Locale.ROOT);
+        return lowerCase.endsWith(".") ? lowerCase.substring(0, lowerCase.length() - 1) : lowerCase;
+    }
+
+    private static @NonNull String normalizeRoute(final @NonNull String hostName) {
+        final var normalizedHostName = normalize(hostName);
+        final var wildcardIndex = normalizedHostName.lastIndexOf('*');
+        if (normalizedHostName.isEmpty() || normalizedHostName.startsWith(".") ||
+                (wildcardIndex >= 0 && (wildcardIndex > 0 || !normalizedHostName.startsWith("*.") ||
+                        normalizedHostName.length() == 2))) {
+            throw new IllegalArgumentException("invalid host name: " + hostName);
+        }
+        return normalizedHostName;
+    }
+
+    public static final class Builder implements SniRouter.Builder {
+        private final @NonNull Map<String, ServerHandshakeCertificates> routes = new HashMap<>();
+        private @Nullable Function<@NonNull String, @Nullable ServerHandshakeCertificates> certificatesProvider = null;
+        private int maxCacheSize = 0;
+        private @Nullable ServerHandshakeCertificates defaultCertificates = null;
+
+        @Override
+        public @NonNull Builder addRoute(final @NonNull String hostName,
+                                         final @NonNull ServerHandshakeCertificates handshakeCertificates) {
+            Objects.requireNonNull(hostName);
+            Objects.requireNonNull(handshakeCertificates);
+
+            routes.put(normalizeRoute(hostName), handshakeCertificates);
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder defaultCertificates(final @Nullable ServerHandshakeCertificates defaultCertificates) {
+            this.defaultCertificates = defaultCertificates;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder certificatesProvider(
+                final @NonNull Function<@NonNull String, @Nullable ServerHandshakeCertificates> certificatesProvider,
+                final int maxCacheSize) {
+            Objects.requireNonNull(certificatesProvider);
+            if (maxCacheSize < 1) {
+                throw new IllegalArgumentException("maxCacheSize < 1: " + maxCacheSize);
+            }
+
+            this.certificatesProvider = certificatesProvider;
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        @Override
+        public @NonNull SniRouter build() {
+            return new RealSniRouter(routes, certificatesProvider, maxCacheSize, defaultCertificates);
+        }
+    }
+}
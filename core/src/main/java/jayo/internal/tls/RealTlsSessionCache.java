@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls;
+
+import jayo.tls.TlsSessionCache;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSessionContext;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class RealTlsSessionCache implements TlsSessionCache {
+    private static final @NonNull Map<@NonNull SSLEngine, @NonNull ClientHandshake> HANDSHAKES_BY_ENGINE =
+            new ConcurrentHashMap<>();
+    private static final @NonNull ThreadLocal<@Nullable ClientHandshake> CURRENT_HANDSHAKE = new ThreadLocal<>();
+
+    private final @NonNull SSLSessionContext sessionContext;
+    private final @NonNull LongAdder hitCount = new LongAdder();
+    private final @NonNull LongAdder missCount = new LongAdder();
+
+    RealTlsSessionCache(final @NonNull SSLSessionContext sessionContext) {
+        assert sessionContext != null;
+        this.sessionContext = sessionContext;
+    }
+
+    void configure(final int maxSize, final @NonNull Duration timeToLive) {
+        assert timeToLive != null;
+
+        sessionContext.setSessionCacheSize(maxSize);
+        sessionContext.setSessionTimeout((int) Math.min(timeToLive.toSeconds(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Starts tracking a client handshake done with {@code engine}, to be {@linkplain ClientHandshake#end(boolean) ended}
+     * by the same thread once the handshake is done.
+     */
+    @NonNull
+    ClientHandshake startHandshake(final @NonNull SSLEngine engine) {
+        assert engine != null;
+
+        final var handshake = new ClientHandshake(engine);
+        HANDSHAKES_BY_ENGINE.put(engine, handshake);
+        CURRENT_HANDSHAKE.set(handshake);
+        return handshake;
+    }
+
+    /**
+     * Called by {@link HandshakeTrackingTrustManager} when the server certificates were checked, which only happens in a
+     * full handshake. Some platforms call the trust manager with an engine that wraps, or is wrapped by, the one this
+     * handshake was started with: the handshake of the current thread is used then.
+     */
+    static void onServerCertificatesChecked(final @Nullable SSLEngine engine) {
+        var handshake = (engine != null) ? HANDSHAKES_BY_ENGINE.get(engine) : null;
+        if (handshake == null) {
+            handshake = CURRENT_HANDSHAKE.get();
+        }
+        if (handshake != null) {
+            handshake.fullHandshake = true;
+        }
+    }
+
+    final class ClientHandshake {
+        private final @NonNull SSLEngine engine;
+        private volatile boolean fullHandshake = false;
+
+        private ClientHandshake(final @NonNull SSLEngine engine) {
+            this.engine = engine;
+        }
+
+        /**
+         * Stops tracking this handshake, and records its outcome if it {@code succeeded}: a handshake that did not check
+         * the server certificates resumed a cached session.
+         */
+        void end(final boolean succeeded) {
+            HANDSHAKES_BY_ENGINE.remove(engine, this);
+            CURRENT_HANDSHAKE.remove();
+            if (!succeeded) {
+                return;
+            }
+            if (fullHandshake) {
+                missCount.increment();
+            } else {
+                hitCount.increment();
+            }
+        }
+    }
+
+    @Override
+    public int getMaxSize() {
+        return sessionContext.getSessionCacheSize();
+    }
+
+    @Override
+    public @NonNull Duration getTimeToLive() {
+        return Duration.ofSeconds(sessionContext.getSessionTimeout());
+    }
+
+    @Override
+    public int getSize() {
+        return Collections.list(sessionContext.getIds()).size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public void evictAll() {
+        for (final var id : Collections.list(sessionContext.getIds())) {
+            final var session = sessionContext.getSession(id);
+            if (session != null) {
+                session.invalidate();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TlsSessionCache(size=" + getSize() + ", hitCount=" + getHitCount() +
+                ", missCount=" + getMissCount() + ")";
+    }
+}
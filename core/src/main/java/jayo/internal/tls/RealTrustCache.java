@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls;
+
+import jayo.Buffer;
+import jayo.bytestring.ByteString;
+import jayo.crypto.JdkDigest;
+import jayo.tls.TrustCache;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import javax.net.ssl.ExtendedSSLSession;
+import javax.net.ssl.SNIServerName;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import java.security.AlgorithmConstraints;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class RealTrustCache implements TrustCache {
+    private final int maxSize;
+    private final @NonNull Duration timeToLive;
+    private final @NonNull LruCache<ByteString, Entry> entries;
+    private final @NonNull LongAdder hitCount = new LongAdder();
+    private final @NonNull LongAdder missCount = new LongAdder();
+
+    RealTrustCache(final int maxSize, final @NonNull Duration timeToLive) {
+        assert maxSize > 0;
+        assert timeToLive != null;
+
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        entries = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @return the key of a validation: the SHA-256 fingerprint of the DER encoded {@code chain}, of the side of the
+     * peer, of {@code authType} and of {@code peerHost}. The delegate trust manager also verifies the peer identity and
+     * the signature algorithms from {@code parameters} and {@code handshakeSession}, so the endpoint identification
+     * algorithm, the requested SNI server names and the supported signature algorithms are part of the key too.
+     */
+    static @NonNull ByteString key(final boolean serverPeer,
+                                   final @NonNull X509Certificate @NonNull [] chain,
+                                   final @NonNull String authType,
+                                   final @Nullable String peerHost,
+                                   final @Nullable SSLParameters parameters,
+                                   final @Nullable SSLSession handshakeSession) throws CertificateException {
+        assert chain != null;
+        assert authType != null;
+
+        final var buffer = Buffer.create()
+                .writeByte(serverPeer ? (byte) 1 : (byte) 0);
+        writeString(buffer, authType);
+        writeString(buffer, peerHost);
+        writeString(buffer, (parameters != null) ? parameters.getEndpointIdentificationAlgorithm() : null);
+
+        List<SNIServerName> serverNames = null;
+        String[] localSignatureAlgorithms = null;
+        String[] peerSignatureAlgorithms = null;
+        if (handshakeSession instanceof ExtendedSSLSession extendedSession) {
+            serverNames = extendedSession.getRequestedServerNames();
+            localSignatureAlgorithms = extendedSession.getLocalSupportedSignatureAlgorithms();
+            peerSignatureAlgorithms = extendedSession.getPeerSupportedSignatureAlgorithms();
+        } else if (parameters != null) {
+            serverNames = parameters.getServerNames();
+        }
+        if (serverNames != null) {
+            buffer.writeInt(serverNames.size());
+            for (final var serverName : serverNames) {
+                final var encoded = serverName.getEncoded();
+                buffer.writeInt(serverName.getType())
+                        .writeInt(encoded.length)
+                        .write(encoded);
+            }
+        } else {
+            buffer.writeInt(-1);
+        }
+        writeStrings(buffer, localSignatureAlgorithms);
+        writeStrings(buffer, peerSignatureAlgorithms);
+
+        for (final var certificate : chain) {
+            final var encoded = certificate.getEncoded();
+            buffer.writeInt(encoded.length)
+                    .write(encoded);
+        }
+        final var key = buffer.hash(JdkDigest.SHA_256);
+        buffer.clear();
+        return key;
+    }
+
+    private static void writeString(final @NonNull Buffer buffer, final @Nullable String string) {
+        if (string != null) {
+            buffer.write(string);
+        }
+        buffer.writeByte((byte) 0);
+    }
+
+    private static void writeStrings(final @NonNull Buffer buffer, final @NonNull String @Nullable [] strings) {
+        if (strings == null) {
+            buffer.writeInt(-1);
+            return;
+        }
+        buffer.writeInt(strings.length);
+        for (final var string : strings) {
+            writeString(buffer, string);
+        }
+    }
+
+    /**
+     * @return true if the validation of {@code key} is cached, not expired, and was done with the same
+     * {@code algorithmConstraints} instance. They have no value equality, but platforms share a default instance.
+     */
+    boolean isTrusted(final @NonNull ByteString key, final @Nullable AlgorithmConstraints algorithmConstraints) {
+        assert key != null;
+
+        final var entry = entries.get(key);
+        if (entry != null) {
+            if (System.currentTimeMillis() < entry.expiresAtMillis) {
+                if (entry.algorithmConstraints == algorithmConstraints) {
+                    hitCount.increment();
+                    return true;
+                }
+            } else {
+                entries.remove(key, entry);
+            }
+        }
+        missCount.increment();
+        return false;
+    }
+
+    /**
+     * @return the generation of this cache, to read before a validation.
+     */
+    long generation() {
+        return entries.generation();
+    }
+
+    /**
+     * Caches the successful validation of {@code chain}, until one of its certificates expires or the time to live
+     * elapsed. It is not cached if this cache was invalidated since {@code generation}, read before the validation.
+     */
+    void put(final @NonNull ByteString key,
+             final @NonNull X509Certificate @NonNull [] chain,
+             final @Nullable AlgorithmConstraints algorithmConstraints,
+             final long generation) {
+        assert key != null;
+        assert chain != null;
+
+        var expiresAtMillis = System.currentTimeMillis() + timeToLive.toMillis();
+        for (final var certificate : chain) {
+            expiresAtMillis = Math.min(expiresAtMillis, certificate.getNotAfter().getTime());
+        }
+        entries.put(key, new Entry(chain.clone(), algorithmConstraints, expiresAtMillis), generation);
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public @NonNull Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public int getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public void invalidate(final @NonNull X509Certificate certificate) {
+        Objects.requireNonNull(certificate);
+
+        entries.invalidateIf((ignored, entry) -> Arrays.asList(entry.chain).contains(certificate));
+    }
+
+    @Override
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "TrustCache(size=" + getSize() + ", hitCount=" + getHitCount() + ", missCount=" + getMissCount() + ")";
+    }
+
+    private static final class Entry {
+        private final @NonNull X509Certificate @NonNull [] chain;
+        private final @Nullable AlgorithmConstraints algorithmConstraints;
+        private final long expiresAtMillis;
+
+        private Entry(final @NonNull X509Certificate @NonNull [] chain,
+                      final @Nullable AlgorithmConstraints algorithmConstraints,
+                      final long expiresAtMillis) {
+            assert chain != null;
+
+            this.chain = chain;
+            this.algorithmConstraints = algorithmConstraints;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
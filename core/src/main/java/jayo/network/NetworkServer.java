@@ -14,7 +14,9 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.net.SocketOption;
+import java.net.UnixDomainSocketAddress;
 import java.time.Duration;
 
 /**
@@ -46,6 +48,22 @@ public sealed interface NetworkServer extends AutoCloseable
         return builder().bindTcp(localAddress);
     }
 
+    /**
+     * @return a new Unix domain {@link NetworkServer} backed by an underlying
+     * {@linkplain java.nio.channels.ServerSocketChannel NIO ServerSocketChannel} bound to the provided
+     * {@code localAddress} socket address.
+     * <p>
+     * This method uses default configuration, with no read/write timeouts, no {@linkplain SocketOption socket options}
+     * for the server and its accepted sockets, and no max pending connections set on the underlying server socket.
+     * <p>
+     * If you need specific options, please use {@link #builder()} instead.
+     * @throws jayo.JayoException If an I/O error occurs.
+     * @see Builder#bindUnix(UnixDomainSocketAddress)
+     */
+    static @NonNull NetworkServer bindUnix(final @NonNull UnixDomainSocketAddress localAddress) {
+        return builder().bindUnix(localAddress);
+    }
+
     /**
      * @return a {@link NetworkServer} builder.
      */
@@ -83,12 +101,23 @@ public sealed interface NetworkServer extends AutoCloseable
 
     /**
      * @return the local address that this network server's underlying socket is bound to.
-     * @throws JayoClosedResourceException If this network server is closed.
-     * @throws jayo.JayoException          If an I/O error occurs.
+     * @throws JayoClosedResourceException   If this network server is closed.
+     * @throws UnsupportedOperationException If this is a Unix domain one, use {@link #getLocalSocketAddress()} instead.
+     * @throws jayo.JayoException            If an I/O error occurs.
      */
     @NonNull
     InetSocketAddress getLocalAddress();
 
+    /**
+     * @return the local socket address that this network server's underlying socket is bound to, it is a
+     * {@link UnixDomainSocketAddress} for a Unix domain server.
+     * @throws JayoClosedResourceException If this network server is closed.
+     * @throws jayo.JayoException          If an I/O error occurs.
+     */
+    default @NonNull SocketAddress getLocalSocketAddress() {
+        return getLocalAddress();
+    }
+
     /**
      * @param <T>  The type of the socket option value.
      * @param name The socket option.
@@ -222,5 +251,18 @@ public sealed interface NetworkServer extends AutoCloseable
          */
         @NonNull
         NetworkServer bindTcp(final @NonNull InetSocketAddress localAddress);
+
+        /**
+         * @return a new Unix domain {@link NetworkServer} bound to the provided {@code localAddress} socket address.
+         * The socket file must not exist yet, it is deleted when this network server is closed.
+         * <p>
+         * Unix domain sockets <b>are only available for Java NIO</b>, so {@linkplain #useNio(boolean) Java NIO mode} is
+         * always used. The {@linkplain #networkProtocol(NetworkProtocol) network protocol} does not apply, and TCP
+         * specific {@linkplain #option(SocketOption, Object) socket options} like {@code TCP_NODELAY} are not
+         * supported.
+         * @throws jayo.JayoException If an I/O error occurs.
+         */
+        @NonNull
+        NetworkServer bindUnix(final @NonNull UnixDomainSocketAddress localAddress);
     }
 }
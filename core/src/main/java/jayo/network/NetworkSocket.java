@@ -17,7 +17,9 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.net.SocketOption;
+import java.net.UnixDomainSocketAddress;
 import java.time.Duration;
 import java.util.function.UnaryOperator;
 
@@ -52,6 +54,22 @@ public sealed interface NetworkSocket extends RawNetworkSocket, RawSocket
         return builder().openTcp().connect(peerAddress);
     }
 
+    /**
+     * @return a new client-side Unix domain {@link NetworkSocket} backed by an underlying
+     * {@linkplain java.nio.channels.SocketChannel NIO SocketChannel} connected to the server using the provided
+     * {@code peerAddress} socket address.
+     * <p>
+     * This method uses default configuration, with no connect/read/write timeouts and no
+     * {@linkplain SocketOption socket options} set on the underlying network socket.
+     * <p>
+     * If you need any specific configuration, please use {@link #builder()} instead.
+     * @throws jayo.JayoException If an I/O error occurs.
+     * @see Builder#openUnix()
+     */
+    static @NonNull NetworkSocket connectUnix(final @NonNull UnixDomainSocketAddress peerAddress) {
+        return builder().openUnix().connect(peerAddress);
+    }
+
     /**
      * @return a client-side {@link NetworkSocket} builder.
      */
@@ -61,12 +79,23 @@ public sealed interface NetworkSocket extends RawNetworkSocket, RawSocket
 
     /**
      * @return the peer socket address to which this network socket's underlying socket is connected.
-     * @throws JayoClosedResourceException If this network socket is closed.
-     * @throws jayo.JayoException          If an I/O error occurs.
+     * @throws JayoClosedResourceException   If this network socket is closed.
+     * @throws UnsupportedOperationException If this is a Unix domain one, use {@link #getPeerSocketAddress()} instead.
+     * @throws jayo.JayoException            If an I/O error occurs.
      */
     @NonNull
     InetSocketAddress getPeerAddress();
 
+    /**
+     * @return the peer socket address to which this network socket's underlying socket is connected, it is a
+     * {@link UnixDomainSocketAddress} for a Unix domain socket.
+     * @throws JayoClosedResourceException If this network socket is closed.
+     * @throws jayo.JayoException          If an I/O error occurs.
+     */
+    default @NonNull SocketAddress getPeerSocketAddress() {
+        return getPeerAddress();
+    }
+
     /**
      * Sets the timeout that will apply on each low-level read operation of this network socket. A timeout of zero is
      * interpreted as an infinite timeout.
@@ -213,6 +242,20 @@ public sealed interface NetworkSocket extends RawNetworkSocket, RawSocket
          */
         @NonNull
         Unconnected openTcp();
+
+        /**
+         * @return a new {@linkplain Unconnected unconnected client-side Unix domain socket}, to connect to a local
+         * server with {@link Unconnected#connect(UnixDomainSocketAddress)}. Unix domain sockets skip the TCP/IP stack,
+         * they have a lower latency than loopback TCP sockets for local inter-process communication.
+         * <p>
+         * Unix domain sockets <b>are only available for Java NIO</b>, so {@linkplain #useNio(boolean) Java NIO mode} is
+         * always used. The {@linkplain #networkProtocol(NetworkProtocol) network protocol} and the
+         * {@linkplain #onConnect(UnaryOperator) peer address modifier} do not apply, and TCP specific
+         * {@linkplain #option(SocketOption, Object) socket options} like {@code TCP_NODELAY} are not supported.
+         * @throws jayo.JayoException If an I/O error occurs.
+         */
+        @NonNull
+        Unconnected openUnix();
     }
 
     /**
@@ -236,5 +279,15 @@ public sealed interface NetworkSocket extends RawNetworkSocket, RawSocket
          */
         @NonNull
         NetworkSocket connect(final @NonNull InetSocketAddress peerAddress, final Proxy.@NonNull Socks proxy);
+
+        /**
+         * @return a new client-side Unix domain {@link NetworkSocket} connected to the server using the provided
+         * {@code peerAddress} socket address.
+         * @throws java.nio.channels.UnsupportedAddressTypeException If this unconnected socket was not opened with
+         *                                                          {@link Builder#openUnix()}.
+         * @throws jayo.JayoException                               If an I/O error occurs.
+         */
+        @NonNull
+        NetworkSocket connect(final @NonNull UnixDomainSocketAddress peerAddress);
     }
 }
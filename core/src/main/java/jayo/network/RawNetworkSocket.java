@@ -10,6 +10,7 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.net.SocketOption;
 import java.time.Duration;
 
@@ -20,12 +21,23 @@ import java.time.Duration;
 public sealed interface RawNetworkSocket permits NetworkSocket, NetworkSocket.Unconnected {
     /**
      * @return the local socket address that this network socket's underlying socket is bound to.
-     * @throws JayoClosedResourceException If this network socket is closed.
-     * @throws jayo.JayoException          If an I/O error occurs.
+     * @throws JayoClosedResourceException   If this network socket is closed.
+     * @throws UnsupportedOperationException If this is a Unix domain one, use {@link #getLocalSocketAddress()} instead.
+     * @throws jayo.JayoException            If an I/O error occurs.
      */
     @NonNull
     InetSocketAddress getLocalAddress();
 
+    /**
+     * @return the local socket address that this network socket's underlying socket is bound to, it is a
+     * {@link java.net.UnixDomainSocketAddress} for a Unix domain socket.
+     * @throws JayoClosedResourceException If this network socket is closed.
+     * @throws jayo.JayoException          If an I/O error occurs.
+     */
+    default @NonNull SocketAddress getLocalSocketAddress() {
+        return getLocalAddress();
+    }
+
     /**
      * @return the timeout that applies on each low-level read operation of this network socket.
      */
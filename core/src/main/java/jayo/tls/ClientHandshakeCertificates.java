@@ -30,6 +30,7 @@ import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509KeyManager;
 import javax.net.ssl.X509TrustManager;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -140,6 +141,19 @@ public sealed interface ClientHandshakeCertificates permits RealHandshakeCertifi
     @Nullable
     X509KeyManager getKeyManager();
 
+    /**
+     * @return the cache of TLS sessions shared by all the client TLS sockets that use these handshake certificates.
+     */
+    @NonNull
+    TlsSessionCache getSessionCache();
+
+    /**
+     * @return the cache of the validated peer certificate chains, or null if it was not enabled with
+     * {@link Builder#trustCache(int, Duration)}.
+     */
+    @Nullable
+    TrustCache getTrustCache();
+
     /**
      * The builder used to create a {@link ClientHandshakeCertificates}.
      */
@@ -199,6 +213,28 @@ public sealed interface ClientHandshakeCertificates permits RealHandshakeCertifi
         @NonNull
         Builder addInsecureHost(final @NonNull String hostname);
 
+        /**
+         * Bounds the {@linkplain TlsSessionCache cache of TLS sessions} to at most {@code maxSize} sessions, that expire
+         * after {@code timeToLive}. Default is the platform's default, usually a large cache whose sessions expire
+         * after 24 hours.
+         *
+         * @throws IllegalArgumentException if {@code maxSize} is less than 1 or if {@code timeToLive} is less than one
+         *                                  second.
+         */
+        @NonNull
+        Builder sessionCache(final int maxSize, final @NonNull Duration timeToLive);
+
+        /**
+         * Enables a {@linkplain TrustCache cache of the validated peer certificate chains}, so the next handshakes
+         * with the same peer chain skip its validation. At most {@code maxSize} validations are cached, each one
+         * expires after {@code timeToLive} or when a certificate of its chain expires. Default is no cache.
+         *
+         * @throws IllegalArgumentException if {@code maxSize} is less than 1 or if {@code timeToLive} is less than one
+         *                                  second.
+         */
+        @NonNull
+        Builder trustCache(final int maxSize, final @NonNull Duration timeToLive);
+
         @NonNull
         ClientHandshakeCertificates build();
     }
@@ -63,6 +63,23 @@ public sealed interface ClientTlsSocket extends TlsSocket permits RealClientTlsS
          */
         @NonNull
         ClientTlsSocket build(final @NonNull RawSocket encryptedSocket);
+
+        /**
+         * Create a new {@linkplain ClientTlsSocket client-side TLS socket} using advisory peer information, it requires
+         * an existing {@link Socket} for encrypted bytes (typically, but not necessarily associated with a network
+         * socket).
+         * <p>
+         * The peer host and port are the key of the {@linkplain ClientHandshakeCertificates#getSessionCache() TLS
+         * session cache}, so a previous session with this peer can be resumed.
+         *
+         * @param peerHost the non-authoritative name of the host.
+         * @param peerPort the non-authoritative port.
+         * @throws IllegalArgumentException if {@code peerPort} is not a valid port number.
+         */
+        @NonNull
+        ClientTlsSocket build(final @NonNull RawSocket encryptedSocket,
+                              final @NonNull String peerHost,
+                              final int peerPort);
     }
 
     sealed interface Parameterizer extends TlsSocket.Parameterizer
@@ -30,6 +30,7 @@ import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509KeyManager;
 import javax.net.ssl.X509TrustManager;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -121,6 +122,13 @@ public sealed interface ServerHandshakeCertificates permits RealHandshakeCertifi
     @Nullable
     X509TrustManager getTrustManager();
 
+    /**
+     * @return the cache of the validated peer certificate chains, or null if it was not enabled with
+     * {@link Builder#trustCache(int, Duration)}.
+     */
+    @Nullable
+    TrustCache getTrustCache();
+
     /**
      * The builder used to create a {@link ServerHandshakeCertificates}.
      */
@@ -132,6 +140,17 @@ public sealed interface ServerHandshakeCertificates permits RealHandshakeCertifi
         @NonNull
         Builder addTrustedCertificate(final @NonNull X509Certificate certificate);
 
+        /**
+         * Enables a {@linkplain TrustCache cache of the validated peer certificate chains}, so the next handshakes
+         * with the same peer chain skip its validation. At most {@code maxSize} validations are cached, each one
+         * expires after {@code timeToLive} or when a certificate of its chain expires. Default is no cache.
+         *
+         * @throws IllegalArgumentException if {@code maxSize} is less than 1 or if {@code timeToLive} is less than one
+         *                                  second.
+         */
+        @NonNull
+        Builder trustCache(final int maxSize, final @NonNull Duration timeToLive);
+
         @NonNull
         ServerHandshakeCertificates build();
     }
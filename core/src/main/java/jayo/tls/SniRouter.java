@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.tls;
+
+import jayo.internal.tls.RealSniRouter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import javax.net.ssl.SNIServerName;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Selects the {@link ServerHandshakeCertificates} of a TLS connection from the host name of its SNI (Server Name
+ * Indication), for a server that hosts many host names, like a multi-tenant gateway. A router is the
+ * {@linkplain ServerTlsSocket#builder(Function) handshake certificates factory} of a {@link ServerTlsSocket}:
+ * <pre>
+ * {@code
+ * SniRouter router = SniRouter.builder()
+ *     .addRoute("*.example.com", exampleHandshakeCertificates)
+ *     .certificatesProvider(hostName -> loadHandshakeCertificates(hostName), 10_000)
+ *     .build();
+ * ServerTlsSocket.Builder builder = ServerTlsSocket.builder(router);
+ * }
+ * </pre>
+ * A host name is resolved, case-insensitively, in this order:
+ * <ol>
+ * <li>the route of this exact host name.
+ * <li>the cached handshake certificates previously loaded for this exact host name.
+ * <li>the wildcard route of its parent domain, {@code *.example.com} matches {@code api.example.com} but neither
+ * {@code example.com} nor {@code v1.api.example.com}.
+ * <li>the handshake certificates loaded by the {@linkplain Builder#certificatesProvider(Function, int) certificates
+ * provider}, if any. They are cached, and the least recently used ones are evicted when the cache is full.
+ * <li>the {@linkplain Builder#defaultCertificates(ServerHandshakeCertificates) default handshake certificates}, that are
+ * also used when the client sends no SNI. If there are none, the handshake is aborted.
+ * </ol>
+ * Routes are never evicted, and can be {@linkplain #putRoute(String, ServerHandshakeCertificates) replaced} at any
+ * time: the next handshakes use the new handshake certificates, the established connections are not affected.
+ * <p>
+ * The routes are a concurrent map, and the cache is guarded by a short lock that is never held while the certificates
+ * provider is called, so a slow load does not block other handshakes. The cost of lookups, including the provider
+ * calls, is measured: see {@link #getLookupCount()} and {@link #getLookupTime()}.
+ */
+public sealed interface SniRouter extends Function<@Nullable SNIServerName, @Nullable ServerHandshakeCertificates>
+        permits RealSniRouter {
+    /**
+     * @return a builder to craft a {@link SniRouter}.
+     */
+    static @NonNull Builder builder() {
+        return new RealSniRouter.Builder();
+    }
+
+    /**
+     * @return the handshake certificates for the host name of {@code serverName}, or the default handshake
+     * certificates if {@code serverName} is null or does not match any route. Returns null if no handshake certificates
+     * were found.
+     */
+    @Override
+    @Nullable
+    ServerHandshakeCertificates apply(final @Nullable SNIServerName serverName);
+
+    /**
+     * Atomically adds or replaces the route of {@code hostName}, that is either an exact host name or a wildcard like
+     * {@code *.example.com}. The cached handshake certificates this route matches, if any, are removed. Handshake
+     * certificates that were being loaded during this call are not cached.
+     *
+     * @throws IllegalArgumentException if {@code hostName} is not a valid host name or wildcard.
+     */
+    void putRoute(final @NonNull String hostName, final @NonNull ServerHandshakeCertificates handshakeCertificates);
+
+    /**
+     * Removes the route of {@code hostName} and the cached handshake certificates of this exact host name, if any. The
+     * next handshake for this host name then reloads its handshake certificates from the certificates provider.
+     */
+    void remove(final @NonNull String hostName);
+
+    /**
+     * Removes all the cached handshake certificates that were loaded by the certificates provider. Routes are kept.
+     */
+    void evictAll();
+
+    /**
+     * @return the number of handshake certificates that are currently cached, routes excluded.
+     */
+    int getCacheSize();
+
+    /**
+     * @return the maximum number of cached handshake certificates, or 0 if there is no certificates provider.
+     */
+    int getMaxCacheSize();
+
+    /**
+     * @return the number of lookups that were resolved by a route or by the cache.
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of lookups that called the certificates provider.
+     */
+    long getMissCount();
+
+    /**
+     * @return the number of cached handshake certificates that were evicted because the cache was full.
+     */
+    long getEvictionCount();
+
+    /**
+     * @return the number of lookups, one per handshake.
+     */
+    long getLookupCount();
+
+    /**
+     * @return the cumulated time spent in lookups, including the calls to the certificates provider. Divided by
+     * {@link #getLookupCount()} it is the average lookup cost per handshake.
+     */
+    @NonNull
+    Duration getLookupTime();
+
+    /**
+     * The builder used to create a {@link SniRouter}.
+     */
+    sealed interface Builder permits RealSniRouter.Builder {
+        /**
+         * Adds the route of {@code hostName}, that is either an exact host name or a wildcard like
+         * {@code *.example.com}.
+         *
+         * @throws IllegalArgumentException if {@code hostName} is not a valid host name or wildcard.
+         */
+        @NonNull
+        Builder addRoute(final @NonNull String hostName,
+                         final @NonNull ServerHandshakeCertificates handshakeCertificates);
+
+        /**
+         * Sets the handshake certificates used when the client sends no SNI, or when its host name does not match any
+         * route and the certificates provider returns null. Default is {@code null} to abort these handshakes.
+         */
+        @NonNull
+        Builder defaultCertificates(final @Nullable ServerHandshakeCertificates defaultCertificates);
+
+        /**
+         * Sets the provider that lazily loads the handshake certificates of a lower-case host name that does not
+         * match any route, or returns null if it has none. Loaded handshake certificates are cached, at most
+         * {@code maxCacheSize} of them, the least recently used ones are evicted first.
+         * <p>
+         * The provider is called in the thread that does the handshake, and it may be called concurrently for the same
+         * host name, the first loaded handshake certificates are then cached. If it throws an exception, the handshake
+         * is aborted.
+         *
+         * @throws IllegalArgumentException if {@code maxCacheSize} is less than 1.
+         */
+        @NonNull
+        Builder certificatesProvider(
+                final @NonNull Function<@NonNull String, @Nullable ServerHandshakeCertificates> certificatesProvider,
+                final int maxCacheSize);
+
+        @NonNull
+        SniRouter build();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.tls;
+
+import jayo.RawSocket;
+import jayo.internal.tls.RealTlsSessionCache;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+
+/**
+ * The client-side cache of TLS sessions of a {@link ClientHandshakeCertificates}, that allows the next connections to
+ * the same peer to resume a previous session with an abbreviated handshake instead of a full one. Resumption is a lot
+ * cheaper in CPU and in network round trips, it matters for short-lived connections.
+ * <p>
+ * Sessions are keyed by peer host and port, so only client TLS sockets created with advisory peer information, like
+ * {@link ClientTlsSocket.Builder#build(RawSocket, String, int)}, can resume a session. With TLS 1.3 the session ticket
+ * is sent by the server after the handshake, it is only received by the client once it reads from the connection.
+ * <p>
+ * The cache is held by the platform's {@link javax.net.ssl.SSLSessionContext}, this interface configures it and exposes
+ * how many handshakes were resumed. Its bounds are set with
+ * {@link ClientHandshakeCertificates.Builder#sessionCache(int, Duration)}.
+ */
+public sealed interface TlsSessionCache permits RealTlsSessionCache {
+    /**
+     * @return the maximum number of cached sessions, or 0 if it is unlimited.
+     */
+    int getMaxSize();
+
+    /**
+     * @return the duration after which a cached session expires, or {@link Duration#ZERO} if it never expires.
+     */
+    @NonNull
+    Duration getTimeToLive();
+
+    /**
+     * @return the number of sessions currently in this cache.
+     */
+    int getSize();
+
+    /**
+     * @return the number of client handshakes that resumed a cached session.
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of client handshakes that did not resume a cached session, and did a full handshake instead.
+     */
+    long getMissCount();
+
+    /**
+     * Invalidates and removes all the sessions of this cache. The next connection to each peer does a full handshake.
+     */
+    void evictAll();
+}
@@ -13,10 +13,12 @@ package jayo.tls;
 import jayo.*;
 import jayo.internal.AbstractTlsSocket;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLSession;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * A TLS (Transport Layer Security) socket, either the client-side or server-side end of a TLS connection between two
@@ -148,6 +150,22 @@ public sealed interface TlsSocket extends RawSocket permits ClientTlsSocket, Ser
         @NonNull
         T waitForCloseConfirmation(final boolean waitForCloseConfirmation);
 
+        /**
+         * Sets the executor that runs the {@linkplain SSLEngine#getDelegatedTask() delegated tasks} of the
+         * {@link SSLEngine}: the CPU intensive parts of the handshake, like the key exchange and the verification of the
+         * peer's certificates. Default is {@code null} to run them in the thread that reads or writes, this is the
+         * lowest latency option when handshakes are rare.
+         * <p>
+         * When many connections do their handshake at the same time, on virtual threads in particular, their delegated
+         * tasks may occupy all the carrier threads and stall reads and writes on established connections. A bounded
+         * pool of platform threads, for example
+         * {@code Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())}, isolates this handshake CPU
+         * work: the thread that reads or writes waits for the delegated task to complete, a virtual thread then
+         * releases its carrier. If the executor rejects a task, it is run in the thread that reads or writes.
+         */
+        @NonNull
+        T delegatedTaskExecutor(final @Nullable Executor delegatedTaskExecutor);
+
         /**
          * Create a new {@linkplain TlsSocket.Parameterizer TLS parameterizer} using no advisory peer information. It
          * requires an existing {@link Socket} for encrypted bytes (typically, but not necessarily associated with a
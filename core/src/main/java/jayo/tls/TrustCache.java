@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.tls;
+
+import jayo.internal.tls.RealTrustCache;
+import org.jspecify.annotations.NonNull;
+
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+
+/**
+ * A cache of the peer certificate chains that were successfully validated by the trust manager of a
+ * {@link ClientHandshakeCertificates} or a {@link ServerHandshakeCertificates}. The next handshakes that receive the
+ * same chain skip its validation, this saves a lot of handshake CPU when the same peers reconnect constantly, like in
+ * service-to-service mutual TLS.
+ * <p>
+ * Only successful validations are cached, keyed by the SHA-256 fingerprint of the chain, the authentication type and
+ * the peer host. A cached validation expires as soon as one certificate of the chain expires, or after the
+ * {@linkplain #getTimeToLive() time to live}, whichever comes first. Revocation is only checked again once a cached
+ * validation expired, or was {@linkplain #invalidate(X509Certificate) invalidated}.
+ * <p>
+ * A trust cache is opt-in, see {@link ClientHandshakeCertificates.Builder#trustCache(int, Duration)} and
+ * {@link ServerHandshakeCertificates.Builder#trustCache(int, Duration)}.
+ */
+public sealed interface TrustCache permits RealTrustCache {
+    /**
+     * @return the maximum number of cached validations, the least recently used ones are evicted first.
+     */
+    int getMaxSize();
+
+    /**
+     * @return the duration after which a cached validation expires.
+     */
+    @NonNull
+    Duration getTimeToLive();
+
+    /**
+     * @return the number of validations currently in this cache.
+     */
+    int getSize();
+
+    /**
+     * @return the number of peer chains that were trusted from this cache, without validation.
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of peer chains that were not in this cache, and were validated by the trust manager.
+     */
+    long getMissCount();
+
+    /**
+     * Removes the cached validations of all the chains that contain {@code certificate}, for example when it was
+     * revoked. The next handshakes with these chains validate them again.
+     */
+    void invalidate(final @NonNull X509Certificate certificate);
+
+    /**
+     * Removes all the cached validations. The next handshakes validate their peer chain again.
+     */
+    void invalidateAll();
+}
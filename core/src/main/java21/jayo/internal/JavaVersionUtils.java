@@ -77,17 +77,17 @@ public final class JavaVersionUtils {
         if (cancellationContext != null) {
             cancellationContext.addCancelToken(cancelToken);
             try {
-                block.accept(cancelToken);
+                cancelToken.runBlock(block);
                 return;
             } finally {
-                cancelToken.finished = true;
+                cancelToken.finish();
             }
         }
 
         cancellationContext = new CancellationContext(cancelToken);
         CANCELLATION_CONTEXT.set(cancellationContext);
         try {
-            block.accept(cancelToken);
+            cancelToken.runBlock(block);
         } finally {
             CANCELLATION_CONTEXT.remove();
         }
@@ -102,16 +102,16 @@ public final class JavaVersionUtils {
         if (cancellationContext != null) {
             cancellationContext.addCancelToken(cancelToken);
             try {
-                return block.apply(cancelToken);
+                return cancelToken.callBlock(block);
             } finally {
-                cancelToken.finished = true;
+                cancelToken.finish();
             }
         }
 
         cancellationContext = new CancellationContext(cancelToken);
         CANCELLATION_CONTEXT.set(cancellationContext);
         try {
-            return block.apply(cancelToken);
+            return cancelToken.callBlock(block);
         } finally {
             CANCELLATION_CONTEXT.remove();
         }
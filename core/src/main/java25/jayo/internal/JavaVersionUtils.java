@@ -76,15 +76,15 @@ public final class JavaVersionUtils {
             final var cancellationContext = CANCELLATION_CONTEXT.get();
             cancellationContext.addCancelToken(cancelToken);
             try {
-                block.accept(cancelToken);
+                cancelToken.runBlock(block);
                 return;
             } finally {
-                cancelToken.finished = true;
+                cancelToken.finish();
             }
         }
 
         final var cancellationContext = new CancellationContext(cancelToken);
-        ScopedValue.where(CANCELLATION_CONTEXT, cancellationContext).run(() -> block.accept(cancelToken));
+        ScopedValue.where(CANCELLATION_CONTEXT, cancellationContext).run(() -> cancelToken.runBlock(block));
     }
 
     public static <T> T callCancellable(final @NonNull RealCancelToken cancelToken,
@@ -96,14 +96,14 @@ public final class JavaVersionUtils {
             final var cancellationContext = CANCELLATION_CONTEXT.get();
             cancellationContext.addCancelToken(cancelToken);
             try {
-                return block.apply(cancelToken);
+                return cancelToken.callBlock(block);
             } finally {
-                cancelToken.finished = true;
+                cancelToken.finish();
             }
         }
 
         final var cancellationContext = new CancellationContext(cancelToken);
-        return ScopedValue.where(CANCELLATION_CONTEXT, cancellationContext).call(() -> block.apply(cancelToken));
+        return ScopedValue.where(CANCELLATION_CONTEXT, cancellationContext).call(() -> cancelToken.callBlock(block));
     }
 
     /**
@@ -10,4 +10,17 @@ package jayo
 /**
  * @return a new [Pipe]. This pipe's buffer that decouples reader and writer has a maximum size of [maxBufferSize].
  */
-public fun Pipe(maxBufferSize: Long): Pipe = Pipe.create(maxBufferSize)
\ No newline at end of file
+public fun Pipe(maxBufferSize: Long): Pipe = Pipe.create(maxBufferSize)
+
+/**
+ * @return a new [Pipe] in the provided [mode]. This pipe's buffer that decouples reader and writer has a maximum size
+ * of [maxBufferSize].
+ */
+public fun Pipe(maxBufferSize: Long, mode: Pipe.Mode): Pipe = Pipe.create(maxBufferSize, mode)
+
+/**
+ * @return a new [BroadcastPipe] with [readerCount] readers. Each reader's buffer that decouples it from the writer has a
+ * maximum size of [maxBufferSize].
+ */
+public fun BroadcastPipe(maxBufferSize: Long, readerCount: Int): BroadcastPipe =
+    BroadcastPipe.create(maxBufferSize, readerCount)
@@ -27,6 +27,7 @@ import jayo.bytestring.ByteString
 import jayo.crypto.Digest
 import jayo.crypto.Hmac
 import jayo.internal.RealReader
+import java.util.zip.Checksum
 import java.util.zip.Inflater
 
 /**
@@ -37,6 +38,14 @@ import java.util.zip.Inflater
  */
 public fun RawReader.buffered(): Reader = RealReader(this)
 
+/**
+ * @return a new reader that buffers reads from the raw `reader`, requesting at most [maxRefillSize] bytes from it in a
+ * single read.
+ *
+ * @see Jayo.buffer
+ */
+public fun RawReader.buffered(maxRefillSize: Long): Reader = Jayo.buffer(this, maxRefillSize)
+
 /**
  * Consumes all bytes from this reader and return its hash.
  *
@@ -55,11 +64,38 @@ public fun RawReader.hash(digest: Digest): ByteString = Jayo.hash(this, digest)
 public fun RawReader.hmac(hMac: Hmac, key: ByteString): ByteString = Jayo.hmac(this, hMac, key)
 
 /**
- * @return an [InflaterRawReader] that DEFLATE-decompresses data of this [RawReader] while reading.
+ * @return an [InflaterRawReader] that DEFLATE-decompresses data of this [RawReader] while reading. The underlying
+ * [Inflater] is taken from, and returned to, a shared pool.
  */
-public fun RawReader.inflate(inflater: Inflater = Inflater()): InflaterRawReader = Jayo.inflate(this, inflater)
+public fun RawReader.inflate(): InflaterRawReader = Jayo.inflate(this)
+
+/**
+ * @return an [InflaterRawReader] that DEFLATE-decompresses data of this [RawReader] while reading, using the provided
+ * [inflater].
+ */
+public fun RawReader.inflate(inflater: Inflater): InflaterRawReader = Jayo.inflate(this, inflater)
 
 /**
  * Returns a [RawReader] that gzip-decompresses data of this [RawReader] while reading.
  */
 public fun RawReader.gzip(): RawReader = Jayo.gzip(this)
+
+/**
+ * Returns a [RawReader] that LZ4-decompresses data of this [RawReader] while reading.
+ */
+public fun RawReader.lz4(): RawReader = Jayo.lz4(this)
+
+/**
+ * Returns a [RawReader] that updates [checksum] with all the bytes read from this [RawReader], for example a
+ * [java.util.zip.CRC32C].
+ */
+public fun RawReader.checksum(checksum: Checksum): RawReader = Jayo.checksum(this, checksum)
+
+/**
+ * Returns a [RawReader] that computes the checksum of each block of [blockByteSize] bytes read from this [RawReader], and
+ * reports it to [listener].
+ *
+ * @see Jayo.checksum
+ */
+public fun RawReader.checksum(checksum: Checksum, blockByteSize: Long, listener: BlockChecksumListener): RawReader =
+    Jayo.checksum(this, checksum, blockByteSize, listener)
@@ -23,7 +23,26 @@
 
 package jayo
 
+import kotlin.time.Duration
+import kotlin.time.toJavaDuration
+
 /**
  * @return a new socket that buffers read and writes from the raw `socket`.
  */
 public fun RawSocket.buffered(): Socket = Jayo.buffer(this)
+
+/**
+ * @return a new socket that buffers read and writes from the raw `socket`. Its writer also coalesces the bytes it emits
+ * until [maxByteSize] bytes are held or [maxDelay] elapsed.
+ *
+ * @see Jayo.buffer
+ */
+public fun RawSocket.buffered(maxByteSize: Long, maxDelay: Duration): Socket =
+    Jayo.buffer(this, maxByteSize, maxDelay.toJavaDuration())
+
+/**
+ * Relays bytes between this socket and [other] in both directions, until both directions reach the end of their stream.
+ *
+ * @see Jayo.relay
+ */
+public fun RawSocket.relay(other: RawSocket): Relay = Jayo.relay(this, other)
@@ -24,7 +24,10 @@
 package jayo
 
 import jayo.internal.RealWriter
+import java.util.zip.Checksum
 import java.util.zip.Deflater
+import kotlin.time.Duration
+import kotlin.time.toJavaDuration
 
 /**
  * @return a new writer that buffers writes to the raw `writer`. The returned writer will batch writes to `writer`.
@@ -34,11 +37,69 @@ import java.util.zip.Deflater
 public fun RawWriter.buffered(): Writer = RealWriter(this)
 
 /**
- * Returns a [RawWriter] that DEFLATE-compresses data to this [RawWriter] while writing.
+ * @return a new writer that buffers writes to the raw `writer`, and that also coalesces the bytes it emits until
+ * [maxByteSize] bytes are held or [maxDelay] elapsed. [Writer.flush] always writes the held bytes immediately.
+ *
+ * @see Jayo.buffer
+ */
+public fun RawWriter.buffered(maxByteSize: Long, maxDelay: Duration): Writer =
+    Jayo.buffer(this, maxByteSize, maxDelay.toJavaDuration())
+
+/**
+ * Returns a [RawWriter] that DEFLATE-compresses data to this [RawWriter] while writing. The underlying [Deflater] is
+ * taken from, and returned to, a shared pool.
+ */
+public fun RawWriter.deflate(): RawWriter = Jayo.deflate(this)
+
+/**
+ * Returns a [RawWriter] that DEFLATE-compresses data to this [RawWriter] while writing, using the provided [deflater].
  */
-public fun RawWriter.deflate(deflater: Deflater = Deflater()): RawWriter = Jayo.deflate(this, deflater)
+public fun RawWriter.deflate(deflater: Deflater): RawWriter = Jayo.deflate(this, deflater)
+
+/**
+ * Returns a [RawWriter] that DEFLATE-compresses data to this [RawWriter] while writing, with the provided compression
+ * [level]. The underlying [Deflater] is taken from, and returned to, a shared pool.
+ */
+public fun RawWriter.deflate(level: Int): RawWriter = Jayo.deflate(this, level)
 
 /**
  * Returns a [RawWriter] that gzip-compresses data to this [RawWriter] while writing.
  */
 public fun RawWriter.gzip(): RawWriter = Jayo.gzip(this)
+
+/**
+ * Returns a [RawWriter] that gzip-compresses data to this [RawWriter] while writing, with the provided compression
+ * [level].
+ */
+public fun RawWriter.gzip(level: Int): RawWriter = Jayo.gzip(this, level)
+
+/**
+ * Returns a [RawWriter] that LZ4-compresses data to this [RawWriter] while writing.
+ */
+public fun RawWriter.lz4(): RawWriter = Jayo.lz4(this)
+
+/**
+ * Returns a [RawWriter] that gzip-compresses data to this [RawWriter] while writing, compressing blocks of the written
+ * data concurrently, at most [parallelism] blocks at a time.
+ *
+ * @see Jayo.parallelGzip
+ */
+public fun RawWriter.parallelGzip(
+    level: Int = Deflater.DEFAULT_COMPRESSION,
+    parallelism: Int = Runtime.getRuntime().availableProcessors(),
+): RawWriter = Jayo.parallelGzip(this, level, parallelism)
+
+/**
+ * Returns a [RawWriter] that updates [checksum] with all the bytes written to this [RawWriter], for example a
+ * [java.util.zip.CRC32C].
+ */
+public fun RawWriter.checksum(checksum: Checksum): RawWriter = Jayo.checksum(this, checksum)
+
+/**
+ * Returns a [RawWriter] that computes the checksum of each block of [blockByteSize] bytes written to this [RawWriter], and
+ * reports it to [listener].
+ *
+ * @see Jayo.checksum
+ */
+public fun RawWriter.checksum(checksum: Checksum, blockByteSize: Long, listener: BlockChecksumListener): RawWriter =
+    Jayo.checksum(this, checksum, blockByteSize, listener)
@@ -12,36 +12,6 @@
 
 package jayo
 
-/**
- * Removes two bytes from this reader and returns a short composed of them according to the little-endian order.
- *
- * @throws JayoEOFException if there are not enough data to read a short value.
- * @throws IllegalStateException if this reader is closed.
- */
-public fun Reader.readShortLe(): Short {
-    return java.lang.Short.reverseBytes(readShort())
-}
-
-/**
- * Removes four bytes from this reader and returns an integer composed of them according to the little-endian order.
- *
- * @throws JayoEOFException if there are not enough data to read an int value.
- * @throws IllegalStateException if this reader is closed.
- */
-public fun Reader.readIntLe(): Int {
-    return Integer.reverseBytes(readInt())
-}
-
-/**
- * Removes eight bytes from this reader and returns a long composed of them according to the little-endian order.
- *
- * @throws JayoEOFException if there are not enough data to read a long value.
- * @throws IllegalStateException if this reader is closed.
- */
-public fun Reader.readLongLe(): Long {
-    return java.lang.Long.reverseBytes(readLong())
-}
-
 /**
  * Removes an unsigned byte from this reader and returns it.
  *
@@ -12,51 +12,6 @@
 
 package jayo
 
-/**
- * Writes two bytes containing a short, in the little-endian order, to this writer.
- * ```
- * val buffer = Buffer()
- * buffer.writeShortLe(0x1234)
- * assertEquals(0x3412, buffer.readShort())
- * ```
- *
- * @param s the short to be written.
- * @throws IllegalStateException if this writer is closed.
- */
-public fun Writer.writeShortLe(s: Short) {
-    this.writeShort(java.lang.Short.reverseBytes(s))
-}
-
-/**
- * Writes four bytes containing an int, in the little-endian order, to this writer.
- * ```
- * val buffer = Buffer()
- * buffer.writeIntLe(0x12345678)
- * assertEquals(0x78563412, buffer.readInt())
- * ```
- *
- * @param i the int to be written.
- * @throws IllegalStateException if this writer is closed.
- */
-public fun Writer.writeIntLe(i: Int) {
-    this.writeInt(Integer.reverseBytes(i))
-}
-
-/**
- * Writes eight bytes containing a long, in the little-endian order, to this writer.
- * ```
- * val buffer = Buffer()
- * buffer.writeLongLe(0x123456789ABCDEF0)
- * assertEquals(0xF0DEBC9A78563412U.toLong(), buffer.readLong())
- * ```
- *
- * @param l the long to be written.
- * @throws IllegalStateException if this writer is closed.
- */
-public fun Writer.writeLongLe(l: Long) {
-    this.writeLong(java.lang.Long.reverseBytes(l))
-}
-
 /**
  * Writes an unsigned byte to this writer.
  * ```
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import jayo.internal.TestUtil.newThreadFactory
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.random.Random
+import kotlin.test.*
+import kotlin.time.Duration.Companion.milliseconds
+
+class BroadcastPipeTest {
+    private val executorService = Executors.newScheduledThreadPool(4, newThreadFactory())
+
+    @AfterEach
+    fun tearDown() {
+        executorService.shutdown()
+    }
+
+    @Test
+    fun eachReaderReadsAllBytes() {
+        val pipe = BroadcastPipe(64L * 1024L, 3)
+        val data = Random(33).nextBytes(5_000_000)
+
+        val written = executorService.submit {
+            var offset = 0
+            while (offset < data.size) {
+                val byteCount = minOf(8192, data.size - offset)
+                pipe.writer.writeFrom(Buffer().write(data, offset, byteCount), byteCount.toLong())
+                offset += byteCount
+            }
+            pipe.writer.close()
+        }
+        val reads = pipe.readers.map { reader ->
+            executorService.submit<ByteArray> {
+                val buffer = Buffer()
+                while (reader.readAtMostTo(buffer, 5_000L) != -1L) {
+                }
+                buffer.readByteArray()
+            }
+        }
+
+        written.get()
+        reads.forEach { assertContentEquals(data, it.get()) }
+    }
+
+    @Test
+    fun readersShareLargeSegments() {
+        val pipe = BroadcastPipe(64L * 1024L, 2)
+        pipe.writer.writeFrom(Buffer().write(ByteArray(10_000)), 10_000L)
+
+        val buffer0 = Buffer()
+        val buffer1 = Buffer()
+        assertEquals(10_000L, pipe.readers[0].readAtMostTo(buffer0, Long.MAX_VALUE))
+        assertEquals(10_000L, pipe.readers[1].readAtMostTo(buffer1, Long.MAX_VALUE))
+        assertSame((buffer0 as RealBuffer).head!!.data, (buffer1 as RealBuffer).head!!.data)
+    }
+
+    @Test
+    fun slowestReaderBlocksWriter() {
+        val pipe = BroadcastPipe(3L, 2)
+        val fastReader = pipe.readers[0]
+        val slowReader = pipe.readers[1]
+        pipe.writer.writeFrom(Buffer().write("abc"), 3L)
+        assertEquals("abc", Buffer().also { fastReader.readAtMostTo(it, 3L) }.readString())
+
+        assertThatThrownBy {
+            cancelScope(500.milliseconds) {
+                pipe.writer.writeFrom(Buffer().write("def"), 3L)
+            }
+        }.isInstanceOf(JayoTimeoutException::class.java)
+
+        assertEquals("abc", Buffer().also { slowReader.readAtMostTo(it, 3L) }.readString())
+        pipe.writer.writeFrom(Buffer().write("def"), 3L)
+    }
+
+    @Test
+    fun closedReaderDoesNotBlockWriter() {
+        val pipe = BroadcastPipe(3L, 2)
+        pipe.readers[1].close()
+
+        pipe.writer.writeFrom(Buffer().write("abc"), 3L)
+        executorService.schedule({ pipe.readers[0].readAtMostTo(Buffer(), 3L) }, 200, TimeUnit.MILLISECONDS)
+        pipe.writer.writeFrom(Buffer().write("def"), 3L)
+        assertTrue(pipe.isOpen)
+
+        assertFailsWith<IllegalStateException> {
+            pipe.readers[1].readAtMostTo(Buffer(), 3L)
+        }
+    }
+
+    @Test
+    fun writerWriteFailsWhenAllReadersAreClosed() {
+        val pipe = BroadcastPipe(3L, 2)
+        pipe.readers.forEach { it.close() }
+        assertFalse(pipe.isOpen)
+        assertThatThrownBy {
+            pipe.writer.writeFrom(Buffer().write("abc"), 3L)
+        }.isInstanceOf(JayoException::class.java)
+            .hasMessage("reader is closed")
+    }
+
+    @Test
+    fun writerCloseEndsEachReader() {
+        val pipe = BroadcastPipe(100L, 2)
+        pipe.writer.writeFrom(Buffer().write("abc"), 3L)
+        pipe.writer.close()
+        pipe.readers.forEach { reader ->
+            val buffer = Buffer()
+            assertEquals(3L, reader.readAtMostTo(buffer, 100L))
+            assertEquals("abc", buffer.readString())
+            assertEquals(-1L, reader.readAtMostTo(buffer, 100L))
+        }
+    }
+
+    @Test
+    fun cancelInterruptsReaders() {
+        val pipe = BroadcastPipe(100L, 2)
+        val canceled = AtomicBoolean()
+        executorService.schedule({
+            canceled.set(true)
+            pipe.cancel()
+        }, 200, TimeUnit.MILLISECONDS)
+
+        assertThatThrownBy {
+            pipe.readers[0].readAtMostTo(Buffer(), 1L)
+        }.isInstanceOf(JayoException::class.java)
+            .hasMessage("canceled")
+        assertTrue(canceled.get())
+        assertThatThrownBy {
+            pipe.writer.flush()
+        }.isInstanceOf(JayoException::class.java)
+            .hasMessage("canceled")
+        pipe.writer.close()
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.CancelScope
+import jayo.Jayo
+import jayo.JayoTimeoutException
+import jayo.buffered
+import jayo.cancelScope
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CancellationException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Future
+import kotlin.concurrent.thread
+import kotlin.time.Duration.Companion.milliseconds
+
+class CancelScopeForkTest {
+    /**
+     * Reads from an in-memory socket that never receives any byte, until cancelled.
+     */
+    private fun blockingRead(): Byte {
+        val (socket, _) = Jayo.inMemorySocketPair(1024L)
+        return socket.reader.buffered().readByte()
+    }
+
+    @Test
+    fun forkedTasksAreJoined() {
+        val release = CountDownLatch(1)
+        val futures = cancelScope {
+            val futures = (1..3).map { i ->
+                fork {
+                    release.await()
+                    i
+                }
+            }
+            // the forked tasks are still running when the block exits
+            release.countDown()
+            futures
+        }
+        assertThat(futures).allMatch { it.isDone }
+        assertThat(futures.map { it.get() }).containsExactly(1, 2, 3)
+    }
+
+    @Test
+    fun forkedTaskInheritsDeadline() {
+        var parentDeadline = 0L
+        var forkDeadline = 0L
+        var future: Future<Byte>? = null
+        cancelScope(500.milliseconds) {
+            parentDeadline = JavaVersionUtils.getCancelToken()!!.deadlineNanoTime
+            fork { forkDeadline = JavaVersionUtils.getCancelToken()!!.deadlineNanoTime }
+            future = fork { blockingRead() }
+        }
+        assertThat(forkDeadline).isEqualTo(parentDeadline)
+        assertThatThrownBy { future!!.get() }
+            .isInstanceOf(ExecutionException::class.java)
+            .hasCauseInstanceOf(JayoTimeoutException::class.java)
+    }
+
+    @Test
+    fun failedForkCancelsSiblings() {
+        var sibling: Future<Byte>? = null
+        var failed: Future<Unit>? = null
+        cancelScope {
+            sibling = fork { blockingRead() }
+            failed = fork { throw IllegalStateException("boom") }
+        }
+        assertThatThrownBy { failed!!.get() }
+            .isInstanceOf(ExecutionException::class.java)
+            .hasCauseInstanceOf(IllegalStateException::class.java)
+        assertThat(sibling!!.isCancelled).isTrue()
+    }
+
+    @Test
+    fun parentCancellationCancelsNestedForks() {
+        var future: Future<Byte>? = null
+        cancelScope {
+            val outer = this
+            cancelScope {
+                val started = CountDownLatch(1)
+                future = fork {
+                    started.countDown()
+                    blockingRead()
+                }
+                thread {
+                    started.await()
+                    outer.cancel()
+                }
+            }
+        }
+        assertThatThrownBy { future!!.get() }.isInstanceOf(CancellationException::class.java)
+    }
+
+    @Test
+    fun failedBlockCancelsForks() {
+        var future: Future<Byte>? = null
+        assertThatThrownBy {
+            cancelScope {
+                future = fork { blockingRead() }
+                throw IllegalStateException("boom")
+            }
+        }.isInstanceOf(IllegalStateException::class.java)
+        assertThat(future!!.isCancelled).isTrue()
+    }
+
+    @Test
+    fun forkFromForkedTaskIsJoined() {
+        var nested: Future<Int>? = null
+        cancelScope {
+            val scope = this
+            // may be forked while the scope is already joining its forked tasks
+            fork { nested = scope.fork { 42 } }
+        }
+        assertThat(nested!!.isDone).isTrue()
+        assertThat(nested!!.get()).isEqualTo(42)
+    }
+
+    @Test
+    fun forkAfterExitFails() {
+        var scope: CancelScope? = null
+        cancelScope { scope = this }
+        assertThatThrownBy { scope!!.fork { 42 } }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("finished")
+    }
+}
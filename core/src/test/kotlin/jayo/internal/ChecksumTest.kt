@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.util.zip.Adler32
+import java.util.zip.CRC32C
+import java.util.zip.Checksum
+import kotlin.random.Random
+
+class ChecksumTest {
+    private val data = Random(0).nextBytes(100_000)
+
+    private fun expected(checksum: Checksum, offset: Int = 0, byteCount: Int = data.size): Long {
+        checksum.update(data, offset, byteCount)
+        return checksum.value
+    }
+
+    @Test
+    fun writerWholeStream() {
+        for (checksum in listOf(CRC32C(), Adler32())) {
+            val sink = Buffer()
+            (sink as RawWriter).checksum(checksum).buffered().use { it.write(data) }
+            assertThat(sink.readByteArray()).isEqualTo(data)
+            assertThat(checksum.value).isEqualTo(expected(checksum.javaClass.getDeclaredConstructor().newInstance()))
+        }
+    }
+
+    @Test
+    fun readerWholeStream() {
+        for (checksum in listOf(CRC32C(), Adler32())) {
+            val source = Buffer().write(data)
+            val read = (source as RawReader).checksum(checksum).buffered().use { it.readByteArray() }
+            assertThat(read).isEqualTo(data)
+            assertThat(checksum.value).isEqualTo(expected(checksum.javaClass.getDeclaredConstructor().newInstance()))
+        }
+    }
+
+    @Test
+    fun writerBlocksPartialLastBlockReportedOnClose() {
+        val blocks = mutableListOf<Triple<Long, Long, Long>>()
+        val sink = Buffer()
+        (sink as RawWriter).checksum(CRC32C(), 16_384) { index, byteCount, checksum ->
+            blocks.add(Triple(index, byteCount, checksum))
+        }.buffered().use { it.write(data) }
+
+        assertThat(sink.readByteArray()).isEqualTo(data)
+        assertThat(blocks).hasSize(7)
+        blocks.forEachIndexed { i, (index, byteCount, checksum) ->
+            assertThat(index).isEqualTo(i.toLong())
+            val offset = i * 16_384
+            assertThat(byteCount).isEqualTo(minOf(16_384, data.size - offset).toLong())
+            assertThat(checksum).isEqualTo(expected(CRC32C(), offset, byteCount.toInt()))
+        }
+    }
+
+    @Test
+    fun readerBlocksPartialLastBlockReportedAtEof() {
+        val blocks = mutableListOf<Pair<Long, Long>>()
+        val source = Buffer().write(data)
+        val read = (source as RawReader).checksum(Adler32(), 10_000) { _, byteCount, checksum ->
+            blocks.add(byteCount to checksum)
+        }.buffered().use { it.readByteArray() }
+
+        assertThat(read).isEqualTo(data)
+        assertThat(blocks.map { it.first }).isEqualTo(List(10) { 10_000L })
+        blocks.forEachIndexed { i, (byteCount, checksum) ->
+            assertThat(checksum).isEqualTo(expected(Adler32(), i * 10_000, byteCount.toInt()))
+        }
+    }
+
+    @Test
+    fun inlineBlockChecksums() {
+        val blockData = data.copyOf(6 * 16_384)
+        val framed = Buffer()
+        (framed as RawWriter).checksum(CRC32C(), 16_384) { _, _, checksum ->
+            framed.writeInt(checksum.toInt())
+        }.buffered().use { it.write(blockData) }
+        assertThat(framed.byteSize).isEqualTo(blockData.size + 6 * 4L)
+
+        val verified = mutableListOf<Long>()
+        val read = (framed as RawReader).checksum(CRC32C(), 16_384) { index, _, checksum ->
+            assertThat(framed.readInt()).isEqualTo(checksum.toInt())
+            verified.add(index)
+        }.buffered().use { it.readByteArray() }
+        assertThat(read).isEqualTo(blockData)
+        assertThat(verified).containsExactly(0, 1, 2, 3, 4, 5)
+    }
+
+    @Test
+    fun listenerExceptionIsPropagated() {
+        val source = Buffer().write(data)
+        val reader = (source as RawReader).checksum(CRC32C(), 1_000) { index, _, _ ->
+            if (index == 3L) throw JayoException("checksum mismatch in block $index")
+        }.buffered()
+        assertThatThrownBy { reader.readByteArray() }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessage("checksum mismatch in block 3")
+    }
+
+    @Test
+    fun invalidBlockByteSize() {
+        assertThatThrownBy { (Buffer() as RawWriter).checksum(CRC32C(), 0) { _, _, _ -> } }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("blockByteSize < 1: 0")
+        assertThatThrownBy { (Buffer() as RawReader).checksum(CRC32C(), -1) { _, _, _ -> } }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("blockByteSize < 1: -1")
+    }
+
+    @Test
+    fun writeAfterClose() {
+        val writer = (Buffer() as RawWriter).checksum(CRC32C())
+        writer.close()
+        assertThatThrownBy { writer.writeFrom(Buffer().writeByte(1), 1) }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("closed")
+    }
+}
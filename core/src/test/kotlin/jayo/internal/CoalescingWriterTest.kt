@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import jayo.tools.CancelToken
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class CoalescingWriterTest {
+    private val received = Buffer()
+    private val log = CopyOnWriteArrayList<String>()
+    private val raw = object : RawWriter {
+        override fun writeFrom(source: Buffer, byteCount: Long) {
+            log.add("write($byteCount)")
+            synchronized(received) {
+                received.writeFrom(source, byteCount)
+            }
+        }
+
+        override fun flush() {
+            log.add("flush()")
+        }
+
+        override fun close() {
+            log.add("close()")
+        }
+    }
+
+    @Test
+    fun emitsAreCoalescedUntilMaxByteSize() {
+        val writer = Jayo.buffer(raw, 100L, Duration.ofHours(1))
+        repeat(9) {
+            writer.write("0123456789").emit()
+        }
+        assertEquals(listOf(), log)
+
+        writer.write("0123456789").emit()
+        assertEquals(listOf("write(100)"), log)
+        assertEquals("0123456789".repeat(10), received.readString())
+    }
+
+    @Test
+    fun emitsAreWrittenAfterMaxDelay() {
+        val writer = Jayo.buffer(raw, 100L, Duration.ofMillis(10))
+        writer.write("abc").emit()
+        writer.write("def").emit()
+
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+        while (log.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(1)
+        }
+        assertEquals(listOf("write(6)"), log)
+        synchronized(received) {
+            assertEquals("abcdef", received.readString())
+        }
+        writer.close()
+    }
+
+    @Test
+    fun flushBypassesCoalescing() {
+        val writer = Jayo.buffer(raw, 100L, Duration.ofHours(1))
+        writer.write("abc").emit()
+        writer.write("def")
+        writer.flush()
+        assertEquals(listOf("write(3)", "write(3)", "flush()"), log)
+        assertEquals("abcdef", received.readString())
+    }
+
+    @Test
+    fun closeWritesHeldBytes() {
+        val writer = Jayo.buffer(raw, 100L, Duration.ofHours(1))
+        writer.write("abc").emit()
+        writer.close()
+        assertEquals(listOf("write(3)", "close()"), log)
+        assertEquals("abc", received.readString())
+    }
+
+    @Test
+    fun delayedWriteFailureIsReportedOnNextCall() {
+        val failing = object : RawWriter {
+            override fun writeFrom(source: Buffer, byteCount: Long) {
+                source.skip(byteCount)
+                throw JayoException("boom")
+            }
+
+            override fun flush() {}
+
+            override fun close() {}
+        }
+        val writer = Jayo.buffer(failing, 100L, Duration.ofMillis(1))
+        writer.write("a").emit()
+        Thread.sleep(100)
+        val e = assertFailsWith<JayoException> {
+            writer.write("b").emit()
+        }
+        assertEquals("boom", e.message)
+    }
+
+    @Test
+    fun delayedWriteObeysTheCancelScopeOfTheWriter() {
+        val checking = object : RawWriter {
+            override fun writeFrom(source: Buffer, byteCount: Long) {
+                CancelToken.throwIfReached(CancelToken.getCancelToken())
+                source.skip(byteCount)
+            }
+
+            override fun flush() {}
+
+            override fun close() {}
+        }
+        val writer = Jayo.buffer(checking, 100L, Duration.ofMillis(1))
+        cancelScope {
+            writer.write("a").emit()
+            cancel()
+        }
+        Thread.sleep(100)
+        assertFailsWith<JayoInterruptedIOException> {
+            writer.write("b").emit()
+        }
+    }
+
+    @Test
+    fun invalidParameters() {
+        assertFailsWith<IllegalArgumentException> { Jayo.buffer(raw, 0L, Duration.ofMillis(1)) }
+        assertFailsWith<IllegalArgumentException> { Jayo.buffer(raw, 1L, Duration.ZERO) }
+        assertTrue(log.isEmpty())
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.io.ByteArrayOutputStream
+import java.nio.file.Path
+import java.util.zip.Deflater
+import java.util.zip.GZIPOutputStream
+import kotlin.io.path.writeBytes
+import kotlin.random.Random
+
+class GzipIndexTest {
+    @TempDir
+    lateinit var tempDir: Path
+
+    private val text = buildString {
+        val random = Random(0)
+        val words = listOf("alpha ", "beta ", "gamma\n", "delta ", "jayo ", "zeta ")
+        while (length < 2_000_000) {
+            append(words[random.nextInt(words.size)])
+            if (random.nextInt(50) == 0) append(random.nextLong())
+        }
+    }.encodeToByteArray()
+
+    @Test
+    fun readFromAnyOffset() {
+        val path = gzipFile(gzip(text))
+        val index = GzipIndex.build(Jayo.reader(path), 64 * 1024)
+        assertThat(index.uncompressedByteSize).isEqualTo(text.size.toLong())
+        assertThat(index.compressedByteSize).isEqualTo(path.toFile().length())
+        assertThat(index.checkpointCount).isGreaterThan(10)
+
+        assertReadsFromOffsets(index, path, text)
+    }
+
+    @Test
+    fun storedBlocks() {
+        val incompressible = Random(1).nextBytes(500_000)
+        val path = gzipFile(gzip(incompressible, Deflater.NO_COMPRESSION))
+        val index = GzipIndex.build(Jayo.reader(path), 64 * 1024)
+        assertThat(index.checkpointCount).isGreaterThan(0)
+
+        assertReadsFromOffsets(index, path, incompressible)
+    }
+
+    @Test
+    fun concatenatedMembers() {
+        val first = text.copyOfRange(0, 700_000)
+        val second = text.copyOfRange(700_000, text.size)
+        val path = gzipFile(gzip(first) + gzip(second))
+        val index = GzipIndex.build(Jayo.reader(path), 64 * 1024)
+        assertThat(index.uncompressedByteSize).isEqualTo(text.size.toLong())
+
+        assertReadsFromOffsets(index, path, text)
+    }
+
+    @Test
+    fun parallelGzipOutput() {
+        val compressed = Buffer()
+        Jayo.parallelGzip(compressed, Deflater.DEFAULT_COMPRESSION, 2).buffered().use { it.write(text) }
+        val path = gzipFile(compressed.readByteArray())
+        val index = GzipIndex.build(Jayo.reader(path), 64 * 1024)
+
+        assertReadsFromOffsets(index, path, text)
+    }
+
+    @Test
+    fun writeAndReadBack() {
+        val path = gzipFile(gzip(text))
+        val index = GzipIndex.build(Jayo.reader(path), 128 * 1024)
+
+        val persisted = Buffer()
+        index.write(persisted)
+        val readBack = GzipIndex.read(persisted)
+        assertThat(readBack.spanByteSize).isEqualTo(128 * 1024L)
+        assertThat(readBack.checkpointCount).isEqualTo(index.checkpointCount)
+        assertThat(readBack.uncompressedByteSize).isEqualTo(index.uncompressedByteSize)
+        assertThat(readBack.compressedByteSize).isEqualTo(index.compressedByteSize)
+
+        assertReadsFromOffsets(readBack, path, text)
+    }
+
+    @Test
+    fun emptyGzip() {
+        val path = gzipFile(gzip(ByteArray(0)))
+        val index = GzipIndex.build(Jayo.reader(path), 1024)
+        assertThat(index.uncompressedByteSize).isEqualTo(0L)
+        assertThat(index.checkpointCount).isEqualTo(0)
+        index.reader(path, 0L).buffered().use { assertThat(it.exhausted()).isTrue() }
+    }
+
+    @Test
+    fun corruptCrcIsDetectedWhileBuilding() {
+        val compressed = gzip("Hi!".encodeToByteArray())
+        compressed[compressed.size - 8] = (compressed[compressed.size - 8] + 1).toByte()
+        assertThatThrownBy { GzipIndex.build(Buffer().write(compressed), 1024) }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessageStartingWith("CRC")
+    }
+
+    @Test
+    fun trailingZeroPaddingIsIgnored() {
+        val path = gzipFile(gzip(text) + ByteArray(4096))
+        val index = GzipIndex.build(Jayo.reader(path), 64 * 1024)
+        assertThat(index.uncompressedByteSize).isEqualTo(text.size.toLong())
+
+        assertReadsFromOffsets(index, path, text)
+    }
+
+    @Test
+    fun trailingGarbageAfterZeroPadding() {
+        val compressed = gzip("Hi!".encodeToByteArray()) + ByteArray(10) + "garbage".encodeToByteArray()
+        assertThatThrownBy { GzipIndex.build(Buffer().write(compressed), 1024) }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessageStartingWith("trailing garbage")
+    }
+
+    @Test
+    fun invalidWindowByteSize() {
+        val index = GzipIndex.build(Buffer().write(gzip(text)), 64 * 1024)
+        val persisted = Buffer()
+        index.write(persisted)
+        val bytes = persisted.readByteArray()
+        // the window byte size of the first checkpoint follows the 36 bytes header, its offset and its bit offset
+        Buffer().writeInt(32 * 1024 + 1).readByteArray().copyInto(bytes, 52)
+        assertThatThrownBy { GzipIndex.read(Buffer().write(bytes)) }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessageStartingWith("invalid gzip index window byte size")
+    }
+
+    @Test
+    fun notAnIndex() {
+        assertThatThrownBy { GzipIndex.read(Buffer().write("not an index")) }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessageStartingWith("not a gzip index")
+    }
+
+    @Test
+    fun invalidArguments() {
+        val path = gzipFile(gzip(text))
+        assertThatThrownBy { GzipIndex.build(Jayo.reader(path), 0L) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+
+        val index = GzipIndex.build(Jayo.reader(path), 64 * 1024)
+        assertThatThrownBy { index.reader(path, -1L) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+        assertThatThrownBy { index.reader(path, text.size + 1L) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+    }
+
+    private fun assertReadsFromOffsets(index: GzipIndex, path: Path, original: ByteArray) {
+        val random = Random(2)
+        val offsets = listOf(0, 1, original.size - 1, original.size) + List(20) { random.nextInt(original.size) }
+        for (offset in offsets) {
+            val byteCount = minOf(original.size - offset, 50_000)
+            index.reader(path, offset.toLong()).buffered().use { reader ->
+                assertThat(reader.readByteArray(byteCount.toLong()))
+                    .isEqualTo(original.copyOfRange(offset, offset + byteCount))
+            }
+        }
+        index.reader(path, original.size - 10L).buffered().use { reader ->
+            assertThat(reader.readByteArray()).isEqualTo(original.copyOfRange(original.size - 10, original.size))
+        }
+    }
+
+    private fun gzipFile(bytes: ByteArray): Path {
+        val path = tempDir.resolve("file.gz")
+        path.writeBytes(bytes)
+        return path
+    }
+
+    private fun gzip(bytes: ByteArray, level: Int = Deflater.DEFAULT_COMPRESSION): ByteArray {
+        val out = ByteArrayOutputStream()
+        object : GZIPOutputStream(out) {
+            init {
+                def.setLevel(level)
+            }
+        }.use { it.write(bytes) }
+        return out.toByteArray()
+    }
+}
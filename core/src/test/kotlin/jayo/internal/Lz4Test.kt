@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import kotlin.random.Random
+
+class Lz4Test {
+    private val text = buildString {
+        val random = Random(0)
+        val words = listOf("alpha ", "beta ", "gamma\n", "delta ", "jayo ", "zeta ")
+        while (length < 1_000_000) {
+            append(words[random.nextInt(words.size)])
+            if (random.nextInt(40) == 0) append(random.nextInt())
+        }
+    }.encodeToByteArray()
+
+    @Test
+    fun emptyFrame() {
+        val compressed = Buffer()
+        (compressed as RawWriter).lz4().close()
+        // The same frame as `lz4 -c /dev/null`
+        assertThat(compressed.readByteString().hex()).isEqualTo("04224d186440a700000000055dcc02")
+    }
+
+    @Test
+    fun xxHash32() {
+        assertThat(Lz4.XxHash32.hash(ByteArray(0), 0, 0)).isEqualTo(0x02cc5d05)
+        assertThat(Lz4.XxHash32.hash("a".encodeToByteArray(), 0, 1)).isEqualTo(0x550d7456)
+        assertThat(Lz4.XxHash32.hash("abc".encodeToByteArray(), 0, 3)).isEqualTo(0x32d153ff)
+        val spam = "Nobody inspects the spammish repetition".encodeToByteArray()
+        assertThat(Lz4.XxHash32.hash(spam, 0, spam.size)).isEqualTo(0xe2293b2f.toInt())
+
+        // Streaming in pieces gives the same hash.
+        val xxHash32 = Lz4.XxHash32()
+        for (i in spam.indices step 5) {
+            xxHash32.update(spam, i, minOf(5, spam.size - i))
+        }
+        assertThat(xxHash32.value).isEqualTo(0xe2293b2f.toInt())
+    }
+
+    @Test
+    fun roundTrip() {
+        val random = Random(1)
+        for (original in listOf(
+            ByteArray(0),
+            byteArrayOf(1),
+            "hello hello hello hello hello".encodeToByteArray(),
+            text,
+            random.nextBytes(300_000),
+            ByteArray(300_000),
+        )) {
+            val compressed = Buffer()
+            (compressed as RawWriter).lz4().buffered().use { it.write(original) }
+            assertThat((compressed as RawReader).lz4().buffered().readByteArray()).isEqualTo(original)
+        }
+    }
+
+    @Test
+    fun compresses() {
+        val compressed = Buffer()
+        (compressed as RawWriter).lz4().buffered().use { it.write(text) }
+        assertThat(compressed.bytesAvailable()).isLessThan(text.size / 2L)
+
+        val zeros = Buffer()
+        (zeros as RawWriter).lz4().buffered().use { it.write(ByteArray(1_000_000)) }
+        assertThat(zeros.bytesAvailable()).isLessThan(10_000L)
+    }
+
+    @Test
+    fun flushEmitsAllWrittenBytes() {
+        val compressed = Buffer()
+        val writer = (compressed as RawWriter).lz4().buffered()
+        val reader = (compressed as RawReader).lz4().buffered()
+
+        writer.write("Hello ")
+        writer.flush()
+        assertThat(reader.readString(6)).isEqualTo("Hello ")
+
+        writer.write("LZ4!")
+        writer.close()
+        assertThat(reader.readString()).isEqualTo("LZ4!")
+    }
+
+    @Test
+    fun linkedBlocksAndBlockChecksums() {
+        // Version 01, linked blocks, block checksums, no content checksum; 64 KiB maximum block size.
+        val descriptor = byteArrayOf(0x50, 0x40)
+        val first = "hello world ".encodeToByteArray()
+        // No literal, a 5 bytes match 12 bytes back in the previous block, then the "!" last literal.
+        val second = byteArrayOf(0x01, 12, 0, 0x10, '!'.code.toByte())
+        val frame = Buffer()
+            .writeIntLe(Lz4.FRAME_MAGIC)
+            .write(descriptor)
+            .writeByte((Lz4.XxHash32.hash(descriptor, 0, 2) ushr 8).toByte())
+            .writeIntLe(first.size or Lz4.UNCOMPRESSED_BLOCK_FLAG)
+            .write(first)
+            .writeIntLe(Lz4.XxHash32.hash(first, 0, first.size))
+            .writeIntLe(second.size)
+            .write(second)
+            .writeIntLe(Lz4.XxHash32.hash(second, 0, second.size))
+            .writeIntLe(0)
+
+        assertThat((frame as RawReader).lz4().buffered().readString()).isEqualTo("hello world hello!")
+    }
+
+    @Test
+    fun concatenatedAndSkippableFrames() {
+        val compressed = Buffer()
+        (compressed as RawWriter).lz4().buffered().use { it.write("first ") }
+        compressed.writeIntLe(Lz4.SKIPPABLE_FRAME_MAGIC or 0x7).writeIntLe(3).write("xyz")
+        (compressed as RawWriter).lz4().buffered().use { it.write("second") }
+
+        assertThat((compressed as RawReader).lz4().buffered().readString()).isEqualTo("first second")
+    }
+
+    @Test
+    fun corruptContentChecksum() {
+        val compressed = Buffer()
+        (compressed as RawWriter).lz4().buffered().use { it.write("Hi!") }
+        val bytes = compressed.readByteArray()
+        bytes[bytes.size - 1] = (bytes[bytes.size - 1] + 1).toByte()
+
+        assertThatThrownBy { (Buffer().write(bytes) as RawReader).lz4().buffered().readString() }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessageStartingWith("content checksum")
+    }
+
+    @Test
+    fun malformedBlock() {
+        val descriptor = byteArrayOf(0x60, 0x40)
+        // A match 100 bytes back, before the beginning of the block.
+        val block = byteArrayOf(0x10, 'a'.code.toByte(), 100, 0, 0x10, 'b'.code.toByte())
+        val frame = Buffer()
+            .writeIntLe(Lz4.FRAME_MAGIC)
+            .write(descriptor)
+            .writeByte((Lz4.XxHash32.hash(descriptor, 0, 2) ushr 8).toByte())
+            .writeIntLe(block.size)
+            .write(block)
+
+        assertThatThrownBy { (frame as RawReader).lz4().buffered().readString() }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessage("malformed LZ4 block")
+    }
+
+    @Test
+    fun notAnLz4Frame() {
+        assertThatThrownBy { (Buffer().write("Not an LZ4 frame") as RawReader).lz4().buffered().readString() }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessageStartingWith("LZ4 frame magic")
+    }
+
+    @Test
+    fun writeAfterClose() {
+        val writer = (Buffer() as RawWriter).lz4()
+        writer.close()
+        assertThatThrownBy { writer.writeFrom(Buffer().write("a"), 1L) }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("closed")
+    }
+}
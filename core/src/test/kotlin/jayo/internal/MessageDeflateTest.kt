@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import jayo.bytestring.ByteString
+import jayo.bytestring.encodeToByteString
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.util.zip.Deflater
+import java.util.zip.Inflater
+
+class MessageDeflateTest {
+    private val dictionary = """{"id":,"name":"user","status":"active","tags":[]}""".encodeToByteString()
+    private val messages = List(200) { """{"id":$it,"name":"user${it % 17}","status":"active","tags":["a","b"]}""" }
+
+    /**
+     * @return the compressed byte size of all the messages.
+     */
+    private fun roundTrip(contextTakeover: Boolean, dictionary: ByteString?): Long {
+        var compressedByteSize = 0L
+        MessageDeflater.create(Deflater.DEFAULT_COMPRESSION, contextTakeover, dictionary).use { deflater ->
+            MessageInflater.create(contextTakeover, dictionary).use { inflater ->
+                for (message in messages) {
+                    val compressed = Buffer()
+                    deflater.deflate(Buffer().write(message), compressed)
+                    val compressedBytes = compressed.readByteString()
+                    compressedByteSize += compressedBytes.byteSize()
+                    assertThat(compressedBytes.hex()).doesNotEndWith("0000ffff")
+
+                    val decompressed = Buffer()
+                    inflater.inflate(Buffer().write(compressedBytes), decompressed)
+                    assertThat(decompressed.readString()).isEqualTo(message)
+                }
+            }
+        }
+        return compressedByteSize
+    }
+
+    @Test
+    fun roundTripAllModes() {
+        val plain = roundTrip(contextTakeover = false, dictionary = null)
+        val withDictionary = roundTrip(contextTakeover = false, dictionary = dictionary)
+        val withContextTakeover = roundTrip(contextTakeover = true, dictionary = null)
+        val withBoth = roundTrip(contextTakeover = true, dictionary = dictionary)
+
+        assertThat(withDictionary).isLessThan(plain)
+        assertThat(withContextTakeover).isLessThan(plain)
+        assertThat(withBoth).isLessThanOrEqualTo(withContextTakeover)
+    }
+
+    @Test
+    fun emptyMessage() {
+        MessageDeflater.create().use { deflater ->
+            MessageInflater.create().use { inflater ->
+                val compressed = Buffer()
+                deflater.deflate(Buffer(), compressed)
+                val decompressed = Buffer()
+                inflater.inflate(compressed, decompressed)
+                assertThat(decompressed.bytesAvailable()).isEqualTo(0L)
+                assertThat(compressed.bytesAvailable()).isEqualTo(0L)
+            }
+        }
+    }
+
+    @Test
+    fun emptyMessageAfterNonEmptyOne() {
+        MessageDeflater.create(Deflater.DEFAULT_COMPRESSION, true /* context takeover */, null).use { deflater ->
+            MessageInflater.create(true /* context takeover */, null).use { inflater ->
+                for (message in listOf("hello", "", "", "world", "")) {
+                    val compressed = Buffer()
+                    deflater.deflate(Buffer().write(message), compressed)
+                    val decompressed = Buffer()
+                    inflater.inflate(compressed, decompressed)
+                    assertThat(decompressed.readString()).isEqualTo(message)
+                }
+            }
+        }
+    }
+
+    @Test
+    fun largeMessage() {
+        val message = messages.joinToString("\n").repeat(50)
+        MessageDeflater.create().use { deflater ->
+            MessageInflater.create().use { inflater ->
+                val compressed = Buffer()
+                deflater.deflate(Buffer().write(message), compressed)
+                val decompressed = Buffer()
+                inflater.inflate(compressed, decompressed)
+                assertThat(decompressed.readString()).isEqualTo(message)
+            }
+        }
+    }
+
+    @Test
+    fun interoperatesWithRawInflater() {
+        MessageDeflater.create().use { deflater ->
+            val inflater = Inflater(true)
+            for (message in messages.take(3)) {
+                val compressed = Buffer()
+                deflater.deflate(Buffer().write(message), compressed)
+                compressed.writeInt(0x0000ffff)
+                inflater.setInput(compressed.readByteArray())
+                val decompressed = ByteArray(message.length)
+                assertThat(inflater.inflate(decompressed)).isEqualTo(message.length)
+                assertThat(decompressed.decodeToString()).isEqualTo(message)
+            }
+            inflater.end()
+        }
+    }
+
+    @Test
+    fun finalBlockStartsNewContext() {
+        MessageInflater.create().use { inflater ->
+            for (message in messages.take(3)) {
+                // Each message is a complete raw deflate stream, ended by a final block.
+                val deflater = Deflater(Deflater.DEFAULT_COMPRESSION, true)
+                deflater.setInput(message.encodeToByteArray())
+                deflater.finish()
+                val compressed = ByteArray(256)
+                val compressedByteSize = deflater.deflate(compressed)
+                deflater.end()
+
+                val decompressed = Buffer()
+                inflater.inflate(Buffer().write(compressed, 0, compressedByteSize), decompressed)
+                assertThat(decompressed.readString()).isEqualTo(message)
+            }
+        }
+    }
+
+    @Test
+    fun corruptMessage() {
+        MessageInflater.create().use { inflater ->
+            assertThatThrownBy { inflater.inflate(Buffer().writeByte(0xff.toByte()), Buffer()) }
+                .isInstanceOf(JayoException::class.java)
+        }
+    }
+
+    @Test
+    fun useAfterClose() {
+        val deflater = MessageDeflater.create()
+        deflater.close()
+        assertThatThrownBy { deflater.deflate(Buffer().write("a"), Buffer()) }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("closed")
+
+        val inflater = MessageInflater.create()
+        inflater.close()
+        assertThatThrownBy { inflater.inflate(Buffer(), Buffer()) }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("closed")
+    }
+}
@@ -27,6 +27,8 @@ import jayo.bytestring.encodeToByteString
 import org.junit.jupiter.api.Test
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
 import kotlin.test.fail
 
 class OptionsTest {
@@ -406,6 +408,78 @@ class OptionsTest {
         assertSelect(bufferWithSegments("c", "cd"), -1, options)
     }
 
+    @Test
+    fun ignoreCase() {
+        val options = utf8IgnoreCaseOptions("Content-Length", "host", "ACCEPT")
+        assertSelect("content-length: 4", 0, options)
+        assertSelect("CONTENT-LENGTH: 4", 0, options)
+        assertSelect("Host: jayo.dev", 1, options)
+        assertSelect("Accept: */*", 2, options)
+        assertSelect("Accept-Encoding: gzip", 2, options)
+        assertSelect("Content-Type: text/plain", -1, options)
+        assertSelect(bufferWithSegments("HO", "sT"), 1, options)
+        assertEquals("Content-Length".encodeToByteString(), options[0])
+    }
+
+    @Test
+    fun ignoreCaseOnlyFoldsAsciiLetters() {
+        val options = utf8IgnoreCaseOptions("a[", "b@")
+        assertSelect("A[", 0, options)
+        assertSelect("a{", -1, options)
+        assertSelect("B@", 1, options)
+        assertSelect("b`", -1, options)
+    }
+
+    @Test
+    fun ignoreCaseDuplicateValues() {
+        val e = assertFailsWith<IllegalArgumentException> {
+            utf8IgnoreCaseOptions("abc", "ABC")
+        }
+        assertEquals("duplicate option: ByteString(size=3 hex=616263)", e.message)
+    }
+
+    @Test
+    fun largeOptionsAreHashed() {
+        val values = (0 until 200).map { "header-$it:" }
+        val options = utf8Options(*values.toTypedArray())
+        assertNotNull((options as RealOptions).hash)
+        assertNull((utf8Options("a", "b") as RealOptions).hash)
+
+        for ((index, value) in values.withIndex()) {
+            assertSelect("$value 1", index, options)
+        }
+        assertSelect("header-: 1", -1, options)
+        assertSelect("header-200: 1", -1, options)
+        assertSelect("header_1: 1", -1, options)
+        // Too few bytes in the head segment for the hash: falls back to the trie.
+        assertSelect(bufferWithSegments("head", "er-42: 1"), 42, options)
+    }
+
+    @Test
+    fun largeOptionsIgnoreCase() {
+        val values = (0 until 100).map { "X-Header-$it:" }
+        val options = utf8IgnoreCaseOptions(*values.toTypedArray())
+        assertNotNull((options as RealOptions).hash)
+        assertSelect("x-header-99: 1", 99, options)
+        assertSelect("X-HEADER-42: 1", 42, options)
+        assertSelect("x-heade_-42: 1", -1, options)
+        assertSelect(bufferWithSegments("x-HEAD", "er-42: 1"), 42, options)
+    }
+
+    @Test
+    fun largeOptionsLongestMatchWins() {
+        val values = listOf("abcdef") + (0 until 50).map { "value-$it" } + listOf("abc")
+        val options = utf8Options(*values.toTypedArray())
+        assertNotNull((options as RealOptions).hash)
+        assertSelect("abcdefg..........", 0, options)
+        assertSelect("abcdxyz..........", 51, options)
+        assertSelect("ab...............", -1, options)
+    }
+
+    private fun utf8IgnoreCaseOptions(vararg options: String): Options {
+        return Options.ofIgnoreCase(*options.map { it.encodeToByteString() }.toTypedArray())
+    }
+
     private fun utf8Options(vararg options: String): Options {
         return Options.of(*options.map { it.encodeToByteString() }.toTypedArray())
     }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+import java.util.zip.CRC32
+import java.util.zip.GZIPInputStream
+import kotlin.random.Random
+
+class ParallelGzipWriterTest {
+    @ParameterizedTest
+    @ValueSource(ints = [1, 4, 16])
+    fun roundTrip(parallelism: Int) {
+        val random = Random(parallelism)
+        for (byteCount in listOf(0, 1, 1_000, ParallelGzipRawWriter.BLOCK_SIZE, 1_000_000)) {
+            val original = ByteArray(byteCount) { "jayo!".codePointAt(random.nextInt(5)).toByte() }
+            val compressed = Buffer()
+            (compressed as RawWriter).parallelGzip(parallelism = parallelism).buffered().use { it.write(original) }
+
+            val decompressed = GZIPInputStream(compressed.asInputStream()).readAllBytes()
+            assertThat(decompressed).isEqualTo(original)
+        }
+    }
+
+    @Test
+    fun flushEmitsAllWrittenBytes() {
+        val compressed = Buffer()
+        val writer = (compressed as RawWriter).parallelGzip(parallelism = 4).buffered()
+        writer.write("a".repeat(300_000))
+        writer.flush()
+        val reader = (compressed as RawReader).gzip().buffered()
+        assertThat(reader.readString(300_000)).isEqualTo("a".repeat(300_000))
+
+        writer.write("Hi!")
+        writer.close()
+        assertThat(reader.readString()).isEqualTo("Hi!")
+    }
+
+    @Test
+    fun compressedBytesAreEmittedBeforeClose() {
+        val compressed = Buffer()
+        val writer = (compressed as RawWriter).parallelGzip(parallelism = 1)
+        val blockCount = 8
+        val source = Buffer().write("a".repeat(ParallelGzipRawWriter.BLOCK_SIZE * blockCount))
+        writer.writeFrom(source, source.bytesAvailable())
+        // the oldest blocks were awaited to submit the next ones, they must reach the underlying writer
+        assertThat(compressed.bytesAvailable()).isPositive()
+
+        writer.close()
+        val reader = (compressed as RawReader).gzip().buffered()
+        assertThat(reader.readString()).isEqualTo("a".repeat(ParallelGzipRawWriter.BLOCK_SIZE * blockCount))
+    }
+
+    @Test
+    fun crc32Combine() {
+        val first = "It's a UNIX system!".toByteArray()
+        val second = " I know this!".repeat(10_000).toByteArray()
+        val whole = CRC32().apply { update(first); update(second) }.value
+
+        val crc1 = CRC32().apply { update(first) }.value
+        val crc2 = CRC32().apply { update(second) }.value
+        assertThat(ParallelGzipRawWriter.crc32Combine(crc1, crc2, second.size.toLong())).isEqualTo(whole)
+        assertThat(ParallelGzipRawWriter.crc32Combine(crc1, 0L, 0L)).isEqualTo(crc1)
+    }
+
+    @Test
+    fun invalidArguments() {
+        assertThatThrownBy { Jayo.parallelGzip(Buffer(), 10, 1) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("invalid compression level: 10")
+        assertThatThrownBy { Jayo.parallelGzip(Buffer(), 6, 0) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("parallelism < 1: 0")
+    }
+
+    @Test
+    fun writeAfterClose() {
+        val writer = Jayo.parallelGzip(Buffer())
+        writer.close()
+        assertThatThrownBy { writer.writeFrom(Buffer().write("a"), 1L) }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("closed")
+    }
+
+    @Test
+    fun closeWithExceptionWhenWriting() {
+        val mockSink = MockWriter()
+        mockSink.scheduleThrow(0, JayoException("first"))
+        val writer = Jayo.parallelGzip(mockSink)
+        writer.writeFrom(Buffer().write("a".repeat(Segment.SIZE)), Segment.SIZE.toLong())
+        assertThatThrownBy { writer.close() }
+            .isInstanceOf(JayoException::class.java)
+            .hasMessage("first")
+        mockSink.assertLogContains("close()")
+    }
+}
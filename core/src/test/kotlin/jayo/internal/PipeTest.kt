@@ -40,9 +40,14 @@ import java.util.concurrent.atomic.AtomicInteger
 import kotlin.test.assertFailsWith
 import kotlin.time.Duration.Companion.milliseconds
 
-class PipeTest {
+open class PipeTest {
     private val executorService = Executors.newScheduledThreadPool(2, newThreadFactory())
 
+    /**
+     * Creates the pipe under test, subclasses override it to test the other pipe modes.
+     */
+    protected open fun Pipe(maxBufferSize: Long): Pipe = Pipe.create(maxBufferSize)
+
     @AfterEach
     fun tearDown() {
         executorService.shutdown()
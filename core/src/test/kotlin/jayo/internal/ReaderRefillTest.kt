@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.channels.FileChannel
+import java.nio.channels.ReadableByteChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.random.Random
+import kotlin.test.assertContentEquals
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class ReaderRefillTest {
+    private val data = Random(31).nextBytes(3_000_000)
+    private val requested = mutableListOf<Long>()
+
+    private fun countingReader(): RawReader {
+        val source = Buffer().write(data)
+        return object : RawReader {
+            override fun readAtMostTo(destination: Buffer, byteCount: Long): Long {
+                requested.add(byteCount)
+                return source.readAtMostTo(destination, byteCount)
+            }
+
+            override fun close() {}
+        }
+    }
+
+    @Test
+    fun requireRefillsWithTheMissingByteCount() {
+        val reader = Jayo.buffer(countingReader())
+        reader.require(1_000_000)
+        // 16 segments per refill instead of one.
+        assertEquals(4, requested.size)
+        assertTrue(requested.all { it <= RealReader.DEFAULT_MAX_REFILL_SIZE })
+        assertContentEquals(data.copyOf(1_000_000), reader.readByteArray(1_000_000))
+    }
+
+    @Test
+    fun refillsGrowWithUpstreamYield() {
+        val reader = Jayo.buffer(countingReader())
+        assertContentEquals(data, reader.readByteArray())
+        assertEquals(Segment.SIZE.toLong(), requested[0])
+        assertEquals(2L * Segment.SIZE, requested[1])
+        assertEquals(4L * Segment.SIZE, requested[2])
+        assertTrue(requested.size < 20)
+    }
+
+    @Test
+    fun refillsAreCapped() {
+        val maxRefillSize = 2L * Segment.SIZE
+        val reader = Jayo.buffer(countingReader(), maxRefillSize)
+        reader.require(1_000_000)
+        assertTrue(requested.all { it <= maxRefillSize })
+        assertFailsWith<IllegalArgumentException> {
+            Jayo.buffer(countingReader(), Segment.SIZE - 1L)
+        }
+    }
+
+    @Test
+    fun scatteringReadFromChannel(@TempDir tempDir: Path) {
+        val file = tempDir.resolve("data")
+        Files.write(file, data)
+        FileChannel.open(file).use { channel ->
+            val reader = Jayo.buffer(Jayo.reader(channel as ReadableByteChannel))
+            reader.require(1_000_000)
+            assertContentEquals(data, reader.readByteArray())
+            assertTrue(reader.exhausted())
+        }
+    }
+}
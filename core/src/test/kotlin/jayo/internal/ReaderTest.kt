@@ -41,6 +41,7 @@ import java.io.EOFException
 import java.io.IOException
 import java.io.InputStream
 import java.nio.ByteBuffer
+import java.nio.ByteOrder
 import java.nio.charset.Charset
 import java.util.stream.Stream
 import kotlin.test.*
@@ -390,6 +391,127 @@ abstract class AbstractReaderTest internal constructor(private val factory: Read
         assertEquals(7, reader.readByteArray().size)
     }
 
+    @Test
+    fun readFloatAndDouble() {
+        writer.writeFloat(1.5f)
+        writer.writeFloatLe(-2.25f)
+        writer.writeDouble(Math.PI)
+        writer.writeDoubleLe(Double.NaN)
+        writer.emit()
+        assertEquals(1.5f, reader.readFloat())
+        assertEquals(-2.25f, reader.readFloatLe())
+        assertEquals(Math.PI, reader.readDouble())
+        assertTrue(reader.readDoubleLe().isNaN())
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun readLongLeSplitAcrossMultipleSegments() {
+        writer.write("a".repeat(Segment.SIZE - 3))
+        writer.writeLongLe(0x1234567890abcdefL)
+        writer.emit()
+        reader.skip((Segment.SIZE - 3).toLong())
+        assertEquals(0x1234567890abcdefL, reader.readLongLe())
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun readVarInt() {
+        writer.write(byteArrayOf(0x00, 0x7f, 0x96.toByte(), 0x01, 0xff.toByte(), 0xff.toByte(), 0xff.toByte(),
+            0xff.toByte(), 0x0f))
+        writer.emit()
+        assertEquals(0, reader.readVarInt())
+        assertEquals(127, reader.readVarInt())
+        assertEquals(150, reader.readVarInt())
+        assertEquals(-1, reader.readVarInt())
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun readVarLongRoundTrip() {
+        val values = longArrayOf(0L, 1L, 127L, 128L, 300L, Int.MAX_VALUE.toLong(), Long.MAX_VALUE, Long.MIN_VALUE, -1L)
+        values.forEach { writer.writeVarLong(it) }
+        values.forEach { writer.writeZigZagVarLong(it) }
+        writer.writeZigZagVarInt(Int.MIN_VALUE)
+        writer.writeZigZagVarInt(-1)
+        writer.emit()
+        values.forEach { assertEquals(it, reader.readVarLong()) }
+        values.forEach { assertEquals(it, reader.readZigZagVarLong()) }
+        assertEquals(Int.MIN_VALUE, reader.readZigZagVarInt())
+        assertEquals(-1, reader.readZigZagVarInt())
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun readVarLongSplitAcrossMultipleSegments() {
+        writer.write("a".repeat(Segment.SIZE - 2))
+        writer.writeVarLong(Long.MAX_VALUE)
+        writer.emit()
+        reader.skip((Segment.SIZE - 2).toLong())
+        assertEquals(Long.MAX_VALUE, reader.readVarLong())
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun readToPrimitiveArrays() {
+        val count = Segment.SIZE // spans several segments
+        val ints = IntArray(count) { it * 31 - 7 }
+        val longs = LongArray(count) { it * 0x1234567890L }
+        val floats = FloatArray(count) { it / 3f }
+        val doubles = DoubleArray(count) { it / 7.0 }
+        writer.writeByte(1) // numbers are not aligned with segments
+        writer.write(ints, 0, count, ByteOrder.BIG_ENDIAN)
+        writer.write(longs, 0, count, ByteOrder.LITTLE_ENDIAN)
+        writer.write(floats, 0, count, ByteOrder.BIG_ENDIAN)
+        writer.write(doubles, 0, count, ByteOrder.LITTLE_ENDIAN)
+        writer.emit()
+
+        assertEquals(1, reader.readByte())
+        val readInts = IntArray(count + 2)
+        reader.readTo(readInts, 1, count, ByteOrder.BIG_ENDIAN)
+        assertContentEquals(ints, readInts.copyOfRange(1, count + 1))
+        val readLongs = LongArray(count)
+        reader.readTo(readLongs, 0, count, ByteOrder.LITTLE_ENDIAN)
+        assertContentEquals(longs, readLongs)
+        val readFloats = FloatArray(count)
+        reader.readTo(readFloats, 0, count, ByteOrder.BIG_ENDIAN)
+        assertContentEquals(floats, readFloats)
+        val readDoubles = DoubleArray(count)
+        reader.readTo(readDoubles, 0, count, ByteOrder.LITTLE_ENDIAN)
+        assertContentEquals(doubles, readDoubles)
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun readToPrimitiveArrayTooShortThrows() {
+        writer.write(ByteArray(10))
+        writer.emit()
+        assertFailsWith<JayoEOFException> {
+            reader.readTo(IntArray(3), 0, 3, ByteOrder.BIG_ENDIAN)
+        }
+        assertEquals(2, reader.readByteArray().size)
+    }
+
+    @Test
+    fun readVarIntTooShortThrows() {
+        writer.write(byteArrayOf(0x96.toByte(), 0x96.toByte()))
+        writer.emit()
+        assertFailsWith<JayoEOFException> {
+            reader.readVarInt()
+        }
+        assertEquals(2, reader.readByteArray().size)
+    }
+
+    @Test
+    fun readVarIntTooLongThrows() {
+        writer.write(ByteArray(6) { 0x80.toByte() })
+        writer.emit()
+        assertFailsWith<NumberFormatException> {
+            reader.readVarInt()
+        }
+        assertEquals(6, reader.readByteArray().size)
+    }
+
     @Test
     fun readAllTo() {
         internalBuffer(reader).write("abc")
@@ -1452,6 +1574,79 @@ abstract class AbstractReaderTest internal constructor(private val factory: Read
         assertTrue(reader.exhausted())
     }
 
+    @Test
+    fun lines() {
+        writer.write("first line\n\nWot do u call it?\r\nno newline\r")
+        writer.flush()
+        val lines = reader.lines()
+        assertFailsWith<IllegalStateException> { lines.byteSize() }
+
+        assertTrue(lines.next())
+        assertEquals(10L, lines.byteSize())
+        assertEquals('f'.code.toByte(), lines.getByte(0))
+        assertTrue(lines.rangeEquals(6, "line".encodeToByteString()))
+        assertFalse(lines.rangeEquals(7, "line".encodeToByteString()))
+        assertFailsWith<IndexOutOfBoundsException> { lines.getByte(10) }
+        assertEquals("first line", lines.decodeToString())
+
+        assertTrue(lines.next())
+        assertEquals(0L, lines.byteSize())
+        assertEquals(ByteString.EMPTY, lines.byteString())
+
+        assertTrue(lines.next())
+        assertEquals("Wot do u call it?", lines.byteString().decodeToString())
+
+        // Like readLine, a trailing '\r' without '\n' is part of the last line.
+        assertTrue(lines.next())
+        val buffer = Buffer()
+        lines.copyTo(buffer)
+        assertEquals("no newline\r", buffer.readString())
+
+        assertFalse(lines.next())
+        assertFailsWith<IllegalStateException> { lines.byteSize() }
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun linesSpanSegments() {
+        val longLine = "a".repeat(Segment.SIZE * 2 + 1)
+        writer.write("$longLine\r\n").write("b".repeat(Segment.SIZE - 1)).write("\nend")
+        writer.flush()
+        val lines = reader.lines()
+        assertTrue(lines.next())
+        assertEquals(longLine.length.toLong(), lines.byteSize())
+        assertEquals(longLine, lines.decodeToString())
+        assertTrue(lines.next())
+        assertEquals("b".repeat(Segment.SIZE - 1), lines.decodeToString())
+        assertTrue(lines.next())
+        assertEquals("end", lines.decodeToString())
+        assertFalse(lines.next())
+    }
+
+    @Test
+    fun splitOn() {
+        writer.write("a,,bc,\r\n,")
+        writer.flush()
+        val records = reader.splitOn(','.code.toByte())
+        val result = mutableListOf<String>()
+        while (records.next()) {
+            result.add(records.decodeToString())
+        }
+        assertEquals(listOf("a", "", "bc", "\r\n"), result)
+        assertTrue(reader.exhausted())
+    }
+
+    @Test
+    fun linesLeavesNextRecordsInReader() {
+        writer.write("first\nsecond\nthird")
+        writer.flush()
+        val lines = reader.lines()
+        assertTrue(lines.next())
+        assertTrue(lines.next())
+        // The current line is removed from the reader only when moving to the next line.
+        assertEquals("second\nthird", reader.readString())
+    }
+
     @Test
     fun readLineWithCharset() {
         writer
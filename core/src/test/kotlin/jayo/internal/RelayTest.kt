@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import org.junit.jupiter.api.Test
+import kotlin.random.Random
+import kotlin.test.*
+
+class RelayTest {
+    @Test
+    fun relayBothDirectionsAndPropagateHalfClose() {
+        val (clientA, relayA) = Jayo.inMemorySocketPair(100_000L)
+        val (relayB, clientB) = Jayo.inMemorySocketPair(100_000L)
+        val relay = relayA.relay(relayB)
+        val data = Random(34).nextBytes(3_000_000)
+
+        val writing = Thread { clientA.writer.buffered().use { it.write(data) } }
+        writing.start()
+        val readerB = clientB.reader.buffered()
+        assertContentEquals(data, readerB.readByteArray(data.size.toLong()))
+        writing.join()
+        // clientA closed its writer, clientB sees the end of the stream.
+        assertTrue(readerB.exhausted())
+        assertFalse(relay.isFinished)
+
+        clientB.writer.buffered().use { it.write("pong") }
+        assertEquals("pong", clientA.reader.buffered().readString())
+
+        relay.join()
+        assertTrue(relay.isFinished)
+        assertEquals(data.size.toLong(), relay.aToBByteCount)
+        assertEquals(4L, relay.bToAByteCount)
+    }
+
+    @Test
+    fun failureCancelsBothSockets() {
+        val (clientA, relayA) = Jayo.inMemorySocketPair(100L)
+        val (relayB, clientB) = Jayo.inMemorySocketPair(100L)
+        clientB.reader.close()
+        val relay = Jayo.relay(relayA, relayB)
+
+        clientA.writer.buffered().use { it.write("hello") }
+        assertFailsWith<JayoException> {
+            relay.join()
+        }
+        assertFalse(relayA.isOpen)
+        assertFalse(relayB.isOpen)
+    }
+
+    @Test
+    fun cancelIsNotAFailure() {
+        val (_, relayA) = Jayo.inMemorySocketPair(100L)
+        val (relayB, _) = Jayo.inMemorySocketPair(100L)
+        val relay = Jayo.relay(relayA, relayB)
+
+        relay.cancel()
+        relay.join()
+        assertTrue(relay.isFinished)
+    }
+
+    @Test
+    fun relayToItselfThrows() {
+        val (socket, _) = Jayo.inMemorySocketPair(100L)
+        assertFailsWith<IllegalArgumentException> {
+            Jayo.relay(socket, socket)
+        }
+    }
+}
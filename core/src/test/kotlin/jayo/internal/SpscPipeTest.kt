@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.Buffer
+import jayo.Pipe
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Executors
+import kotlin.random.Random
+import kotlin.test.assertContentEquals
+import kotlin.test.assertTrue
+
+class SpscPipeTest : PipeTest() {
+    override fun Pipe(maxBufferSize: Long): Pipe = Pipe.create(maxBufferSize, Pipe.Mode.SINGLE_PRODUCER_SINGLE_CONSUMER)
+
+    @Test
+    fun pipeModes() {
+        assertTrue(Pipe.create(8L) is RealPipe)
+        assertTrue(Pipe.create(8L, Pipe.Mode.SHARED) is RealPipe)
+        assertTrue(Pipe(8L) is SpscPipe)
+    }
+
+    @Test
+    fun largeTransfersThroughManySegments() {
+        val pipe = Pipe(4L * Segment.SIZE)
+        val data = Random(32).nextBytes(10 * 1024 * 1024)
+        val executor = Executors.newSingleThreadExecutor(TestUtil.newThreadFactory())
+        try {
+            val written = executor.submit {
+                var offset = 0
+                while (offset < data.size) {
+                    val byteCount = minOf(100_000, data.size - offset)
+                    pipe.writer.writeFrom(Buffer().write(data, offset, byteCount), byteCount.toLong())
+                    offset += byteCount
+                }
+                pipe.writer.close()
+            }
+
+            val readBuffer = Buffer()
+            while (pipe.reader.readAtMostTo(readBuffer, 7_777L) != -1L) {
+            }
+            written.get()
+            assertContentEquals(data, readBuffer.readByteArray())
+        } finally {
+            executor.shutdown()
+        }
+    }
+}
@@ -101,4 +101,28 @@ class TimeoutTest {
             assertThat(cancelToken).isSameAs(SHIELDED)
         }
     }
+
+    @Test
+    fun cachedCancelTokenIsInvalidated() {
+        var cancelToken: RealCancelToken?
+        cancelScope(biggerNanos) {
+            val outer = this
+            cancelScope(smallerNanos) {
+                // the merged cancel token is cached while the cancel scopes do not change
+                cancelToken = JavaVersionUtils.getCancelToken()
+                assertThat(JavaVersionUtils.getCancelToken()).isSameAs(cancelToken)
+                assertThat(cancelToken!!.cancelled).isFalse()
+
+                outer.cancel()
+                cancelToken = JavaVersionUtils.getCancelToken()
+                assertThat(cancelToken!!.cancelled).isTrue()
+
+                shield()
+                assertThat(JavaVersionUtils.getCancelToken()).isSameAs(SHIELDED)
+            }
+            cancelToken = JavaVersionUtils.getCancelToken()
+            assertThat(cancelToken!!.cancelled).isTrue()
+        }
+        assertThat(JavaVersionUtils.getCancelToken()).isNull()
+    }
 }
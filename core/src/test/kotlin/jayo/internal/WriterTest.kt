@@ -34,6 +34,7 @@ import org.junit.jupiter.api.Test
 import java.io.IOException
 import java.io.OutputStream
 import java.nio.ByteBuffer
+import java.nio.ByteOrder
 import java.nio.charset.Charset
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
@@ -259,6 +260,70 @@ abstract class AbstractWriterTest internal constructor(private val factory: Writ
         assertEquals("Buffer(size=16 hex=2143658701efcdab005cb1b0bebafeca)", data.toString())
     }
 
+    @Test
+    fun writeFloatAndDouble() {
+        writer.writeFloat(1.0f)
+        writer.writeFloatLe(1.0f)
+        writer.writeDouble(1.0)
+        writer.writeDoubleLe(1.0)
+        writer.flush()
+        assertEquals("Buffer(size=24 hex=3f8000000000803f3ff0000000000000000000000000f03f)", data.toString())
+    }
+
+    @Test
+    fun writePrimitiveArrays() {
+        writer.write(intArrayOf(1, -1, 0x12345678), 1, 2, ByteOrder.BIG_ENDIAN)
+        writer.write(intArrayOf(0x12345678), 0, 1, ByteOrder.LITTLE_ENDIAN)
+        writer.write(longArrayOf(1L), 0, 1, ByteOrder.LITTLE_ENDIAN)
+        writer.write(floatArrayOf(1.0f), 0, 1, ByteOrder.BIG_ENDIAN)
+        writer.write(doubleArrayOf(1.0), 0, 1, ByteOrder.LITTLE_ENDIAN)
+        writer.flush()
+        assertEquals(
+            "Buffer(size=32 hex=ffffffff123456787856341201000000000000003f800000000000000000f03f)",
+            data.toString()
+        )
+    }
+
+    @Test
+    fun writePrimitiveArrayDoesNotQuiteFitInSegment() {
+        writer.write("a".repeat(Segment.SIZE - 6))
+        writer.write(longArrayOf(1L, 2L), 0, 2, ByteOrder.BIG_ENDIAN)
+        writer.flush()
+        assertEquals(listOf(Segment.SIZE - 6, 16), segmentSizes(data))
+        assertEquals("a".repeat(Segment.SIZE - 6), data.readString(Segment.SIZE - 6L))
+        assertEquals(1L, data.readLong())
+        assertEquals(2L, data.readLong())
+    }
+
+    @Test
+    fun writeVarInt() {
+        writer.writeVarInt(0)
+        writer.writeVarInt(150)
+        writer.writeVarInt(-1)
+        writer.writeZigZagVarInt(-1)
+        writer.writeZigZagVarInt(1)
+        writer.flush()
+        assertEquals("Buffer(size=10 hex=009601ffffffff0f0102)", data.toString())
+    }
+
+    @Test
+    fun writeVarLong() {
+        writer.writeVarLong(-1L)
+        writer.writeZigZagVarLong(Long.MIN_VALUE)
+        writer.flush()
+        assertEquals("Buffer(size=20 hex=ffffffffffffffffff01ffffffffffffffffff01)", data.toString())
+    }
+
+    @Test
+    fun writeVarLongDoesNotQuiteFitInSegment() {
+        writer.write("a".repeat(Segment.SIZE - 3))
+        writer.writeVarLong(Long.MAX_VALUE)
+        writer.flush()
+        assertEquals(listOf(Segment.SIZE - 3, 9), segmentSizes(data))
+        assertEquals("a".repeat(Segment.SIZE - 3), data.readString(Segment.SIZE - 3L))
+        assertEquals(Long.MAX_VALUE, data.readVarLong())
+    }
+
     @Test
     fun writeAll() {
         val reader = RealBuffer()
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal
+
+import jayo.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.util.zip.Deflater
+import java.util.zip.Inflater
+
+class ZlibPoolTest {
+    @Test
+    fun releasedDeflaterIsReused() {
+        val deflater = ZlibPool.deflater(Deflater.BEST_SPEED, false)
+        ZlibPool.release(deflater)
+        assertThat(ZlibPool.deflater(Deflater.BEST_SPEED, false)).isSameAs(deflater)
+    }
+
+    @Test
+    fun deflatersArePooledPerLevelAndWrap() {
+        val deflater = ZlibPool.deflater(Deflater.BEST_SPEED, false)
+        ZlibPool.release(deflater)
+        assertThat(ZlibPool.deflater(Deflater.BEST_SPEED, true)).isNotSameAs(deflater)
+        assertThat(ZlibPool.deflater(Deflater.BEST_COMPRESSION, false)).isNotSameAs(deflater)
+    }
+
+    @Test
+    fun releasedInflaterIsReused() {
+        val inflater = ZlibPool.inflater(true)
+        ZlibPool.release(inflater)
+        assertThat(ZlibPool.inflater(true)).isSameAs(inflater)
+    }
+
+    @Test
+    fun userProvidedDeflaterIsEndedNotPooled() {
+        val deflater = Deflater()
+        ZlibPool.release(deflater)
+        assertThatThrownBy { deflater.deflate(ByteArray(1)) }.isInstanceOf(NullPointerException::class.java)
+        assertThat(ZlibPool.deflater(Deflater.DEFAULT_COMPRESSION, false)).isNotSameAs(deflater)
+    }
+
+    @Test
+    fun userProvidedInflaterIsEndedNotPooled() {
+        val inflater = Inflater()
+        ZlibPool.release(inflater)
+        assertThatThrownBy { inflater.inflate(ByteArray(1)) }.isInstanceOf(NullPointerException::class.java)
+    }
+
+    @Test
+    fun invalidLevel() {
+        assertThatThrownBy { ZlibPool.deflater(10, false) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("invalid compression level: 10")
+    }
+
+    @Test
+    fun pooledGzipRoundTrips() {
+        val original = "It's a UNIX system! I know this!".repeat(1_000)
+        repeat(10) { i ->
+            val compressed = Buffer()
+            (compressed as RawWriter).gzip(i % 10).buffered().use { it.write(original) }
+            assertThat((compressed as RawReader).gzip().buffered().readString()).isEqualTo(original)
+        }
+    }
+
+    @Test
+    fun pooledDeflateRoundTrips() {
+        val original = "It's a UNIX system! I know this!".repeat(1_000)
+        repeat(10) {
+            val compressed = Buffer()
+            Jayo.deflate(compressed).buffered().use { it.write(original) }
+            assertThat(Jayo.inflate(compressed).buffered().readString()).isEqualTo(original)
+        }
+    }
+
+    @Test
+    fun writeAfterCloseFailsInsteadOfUsingARecycledDeflater() {
+        val gzip = (Buffer() as RawWriter).gzip()
+        gzip.close()
+        assertThatThrownBy { gzip.writeFrom(Buffer().write("a"), 1L) }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("closed")
+
+        val deflate = Jayo.deflate(Buffer())
+        deflate.close()
+        assertThatThrownBy { deflate.flush() }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessage("closed")
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.network
+
+import jayo.*
+import jayo.internal.SocketChannelNetworkSocket
+import jayo.network.NetworkServer
+import jayo.network.NetworkSocket
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.net.StandardSocketOptions
+import java.net.UnixDomainSocketAddress
+import java.nio.channels.UnsupportedAddressTypeException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import kotlin.concurrent.thread
+
+class UnixDomainSocketTest {
+    @TempDir
+    lateinit var tempDir: Path
+
+    private val address by lazy { UnixDomainSocketAddress.of(tempDir.resolve("jayo.sock")) }
+
+    @Test
+    fun `read and write`() {
+        NetworkServer.bindUnix(address).use { server ->
+            assertThat(server.localSocketAddress).isEqualTo(address)
+            assertThat(Files.exists(address.path)).isTrue()
+
+            val serverThread = thread {
+                server.accept().writer.buffered().use { writer ->
+                    writer.write(NetworkTest.TO_WRITE)
+                        .flush()
+                }
+            }
+            val client = NetworkSocket.builder()
+                .useNio(false) // ignored
+                .option(StandardSocketOptions.SO_SNDBUF, 64 * 1024)
+                .openUnix()
+                .connect(address)
+            assertThat(client).isInstanceOf(SocketChannelNetworkSocket::class.java)
+            assertThat(client.peerSocketAddress).isEqualTo(address)
+            client.reader.buffered().use { reader ->
+                assertThat(reader.readString()).isEqualTo(NetworkTest.TO_WRITE)
+            }
+            serverThread.join()
+        }
+        // the socket file is deleted on close
+        assertThat(Files.exists(address.path)).isFalse()
+    }
+
+    @Test
+    fun `no internet socket address`() {
+        NetworkServer.bindUnix(address).use { server ->
+            assertThatThrownBy { server.localAddress }
+                .isInstanceOf(UnsupportedOperationException::class.java)
+            val client = NetworkSocket.connectUnix(address)
+            assertThatThrownBy { client.peerAddress }
+                .isInstanceOf(UnsupportedOperationException::class.java)
+            assertThatThrownBy { client.localAddress }
+                .isInstanceOf(UnsupportedOperationException::class.java)
+            client.cancel()
+        }
+    }
+
+    @Test
+    fun `tcp socket cannot connect to a unix domain address`() {
+        listOf(true, false).forEach { useNio ->
+            val unconnected = NetworkSocket.builder().useNio(useNio).openTcp()
+            assertThatThrownBy { unconnected.connect(address) }
+                .isInstanceOf(UnsupportedAddressTypeException::class.java)
+            // the socket opened for this connection is closed, not leaked
+            assertThatThrownBy { unconnected.getOption(StandardSocketOptions.SO_SNDBUF) }
+                .isInstanceOf(JayoClosedResourceException::class.java)
+        }
+    }
+
+    @Test
+    fun `read timeout`() {
+        NetworkServer.builder()
+            .readTimeout(Duration.ofMillis(10))
+            .bindUnix(address).use { server ->
+                val client = NetworkSocket.connectUnix(address)
+                val accepted = server.accept()
+                assertThatThrownBy { accepted.reader.buffered().readByte() }
+                    .isInstanceOf(JayoTimeoutException::class.java)
+                client.cancel()
+            }
+    }
+
+    @Test
+    fun `cancel scope applies`() {
+        NetworkServer.bindUnix(address).use { server ->
+            val client = NetworkSocket.connectUnix(address)
+            server.accept()
+            assertThatThrownBy {
+                cancelScope {
+                    cancel()
+                    client.reader.buffered().readByte()
+                }
+            }.isInstanceOf(JayoInterruptedIOException::class.java)
+            client.cancel()
+        }
+    }
+}
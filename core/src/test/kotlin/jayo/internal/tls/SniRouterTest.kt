@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls
+
+import jayo.Jayo
+import jayo.buffered
+import jayo.tls.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+import javax.net.ssl.SNIHostName
+import kotlin.concurrent.thread
+
+class SniRouterTest {
+    private val root = HeldCertificate.builder()
+        .certificateAuthority(0)
+        .build()
+
+    private fun server(hostName: String): ServerHandshakeCertificates {
+        val certificate = HeldCertificate.builder()
+            .addSubjectAlternativeName(hostName)
+            .signedBy(root)
+            .build()
+        return ServerHandshakeCertificates.builder(certificate).build()
+    }
+
+    private val example = server("example.com")
+    private val wildcardExample = server("*.example.com")
+    private val fallback = server("localhost")
+
+    @Test
+    fun exactAndWildcardRoutes() {
+        val router = SniRouter.builder()
+            .addRoute("Example.com.", example)
+            .addRoute("*.example.com", wildcardExample)
+            .build()
+
+        assertThat(router.apply(SNIHostName("example.com"))).isSameAs(example)
+        assertThat(router.apply(SNIHostName("API.example.com"))).isSameAs(wildcardExample)
+        assertThat(router.apply(SNIHostName("v1.api.example.com"))).isNull()
+        assertThat(router.apply(SNIHostName("example.org"))).isNull()
+        assertThat(router.apply(null)).isNull()
+        assertThat(router.hitCount).isEqualTo(2L)
+        assertThat(router.missCount).isEqualTo(0L)
+        assertThat(router.lookupCount).isEqualTo(5L)
+        assertThat(router.lookupTime).isPositive()
+    }
+
+    @Test
+    fun defaultCertificates() {
+        val router = SniRouter.builder()
+            .addRoute("example.com", example)
+            .defaultCertificates(fallback)
+            .build()
+
+        assertThat(router.apply(SNIHostName("example.com"))).isSameAs(example)
+        assertThat(router.apply(SNIHostName("example.org"))).isSameAs(fallback)
+        assertThat(router.apply(null)).isSameAs(fallback)
+    }
+
+    @Test
+    fun invalidRoutes() {
+        listOf("", ".", "*", "*.", "a.*.example.com", "*example.com", "**.example.com", ".example.com").forEach {
+            assertThatThrownBy { SniRouter.builder().addRoute(it, example) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+                .hasMessage("invalid host name: $it")
+        }
+        assertThatThrownBy { SniRouter.builder().certificatesProvider({ null }, 0) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("maxCacheSize < 1: 0")
+    }
+
+    @Test
+    fun lazyLoadingAndLruEviction() {
+        val loadCount = AtomicInteger()
+        val loaded = mutableMapOf<String, ServerHandshakeCertificates>()
+        val router = SniRouter.builder()
+            .addRoute("*.example.com", wildcardExample)
+            .certificatesProvider({ hostName ->
+                loadCount.incrementAndGet()
+                if (hostName.endsWith(".test")) loaded.getOrPut(hostName) { server(hostName) } else null
+            }, 2)
+            .build()
+        assertThat(router.maxCacheSize).isEqualTo(2)
+
+        // routes are never loaded
+        assertThat(router.apply(SNIHostName("api.example.com"))).isSameAs(wildcardExample)
+        assertThat(loadCount.get()).isEqualTo(0)
+
+        val a = router.apply(SNIHostName("a.test"))
+        assertThat(a).isSameAs(loaded["a.test"])
+        assertThat(router.apply(SNIHostName("A.test"))).isSameAs(a)
+        assertThat(loadCount.get()).isEqualTo(1)
+
+        // null is not cached
+        assertThat(router.apply(SNIHostName("unknown.org"))).isNull()
+        assertThat(router.apply(SNIHostName("unknown.org"))).isNull()
+        assertThat(loadCount.get()).isEqualTo(3)
+        assertThat(router.cacheSize).isEqualTo(1)
+
+        router.apply(SNIHostName("b.test"))
+        router.apply(SNIHostName("a.test")) // b.test is now the least recently used
+        router.apply(SNIHostName("c.test"))
+        assertThat(router.cacheSize).isEqualTo(2)
+        assertThat(router.evictionCount).isEqualTo(1L)
+        assertThat(loadCount.get()).isEqualTo(5)
+
+        router.apply(SNIHostName("a.test"))
+        router.apply(SNIHostName("c.test"))
+        assertThat(loadCount.get()).isEqualTo(5)
+        router.apply(SNIHostName("b.test"))
+        assertThat(loadCount.get()).isEqualTo(6)
+
+        assertThat(router.hitCount).isEqualTo(5L)
+        assertThat(router.missCount).isEqualTo(6L)
+
+        router.evictAll()
+        assertThat(router.cacheSize).isEqualTo(0)
+    }
+
+    @Test
+    fun hotSwapAndRemove() {
+        val loadCount = AtomicInteger()
+        val router = SniRouter.builder()
+            .addRoute("example.com", example)
+            .certificatesProvider({ loadCount.incrementAndGet(); fallback }, 16)
+            .build()
+
+        val newExample = server("example.com")
+        router.putRoute("example.com", newExample)
+        assertThat(router.apply(SNIHostName("example.com"))).isSameAs(newExample)
+
+        // a route replaces the cached handshake certificates of its host name
+        assertThat(router.apply(SNIHostName("a.test"))).isSameAs(fallback)
+        val newA = server("a.test")
+        router.putRoute("a.test", newA)
+        assertThat(router.cacheSize).isEqualTo(0)
+        assertThat(router.apply(SNIHostName("a.test"))).isSameAs(newA)
+
+        // once removed, the host name is loaded again
+        router.remove("A.test")
+        assertThat(router.apply(SNIHostName("a.test"))).isSameAs(fallback)
+        assertThat(loadCount.get()).isEqualTo(2)
+    }
+
+    @Test
+    fun wildcardRouteReplacesCachedHostNames() {
+        val router = SniRouter.builder()
+            .certificatesProvider({ fallback }, 16)
+            .build()
+
+        assertThat(router.apply(SNIHostName("a.example.com"))).isSameAs(fallback)
+        assertThat(router.apply(SNIHostName("v1.a.example.com"))).isSameAs(fallback)
+        assertThat(router.cacheSize).isEqualTo(2)
+
+        router.putRoute("*.example.com", wildcardExample)
+        assertThat(router.cacheSize).isEqualTo(1)
+        assertThat(router.apply(SNIHostName("a.example.com"))).isSameAs(wildcardExample)
+        assertThat(router.apply(SNIHostName("v1.a.example.com"))).isSameAs(fallback)
+    }
+
+    @Test
+    fun loadDuringRouteChangeIsNotCached() {
+        lateinit var router: SniRouter
+        router = SniRouter.builder()
+            .certificatesProvider({ hostName ->
+                // a route change while this host name is loaded
+                router.putRoute("*.example.com", wildcardExample)
+                server(hostName)
+            }, 16)
+            .build()
+
+        assertThat(router.apply(SNIHostName("a.example.com"))).isNotSameAs(wildcardExample)
+        assertThat(router.cacheSize).isEqualTo(0)
+        assertThat(router.apply(SNIHostName("a.example.com"))).isSameAs(wildcardExample)
+    }
+
+    @Test
+    fun handshakeWithSniRouter() {
+        val router = SniRouter.builder()
+            .addRoute("example.com", example)
+            .addRoute("*.example.com", wildcardExample)
+            .build()
+        val client = ClientHandshakeCertificates.builder()
+            .addPlatformTrustedCertificates(false)
+            .addTrustedCertificate(root.certificate)
+            .build()
+
+        listOf("example.com", "api.example.com").forEach { hostName ->
+            val (clientSocket, serverSocket) = Jayo.inMemorySocketPair(64 * 1024L)
+            var serverHandshakeCertificates: ServerHandshakeCertificates? = null
+            val serverThread = thread {
+                val tlsServer = ServerTlsSocket.builder(router).build(serverSocket)
+                serverHandshakeCertificates = tlsServer.handshakeCertificates
+                tlsServer.writer.buffered().apply {
+                    writeByte(42)
+                    flush()
+                }
+            }
+            val tlsClient = ClientTlsSocket.builder(client).build(clientSocket, hostName, 443)
+            assertThat(tlsClient.reader.buffered().readByte()).isEqualTo(42.toByte())
+            serverThread.join()
+            assertThat(serverHandshakeCertificates)
+                .isSameAs(if (hostName == "example.com") example else wildcardExample)
+            tlsClient.cancel()
+        }
+        assertThat(router.lookupCount).isEqualTo(2L)
+        assertThat(router.hitCount).isEqualTo(2L)
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls
+
+import jayo.Jayo
+import jayo.buffered
+import jayo.network.NetworkSocket
+import jayo.tls.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.time.Duration
+import javax.net.ssl.SSLServerSocket
+import kotlin.concurrent.thread
+
+class TlsSessionCacheTest {
+    private val serverRoot = HeldCertificate.builder()
+        .certificateAuthority(0)
+        .build()
+    private val serverCertificate = HeldCertificate.builder()
+        .addSubjectAlternativeName("localhost")
+        .signedBy(serverRoot)
+        .build()
+    private val server = ServerHandshakeCertificates.builder(serverCertificate).build()
+
+    private fun client(): ClientHandshakeCertificates =
+        ClientHandshakeCertificates.builder()
+            .addPlatformTrustedCertificates(false)
+            .addTrustedCertificate(serverRoot.certificate)
+            .sessionCache(16, Duration.ofMinutes(5))
+            .build()
+
+    /**
+     * Connects [connectionCount] times to a TLS server that writes one byte per connection, and reads this byte so the
+     * TLS 1.3 session ticket is received.
+     */
+    private fun connect(
+        client: ClientHandshakeCertificates,
+        tlsVersion: TlsVersion,
+        connectionCount: Int,
+        withPeerInfo: Boolean = true,
+        beforeEachConnection: (Int) -> Unit = {},
+    ) {
+        val sslContext = (server as RealHandshakeCertificates).sslContext
+        (sslContext.serverSocketFactory.createServerSocket(0) as SSLServerSocket).use { listener ->
+            listener.enabledProtocols = arrayOf(tlsVersion.javaName)
+            val serverThread = thread {
+                repeat(connectionCount) {
+                    listener.accept().use { socket ->
+                        socket.outputStream.write(42)
+                        socket.outputStream.flush()
+                        socket.inputStream.read()
+                    }
+                }
+            }
+            val address = InetSocketAddress(InetAddress.getByName("localhost"), listener.localPort)
+            repeat(connectionCount) { index ->
+                beforeEachConnection(index)
+                val builder = ClientTlsSocket.builder(client)
+                val tlsClient = if (withPeerInfo) {
+                    builder.build(NetworkSocket.connectTcp(address), "localhost", listener.localPort)
+                } else {
+                    builder.build(NetworkSocket.connectTcp(address))
+                }
+                assertThat(tlsClient.session.protocol).isEqualTo(tlsVersion.javaName)
+                assertThat(tlsClient.reader.buffered().readByte()).isEqualTo(42.toByte())
+                tlsClient.cancel()
+            }
+            serverThread.join()
+        }
+    }
+
+    @Test
+    fun configuredBounds() {
+        val sessionCache = client().sessionCache
+        assertThat(sessionCache.maxSize).isEqualTo(16)
+        assertThat(sessionCache.timeToLive).isEqualTo(Duration.ofMinutes(5))
+        assertThat(sessionCache.hitCount).isEqualTo(0L)
+        assertThat(sessionCache.missCount).isEqualTo(0L)
+    }
+
+    @Test
+    fun invalidBounds() {
+        assertThatThrownBy { ClientHandshakeCertificates.builder().sessionCache(0, Duration.ofMinutes(1)) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("maxSize < 1: 0")
+        assertThatThrownBy { ClientHandshakeCertificates.builder().sessionCache(1, Duration.ofMillis(10)) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("timeToLive < 1 second: PT0.01S")
+    }
+
+    @Test
+    fun invalidPeerPort() {
+        val (socket, _) = Jayo.inMemorySocketPair(1024L)
+        assertThatThrownBy { ClientTlsSocket.builder(client()).build(socket, "localhost", 0) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("peerPort out of range: 0")
+    }
+
+    @Test
+    fun resumptionTls13() {
+        val client = client()
+        connect(client, TlsVersion.TLS_1_3, 3)
+        assertThat(client.sessionCache.missCount).isEqualTo(1L)
+        assertThat(client.sessionCache.hitCount).isEqualTo(2L)
+        assertThat(client.sessionCache.size).isGreaterThan(0)
+    }
+
+    @Test
+    fun resumptionTls12() {
+        val client = client()
+        connect(client, TlsVersion.TLS_1_2, 3)
+        assertThat(client.sessionCache.missCount).isEqualTo(1L)
+        assertThat(client.sessionCache.hitCount).isEqualTo(2L)
+    }
+
+    @Test
+    fun noResumptionWithoutPeerInfo() {
+        val client = client()
+        connect(client, TlsVersion.TLS_1_3, 2, withPeerInfo = false)
+        assertThat(client.sessionCache.missCount).isEqualTo(2L)
+        assertThat(client.sessionCache.hitCount).isEqualTo(0L)
+    }
+
+    @Test
+    fun evictAll() {
+        val client = client()
+        connect(client, TlsVersion.TLS_1_3, 2) { index ->
+            if (index == 1) {
+                client.sessionCache.evictAll()
+            }
+        }
+        assertThat(client.sessionCache.missCount).isEqualTo(2L)
+        assertThat(client.sessionCache.hitCount).isEqualTo(0L)
+    }
+}
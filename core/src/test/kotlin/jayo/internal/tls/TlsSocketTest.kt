@@ -5,7 +5,14 @@
 
 package jayo.internal.tls
 
+import jayo.Buffer
+import jayo.JayoException
+import jayo.JayoTimeoutException
+import jayo.RawSocket
+import jayo.RawWriter
 import jayo.buffered
+import jayo.cancelScope
+import jayo.internal.JavaVersionUtils.threadFactory
 import jayo.network.NetworkServer
 import jayo.network.NetworkSocket
 import jayo.tls.*
@@ -15,9 +22,14 @@ import org.assertj.core.api.Assertions.assertThatThrownBy
 import org.junit.jupiter.api.Test
 import java.net.InetAddress
 import java.net.InetSocketAddress
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
 import javax.net.ssl.SSLSession
 import javax.net.ssl.SSLSocket
 import kotlin.concurrent.thread
+import kotlin.time.Duration.Companion.milliseconds
 
 class TlsSocketTest {
     companion object {
@@ -183,4 +195,196 @@ class TlsSocketTest {
                 .isSameAs(serverHandshakeCertificates.trustManager)
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    fun delegatedTaskExecutor() {
+        val executor = Executors.newFixedThreadPool(2, threadFactory("TlsSocketTest-delegated-task-"))
+        val taskThreadNames = ConcurrentHashMap.newKeySet<String>()
+        val delegatedTaskExecutor = Executor { task ->
+            executor.execute {
+                taskThreadNames.add(Thread.currentThread().name)
+                task.run()
+            }
+        }
+        try {
+            NetworkServer.bindTcp(InetSocketAddress(0 /* find free port */)).use { listener ->
+                val serverThread = thread {
+                    val tlsServer = ServerTlsSocket.builder(serverHandshakeCertificates)
+                        .delegatedTaskExecutor(delegatedTaskExecutor)
+                        .build(listener.accept())
+                    tlsServer.writer.buffered().use { it.writeByte(42) }
+                }
+                val tlsClient = ClientTlsSocket.builder(clientHandshakeCertificates)
+                    .delegatedTaskExecutor(delegatedTaskExecutor)
+                    .clone()
+                    .build(NetworkSocket.connectTcp(listener.localAddress))
+                assertThat(tlsClient.reader.buffered().readByte()).isEqualTo(42.toByte())
+                serverThread.join()
+            }
+            assertThat(taskThreadNames).isNotEmpty.allMatch { it.startsWith("TlsSocketTest-delegated-task-") }
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+    @Test
+    fun rejectedDelegatedTaskRunsInline() {
+        NetworkServer.bindTcp(InetSocketAddress(0 /* find free port */)).use { listener ->
+            val serverThread = thread {
+                val tlsServer = ServerTlsSocket.builder(serverHandshakeCertificates)
+                    .build(listener.accept())
+                tlsServer.writer.buffered().use { it.writeByte(42) }
+            }
+            val tlsClient = ClientTlsSocket.builder(clientHandshakeCertificates)
+                .delegatedTaskExecutor { throw RejectedExecutionException() }
+                .build(NetworkSocket.connectTcp(listener.localAddress))
+            assertThat(tlsClient.reader.buffered().readByte()).isEqualTo(42.toByte())
+            serverThread.join()
+        }
+    }
+
+    @Test
+    fun slowDelegatedTaskObeysTheCancelScopeTimeout() {
+        val executor = Executors.newSingleThreadExecutor(threadFactory("TlsSocketTest-slow-task-"))
+        try {
+            NetworkServer.bindTcp(InetSocketAddress(0 /* find free port */)).use { listener ->
+                val serverThread = thread {
+                    val serverSocket = listener.accept()
+                    try {
+                        // reads the client hello until the client socket is closed
+                        serverSocket.reader.buffered().readByteArray()
+                    } catch (_: JayoException) {
+                    } finally {
+                        serverSocket.cancel()
+                    }
+                }
+                val encryptedSocket = NetworkSocket.connectTcp(listener.localAddress)
+                assertThatThrownBy {
+                    cancelScope(300.milliseconds) {
+                        ClientTlsSocket.builder(clientHandshakeCertificates)
+                            .delegatedTaskExecutor { task ->
+                                executor.execute {
+                                    Thread.sleep(10_000)
+                                    task.run()
+                                }
+                            }
+                            .build(encryptedSocket)
+                    }
+                }.isInstanceOf(JayoTimeoutException::class.java)
+                assertThat(encryptedSocket.isOpen).isFalse
+                serverThread.join()
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun recordSizing() {
+        NetworkServer.bindTcp(InetSocketAddress(0 /* find free port */)).use { listener ->
+            var received: ByteArray? = null
+            val serverThread = thread {
+                val tlsServer = ServerTlsSocket.builder(serverHandshakeCertificates)
+                    .build(listener.accept())
+                received = tlsServer.reader.buffered().readByteArray()
+            }
+            val encryptedSocket = NetworkSocket.connectTcp(listener.localAddress)
+            val encryptedBytes = Buffer()
+            val teeSocket = object : RawSocket {
+                private val teeWriter = object : RawWriter {
+                    override fun writeFrom(source: Buffer, byteCount: Long) {
+                        source.copyTo(encryptedBytes, 0, byteCount)
+                        encryptedSocket.writer.writeFrom(source, byteCount)
+                    }
+
+                    override fun flush() = encryptedSocket.writer.flush()
+                    override fun close() = encryptedSocket.writer.close()
+                }
+
+                override fun getReader() = encryptedSocket.reader
+                override fun getWriter() = teeWriter
+                override fun cancel() = encryptedSocket.cancel()
+                override fun isOpen() = encryptedSocket.isOpen
+            }
+            val tlsClient = ClientTlsSocket.builder(clientHandshakeCertificates).build(teeSocket)
+            encryptedBytes.clear()
+
+            // Tiny raw writes are each sent in a tiny record.
+            val data = ByteArray(200_100) { it.toByte() }
+            for (offset in 0 until 100) {
+                tlsClient.writer.writeFrom(Buffer().write(data, offset, 1), 1L)
+            }
+            // The bytes of a raw write are grouped into records, the last one is partial.
+            tlsClient.writer.writeFrom(Buffer().write(data, 100, 200_000), 200_000L)
+            tlsClient.writer.close()
+            serverThread.join()
+            assertThat(received).isEqualTo(data)
+
+            val recordByteSizes = mutableListOf<Int>()
+            while (encryptedBytes.bytesAvailable() >= 5) {
+                encryptedBytes.skip(3) // content type and legacy version
+                val recordByteSize = encryptedBytes.readShort().toInt() and 0xffff
+                encryptedBytes.skip(recordByteSize.toLong())
+                recordByteSizes.add(recordByteSize)
+            }
+            assertThat(recordByteSizes.take(100)).allMatch { it < 100 }
+            // The tiny records do not use up the small records: they are counted in bytes. Small records first, then
+            // full records.
+            assertThat(recordByteSizes.drop(100).take(40)).allMatch { it in 1369..1500 }
+            assertThat(recordByteSizes.drop(140).dropLast(1)).allMatch { it > 16_384 }
+            assertThat(recordByteSizes.size).isLessThan(160)
+        }
+    }
+
+    @Test
+    fun emitSendsPartialRecord() {
+        NetworkServer.bindTcp(InetSocketAddress(0 /* find free port */)).use { listener ->
+            val serverThread = thread {
+                val tlsServer = ServerTlsSocket.builder(serverHandshakeCertificates)
+                    .build(listener.accept())
+                val reader = tlsServer.reader.buffered()
+                val writer = tlsServer.writer.buffered()
+                writer.write("echo " + reader.readString(5))
+                    .emit()
+            }
+            val tlsClient = ClientTlsSocket.builder(clientHandshakeCertificates)
+                .build(NetworkSocket.connectTcp(listener.localAddress))
+            // emit() must send the request even if it does not fill a record, or client and server wait forever.
+            tlsClient.writer.buffered()
+                .write("hello")
+                .emit()
+            assertThat(tlsClient.reader.buffered().readString(10)).isEqualTo("echo hello")
+            tlsClient.writer.close()
+            serverThread.join()
+        }
+    }
+
+    @Test
+    fun bufferedRecordsAreUnwrappedInOnePass() {
+        NetworkServer.bindTcp(InetSocketAddress(0 /* find free port */)).use { listener ->
+            val data = ByteArray(20_000) { it.toByte() }
+            val serverThread = thread {
+                val tlsServer = ServerTlsSocket.builder(serverHandshakeCertificates)
+                    .build(listener.accept())
+                // one small record per flush
+                for (offset in data.indices step 100) {
+                    tlsServer.writer.writeFrom(Buffer().write(data, offset, 100), 100)
+                    tlsServer.writer.flush()
+                }
+                tlsServer.writer.close()
+            }
+            val tlsClient = ClientTlsSocket.builder(clientHandshakeCertificates)
+                .build(NetworkSocket.connectTcp(listener.localAddress))
+            serverThread.join()
+
+            val received = Buffer()
+            var readCount = 0
+            while (tlsClient.reader.readAtMostTo(received, Long.MAX_VALUE) != -1L) {
+                readCount++
+            }
+            assertThat(received.readByteArray()).isEqualTo(data)
+            // 200 records were sent, they are decrypted in far fewer reads.
+            assertThat(readCount).isLessThan(50)
+        }
+    }
+}
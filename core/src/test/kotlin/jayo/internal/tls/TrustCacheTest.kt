@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026-present, pull-vert and Jayo contributors.
+ * Use of this source code is governed by the Apache 2.0 license.
+ */
+
+package jayo.internal.tls
+
+import jayo.Jayo
+import jayo.buffered
+import jayo.tls.*
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.net.InetAddress
+import java.net.Socket
+import java.time.Duration
+import java.time.Instant
+import javax.net.ssl.SNIHostName
+import javax.net.ssl.SSLHandshakeException
+import javax.net.ssl.SSLSocket
+import kotlin.concurrent.thread
+
+class TrustCacheTest {
+    private val root = HeldCertificate.builder()
+        .certificateAuthority(0)
+        .build()
+
+    private fun server(certificate: HeldCertificate = serverCertificate()): ServerHandshakeCertificates =
+        ServerHandshakeCertificates.builder(certificate).build()
+
+    private fun serverCertificate(): HeldCertificate =
+        HeldCertificate.builder()
+            .addSubjectAlternativeName("localhost")
+            .signedBy(root)
+            .build()
+
+    private fun client(): ClientHandshakeCertificates =
+        ClientHandshakeCertificates.builder()
+            .addPlatformTrustedCertificates(false)
+            .addTrustedCertificate(root.certificate)
+            .trustCache(16, Duration.ofMinutes(5))
+            .build()
+
+    /**
+     * Connects [client] to [server] through an in-memory socket pair. The client session cache is emptied first, so the
+     * handshake is never resumed and always checks the server chain.
+     */
+    private fun connect(client: ClientHandshakeCertificates, server: ServerHandshakeCertificates, peerHost: String) {
+        client.sessionCache.evictAll()
+        val (clientSocket, serverSocket) = Jayo.inMemorySocketPair(64 * 1024L)
+        val serverThread = thread {
+            try {
+                val tlsServer = ServerTlsSocket.builder(server).build(serverSocket)
+                tlsServer.writer.buffered().apply {
+                    writeByte(42)
+                    flush()
+                }
+            } catch (_: Exception) {
+                serverSocket.cancel()
+            }
+        }
+        try {
+            val tlsClient = ClientTlsSocket.builder(client).build(clientSocket, peerHost, 443)
+            assertThat(tlsClient.reader.buffered().readByte()).isEqualTo(42.toByte())
+            tlsClient.cancel()
+        } catch (e: Exception) {
+            clientSocket.cancel()
+            throw e
+        } finally {
+            serverThread.join()
+        }
+    }
+
+    @Test
+    fun disabledByDefault() {
+        val client = ClientHandshakeCertificates.builder().build()
+        assertThat(client.trustCache).isNull()
+        assertThat(server().trustCache).isNull()
+    }
+
+    @Test
+    fun invalidBounds() {
+        assertThatThrownBy { ClientHandshakeCertificates.builder().trustCache(0, Duration.ofMinutes(1)) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("maxSize < 1: 0")
+        assertThatThrownBy {
+            ServerHandshakeCertificates.builder(serverCertificate()).trustCache(1, Duration.ofMillis(999))
+        }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessage("timeToLive < 1 second: PT0.999S")
+
+        val server = ServerHandshakeCertificates.builder(serverCertificate())
+            .trustCache(8, Duration.ofMinutes(1))
+            .build()
+        assertThat(server.trustCache!!.maxSize).isEqualTo(8)
+        assertThat(server.trustCache!!.timeToLive).isEqualTo(Duration.ofMinutes(1))
+    }
+
+    @Test
+    fun repeatedPeerChainIsTrustedFromCache() {
+        val client = client()
+        val server = server()
+        val trustCache = client.trustCache!!
+
+        repeat(3) { connect(client, server, "localhost") }
+        assertThat(trustCache.missCount).isEqualTo(1L)
+        assertThat(trustCache.hitCount).isEqualTo(2L)
+        assertThat(trustCache.size).isEqualTo(1)
+
+        // the peer host is part of the key
+        connect(client, server, "127.0.0.1")
+        assertThat(trustCache.missCount).isEqualTo(2L)
+        assertThat(trustCache.size).isEqualTo(2)
+
+        // another chain
+        connect(client, server(serverCertificate()), "localhost")
+        assertThat(trustCache.missCount).isEqualTo(3L)
+        assertThat(trustCache.size).isEqualTo(3)
+    }
+
+    @Test
+    fun invalidate() {
+        val client = client()
+        val serverCertificate = serverCertificate()
+        val server = server(serverCertificate)
+        val otherServer = server()
+        val trustCache = client.trustCache!!
+
+        connect(client, server, "localhost")
+        connect(client, server, "127.0.0.1")
+        connect(client, otherServer, "localhost")
+        assertThat(trustCache.size).isEqualTo(3)
+
+        trustCache.invalidate(serverCertificate.certificate)
+        assertThat(trustCache.size).isEqualTo(1)
+        connect(client, server, "localhost")
+        assertThat(trustCache.missCount).isEqualTo(4L)
+
+        trustCache.invalidateAll()
+        assertThat(trustCache.size).isEqualTo(0)
+    }
+
+    @Test
+    fun validationWithoutIdentificationDoesNotSkipHostnameCheck() {
+        val client = client()
+        val serverSslContext = (server() as RealHandshakeCertificates).sslContext
+        val clientSslContext = (client as RealHandshakeCertificates).sslContext
+        serverSslContext.serverSocketFactory.createServerSocket(0).use { listener ->
+            val serverThread = thread {
+                repeat(2) {
+                    try {
+                        listener.accept().use { socket ->
+                            socket.outputStream.write(42)
+                            socket.outputStream.flush()
+                            socket.inputStream.read()
+                        }
+                    } catch (_: Exception) {
+                    }
+                }
+            }
+            // the server certificate is for localhost, not for the requested SNI host name
+            listOf(null, "HTTPS").forEach { identificationAlgorithm ->
+                client.sessionCache.evictAll()
+                val socket = Socket(InetAddress.getLoopbackAddress(), listener.localPort)
+                val tlsSocket = clientSslContext.socketFactory
+                    .createSocket(socket, "other.example", listener.localPort, true) as SSLSocket
+                tlsSocket.use {
+                    tlsSocket.sslParameters = tlsSocket.sslParameters.apply {
+                        serverNames = listOf(SNIHostName("other.example"))
+                        endpointIdentificationAlgorithm = identificationAlgorithm
+                    }
+                    if (identificationAlgorithm == null) {
+                        tlsSocket.startHandshake()
+                        assertThat(tlsSocket.inputStream.read()).isEqualTo(42)
+                    } else {
+                        assertThatThrownBy { tlsSocket.startHandshake() }
+                            .isInstanceOf(SSLHandshakeException::class.java)
+                    }
+                }
+            }
+            serverThread.join()
+        }
+        assertThat(client.trustCache!!.hitCount).isEqualTo(0L)
+        assertThat(client.trustCache!!.missCount).isEqualTo(2L)
+    }
+
+    @Test
+    fun expiredCertificateIsValidatedAgain() {
+        val client = client()
+        val now = Instant.now()
+        val shortLivedCertificate = HeldCertificate.builder()
+            .addSubjectAlternativeName("localhost")
+            .validityInterval(now.minusSeconds(60), now.plusMillis(1_500))
+            .signedBy(root)
+            .build()
+        val server = server(shortLivedCertificate)
+
+        connect(client, server, "localhost")
+        connect(client, server, "localhost")
+        assertThat(client.trustCache!!.hitCount).isEqualTo(1L)
+
+        Thread.sleep(2_000)
+        assertThatThrownBy { connect(client, server, "localhost") }
+            .isInstanceOf(JayoTlsException::class.java)
+        assertThat(client.trustCache!!.hitCount).isEqualTo(1L)
+        assertThat(client.trustCache!!.size).isEqualTo(0)
+    }
+}
@@ -82,8 +82,9 @@ public final class SocksProxyServer {
 
     private void handleClient(final NetworkSocket client) {
         try {
-            final Reader fromReader = Jayo.buffer(client.getReader());
-            final Writer fromWriter = Jayo.buffer(client.getWriter());
+            final var from = Jayo.buffer(client);
+            final Reader fromReader = from.getReader();
+            final Writer fromWriter = from.getWriter();
             // Read the hello.
             final int socksVersion = fromReader.readByte();
             if (socksVersion != VERSION_5) {
@@ -139,11 +140,17 @@ public final class SocksProxyServer {
                     .writeShort((short) toNetworkSocketAddress.getPort())
                     .flush();
 
-            // Connect readers to writers in both directions.
-            final var toWriter = toNetworkSocket.getWriter();
-            executor.execute(() -> transfer(client, fromReader, toWriter));
-            final var toReader = toNetworkSocket.getReader();
-            executor.execute(() -> transfer(toNetworkSocket, toReader, fromWriter));
+            // Relay bytes in both directions.
+            final Relay relay = Jayo.relay(from, toNetworkSocket);
+            executor.execute(() -> {
+                try {
+                    relay.join();
+                } catch (JayoException ignored) {
+                } finally {
+                    openNetworkSockets.remove(client);
+                    openNetworkSockets.remove(toNetworkSocket);
+                }
+            });
         } catch (JayoException | IOException e) {
             Jayo.closeQuietly(client);
             openNetworkSockets.remove(client);
@@ -151,33 +158,6 @@ public final class SocksProxyServer {
         }
     }
 
-    /**
-     * Read data from {@code reader} and write it to {@code writer}. This doesn't use {@link Writer#writeAllFrom(RawReader)}
-     * because that method doesn't flush aggressively, and we need that.
-     */
-    private void transfer(NetworkSocket readerNetworkSocket, RawReader reader, RawWriter writer) {
-        try {
-            Buffer buffer = Buffer.create();
-            for (long byteCount; (byteCount = reader.readAtMostTo(buffer, 8192L)) != -1; ) {
-                writer.writeFrom(buffer, byteCount);
-                writer.flush();
-            }
-        } catch (JayoClosedResourceException ignored) {
-        } finally {
-            closeQuietly(writer);
-            closeQuietly(reader);
-            Jayo.closeQuietly(readerNetworkSocket);
-            openNetworkSockets.remove(readerNetworkSocket);
-        }
-    }
-
-    private void closeQuietly(AutoCloseable c) {
-        try {
-            c.close();
-        } catch (Exception ignored) {
-        }
-    }
-
     public static void main(String[] args) throws IOException, URISyntaxException {
         SocksProxyServer proxyServer = new SocksProxyServer();
         proxyServer.start();
@@ -81,8 +81,9 @@ class KotlinSocksProxyServer {
 
     private fun handleClient(client: NetworkSocket) {
         try {
-            val fromReader = client.reader.buffered()
-            val fromWriter = client.writer.buffered()
+            val from = client.buffered()
+            val fromReader = from.reader
+            val fromWriter = from.writer
             // Read the hello.
             val socksVersion = fromReader.readByte()
             if (socksVersion != VERSION_5) {
@@ -141,38 +142,23 @@ class KotlinSocksProxyServer {
                 .writeShort(toNetworkSocketAddress.port.toShort())
                 .emit()
 
-            // Connect readers to writers in both directions.
-            val toWriter = toNetworkSocket.writer
-            executor.execute { transfer(client, fromReader, toWriter) }
-            val toReader = toNetworkSocket.reader
-            executor.execute { transfer(toNetworkSocket, toReader, fromWriter) }
+            // Relay bytes in both directions.
+            val relay = from.relay(toNetworkSocket)
+            executor.execute {
+                try {
+                    relay.join()
+                } catch (_: JayoException) {
+                } finally {
+                    openNetworkSockets.remove(client)
+                    openNetworkSockets.remove(toNetworkSocket)
+                }
+            }
         } catch (e: JayoException) {
             client.closeQuietly()
             openNetworkSockets.remove(client)
             println("connect failed for $client: $e")
         }
     }
-
-    /**
-     * Read data from `reader` and write it to `writer`. This doesn't use [Writer.writeAllFrom] because that method
-     * doesn't flush aggressively, and we need that.
-     */
-    private fun transfer(readerNetworkSocket: NetworkSocket, reader: RawReader, writer: RawWriter) {
-        try {
-            val buffer = Buffer()
-            var byteCount: Long
-            while (reader.readAtMostTo(buffer, 8192L).also { byteCount = it } != -1L) {
-                writer.writeFrom(buffer, byteCount)
-                writer.flush()
-            }
-        } catch (_: JayoClosedResourceException) {
-        } finally {
-            writer.close()
-            reader.close()
-            readerNetworkSocket.closeQuietly()
-            openNetworkSockets.remove(readerNetworkSocket)
-        }
-    }
 }
 
 fun main() {